@@ -1,46 +1,141 @@
 package com.github.paulosalonso.research.adapter.controller;
 
 import com.github.paulosalonso.research.adapter.controller.dto.AnswerCriteriaDTO;
+import com.github.paulosalonso.research.adapter.controller.dto.AnswerCrosstabCriteriaDTO;
+import com.github.paulosalonso.research.adapter.controller.dto.AnswerExportFormat;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchAnswerInputDTO;
+import com.github.paulosalonso.research.adapter.controller.dto.ResearchCrosstabDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchSummaryDTO;
 import com.github.paulosalonso.research.adapter.controller.mapper.AnswerDTOMapper;
 import com.github.paulosalonso.research.usecase.answer.AnswerCreate;
+import com.github.paulosalonso.research.usecase.answer.AnswerCrosstab;
+import com.github.paulosalonso.research.usecase.answer.AnswerExport;
 import com.github.paulosalonso.research.usecase.answer.AnswerRead;
+import com.github.paulosalonso.research.usecase.exception.AnswerBufferFullException;
 import com.github.paulosalonso.research.usecase.exception.InvalidAnswerException;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
 import io.swagger.annotations.Api;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.UUID;
 
+import static com.github.paulosalonso.research.application.security.SecurityExpressions.IS_ADMIN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+
 @Api(tags = "Answers")
-@RequiredArgsConstructor
 @RestController
 @RequestMapping("/researches/{researchId}/answers")
 public class AnswerController {
 
     private final AnswerCreate answerCreate;
     private final AnswerRead answerRead;
+    private final AnswerExport answerExport;
+    private final AnswerCrosstab answerCrosstab;
     private final AnswerDTOMapper mapper;
+    private final boolean buffered;
+
+    public AnswerController(AnswerCreate answerCreate, AnswerRead answerRead, AnswerExport answerExport,
+                            AnswerCrosstab answerCrosstab, AnswerDTOMapper mapper,
+                            @Value("${answer.ingestion.mode:sync}") String ingestionMode) {
+
+        this.answerCreate = answerCreate;
+        this.answerRead = answerRead;
+        this.answerExport = answerExport;
+        this.answerCrosstab = answerCrosstab;
+        this.mapper = mapper;
+        this.buffered = "buffered".equals(ingestionMode) || "journaled".equals(ingestionMode);
+    }
 
     @GetMapping
     public ResearchSummaryDTO search(@PathVariable UUID researchId, AnswerCriteriaDTO answerCriteriaDTO) {
-        var result = answerRead.search(mapper.toDomain(researchId, answerCriteriaDTO));
-        return mapper.toDTO(result, answerCriteriaDTO);
+        try {
+            var result = answerRead.search(mapper.toDomain(researchId, answerCriteriaDTO));
+            return mapper.toDTO(result, answerCriteriaDTO);
+        } catch (InvalidCriteriaException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    @GetMapping("/crosstab")
+    public ResearchCrosstabDTO crosstab(@PathVariable UUID researchId, AnswerCrosstabCriteriaDTO criteriaDTO) {
+        try {
+            var result = answerCrosstab.crosstab(mapper.toDomain(researchId, criteriaDTO),
+                    criteriaDTO.getRowQuestionId(), criteriaDTO.getColumnQuestionId());
+
+            return mapper.toDTO(result, criteriaDTO);
+        } catch (InvalidCriteriaException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
     }
 
+    @PreAuthorize(IS_ADMIN)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable UUID researchId, AnswerCriteriaDTO answerCriteriaDTO,
+                                                        @RequestParam(defaultValue = "NDJSON") AnswerExportFormat format) {
+
+        var export = answerExport.export(mapper.toDomain(researchId, answerCriteriaDTO));
+
+        StreamingResponseBody body = outputStream -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+
+            if (format.getHeader() != null) {
+                writeLine(writer, format.getHeader());
+            }
+
+            export.accept(answer -> writeLine(writer, format.format(answer)));
+            writer.flush();
+        };
+
+        var disposition = ContentDisposition.attachment()
+                .filename(researchId + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    // In the buffered and journaled ingestion modes the answers are validated and accepted, but only stored later
     @PostMapping
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void create(@PathVariable UUID researchId, @RequestBody @Valid ResearchAnswerInputDTO researchAnswerInputDTO) {
+    public ResponseEntity<Void> create(@PathVariable UUID researchId, @RequestBody @Valid ResearchAnswerInputDTO researchAnswerInputDTO) {
         try {
             var answers = mapper.toDomain(researchId, researchAnswerInputDTO);
+
+            if (buffered) {
+                answerCreate.enqueue(researchId, answers);
+                return ResponseEntity.accepted().build();
+            }
+
             answerCreate.create(researchId, answers);
+            return ResponseEntity.noContent().build();
         } catch (InvalidAnswerException e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (AnswerBufferFullException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), e);
         }
     }
 
+    private void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
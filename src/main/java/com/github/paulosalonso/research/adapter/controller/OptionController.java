@@ -3,7 +3,10 @@ package com.github.paulosalonso.research.adapter.controller;
 import com.github.paulosalonso.research.adapter.controller.dto.OptionCriteriaDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.OptionDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.OptionInputDTO;
+import com.github.paulosalonso.research.adapter.controller.dto.PageCriteriaDTO;
 import com.github.paulosalonso.research.adapter.controller.mapper.OptionDTOMapper;
+import com.github.paulosalonso.research.adapter.controller.mapper.PageDTOMapper;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
 import com.github.paulosalonso.research.usecase.option.OptionCreate;
 import com.github.paulosalonso.research.usecase.option.OptionDelete;
 import com.github.paulosalonso.research.usecase.option.OptionRead;
@@ -11,15 +14,16 @@ import com.github.paulosalonso.research.usecase.option.OptionUpdate;
 import io.swagger.annotations.Api;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import javax.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 
 import static com.github.paulosalonso.research.application.security.SecurityExpressions.IS_ADMIN;
-import static java.util.stream.Collectors.toList;
 
 @Api(tags = "Options")
 @RequiredArgsConstructor
@@ -32,6 +36,7 @@ public class OptionController {
     private final OptionUpdate optionUpdate;
     private final OptionDelete optionDelete;
     private final OptionDTOMapper mapper;
+    private final PageDTOMapper pageMapper;
 
     @GetMapping("/{optionId}")
     public OptionDTO get(@PathVariable UUID questionId, @PathVariable UUID optionId) {
@@ -39,10 +44,14 @@ public class OptionController {
     }
 
     @GetMapping
-    public List<OptionDTO> search(@PathVariable UUID questionId, OptionCriteriaDTO criteria) {
-        return optionRead.search(questionId, mapper.toDomain(criteria)).stream()
-                .map(mapper::toDTO)
-                .collect(toList());
+    public ResponseEntity<List<OptionDTO>> search(@PathVariable UUID questionId, OptionCriteriaDTO criteria,
+                                                  PageCriteriaDTO page) {
+        try {
+            var result = optionRead.search(questionId, mapper.toDomain(criteria), pageMapper.toDomain(page));
+            return pageMapper.toResponse(result, mapper::toDTO);
+        } catch (InvalidCriteriaException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
     }
 
     @PreAuthorize(IS_ADMIN)
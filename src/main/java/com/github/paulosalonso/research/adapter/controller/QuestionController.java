@@ -1,9 +1,12 @@
 package com.github.paulosalonso.research.adapter.controller;
 
+import com.github.paulosalonso.research.adapter.controller.dto.PageCriteriaDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.QuestionCriteriaDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.QuestionDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.QuestionInputDTO;
+import com.github.paulosalonso.research.adapter.controller.mapper.PageDTOMapper;
 import com.github.paulosalonso.research.adapter.controller.mapper.QuestionDTOMapper;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
 import com.github.paulosalonso.research.usecase.question.QuestionCreate;
 import com.github.paulosalonso.research.usecase.question.QuestionDelete;
 import com.github.paulosalonso.research.usecase.question.QuestionRead;
@@ -11,15 +14,16 @@ import com.github.paulosalonso.research.usecase.question.QuestionUpdate;
 import io.swagger.annotations.Api;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import javax.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 
 import static com.github.paulosalonso.research.application.security.SecurityExpressions.IS_ADMIN;
-import static java.util.stream.Collectors.toList;
 
 @Api(tags = "Questions")
 @RequiredArgsConstructor
@@ -32,6 +36,7 @@ public class QuestionController {
     private final QuestionUpdate questionUpdate;
     private final QuestionDelete questionDelete;
     private final QuestionDTOMapper mapper;
+    private final PageDTOMapper pageMapper;
 
     @GetMapping("/{questionId}")
     public QuestionDTO get(@PathVariable UUID researchId,
@@ -40,10 +45,14 @@ public class QuestionController {
     }
 
     @GetMapping
-    public List<QuestionDTO> search(@PathVariable UUID researchId, QuestionCriteriaDTO criteria) {
-        return questionRead.search(researchId, mapper.toDomain(criteria)).stream()
-                .map(question -> mapper.toDTO(question, false))
-                .collect(toList());
+    public ResponseEntity<List<QuestionDTO>> search(@PathVariable UUID researchId, QuestionCriteriaDTO criteria,
+                                                    PageCriteriaDTO page) {
+        try {
+            var result = questionRead.search(researchId, mapper.toDomain(criteria), pageMapper.toDomain(page));
+            return pageMapper.toResponse(result, question -> mapper.toDTO(question, false));
+        } catch (InvalidCriteriaException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
     }
 
     @PreAuthorize(IS_ADMIN)
@@ -1,9 +1,12 @@
 package com.github.paulosalonso.research.adapter.controller;
 
+import com.github.paulosalonso.research.adapter.controller.dto.PageCriteriaDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchCriteriaDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchInputDTO;
+import com.github.paulosalonso.research.adapter.controller.mapper.PageDTOMapper;
 import com.github.paulosalonso.research.adapter.controller.mapper.ResearchDTOMapper;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
 import com.github.paulosalonso.research.usecase.research.ResearchCreate;
 import com.github.paulosalonso.research.usecase.research.ResearchDelete;
 import com.github.paulosalonso.research.usecase.research.ResearchRead;
@@ -11,15 +14,16 @@ import com.github.paulosalonso.research.usecase.research.ResearchUpdate;
 import io.swagger.annotations.Api;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import javax.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 
 import static com.github.paulosalonso.research.application.security.SecurityExpressions.IS_ADMIN;
-import static java.util.stream.Collectors.toList;
 
 @Api(tags = "Researches")
 @RequiredArgsConstructor
@@ -32,6 +36,7 @@ public class ResearchController {
     private final ResearchUpdate researchUpdate;
     private final ResearchDelete researchDelete;
     private final ResearchDTOMapper mapper;
+    private final PageDTOMapper pageMapper;
 
     @GetMapping("/{id}")
     public ResearchDTO get(@PathVariable UUID id, @RequestParam(required = false) boolean fillQuestions) {
@@ -39,10 +44,13 @@ public class ResearchController {
     }
 
     @GetMapping
-    public List<ResearchDTO> search(ResearchCriteriaDTO criteria) {
-        return researchRead.search(mapper.toDomain(criteria)).stream()
-                .map(research -> mapper.toDTO(research, false))
-                .collect(toList());
+    public ResponseEntity<List<ResearchDTO>> search(ResearchCriteriaDTO criteria, PageCriteriaDTO page) {
+        try {
+            var result = researchRead.search(mapper.toDomain(criteria), pageMapper.toDomain(page));
+            return pageMapper.toResponse(result, research -> mapper.toDTO(research, false));
+        } catch (InvalidCriteriaException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
     }
 
     @PreAuthorize(IS_ADMIN)
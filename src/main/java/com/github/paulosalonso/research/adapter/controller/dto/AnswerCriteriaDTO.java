@@ -5,6 +5,7 @@ import lombok.*;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.OffsetDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 @ApiModel("AnswerCriteria")
@@ -22,4 +23,6 @@ public class AnswerCriteriaDTO {
     private OffsetDateTime dateTo;
 
     private UUID questionId;
+
+    private Set<UUID> segment;
 }
@@ -0,0 +1,27 @@
+package com.github.paulosalonso.research.adapter.controller.dto;
+
+import io.swagger.annotations.ApiModel;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@ApiModel("AnswerCrosstabCriteria")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AnswerCrosstabCriteriaDTO {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private OffsetDateTime dateFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private OffsetDateTime dateTo;
+
+    private UUID rowQuestionId;
+
+    private UUID columnQuestionId;
+}
@@ -0,0 +1,36 @@
+package com.github.paulosalonso.research.adapter.controller.dto;
+
+import com.github.paulosalonso.research.domain.Answer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Objects;
+
+@Getter
+@RequiredArgsConstructor
+public enum AnswerExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), ".ndjson", null) {
+        @Override
+        public String format(Answer answer) {
+            return String.format("{\"date\":%s,\"researchId\":\"%s\",\"questionId\":\"%s\",\"optionId\":\"%s\",\"submissionId\":%s}",
+                    answer.getDate() == null ? "null" : "\"" + answer.getDate() + "\"",
+                    answer.getResearchId(), answer.getQuestionId(), answer.getOptionId(), answer.getSubmissionId());
+        }
+    },
+    CSV(MediaType.parseMediaType("text/csv"), ".csv", "date,researchId,questionId,optionId,submissionId") {
+        @Override
+        public String format(Answer answer) {
+            return String.join(",", Objects.toString(answer.getDate(), ""), answer.getResearchId().toString(),
+                    answer.getQuestionId().toString(), answer.getOptionId().toString(),
+                    Objects.toString(answer.getSubmissionId(), ""));
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String extension;
+    private final String header;
+
+    public abstract String format(Answer answer);
+}
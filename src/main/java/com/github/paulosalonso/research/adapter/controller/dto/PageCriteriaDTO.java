@@ -0,0 +1,16 @@
+package com.github.paulosalonso.research.adapter.controller.dto;
+
+import io.swagger.annotations.ApiModel;
+import lombok.*;
+
+@ApiModel("PageCriteria")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PageCriteriaDTO {
+
+    private String cursor;
+    private Integer limit;
+}
@@ -16,6 +16,7 @@ public class ResearchCriteriaDTO {
 
     private String title;
     private String description;
+    private String text;
 
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private OffsetDateTime startsOnFrom;
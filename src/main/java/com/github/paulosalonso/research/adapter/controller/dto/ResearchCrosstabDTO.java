@@ -0,0 +1,23 @@
+package com.github.paulosalonso.research.adapter.controller.dto;
+
+import com.github.paulosalonso.research.adapter.controller.dto.ResearchSummaryDTO.QuestionSummaryDTO;
+import io.swagger.annotations.ApiModel;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApiModel("ResearchCrosstab")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ResearchCrosstabDTO {
+    private UUID id;
+    private String title;
+    private AnswerCrosstabCriteriaDTO criteria;
+    private QuestionSummaryDTO rowQuestion;
+    private QuestionSummaryDTO columnQuestion;
+    private List<List<Long>> amounts;
+}
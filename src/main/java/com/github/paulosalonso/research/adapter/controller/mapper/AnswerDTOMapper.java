@@ -1,12 +1,15 @@
 package com.github.paulosalonso.research.adapter.controller.mapper;
 
 import com.github.paulosalonso.research.adapter.controller.dto.AnswerCriteriaDTO;
+import com.github.paulosalonso.research.adapter.controller.dto.AnswerCrosstabCriteriaDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchAnswerInputDTO;
+import com.github.paulosalonso.research.adapter.controller.dto.ResearchCrosstabDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchSummaryDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchSummaryDTO.OptionSummaryDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchSummaryDTO.QuestionSummaryDTO;
 import com.github.paulosalonso.research.domain.Answer;
 import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
 import com.github.paulosalonso.research.domain.ResearchSummary;
 import com.github.paulosalonso.research.domain.ResearchSummary.OptionSummary;
 import com.github.paulosalonso.research.domain.ResearchSummary.QuestionSummary;
@@ -36,6 +39,26 @@ public class AnswerDTOMapper {
                 .dateTo(dto.getDateTo())
                 .researchId(researchId)
                 .questionId(dto.getQuestionId())
+                .segment(dto.getSegment())
+                .build();
+    }
+
+    public AnswerCriteria toDomain(UUID researchId, AnswerCrosstabCriteriaDTO dto) {
+        return AnswerCriteria.builder()
+                .dateFrom(dto.getDateFrom())
+                .dateTo(dto.getDateTo())
+                .researchId(researchId)
+                .build();
+    }
+
+    public ResearchCrosstabDTO toDTO(ResearchCrosstab researchCrosstab, AnswerCrosstabCriteriaDTO criteriaDTO) {
+        return ResearchCrosstabDTO.builder()
+                .id(researchCrosstab.getId())
+                .title(researchCrosstab.getTitle())
+                .criteria(criteriaDTO)
+                .rowQuestion(toDTO(researchCrosstab.getRowQuestion()))
+                .columnQuestion(toDTO(researchCrosstab.getColumnQuestion()))
+                .amounts(researchCrosstab.getAmounts())
                 .build();
     }
 
@@ -0,0 +1,40 @@
+package com.github.paulosalonso.research.adapter.controller.mapper;
+
+import com.github.paulosalonso.research.adapter.controller.dto.PageCriteriaDTO;
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+
+@Component
+public class PageDTOMapper {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 100;
+
+    public PageCriteria toDomain(PageCriteriaDTO dto) {
+        return PageCriteria.builder()
+                .cursor(dto.getCursor())
+                .limit(ofNullable(dto.getLimit()).orElse(DEFAULT_LIMIT))
+                .build();
+    }
+
+    // The body stays a plain list, the cursor of the next page goes in a header
+    public <T, R> ResponseEntity<List<R>> toResponse(Page<T> page, Function<T, R> mapper) {
+        var response = ResponseEntity.ok();
+
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+
+        return response.body(page.getContent().stream()
+                .map(mapper)
+                .collect(toList()));
+    }
+}
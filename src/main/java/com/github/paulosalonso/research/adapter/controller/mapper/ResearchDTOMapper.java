@@ -37,6 +37,7 @@ public class ResearchDTOMapper {
         return ResearchCriteria.builder()
                 .title(dto.getTitle())
                 .description(dto.getDescription())
+                .text(dto.getText())
                 .startsOnFrom(dto.getStartsOnFrom())
                 .startsOnTo(dto.getStartsOnTo())
                 .endsOnFrom(dto.getEndsOnFrom())
@@ -0,0 +1,195 @@
+package com.github.paulosalonso.research.adapter.event;
+
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+import com.github.paulosalonso.research.usecase.port.AnswerEventPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// Ring buffer of committed submissions read by independent subscriptions, each on its own thread and sequence.
+// Publishers claim a range of slots, fill it and make it visible in claim order; a publisher only waits when the
+// slowest subscription is a whole ring behind, so slow consumers never lose events. A subscription whose thread died,
+// or that holds a publisher back for longer than the stall timeout, is detached so the others and the publishers go on.
+@Slf4j
+@Component
+public class AnswerEventBus implements AnswerEventPort {
+
+    private final AnswersSubmitted[] ring;
+    private final int mask;
+    private final int batchSize;
+    private final long stallTimeout;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<AnswerEventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition publishedCondition = lock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final Counter publishedCounter;
+
+    public AnswerEventBus(MeterRegistry meterRegistry,
+                          @Value("${answer.events.ring-size:8192}") int ringSize,
+                          @Value("${answer.events.batch-size:256}") int batchSize,
+                          @Value("${answer.events.stall-timeout:10s}") Duration stallTimeout) {
+
+        if (Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("The answer event ring size must be a power of two");
+        }
+
+        this.ring = new AnswersSubmitted[ringSize];
+        this.mask = ringSize - 1;
+        this.batchSize = batchSize;
+        this.stallTimeout = stallTimeout.toNanos();
+        this.meterRegistry = meterRegistry;
+
+        this.publishedCounter = Counter.builder("research.answer.events.published")
+                .description("Answer events published to the subscriptions")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(List<AnswersSubmitted> events) {
+        for (int from = 0; from < events.size(); from += ring.length) {
+            publishRange(events.subList(from, Math.min(from + ring.length, events.size())));
+        }
+    }
+
+    // Delivers the events published from now on, in batches, to the handler
+    public AnswerEventSubscription subscribe(String name, Consumer<List<AnswersSubmitted>> handler) {
+        var subscription = new AnswerEventSubscription(this, name, handler, cursor.get(), meterRegistry);
+        subscriptions.add(subscription);
+        subscription.start();
+        return subscription;
+    }
+
+    // Publishing has stopped by now, so each subscription delivers what is left and stops
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (var subscription : subscriptions) {
+            subscription.stop();
+        }
+
+        signalConsumers();
+
+        for (var subscription : subscriptions) {
+            subscription.join();
+        }
+    }
+
+    long getCursor() {
+        return cursor.get();
+    }
+
+    List<AnswersSubmitted> read(long from, long to) {
+        var batch = new ArrayList<AnswersSubmitted>((int) (to - from + 1));
+
+        for (long sequence = from; sequence <= to; sequence++) {
+            batch.add(ring[(int) (sequence & mask)]);
+        }
+
+        return batch;
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    // Publishers stop waiting for the subscription right away, and it loses the events from now on
+    void detach(AnswerEventSubscription subscription, String reason) {
+        if (subscriptions.remove(subscription)) {
+            subscription.detached();
+            log.error("Detaching subscription {} from the answer events because it {}, its handler misses the next events",
+                    subscription.getName(), reason);
+        }
+    }
+
+    // The waiting count is raised before the cursor is checked again, so a publisher either sees it or the
+    // consumer sees the new cursor; the timeout only bounds how long a stopped subscription takes to notice
+    void awaitPublished(long sequence) throws InterruptedException {
+        lock.lock();
+        waitingConsumers.incrementAndGet();
+
+        try {
+            if (cursor.get() <= sequence) {
+                publishedCondition.await(100, MILLISECONDS);
+            }
+        } finally {
+            waitingConsumers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    private void publishRange(List<AnswersSubmitted> events) {
+        var last = claimed.addAndGet(events.size());
+        var first = last - events.size() + 1;
+
+        var waitingSince = System.nanoTime();
+
+        while (last - ring.length > slowestSequence()) {
+            if (System.nanoTime() - waitingSince > stallTimeout) {
+                detachSlowerThan(last - ring.length);
+            }
+
+            LockSupport.parkNanos(1000);
+        }
+
+        for (int i = 0; i < events.size(); i++) {
+            ring[(int) ((first + i) & mask)] = events.get(i);
+        }
+
+        while (cursor.get() != first - 1) {
+            Thread.onSpinWait();
+        }
+
+        cursor.set(last);
+        publishedCounter.increment(events.size());
+
+        if (waitingConsumers.get() > 0) {
+            signalConsumers();
+        }
+    }
+
+    private long slowestSequence() {
+        var slowest = Long.MAX_VALUE;
+
+        for (var subscription : subscriptions) {
+            slowest = Math.min(slowest, subscription.getSequence());
+        }
+
+        return slowest;
+    }
+
+    private void detachSlowerThan(long sequence) {
+        for (var subscription : subscriptions) {
+            if (subscription.getSequence() < sequence) {
+                detach(subscription, "stalled the publishers");
+            }
+        }
+    }
+
+    private void signalConsumers() {
+        lock.lock();
+
+        try {
+            publishedCondition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.paulosalonso.research.adapter.event;
+
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+@Slf4j
+public class AnswerEventSubscription {
+
+    private final AnswerEventBus bus;
+    private final String name;
+    private final Consumer<List<AnswersSubmitted>> handler;
+    private final Thread worker;
+    private final Counter failedCounter;
+    private final Counter detachedCounter;
+
+    private volatile long sequence;
+    private volatile boolean running = true;
+    private volatile boolean detached;
+
+    AnswerEventSubscription(AnswerEventBus bus, String name, Consumer<List<AnswersSubmitted>> handler,
+                            long sequence, MeterRegistry meterRegistry) {
+
+        this.bus = bus;
+        this.name = name;
+        this.handler = handler;
+        this.sequence = sequence;
+        this.worker = new CustomizableThreadFactory("answer-events-" + name + "-").newThread(this::run);
+
+        Gauge.builder("research.answer.events.lag", this, subscription -> bus.getCursor() - subscription.sequence)
+                .description("Answer events published but not yet handled by the subscription")
+                .tag("subscription", name)
+                .register(meterRegistry);
+
+        this.failedCounter = Counter.builder("research.answer.events.failed")
+                .description("Answer events whose handling failed and were skipped")
+                .tag("subscription", name)
+                .register(meterRegistry);
+
+        this.detachedCounter = Counter.builder("research.answer.events.detached")
+                .description("Times the subscription was detached because its thread died or it stalled the publishers")
+                .tag("subscription", name)
+                .register(meterRegistry);
+    }
+
+    // Read barrier: waits until the events published before the call are handled, so they can be read right away. A
+    // detached subscription never catches up.
+    public boolean awaitCaughtUp(Duration timeout) {
+        var target = bus.getCursor();
+        var deadline = System.nanoTime() + timeout.toNanos();
+
+        while (sequence < target) {
+            if (detached || System.nanoTime() - deadline > 0) {
+                return false;
+            }
+
+            LockSupport.parkNanos(50_000);
+        }
+
+        return true;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    void detached() {
+        detached = true;
+        detachedCounter.increment();
+    }
+
+    void start() {
+        worker.start();
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    void join() throws InterruptedException {
+        worker.join();
+    }
+
+    // A failing batch is skipped, so one bad event doesn't hold the subscription or the publishers behind it. An error
+    // ends the thread, and the subscription is detached instead of freezing the publishers once the ring wraps.
+    private void run() {
+        try {
+            handle();
+        } catch (Throwable e) {
+            log.error("Answer events subscription {} stopped unexpectedly", name, e);
+            bus.detach(this, "stopped unexpectedly");
+            throw e;
+        }
+    }
+
+    private void handle() {
+        while (!detached) {
+            var available = bus.getCursor();
+
+            if (available > sequence) {
+                var last = Math.min(available, sequence + bus.getBatchSize());
+                var batch = bus.read(sequence + 1, last);
+
+                // Once detached the slots may have been reused by the publishers
+                if (detached) {
+                    return;
+                }
+
+                try {
+                    handler.accept(batch);
+                } catch (Exception e) {
+                    failedCounter.increment(batch.size());
+                    log.error("Error handling {} answer events on subscription {}, skipping them", batch.size(), name, e);
+                }
+
+                sequence = last;
+            } else if (!running) {
+                return;
+            } else {
+                try {
+                    bus.awaitPublished(sequence);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.answer.AnswerCreate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+
+// Submissions failing on the database or the connection are kept and retried with a growing delay, holding the next
+// batches back, so a full buffer refuses new submissions meanwhile. Only the ones that will never be written are dropped.
+@Slf4j
+@ConditionalOnProperty(name = "answer.ingestion.mode", havingValue = "buffered")
+@Component
+public class AnswerBufferFlusher {
+
+    private static final int SHUTDOWN_ATTEMPTS = 3;
+
+    private final AnswerBufferGateway answerBufferGateway;
+    private final AnswerCreate answerCreate;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Thread worker;
+    private final CountDownLatch stopping = new CountDownLatch(1);
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    private List<Submission> retrying = List.of();
+
+    public AnswerBufferFlusher(AnswerBufferGateway answerBufferGateway, AnswerCreate answerCreate,
+                               MeterRegistry meterRegistry,
+                               @Value("${answer.ingestion.batch-size:500}") int batchSize,
+                               @Value("${answer.ingestion.max-delay:200ms}") Duration maxDelay,
+                               @Value("${answer.ingestion.retry-delay:100ms}") Duration retryDelay,
+                               @Value("${answer.ingestion.max-retry-delay:30s}") Duration maxRetryDelay) {
+
+        this.answerBufferGateway = answerBufferGateway;
+        this.answerCreate = answerCreate;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.worker = new CustomizableThreadFactory("answer-flusher-").newThread(this::run);
+
+        this.flushTimer = Timer.builder("research.answer.buffer.flush")
+                .description("Time to write a batch of buffered submissions")
+                .register(meterRegistry);
+
+        this.flushedCounter = Counter.builder("research.answer.buffer.flushed")
+                .description("Buffered submissions written to the database")
+                .register(meterRegistry);
+
+        this.failedCounter = Counter.builder("research.answer.buffer.failed")
+                .description("Buffered submissions discarded because they could not be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    // The web server is stopped before beans are destroyed, so nothing else is buffered once the worker is done.
+    // The buffer doesn't outlive the application, so what still fails after a few attempts is lost.
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping.countDown();
+        worker.join();
+
+        var batch = retrying;
+
+        do {
+            flushBeforeExit(batch);
+        } while (!(batch = answerBufferGateway.drainNow(batchSize)).isEmpty());
+    }
+
+    // Returns the submissions to retry, which failed for reasons other than their data
+    List<Submission> flush(List<Submission> batch) {
+        var startedAt = System.nanoTime();
+
+        try {
+            answerCreate.createAll(batch);
+            flushedCounter.increment(batch.size());
+            return List.of();
+        } catch (RuntimeException e) {
+            if (!WriteFailure.isPermanent(e)) {
+                log.warn("Error writing a batch of {} submissions, keeping it to retry", batch.size(), e);
+                return batch;
+            }
+
+            log.warn("Error writing a batch of {} submissions, retrying them one by one", batch.size(), e);
+
+            return batch.stream()
+                    .filter(submission -> !flushAlone(submission))
+                    .collect(toList());
+        } finally {
+            flushTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    // A submission that can never be written, e.g. for a research deleted meanwhile, is dropped
+    private boolean flushAlone(Submission submission) {
+        try {
+            answerCreate.createAll(List.of(submission));
+            flushedCounter.increment();
+            return true;
+        } catch (RuntimeException e) {
+            if (!WriteFailure.isPermanent(e)) {
+                log.warn("Error writing buffered submission of research {}, keeping it to retry", submission.getResearchId(), e);
+                return false;
+            }
+
+            failedCounter.increment();
+            log.error("Error writing buffered submission of research {}, discarding it", submission.getResearchId(), e);
+            return true;
+        }
+    }
+
+    private void flushBeforeExit(List<Submission> batch) throws InterruptedException {
+        var delay = retryDelay;
+
+        for (var attempt = 1; !batch.isEmpty(); attempt++) {
+            if (attempt > SHUTDOWN_ATTEMPTS) {
+                failedCounter.increment(batch.size());
+                log.error("Giving up on {} buffered submissions on shutdown", batch.size());
+                return;
+            }
+
+            if (attempt > 1) {
+                Thread.sleep(delay.toMillis());
+                delay = next(delay);
+            }
+
+            batch = flush(batch);
+        }
+    }
+
+    private Duration next(Duration delay) {
+        var doubled = delay.multipliedBy(2);
+        return doubled.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : doubled;
+    }
+
+    private void run() {
+        var delay = retryDelay;
+
+        while (stopping.getCount() > 0) {
+            try {
+                if (retrying.isEmpty()) {
+                    var batch = answerBufferGateway.drain(batchSize, maxDelay);
+
+                    if (!batch.isEmpty()) {
+                        retrying = flush(batch);
+                    }
+                } else if (!stopping.await(delay.toNanos(), NANOSECONDS)) {
+                    retrying = flush(retrying);
+                    delay = retrying.isEmpty() ? retryDelay : next(delay);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.port.AnswerBufferPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Bounded ring buffer of validated submissions, drained in batches by the AnswerBufferFlusher
+@Component
+@ConditionalOnProperty(name = "answer.ingestion.mode", havingValue = "buffered")
+public class AnswerBufferGateway implements AnswerBufferPort {
+
+    private final ArrayBlockingQueue<Submission> buffer;
+    private final Counter rejectedCounter;
+
+    public AnswerBufferGateway(MeterRegistry meterRegistry,
+                               @Value("${answer.ingestion.buffer-capacity:10000}") int capacity) {
+
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+
+        Gauge.builder("research.answer.buffer.size", buffer, ArrayBlockingQueue::size)
+                .description("Submissions waiting to be flushed to the database")
+                .register(meterRegistry);
+
+        Gauge.builder("research.answer.buffer.capacity", buffer, queue -> queue.size() + queue.remainingCapacity())
+                .description("Submissions the buffer can hold")
+                .register(meterRegistry);
+
+        this.rejectedCounter = Counter.builder("research.answer.buffer.rejected")
+                .description("Submissions refused because the buffer was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean offer(Submission submission) {
+        if (buffer.offer(submission)) {
+            return true;
+        }
+
+        rejectedCounter.increment();
+        return false;
+    }
+
+    // Waits up to maxWait for a first submission, then until the batch is full or maxWait has passed since it arrived
+    public List<Submission> drain(int maxSize, Duration maxWait) throws InterruptedException {
+        var batch = new ArrayList<Submission>(maxSize);
+        var first = buffer.poll(maxWait.toNanos(), NANOSECONDS);
+
+        if (first == null) {
+            return batch;
+        }
+
+        var deadline = System.nanoTime() + maxWait.toNanos();
+        batch.add(first);
+        buffer.drainTo(batch, maxSize - batch.size());
+
+        while (batch.size() < maxSize) {
+            var next = buffer.poll(deadline - System.nanoTime(), NANOSECONDS);
+
+            if (next == null) {
+                break;
+            }
+
+            batch.add(next);
+            buffer.drainTo(batch, maxSize - batch.size());
+        }
+
+        return batch;
+    }
+
+    public List<Submission> drainNow(int maxSize) {
+        var batch = new ArrayList<Submission>(maxSize);
+        buffer.drainTo(batch, maxSize);
+        return batch;
+    }
+}
@@ -0,0 +1,547 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.adapter.event.AnswerEventBus;
+import com.github.paulosalonso.research.adapter.event.AnswerEventSubscription;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerCounterId;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerRollupId;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchSummaryModel;
+import com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerCounterPendingRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerCounterRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerOrdinalDictionary;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRollupRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.SubmissionRepository;
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+// In the accumulated mode, the answer counters and the hourly and daily rollups are added up in memory from the answer
+// events and flushed to their tables periodically, so popular options don't serialize the submissions on their rows.
+// Summaries add the amounts not yet flushed to the persisted ones. Each submission is also recorded as pending in its
+// own transaction and only leaves that table when it is counted, so the ones lost in memory, by a crash or a skipped
+// event batch, are counted from the stored answers by the reconciliation.
+@Slf4j
+@Component
+public class AnswerCounterAccumulator implements SmartInitializingSingleton {
+
+    private static final Duration CATCH_UP_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration CONSISTENT_READ_TIMEOUT = Duration.ofSeconds(1);
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final AnswerCounterRepository answerCounterRepository;
+    private final AnswerRollupRepository answerRollupRepository;
+    private final AnswerCounterPendingRepository answerCounterPendingRepository;
+    private final AnswerRepository answerRepository;
+    private final SubmissionRepository submissionRepository;
+    private final AnswerOrdinalDictionary answerOrdinalDictionary;
+    private final ResearchRepository researchRepository;
+    private final AnswerEventBus answerEventBus;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean accumulated;
+    private final Duration reconcileAfter;
+    private final Map<UUID, Increments> inFlight = new ConcurrentHashMap<>();
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final Timer flushTimer;
+    private final Counter discardedCounter;
+    private final Counter reconciledCounter;
+
+    private volatile Map<UUID, Increments> pending = new ConcurrentHashMap<>();
+    private volatile AnswerEventSubscription subscription;
+    private boolean closed;
+
+    public AnswerCounterAccumulator(AnswerCounterRepository answerCounterRepository,
+                                    AnswerRollupRepository answerRollupRepository,
+                                    AnswerCounterPendingRepository answerCounterPendingRepository,
+                                    AnswerRepository answerRepository, SubmissionRepository submissionRepository,
+                                    AnswerOrdinalDictionary answerOrdinalDictionary, ResearchRepository researchRepository,
+                                    AnswerEventBus answerEventBus, PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${answer.counters.mode:direct}") String mode,
+                                    @Value("${answer.counters.reconcile-after:5m}") Duration reconcileAfter) {
+
+        this.answerCounterRepository = answerCounterRepository;
+        this.answerRollupRepository = answerRollupRepository;
+        this.answerCounterPendingRepository = answerCounterPendingRepository;
+        this.answerRepository = answerRepository;
+        this.submissionRepository = submissionRepository;
+        this.answerOrdinalDictionary = answerOrdinalDictionary;
+        this.researchRepository = researchRepository;
+        this.answerEventBus = answerEventBus;
+        this.transactionManager = transactionManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.accumulated = "accumulated".equals(mode);
+        this.reconcileAfter = reconcileAfter;
+
+        Gauge.builder("research.answer.counters.pending", this, AnswerCounterAccumulator::getPendingAmount)
+                .description("Answers counted in memory and not yet flushed to the counters table")
+                .register(meterRegistry);
+
+        this.flushTimer = Timer.builder("research.answer.counters.flush")
+                .description("Time to flush the accumulated answer counters and rollups")
+                .register(meterRegistry);
+
+        this.discardedCounter = Counter.builder("research.answer.counters.discarded")
+                .description("Accumulated answers discarded because their research no longer exists")
+                .register(meterRegistry);
+
+        this.reconciledCounter = Counter.builder("research.answer.counters.reconciled")
+                .description("Submissions counted from the stored answers because their events never reached the counters")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (accumulated) {
+            subscription = answerEventBus.subscribe("counters", this::add);
+        }
+    }
+
+    // Called with the submissions, in their transaction. In the accumulated mode the counters and rollups come from the
+    // answer events instead, after the commit, so a rolled back submission is never counted.
+    public void increment(Map<AnswerCounterId, Long> increments) {
+        if (!accumulated) {
+            answerCounterRepository.increment(increments);
+        }
+    }
+
+    public void incrementRollup(RollupGranularity granularity, Map<AnswerRollupId, Long> increments) {
+        if (!accumulated) {
+            answerRollupRepository.increment(granularity, increments);
+        }
+    }
+
+    // Also called in the submissions transaction, so a submission is pending exactly when it is stored
+    public void register(Collection<Long> submissionIds) {
+        if (accumulated && !submissionIds.isEmpty()) {
+            answerCounterPendingRepository.insert(submissionIds, OffsetDateTime.now());
+        }
+    }
+
+    public List<ResearchSummaryModel> summarize(UUID researchId, UUID questionId,
+                                                Supplier<List<ResearchSummaryModel>> persisted) {
+        if (!accumulated) {
+            return persisted.get();
+        }
+
+        awaitCaughtUp();
+
+        return consistently(() -> {
+            var summary = new ArrayList<>(persisted.get());
+
+            pending(researchId, questionId).forEach((id, amount) -> summary.add(
+                    new ResearchSummaryModel(id.getQuestionId(), id.getOptionId(), amount)));
+
+            return summary;
+        });
+    }
+
+    public Map<UUID, Long> amountByOption(UUID researchId, UUID questionId, Supplier<Map<UUID, Long>> persisted) {
+        if (!accumulated) {
+            return persisted.get();
+        }
+
+        awaitCaughtUp();
+
+        return consistently(() -> {
+            var amounts = new HashMap<>(persisted.get());
+            pending(researchId, questionId).forEach((id, amount) -> amounts.merge(id.getOptionId(), amount, Long::sum));
+            return amounts;
+        });
+    }
+
+    // Adds the buckets not yet flushed in [from, to) to the persisted ones, a null bound being unbounded
+    public List<ResearchSummaryModel> summarizeRollup(UUID researchId, UUID questionId, RollupGranularity granularity,
+                                                      OffsetDateTime from, OffsetDateTime to,
+                                                      Supplier<List<ResearchSummaryModel>> persisted) {
+        if (!accumulated) {
+            return persisted.get();
+        }
+
+        awaitCaughtUp();
+
+        return consistently(() -> {
+            var summary = new ArrayList<>(persisted.get());
+
+            unflushed(researchId).forEach(increments -> increments.rollups.get(granularity).forEach((id, amount) -> {
+                if ((questionId == null || questionId.equals(id.getQuestionId()))
+                        && (from == null || !id.getBucket().isBefore(from))
+                        && (to == null || id.getBucket().isBefore(to))) {
+
+                    summary.add(new ResearchSummaryModel(id.getQuestionId(), id.getOptionId(), amount.sum()));
+                }
+            }));
+
+            return summary;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${answer.counters.flush-interval:1000}")
+    public void flush() {
+        if (accumulated) {
+            flush(false);
+        }
+    }
+
+    // Also runs on startup, for the submissions left pending by an instance that stopped before flushing them. Only the
+    // ones pending for longer than the flush of the instance that stored them should take are counted.
+    @Scheduled(fixedDelayString = "${answer.counters.reconcile-interval:60000}")
+    public void reconcile() {
+        if (accumulated) {
+            var before = OffsetDateTime.now().minus(reconcileAfter);
+
+            try {
+                int reconciled;
+
+                do {
+                    reconciled = transactionTemplate.execute(status -> reconcile(before));
+                } while (reconciled == RECONCILE_BATCH_SIZE);
+            } catch (RuntimeException e) {
+                log.error("Error reconciling the pending submissions with the answer counters", e);
+            }
+        }
+    }
+
+    // Events still handled after this point, e.g. from the buffered submissions written on shutdown, go straight to
+    // the table
+    @PreDestroy
+    public void shutdown() {
+        if (accumulated) {
+            awaitCaughtUp();
+            flush(true);
+        }
+    }
+
+    void add(List<AnswersSubmitted> events) {
+        flushLock.readLock().lock();
+
+        try {
+            if (!closed) {
+                events.forEach(event -> pending.computeIfAbsent(event.getResearchId(), researchId -> new Increments())
+                        .add(event));
+
+                return;
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+
+        var increments = new Increments();
+        events.forEach(increments::add);
+        commit(List.of(increments), () -> {});
+    }
+
+    long getPendingAmount() {
+        return Stream.concat(pending.values().stream(), inFlight.values().stream())
+                .mapToLong(Increments::getAnswers)
+                .sum();
+    }
+
+    private void awaitCaughtUp() {
+        if (subscription != null && !subscription.awaitCaughtUp(CATCH_UP_TIMEOUT)) {
+            log.warn("Answer counters are behind the answer events, summarizing without the latest submissions");
+        }
+    }
+
+    // The generation is odd while the amounts move between memory and the table, so a read is only kept when no move
+    // started or ended while it ran. Readers retry instead of blocking the flush, the swap or the event subscription.
+    private <T> T consistently(Supplier<T> read) {
+        var deadline = System.nanoTime() + CONSISTENT_READ_TIMEOUT.toNanos();
+
+        while (true) {
+            var before = generation.get();
+
+            if ((before & 1) == 0) {
+                var result = read.get();
+
+                if (generation.get() == before) {
+                    return result;
+                }
+            }
+
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("Answer counters are being flushed for too long, summarizing while they move to the table");
+                return read.get();
+            }
+
+            LockSupport.parkNanos(50_000);
+        }
+    }
+
+    private Map<AnswerCounterId, Long> pending(UUID researchId, UUID questionId) {
+        var amounts = new HashMap<AnswerCounterId, Long>();
+
+        unflushed(researchId).forEach(increments -> increments.counters.forEach((id, counter) -> {
+            if (questionId == null || questionId.equals(id.getQuestionId())) {
+                amounts.merge(id, counter.sum(), Long::sum);
+            }
+        }));
+
+        return amounts;
+    }
+
+    private List<Increments> unflushed(UUID researchId) {
+        return Stream.of(pending.get(researchId), inFlight.get(researchId))
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
+
+    // Flushes never overlap, e.g. the scheduled one and the one on shutdown
+    private synchronized void flush(boolean close) {
+        var startedAt = System.nanoTime();
+
+        try {
+            var increments = drain(close);
+
+            if (!increments.isEmpty()) {
+                write(increments);
+            }
+        } finally {
+            flushTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    // The event subscription is held off only while the pending amounts are swapped for new ones. The amounts taken out
+    // stay visible to the readers until they are committed or put back.
+    private Map<UUID, Increments> drain(boolean close) {
+        flushLock.writeLock().lock();
+        generation.incrementAndGet();
+
+        try {
+            closed = closed || close;
+            var increments = pending;
+            pending = new ConcurrentHashMap<>();
+            inFlight.putAll(increments);
+            return increments;
+        } finally {
+            generation.incrementAndGet();
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private void write(Map<UUID, Increments> increments) {
+        try {
+            commit(increments.values(), () -> increments.keySet().forEach(inFlight::remove));
+        } catch (RuntimeException e) {
+            log.warn("Error flushing the counters of {} researches, retrying them one by one", increments.size(), e);
+            increments.forEach(this::writeAlone);
+        }
+    }
+
+    // The amounts of a research that can't be written are kept for the next flush, unless the research was deleted
+    private void writeAlone(UUID researchId, Increments increments) {
+        try {
+            commit(List.of(increments), () -> inFlight.remove(researchId));
+        } catch (RuntimeException e) {
+            if (exists(researchId)) {
+                log.error("Error flushing the counters of research {}, keeping them for the next flush", researchId, e);
+                restore(researchId, increments);
+            } else {
+                discard(researchId, increments);
+                log.warn("Research {} no longer exists, discarding its accumulated counters", researchId);
+            }
+        }
+    }
+
+    // Only the submissions still pending are written, since the reconciliation may have counted some of them when this
+    // flush took too long. Their pending rows stay locked until the commit, which the readers don't wait for.
+    private void commit(Collection<Increments> increments, Runnable committed) {
+        var status = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+
+        try {
+            var submissionIds = increments.stream()
+                    .flatMap(research -> research.events.stream())
+                    .map(AnswersSubmitted::getSubmissionId)
+                    .collect(toSet());
+
+            var stillPending = answerCounterPendingRepository.lock(submissionIds);
+
+            if (stillPending.size() == submissionIds.size()) {
+                incrementAll(increments);
+            } else {
+                var remaining = new Increments();
+
+                increments.forEach(research -> research.events.stream()
+                        .filter(event -> stillPending.contains(event.getSubmissionId()))
+                        .forEach(remaining::add));
+
+                incrementAll(List.of(remaining));
+            }
+
+            answerCounterPendingRepository.delete(stillPending);
+        } catch (RuntimeException e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+
+        generation.incrementAndGet();
+
+        try {
+            transactionManager.commit(status);
+            committed.run();
+        } finally {
+            generation.incrementAndGet();
+        }
+    }
+
+    private int reconcile(OffsetDateTime before) {
+        var submissionIds = answerCounterPendingRepository.lockStale(before, RECONCILE_BATCH_SIZE);
+
+        if (!submissionIds.isEmpty()) {
+            var increments = new Increments();
+
+            answerRepository.findBySubmissionIds(submissionIds).forEach(answer -> increments.add(
+                    answer.getResearchId(), answer.getDate(), answer.getQuestionId(), answer.getOptionId()));
+
+            submissionRepository.findPackedByIds(submissionIds).forEach(submission -> answerOrdinalDictionary.decode(
+                    submission.getResearchId(), submission.getOptions(), (questionId, optionId) -> increments.add(
+                            submission.getResearchId(), submission.getDate(), questionId, optionId)));
+
+            // Submissions deleted with their research meanwhile are no longer found, and just leave the table
+            incrementAll(List.of(increments));
+            answerCounterPendingRepository.delete(submissionIds);
+            reconciledCounter.increment(submissionIds.size());
+            log.info("Counted {} pending submissions whose answer events never reached the counters", submissionIds.size());
+        }
+
+        return submissionIds.size();
+    }
+
+    // Counters and rollups are written in the same transaction, so they are always flushed together
+    private void incrementAll(Collection<Increments> increments) {
+        var counters = new HashMap<AnswerCounterId, Long>();
+        increments.forEach(research -> research.counters.forEach((id, amount) -> counters.put(id, amount.sum())));
+
+        if (!counters.isEmpty()) {
+            answerCounterRepository.increment(counters);
+        }
+
+        for (var granularity : RollupGranularity.values()) {
+            var rollups = new HashMap<AnswerRollupId, Long>();
+            increments.forEach(research -> research.rollups.get(granularity)
+                    .forEach((id, amount) -> rollups.put(id, amount.sum())));
+
+            if (!rollups.isEmpty()) {
+                answerRollupRepository.increment(granularity, rollups);
+            }
+        }
+    }
+
+    private boolean exists(UUID researchId) {
+        try {
+            return researchRepository.existsById(researchId);
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    private void restore(UUID researchId, Increments increments) {
+        flushLock.writeLock().lock();
+        generation.incrementAndGet();
+
+        try {
+            inFlight.remove(researchId);
+            pending.computeIfAbsent(researchId, key -> new Increments()).add(increments);
+        } finally {
+            generation.incrementAndGet();
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    // Their pending rows stay behind, and are removed by the reconciliation once it finds no stored submission
+    private void discard(UUID researchId, Increments increments) {
+        inFlight.remove(researchId);
+        discardedCounter.increment(increments.getAnswers());
+    }
+
+    // Amounts of a single research, added up concurrently while pending, and the events they came from
+    private static class Increments {
+
+        private final Map<AnswerCounterId, LongAdder> counters = new ConcurrentHashMap<>();
+        private final Map<RollupGranularity, Map<AnswerRollupId, LongAdder>> rollups = new EnumMap<>(RollupGranularity.class);
+        private final Queue<AnswersSubmitted> events = new ConcurrentLinkedQueue<>();
+
+        private Increments() {
+            for (var granularity : RollupGranularity.values()) {
+                rollups.put(granularity, new ConcurrentHashMap<>());
+            }
+        }
+
+        private void add(AnswersSubmitted event) {
+            var buckets = new EnumMap<RollupGranularity, OffsetDateTime>(RollupGranularity.class);
+            rollups.keySet().forEach(granularity -> buckets.put(granularity, granularity.floor(event.getDate())));
+
+            event.getAnswers().forEach(answer -> {
+                add(counters, new AnswerCounterId(event.getResearchId(), answer.getQuestionId(), answer.getOptionId()), 1);
+
+                buckets.forEach((granularity, bucket) -> add(rollups.get(granularity), new AnswerRollupId(
+                        event.getResearchId(), bucket, answer.getQuestionId(), answer.getOptionId()), 1));
+            });
+
+            events.add(event);
+        }
+
+        private void add(UUID researchId, OffsetDateTime date, UUID questionId, UUID optionId) {
+            add(counters, new AnswerCounterId(researchId, questionId, optionId), 1);
+
+            rollups.forEach((granularity, amounts) -> add(amounts, new AnswerRollupId(
+                    researchId, granularity.floor(date), questionId, optionId), 1));
+        }
+
+        private void add(Increments other) {
+            other.counters.forEach((id, amount) -> add(counters, id, amount.sum()));
+            other.rollups.forEach((granularity, amounts) ->
+                    amounts.forEach((id, amount) -> add(rollups.get(granularity), id, amount.sum())));
+            events.addAll(other.events);
+        }
+
+        // Each answer is counted once in the counters, and once per granularity in the rollups
+        private long getAnswers() {
+            return counters.values().stream()
+                    .mapToLong(LongAdder::sum)
+                    .sum();
+        }
+
+        private static <K> void add(Map<K, LongAdder> amounts, K id, long amount) {
+            amounts.computeIfAbsent(id, key -> new LongAdder()).add(amount);
+        }
+    }
+}
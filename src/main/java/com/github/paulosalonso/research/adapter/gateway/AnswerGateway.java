@@ -1,35 +1,179 @@
 package com.github.paulosalonso.research.adapter.gateway;
 
 import com.github.paulosalonso.research.adapter.jpa.mapper.AnswerMapper;
-import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.model.QuestionEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchSummaryModel;
+import com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerCounterRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerCrosstabRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerExportRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerSegmentIndex;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerSummaryPlanner;
 import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.SubmissionRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.SubmissionStore;
 import com.github.paulosalonso.research.domain.Answer;
 import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
 import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.domain.Submission;
 import com.github.paulosalonso.research.usecase.exception.NotFoundException;
 import com.github.paulosalonso.research.usecase.port.AnswerPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 
 @RequiredArgsConstructor
 @Service
 public class AnswerGateway implements AnswerPort {
 
-    private final AnswerRepository answerRepository;
+    private final SubmissionStore submissionStore;
+    private final SubmissionRepository submissionRepository;
+    private final AnswerCounterRepository answerCounterRepository;
+    private final AnswerCounterAccumulator answerCounterAccumulator;
+    private final AnswerExportRepository answerExportRepository;
+    private final AnswerCrosstabRepository answerCrosstabRepository;
+    private final AnswerSummaryPlanner answerSummaryPlanner;
+    private final AnswerSegmentIndex answerSegmentIndex;
     private final ResearchRepository researchRepository;
     private final AnswerMapper mapper;
 
+    @Transactional
     @Override
-    public Answer create(Answer answer) {
-        return mapper.toDomain(answerRepository.save(mapper.toEntity(answer)));
+    public Submission createSubmission(Submission submission) {
+        return createSubmissions(List.of(submission)).get(0);
     }
 
+    // Submission ids come from a pooled sequence, so their inserts are flushed together with the answer batch.
+    // Counters and rollups receive a single increment per key for the whole list. Submissions whose idempotency key
+    // is already stored were written before a failure or a crash, and are left out of the result.
+    @Transactional
+    @Override
+    public List<Submission> createSubmissions(List<Submission> submissions) {
+        var pending = withoutStored(submissions);
+        var created = new ArrayList<Submission>(pending.size());
+
+        if (pending.isEmpty()) {
+            return created;
+        }
+
+        for (var submission : pending) {
+            var submissionEntity = mapper.toEntity(submission);
+
+            var answerEntities = submission.getAnswers().stream()
+                    .map(mapper::toEntity)
+                    .collect(toList());
+
+            submissionStore.save(submissionEntity, answerEntities);
+
+            created.add(submission.toBuilder()
+                    .id(submissionEntity.getId())
+                    .answers(answerEntities.stream()
+                            .map(mapper::toDomain)
+                            .collect(toList()))
+                    .build());
+        }
+
+        var answers = pending.stream()
+                .flatMap(submission -> submission.getAnswers().stream())
+                .collect(toList());
+
+        answerCounterAccumulator.register(created.stream()
+                .map(Submission::getId)
+                .collect(toList()));
+
+        answerCounterAccumulator.increment(answers.stream()
+                .collect(groupingBy(mapper::toCounterId, counting())));
+
+        for (var granularity : RollupGranularity.values()) {
+            answerCounterAccumulator.incrementRollup(granularity, answers.stream()
+                    .collect(groupingBy(answer -> mapper.toRollupId(answer, granularity), counting())));
+        }
+
+        return created;
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public ResearchSummary search(AnswerCriteria answerCriteria) {
         var research = researchRepository
-                .findById(answerCriteria.getResearchId().toString())
+                .findById(answerCriteria.getResearchId())
+                .orElseThrow(NotFoundException::new);
+
+        return mapper.toDomain(research, summarize(answerCriteria));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ResearchCrosstab crosstab(AnswerCriteria answerCriteria, UUID rowQuestionId, UUID columnQuestionId) {
+        var research = researchRepository
+                .findById(answerCriteria.getResearchId())
                 .orElseThrow(NotFoundException::new);
 
-        return mapper.toDomain(research, answerRepository.search(answerCriteria));
+        var rowQuestion = findQuestion(research, rowQuestionId);
+        var columnQuestion = findQuestion(research, columnQuestionId);
+
+        return mapper.toDomain(research, rowQuestion, columnQuestion,
+                answerCrosstabRepository.crosstab(answerCriteria, rowQuestionId, columnQuestionId));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void export(AnswerCriteria answerCriteria, Consumer<Answer> consumer) {
+        try (var answers = answerExportRepository.stream(answerCriteria)) {
+            answers.map(mapper::toDomain).forEach(consumer);
+        }
+    }
+
+    private List<ResearchSummaryModel> summarize(AnswerCriteria criteria) {
+        if (criteria.getSegment() != null && !criteria.getSegment().isEmpty()) {
+            return answerSegmentIndex.summarize(criteria.getResearchId(), criteria.getQuestionId(), criteria.getSegment());
+        }
+
+        if (criteria.getDateFrom() != null || criteria.getDateTo() != null) {
+            return answerSummaryPlanner.search(criteria);
+        }
+
+        var researchId = criteria.getResearchId();
+        var questionId = criteria.getQuestionId();
+
+        return answerCounterAccumulator.summarize(researchId, questionId, () -> questionId != null
+                ? answerCounterRepository.findSummaryByResearchIdAndQuestionId(researchId, questionId)
+                : answerCounterRepository.findSummaryByResearchId(researchId));
+    }
+
+    private QuestionEntity findQuestion(ResearchEntity research, UUID questionId) {
+        return research.getQuestions().stream()
+                .filter(question -> question.getId().equals(questionId))
+                .findFirst()
+                .orElseThrow(NotFoundException::new);
+    }
+
+    private List<Submission> withoutStored(List<Submission> submissions) {
+        var idempotencyKeys = submissions.stream()
+                .map(Submission::getIdempotencyKey)
+                .filter(Objects::nonNull)
+                .collect(toList());
+
+        if (idempotencyKeys.isEmpty()) {
+            return submissions;
+        }
+
+        var stored = submissionRepository.findIdempotencyKeys(idempotencyKeys);
+
+        return submissions.stream()
+                .filter(submission -> !stored.contains(submission.getIdempotencyKey()))
+                .collect(toList());
     }
 }
@@ -0,0 +1,95 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.paulosalonso.research.usecase.answer.AnswerSchema;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
+import com.github.paulosalonso.research.usecase.port.ResearchPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Optional.ofNullable;
+
+// Bounded by size and time to live. Invalidations only reach the local instance, so a change made through another
+// instance is seen here once the schema expires.
+@Component
+public class AnswerSchemaCacheGateway implements AnswerSchemaCachePort {
+
+    private final ResearchPort researchPort;
+    private final Cache<UUID, AnswerSchema> schemas;
+    private final Map<UUID, UUID> researchIdByQuestionId = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired
+    public AnswerSchemaCacheGateway(ResearchPort researchPort,
+                                    @Value("${answer.schema.cache.max-size:1000}") long maxSize,
+                                    @Value("${answer.schema.cache.ttl:5m}") Duration ttl) {
+
+        this(researchPort, maxSize, ttl, Ticker.systemTicker());
+    }
+
+    // Evicted schemas take their questions out of the index, so it's bounded by the cached schemas as well
+    AnswerSchemaCacheGateway(ResearchPort researchPort, long maxSize, Duration ttl, Ticker ticker) {
+        this.researchPort = researchPort;
+        this.schemas = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .<UUID, AnswerSchema>removalListener((researchId, schema, cause) -> {
+                    if (cause.wasEvicted() && schema != null) {
+                        schema.getQuestions().forEach(question -> researchIdByQuestionId.remove(question.getId(), researchId));
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public AnswerSchema get(UUID researchId) {
+        var schema = schemas.getIfPresent(researchId);
+
+        if (schema == null) {
+            schema = load(researchId);
+        }
+
+        return schema;
+    }
+
+    @Override
+    public void invalidate(UUID researchId) {
+        version.incrementAndGet();
+
+        ofNullable(schemas.asMap().remove(researchId))
+                .ifPresent(schema -> schema.getQuestions()
+                        .forEach(question -> researchIdByQuestionId.remove(question.getId())));
+    }
+
+    @Override
+    public void invalidateByQuestion(UUID questionId) {
+        version.incrementAndGet();
+
+        ofNullable(researchIdByQuestionId.get(questionId))
+                .ifPresent(this::invalidate);
+    }
+
+    // A schema loaded while any invalidation happened may be stale, so it is only published
+    // when the version is unchanged. The question index is registered first, so an option
+    // change racing with the publication always finds the research to invalidate.
+    private AnswerSchema load(UUID researchId) {
+        var loadingVersion = version.get();
+        var schema = AnswerSchema.compile(researchPort.readFetchingQuestions(researchId), loadingVersion);
+
+        schema.getQuestions().forEach(question -> researchIdByQuestionId.put(question.getId(), researchId));
+        schemas.asMap().compute(researchId, (id, current) -> version.get() == loadingVersion ? schema : current);
+
+        return schema;
+    }
+}
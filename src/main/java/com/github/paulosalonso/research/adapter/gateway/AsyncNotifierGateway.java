@@ -0,0 +1,108 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.usecase.port.NotifierPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@Slf4j
+@Primary
+@ConditionalOnProperty(name = "notifier.dispatch.mode", havingValue = "async")
+@Component
+public class AsyncNotifierGateway implements NotifierPort {
+
+    private final NotifierGateway notifierGateway;
+    private final ThreadPoolExecutor executor;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer latencyTimer;
+
+    public AsyncNotifierGateway(NotifierGateway notifierGateway, MeterRegistry meterRegistry,
+                                @Value("${notifier.dispatch.pool-size:2}") int poolSize,
+                                @Value("${notifier.dispatch.queue-capacity:1000}") int queueCapacity) {
+
+        this.notifierGateway = notifierGateway;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("notifier-"));
+
+        Gauge.builder("research.notifier.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Notifications waiting for a dispatch thread")
+                .register(meterRegistry);
+
+        this.droppedCounter = Counter.builder("research.notifier.dropped")
+                .description("Notifications discarded because the dispatch queue was full")
+                .register(meterRegistry);
+
+        this.failedCounter = Counter.builder("research.notifier.failed")
+                .description("Notifications that failed while being sent")
+                .register(meterRegistry);
+
+        this.latencyTimer = Timer.builder("research.notifier.latency")
+                .description("Time from enqueue until the notification has been sent")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void notifyAnswer(Answer answer) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(answer);
+                }
+            });
+        } else {
+            enqueue(answer);
+        }
+    }
+
+    private void enqueue(Answer answer) {
+        var enqueuedAt = System.nanoTime();
+
+        try {
+            executor.execute(() -> dispatch(answer, enqueuedAt));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            log.warn("Notification queue is full, dropping notification for option {}", answer.getOptionId());
+        }
+    }
+
+    private void dispatch(Answer answer, long enqueuedAt) {
+        try {
+            notifierGateway.notifyAnswer(answer);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Error sending notification for option {}", answer.getOptionId(), e);
+        } finally {
+            latencyTimer.record(System.nanoTime() - enqueuedAt, NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+
+        if (!executor.awaitTermination(10, SECONDS)) {
+            log.warn("{} notifications were not sent before shutdown", executor.shutdownNow().size());
+        }
+    }
+}
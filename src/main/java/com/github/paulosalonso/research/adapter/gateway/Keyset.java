@@ -0,0 +1,66 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+// Cursors carry the sort key of the last element of a page, so the next page is a range scan instead of an offset
+final class Keyset {
+
+    private static final String SEPARATOR = ",";
+
+    private Keyset() {}
+
+    static String encode(Object... key) {
+        var value = Stream.of(key)
+                .map(String::valueOf)
+                .collect(joining(SEPARATOR));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+
+    static List<Comparable<?>> decode(String cursor, List<Function<String, Comparable<?>>> parsers) {
+        try {
+            var values = new String(Base64.getUrlDecoder().decode(cursor), UTF_8).split(SEPARATOR, -1);
+
+            if (values.length != parsers.size()) {
+                throw new InvalidCriteriaException("Invalid cursor: " + cursor);
+            }
+
+            var key = new ArrayList<Comparable<?>>();
+
+            for (int i = 0; i < values.length; i++) {
+                key.add(parsers.get(i).apply(values[i]));
+            }
+
+            return key;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCriteriaException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // One element beyond the limit is fetched to know whether there is a next page without counting
+    static <E, T> Page<T> toPage(List<E> entities, PageCriteria page, Function<E, T> mapper, Function<E, String> cursor) {
+        var content = entities.stream()
+                .limit(page.getLimit())
+                .collect(toList());
+
+        var nextCursor = entities.size() > page.getLimit() ? cursor.apply(content.get(content.size() - 1)) : null;
+
+        return Page.<T>builder()
+                .content(content.stream().map(mapper).collect(toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
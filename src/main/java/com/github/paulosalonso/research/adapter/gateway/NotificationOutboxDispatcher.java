@@ -0,0 +1,160 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.adapter.jpa.mapper.NotificationOutboxMapper;
+import com.github.paulosalonso.research.adapter.jpa.model.NotificationOutboxEntity;
+import com.github.paulosalonso.research.adapter.jpa.repository.NotificationOutboxRepository;
+import com.github.paulosalonso.research.usecase.exception.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.paulosalonso.research.adapter.jpa.model.NotificationStatus.DEAD;
+import static com.github.paulosalonso.research.adapter.jpa.model.NotificationStatus.PENDING;
+
+@Slf4j
+@ConditionalOnProperty(name = "notifier.dispatch.mode", havingValue = "outbox", matchIfMissing = true)
+@Component
+public class NotificationOutboxDispatcher {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+    private final NotificationOutboxRepository repository;
+    private final NotificationOutboxMapper mapper;
+    private final NotifierGateway notifierGateway;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository repository, NotificationOutboxMapper mapper,
+                                        NotifierGateway notifierGateway, TransactionTemplate transactionTemplate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notifier.outbox.batch-size:100}") int batchSize,
+                                        @Value("${notifier.outbox.max-attempts:10}") int maxAttempts,
+                                        @Value("${notifier.outbox.initial-backoff:5s}") Duration initialBackoff,
+                                        @Value("${notifier.outbox.max-backoff:1h}") Duration maxBackoff,
+                                        @Value("${notifier.outbox.lease:5m}") Duration lease) {
+
+        this.repository = repository;
+        this.mapper = mapper;
+        this.notifierGateway = notifierGateway;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+
+        this.sentCounter = Counter.builder("research.notifier.outbox.sent")
+                .description("Outbox notifications sent")
+                .register(meterRegistry);
+
+        this.retriedCounter = Counter.builder("research.notifier.outbox.retried")
+                .description("Outbox notifications rescheduled after a failure")
+                .register(meterRegistry);
+
+        this.deadCounter = Counter.builder("research.notifier.outbox.dead")
+                .description("Outbox notifications moved to the dead-letter state")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notifier.outbox.poll-interval:1000}")
+    public void dispatch() {
+        List<NotificationOutboxEntity> batch;
+
+        do {
+            batch = claim();
+
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    // Claimed rows are leased by pushing their next attempt forward, so the row locks are released before any call to
+    // the notifier. Rows of an instance that stops before settling them are picked up again once the lease expires.
+    private List<NotificationOutboxEntity> claim() {
+        var batch = transactionTemplate.execute(status -> {
+            var now = OffsetDateTime.now();
+            var claimed = repository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                    PENDING, now, PageRequest.of(0, batchSize));
+
+            claimed.forEach(notification -> notification.setNextAttemptAt(now.plus(lease)));
+            return claimed;
+        });
+
+        return batch == null ? List.of() : batch;
+    }
+
+    // Sent rows are deleted and failed ones rescheduled in a second short transaction
+    private void send(List<NotificationOutboxEntity> batch) {
+        var now = OffsetDateTime.now();
+        var sent = new ArrayList<NotificationOutboxEntity>(batch.size());
+        var failed = new ArrayList<NotificationOutboxEntity>();
+
+        for (var notification : batch) {
+            try {
+                notifierGateway.notifyAnswer(mapper.toDomain(notification));
+                sent.add(notification);
+            } catch (RuntimeException e) {
+                registerFailure(notification, e, now);
+                failed.add(notification);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                repository.deleteInBatch(sent);
+            }
+
+            if (!failed.isEmpty()) {
+                repository.saveAll(failed);
+            }
+        });
+
+        sentCounter.increment(sent.size());
+    }
+
+    private void registerFailure(NotificationOutboxEntity notification, RuntimeException error, OffsetDateTime now) {
+        var attempts = notification.getAttempts() + 1;
+
+        notification.setAttempts(attempts);
+        notification.setLastError(truncate(error.toString()));
+
+        // A missing question or option will never resolve, so it is not worth retrying
+        if (error instanceof NotFoundException || attempts >= maxAttempts) {
+            notification.setStatus(DEAD);
+            deadCounter.increment();
+            log.error("Notification {} moved to dead-letter after {} attempts", notification.getId(), attempts, error);
+        } else {
+            notification.setNextAttemptAt(now.plus(backoff(attempts)));
+            retriedCounter.increment();
+            log.warn("Notification {} failed on attempt {}, retrying later: {}", notification.getId(), attempts, error.toString());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        var backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private String truncate(String message) {
+        return message.length() > LAST_ERROR_MAX_LENGTH ? message.substring(0, LAST_ERROR_MAX_LENGTH) : message;
+    }
+}
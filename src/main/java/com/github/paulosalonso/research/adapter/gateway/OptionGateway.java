@@ -2,75 +2,94 @@ package com.github.paulosalonso.research.adapter.gateway;
 
 import com.github.paulosalonso.research.adapter.jpa.mapper.OptionMapper;
 import com.github.paulosalonso.research.adapter.jpa.model.OptionEntity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerOrdinalRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.KeysetRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.OptionRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.QuestionRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.specification.OptionSpecificationFactory;
 import com.github.paulosalonso.research.domain.Option;
 import com.github.paulosalonso.research.domain.OptionCriteria;
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.usecase.exception.NotFoundException;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
+import static com.github.paulosalonso.research.adapter.jpa.repository.specification.GeneralSpecificationFactory.after;
 import static com.github.paulosalonso.research.adapter.jpa.repository.specification.GeneralSpecificationFactory.orderByAsc;
-import static java.util.stream.Collectors.toList;
 
 @RequiredArgsConstructor
 @Service
 public class OptionGateway implements OptionPort {
 
+    private static final String[] SORT_FIELDS = {OptionEntity.Fields.sequence, OptionEntity.Fields.id};
+
     private final OptionRepository optionRepository;
     private final QuestionRepository questionRepository;
+    private final ResearchRepository researchRepository;
+    private final AnswerOrdinalRepository answerOrdinalRepository;
+    private final AnswerRepository answerRepository;
+    private final KeysetRepository keysetRepository;
     private final OptionSpecificationFactory specificationFactory;
     private final OptionMapper mapper;
 
     @Transactional
     @Override
     public Option create(UUID questionId, Option option) {
-        var question = questionRepository.findById(questionId.toString())
+        var question = questionRepository.findById(questionId)
                 .orElseThrow(NotFoundException::new);
 
         var entity = mapper.toEntity(option);
         entity.setQuestion(question);
 
         optionRepository.save(entity);
+        researchRepository.lockById(question.getResearch().getId());
+        answerOrdinalRepository.assign(question.getResearch().getId(), question.getId(), entity.getId());
 
         return option;
     }
 
+    // Looked up by id so the second-level cache can serve it
+    @Transactional(readOnly = true)
     @Override
     public Option read(UUID questionId, UUID optionId) {
-        var specification = specificationFactory
-                .findById(optionId.toString())
-                .and(specificationFactory.findByQuestionId(questionId.toString()));
-
-        return optionRepository.findOne(specification)
+        return optionRepository.findById(optionId)
+                .filter(option -> option.getQuestion().getId().equals(questionId))
                 .map(mapper::toDomain)
                 .orElseThrow(NotFoundException::new);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<Option> search(UUID questionId, OptionCriteria criteria) {
-        var specification = specificationFactory.findByQuestionId(questionId.toString())
+    public Page<Option> search(UUID questionId, OptionCriteria criteria, PageCriteria page) {
+        var specification = specificationFactory.findByQuestionId(questionId)
                 .and(specificationFactory.findByOptionCriteria(criteria))
-                .and(orderByAsc(OptionEntity.Fields.sequence));
+                .and(orderByAsc(SORT_FIELDS));
 
-        return optionRepository.findAll(specification)
-                .stream()
-                .map(mapper::toDomain)
-                .collect(toList());
+        if (page.getCursor() != null) {
+            var key = Keyset.decode(page.getCursor(), List.of(Integer::valueOf, UUID::fromString));
+            specification = specification.and(after(key, SORT_FIELDS));
+        }
+
+        return Keyset.toPage(keysetRepository.findAll(OptionEntity.class, specification, page.getLimit() + 1), page,
+                mapper::toDomain,
+                option -> Keyset.encode(option.getSequence(), option.getId()));
     }
 
     @Transactional
     @Override
     public Option update(UUID questionId, Option option) {
         var specification = specificationFactory
-                .findByQuestionId(questionId.toString())
-                .and(specificationFactory.findById(option.getId().toString()));
+                .findByQuestionId(questionId)
+                .and(specificationFactory.findById(option.getId()));
 
         optionRepository.findOne(specification)
                 .map(entity -> mapper.copy(option, entity))
@@ -79,20 +98,22 @@ public class OptionGateway implements OptionPort {
         return option;
     }
 
+    @Transactional
     @Override
     public void delete(UUID questionId, UUID optionId) {
         var specification = specificationFactory
-                .findByQuestionId(questionId.toString())
-                .and(specificationFactory.findById(optionId.toString()));
+                .findByQuestionId(questionId)
+                .and(specificationFactory.findById(optionId));
 
         var option = optionRepository.findOne(specification)
                 .orElseThrow(NotFoundException::new);
 
-        optionRepository.delete(option);
-    }
+        var researchId = option.getQuestion().getResearch().getId();
 
-    @Override
-    public boolean shouldNotify(UUID optionId) {
-        return optionRepository.findNotifyById(optionId.toString());
+        if (answerRepository.existsByResearchIdAndQuestionIdAndOptionId(researchId, questionId, optionId)) {
+            throw new DataIntegrityViolationException("Option has answers");
+        }
+
+        optionRepository.delete(option);
     }
 }
@@ -0,0 +1,27 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.adapter.jpa.mapper.NotificationOutboxMapper;
+import com.github.paulosalonso.research.adapter.jpa.repository.NotificationOutboxRepository;
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.usecase.port.NotifierPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Primary
+@ConditionalOnProperty(name = "notifier.dispatch.mode", havingValue = "outbox", matchIfMissing = true)
+@Component
+public class OutboxNotifierGateway implements NotifierPort {
+
+    private final NotificationOutboxRepository repository;
+    private final NotificationOutboxMapper mapper;
+
+    @Transactional
+    @Override
+    public void notifyAnswer(Answer answer) {
+        repository.save(mapper.toEntity(answer));
+    }
+}
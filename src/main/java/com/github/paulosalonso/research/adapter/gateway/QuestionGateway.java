@@ -2,36 +2,46 @@ package com.github.paulosalonso.research.adapter.gateway;
 
 import com.github.paulosalonso.research.adapter.jpa.mapper.QuestionMapper;
 import com.github.paulosalonso.research.adapter.jpa.model.QuestionEntity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.KeysetRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.QuestionRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.specification.QuestionSpecificationFactory;
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.domain.Question;
 import com.github.paulosalonso.research.domain.QuestionCriteria;
 import com.github.paulosalonso.research.usecase.exception.NotFoundException;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static com.github.paulosalonso.research.adapter.jpa.repository.specification.GeneralSpecificationFactory.after;
 import static com.github.paulosalonso.research.adapter.jpa.repository.specification.GeneralSpecificationFactory.orderByAsc;
-import static java.util.stream.Collectors.toList;
 
 @RequiredArgsConstructor
 @Service
 public class QuestionGateway implements QuestionPort {
 
+    private static final String[] SORT_FIELDS = {QuestionEntity.Fields.sequence, QuestionEntity.Fields.id};
+
     private final ResearchRepository researchRepository;
     private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final KeysetRepository keysetRepository;
     private final QuestionSpecificationFactory specificationFactory;
     private final QuestionMapper mapper;
 
     @Transactional
     @Override
     public Question create(UUID researchId, Question question) {
-        var research = researchRepository.findById(researchId.toString())
+        var research = researchRepository.findById(researchId)
                 .orElseThrow(NotFoundException::new);
 
         var entity = mapper.toEntity(question);
@@ -42,47 +52,46 @@ public class QuestionGateway implements QuestionPort {
         return question;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Question read(UUID researchId, UUID questionId) {
-        var specification = specificationFactory
-                .findByResearchId(researchId.toString())
-                .and(specificationFactory.findById(questionId.toString()));
-
-        return questionRepository.findOne(specification)
+        return findById(researchId, questionId)
                 .map(question -> mapper.toDomain(question, false))
                 .orElseThrow(NotFoundException::new);
     }
 
+    // The options come from the collection cache or, on a miss, from one batched query
+    @Transactional(readOnly = true)
     @Override
     public Question readFetchingOptions(UUID researchId, UUID questionId) {
-        var specification = specificationFactory
-                .findByResearchId(researchId.toString())
-                .and(specificationFactory.findById(questionId.toString()))
-                .and(specificationFactory.findFetchingOptions());
-
-        return questionRepository.findOne(specification)
+        return findById(researchId, questionId)
                 .map(question -> mapper.toDomain(question, true))
                 .orElseThrow(NotFoundException::new);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<Question> search(UUID researchId, QuestionCriteria criteria) {
-        var specification = specificationFactory.findByResearchId(researchId.toString())
+    public Page<Question> search(UUID researchId, QuestionCriteria criteria, PageCriteria page) {
+        var specification = specificationFactory.findByResearchId(researchId)
                 .and(specificationFactory.findByQuestionCriteria(criteria))
-                .and(orderByAsc(QuestionEntity.Fields.sequence));
+                .and(orderByAsc(SORT_FIELDS));
 
-        return questionRepository.findAll(specification)
-                .stream()
-                .map(question -> mapper.toDomain(question, false))
-                .collect(toList());
+        if (page.getCursor() != null) {
+            var key = Keyset.decode(page.getCursor(), List.of(Integer::valueOf, UUID::fromString));
+            specification = specification.and(after(key, SORT_FIELDS));
+        }
+
+        return Keyset.toPage(keysetRepository.findAll(QuestionEntity.class, specification, page.getLimit() + 1), page,
+                question -> mapper.toDomain(question, false),
+                question -> Keyset.encode(question.getSequence(), question.getId()));
     }
 
     @Transactional
     @Override
     public Question update(UUID researchId, Question question) {
         var specification = specificationFactory
-                .findByResearchId(researchId.toString())
-                .and(specificationFactory.findById(question.getId().toString()));
+                .findByResearchId(researchId)
+                .and(specificationFactory.findById(question.getId()));
 
         questionRepository.findOne(specification)
                 .map(entity -> mapper.copy(question, entity))
@@ -94,19 +103,29 @@ public class QuestionGateway implements QuestionPort {
     @Override
     public void delete(UUID researchId, UUID questionId) {
         var specification = specificationFactory
-                .findByResearchId(researchId.toString())
-                .and(specificationFactory.findById(questionId.toString()));
+                .findByResearchId(researchId)
+                .and(specificationFactory.findById(questionId));
 
         var question = questionRepository.findOne(specification)
                 .orElseThrow(NotFoundException::new);
 
+        if (answerRepository.existsByResearchIdAndQuestionId(researchId, questionId)) {
+            throw new DataIntegrityViolationException("Question has answers");
+        }
+
         questionRepository.delete(question);
     }
 
     @Override
     public Integer getNextOptionSequence(UUID questionId) {
-        return questionRepository.findLastOptionSequence(questionId.toString())
+        return questionRepository.findLastOptionSequence(questionId)
                 .map(sequence -> sequence + 1)
                 .orElse(1);
     }
+
+    // Looked up by id so the second-level cache can serve it
+    private Optional<QuestionEntity> findById(UUID researchId, UUID questionId) {
+        return questionRepository.findById(questionId)
+                .filter(question -> question.getResearch().getId().equals(researchId));
+    }
 }
@@ -2,33 +2,41 @@ package com.github.paulosalonso.research.adapter.gateway;
 
 import com.github.paulosalonso.research.adapter.jpa.mapper.QuestionMapper;
 import com.github.paulosalonso.research.adapter.jpa.mapper.ResearchMapper;
-import com.github.paulosalonso.research.adapter.jpa.repository.QuestionRepository;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.KeysetRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
-import com.github.paulosalonso.research.adapter.jpa.repository.specification.QuestionSpecificationFactory;
 import com.github.paulosalonso.research.adapter.jpa.repository.specification.ResearchSpecificationFactory;
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.domain.Research;
 import com.github.paulosalonso.research.domain.ResearchCriteria;
 import com.github.paulosalonso.research.usecase.exception.NotFoundException;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
-import static java.util.stream.Collectors.toList;
+import static com.github.paulosalonso.research.adapter.jpa.repository.specification.GeneralSpecificationFactory.after;
+import static com.github.paulosalonso.research.adapter.jpa.repository.specification.GeneralSpecificationFactory.orderByAsc;
 import static java.util.stream.Collectors.toSet;
 
 @RequiredArgsConstructor
 @Service
 public class ResearchGateway implements ResearchPort {
 
+    private static final String[] SORT_FIELDS = {ResearchEntity.Fields.startsOn, ResearchEntity.Fields.id};
+
     private final ResearchRepository researchRepository;
-    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final KeysetRepository keysetRepository;
     private final ResearchSpecificationFactory researchSpecificationFactory;
-    private final QuestionSpecificationFactory questionSpecificationFactory;
     private final ResearchMapper researchMapper;
     private final QuestionMapper questionMapper;
 
@@ -39,42 +47,51 @@ public class ResearchGateway implements ResearchPort {
         return research;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Research read(UUID id) {
-        return researchRepository.findById(id.toString())
+        return researchRepository.findById(id)
                 .map(research -> researchMapper.toDomain(research, false))
                 .orElseThrow(NotFoundException::new);
     }
 
+    // Walks the associations instead of joining them, so a warm second-level cache serves the whole tree.
+    // On a miss the questions take one query and the options of up to a batch of questions one more.
+    @Transactional(readOnly = true)
     @Override
     public Research readFetchingQuestions(UUID id) {
-        var research = researchMapper.toDomain(researchRepository.findById(id.toString())
-                .orElseThrow(NotFoundException::new), false);
-
-        var specification = questionSpecificationFactory.findByResearchId(id.toString());
-        specification = specification.and(questionSpecificationFactory.findFetchingOptions());
+        var entity = researchRepository.findById(id)
+                .orElseThrow(NotFoundException::new);
 
-        var questions = questionRepository.findAll(specification).stream()
+        var questions = entity.getQuestions().stream()
                 .map(question -> questionMapper.toDomain(question, true))
                 .collect(toSet());
 
-        return research.toBuilder()
+        return researchMapper.toDomain(entity, false).toBuilder()
                 .questions(questions)
                 .build();
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<Research> search(ResearchCriteria criteria) {
-        return researchRepository.findAll(researchSpecificationFactory.findByResearchCriteria(criteria))
-                .stream()
-                .map(research -> researchMapper.toDomain(research, false))
-                .collect(toList());
+    public Page<Research> search(ResearchCriteria criteria, PageCriteria page) {
+        var specification = researchSpecificationFactory.findByResearchCriteria(criteria)
+                .and(orderByAsc(SORT_FIELDS));
+
+        if (page.getCursor() != null) {
+            var key = Keyset.decode(page.getCursor(), List.of(OffsetDateTime::parse, UUID::fromString));
+            specification = specification.and(after(key, SORT_FIELDS));
+        }
+
+        return Keyset.toPage(keysetRepository.findAll(ResearchEntity.class, specification, page.getLimit() + 1), page,
+                research -> researchMapper.toDomain(research, false),
+                research -> Keyset.encode(research.getStartsOn(), research.getId()));
     }
 
     @Transactional
     @Override
     public Research update(Research research) {
-        researchRepository.findById(research.getId().toString())
+        researchRepository.findById(research.getId())
                 .map(persisted -> researchMapper.copy(research, persisted))
                 .orElseThrow(NotFoundException::new);
 
@@ -83,8 +100,12 @@ public class ResearchGateway implements ResearchPort {
 
     @Override
     public void delete(UUID id) {
+        if (answerRepository.existsByResearchId(id)) {
+            throw new DataIntegrityViolationException("Research has answers");
+        }
+
         try {
-            researchRepository.deleteById(id.toString());
+            researchRepository.deleteById(id);
         } catch (EmptyResultDataAccessException e) {
             throw new NotFoundException();
         }
@@ -92,7 +113,7 @@ public class ResearchGateway implements ResearchPort {
 
     @Override
     public Integer getNextQuestionSequence(UUID researchId) {
-        return researchRepository.findLastQuestionSequence(researchId.toString())
+        return researchRepository.findLastQuestionSequence(researchId)
                 .map(sequence -> sequence + 1)
                 .orElse(1);
     }
@@ -0,0 +1,171 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.usecase.port.ResearchSummaryCachePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Optional.ofNullable;
+
+// Bounded by size, the least valuable entries going first, and by time to live. A write to a research is remembered
+// for as long as an entry loaded before it could live, which also bounds the writes kept.
+@Component
+public class ResearchSummaryCacheGateway implements ResearchSummaryCachePort {
+
+    private static final String CACHE_NAME = "researchSummary";
+
+    private final long maxStaleness;
+    private final LongSupplier clock;
+    private final Cache<Key, Entry> entries;
+    private final Cache<UUID, Long> lastWriteByResearch;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public ResearchSummaryCacheGateway(MeterRegistry meterRegistry,
+                                       @Value("${answer.summary.cache.max-size:1000}") int maxSize,
+                                       @Value("${answer.summary.cache.ttl:30s}") Duration ttl,
+                                       @Value("${answer.summary.cache.max-staleness:0s}") Duration maxStaleness) {
+
+        this(meterRegistry, maxSize, ttl, maxStaleness, System::nanoTime);
+    }
+
+    ResearchSummaryCacheGateway(MeterRegistry meterRegistry, int maxSize, Duration ttl, Duration maxStaleness,
+                                LongSupplier clock) {
+
+        this.maxStaleness = maxStaleness.toNanos();
+        this.clock = clock;
+
+        // Same meter names Spring publishes for its own caches, so existing dashboards pick them up
+        this.hitCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("Summaries served from the cache")
+                .register(meterRegistry);
+
+        this.missCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("Summaries loaded from the database")
+                .register(meterRegistry);
+
+        this.evictionCounter = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+                .description("Summaries removed by size, expiration or new answers")
+                .register(meterRegistry);
+
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(clock::getAsLong)
+                .executor(Runnable::run)
+                .<Key, Entry>removalListener((key, entry, cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictionCounter.increment();
+                    }
+                })
+                .build();
+
+        this.lastWriteByResearch = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .ticker(clock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+
+        Gauge.builder("cache.size", entries, Cache::estimatedSize).tag("cache", CACHE_NAME)
+                .description("Summaries currently cached")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ResearchSummary get(AnswerCriteria criteria, Supplier<ResearchSummary> loader) {
+        var key = Key.of(criteria);
+        var now = clock.getAsLong();
+
+        var entry = entries.getIfPresent(key);
+
+        if (entry != null) {
+            if (isValid(key, entry, now)) {
+                hitCounter.increment();
+                return entry.getSummary();
+            }
+
+            if (entries.asMap().remove(key, entry)) {
+                evictionCounter.increment();
+            }
+        }
+
+        missCounter.increment();
+
+        // The load time is taken before reading, so answers committed during the read make the entry stale
+        var summary = loader.get();
+
+        entries.put(key, new Entry(summary, now));
+
+        return summary;
+    }
+
+    @Override
+    public void invalidate(UUID researchId) {
+        var now = clock.getAsLong();
+        lastWriteByResearch.put(researchId, now);
+
+        if (maxStaleness == 0) {
+            var removed = entries.asMap().keySet().removeIf(key -> key.getResearchId().equals(researchId));
+
+            if (removed) {
+                evictionCounter.increment();
+            }
+        }
+    }
+
+    // The time to live is enforced by the cache. A write older than it can't outdate a live entry, so it's forgotten.
+    private boolean isValid(Key key, Entry entry, long now) {
+        var age = now - entry.getLoadedAt();
+
+        var outdated = ofNullable(lastWriteByResearch.getIfPresent(key.getResearchId()))
+                .map(lastWrite -> lastWrite - entry.getLoadedAt() >= 0)
+                .orElse(false);
+
+        return !outdated || age < maxStaleness;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final UUID researchId;
+        private final UUID questionId;
+        private final Instant dateFrom;
+        private final Instant dateTo;
+        private final Set<UUID> segment;
+
+        static Key of(AnswerCriteria criteria) {
+            return new Key(criteria.getResearchId(), criteria.getQuestionId(),
+                    ofNullable(criteria.getDateFrom()).map(OffsetDateTime::toInstant).orElse(null),
+                    ofNullable(criteria.getDateTo()).map(OffsetDateTime::toInstant).orElse(null),
+                    ofNullable(criteria.getSegment()).map(Set::copyOf).orElse(Set.of()));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Entry {
+        private final ResearchSummary summary;
+        private final long loadedAt;
+    }
+}
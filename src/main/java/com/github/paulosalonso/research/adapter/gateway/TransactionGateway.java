@@ -0,0 +1,18 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.usecase.port.TransactionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+@Component
+public class TransactionGateway implements TransactionPort {
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void execute(Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> action.run());
+    }
+}
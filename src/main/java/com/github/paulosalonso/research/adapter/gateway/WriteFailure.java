@@ -0,0 +1,37 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.usecase.exception.InvalidAnswerException;
+import com.github.paulosalonso.research.usecase.exception.NotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectRetrievalFailureException;
+
+import javax.persistence.EntityNotFoundException;
+import javax.validation.ConstraintViolationException;
+import java.util.List;
+
+// Tells the submissions that will never be written, e.g. for a research deleted meanwhile, from the ones that failed
+// on the database or the connection and may be written on a later attempt
+public final class WriteFailure {
+
+    private static final List<Class<? extends Throwable>> PERMANENT = List.of(
+            DataIntegrityViolationException.class,
+            ObjectRetrievalFailureException.class,
+            EntityNotFoundException.class,
+            ConstraintViolationException.class,
+            NotFoundException.class,
+            InvalidAnswerException.class);
+
+    private WriteFailure() {}
+
+    public static boolean isPermanent(Throwable failure) {
+        for (var cause = failure; cause != null; cause = cause.getCause()) {
+            var current = cause;
+
+            if (PERMANENT.stream().anyMatch(type -> type.isInstance(current))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.paulosalonso.research.adapter.jdbc;
+
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.Submission;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+@Profile("jdbc")
+@Repository
+public class AnswerJdbcRepository {
+
+    private static final int SEQUENCE_INCREMENT = 50; // Must match the sequence increment, as the allocationSize of the entities
+
+    private static final String INSERT_SUBMISSION = "insert into submission (id, research_id, date, stored_at, options, idempotency_key) " +
+            "values (?, ?, ?, ?, ?, ?)";
+    private static final String IDEMPOTENCY_KEYS = "select idempotency_key from submission where idempotency_key in (%s)";
+    private static final String INSERT_ANSWER = "insert into answer (id, date, research_id, question_id, option_id, submission_id) " +
+            "values (?, ?, ?, ?, ?, ?)";
+    private static final String SUMMARY = "select option_id, amount from answer_counter where research_id = ?";
+    private static final String QUESTION_SUMMARY = SUMMARY + " and question_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean binaryUuid;
+    private final PooledSequence submissionSequence;
+    private final PooledSequence answerSequence;
+
+    public AnswerJdbcRepository(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                PlatformTransactionManager transactionManager) throws MetaDataAccessException {
+
+        var databaseDriver = DatabaseDriver.fromProductName(
+                JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+
+        var requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.binaryUuid = databaseDriver == DatabaseDriver.MYSQL || databaseDriver == DatabaseDriver.MARIADB;
+        this.submissionSequence = new PooledSequence(
+                sequence(databaseDriver, requiresNew, "submission_sequence"), SEQUENCE_INCREMENT);
+        this.answerSequence = new PooledSequence(
+                sequence(databaseDriver, requiresNew, "answer_sequence"), SEQUENCE_INCREMENT);
+    }
+
+    // Options are the packed answers of each submission, or null when the row layout is used
+    public long[] insertSubmissions(List<Submission> submissions, List<byte[]> options) {
+        var ids = submissionSequence.next(submissions.size());
+        var storedAt = Timestamp.from(Instant.now());
+        var rows = new ArrayList<Object[]>(submissions.size());
+
+        for (int i = 0; i < ids.length; i++) {
+            var submission = submissions.get(i);
+
+            rows.add(new Object[] {
+                    ids[i],
+                    uuidParameter(submission.getResearchId()),
+                    Timestamp.from(submission.getDate().toInstant()),
+                    storedAt,
+                    new SqlParameterValue(Types.VARBINARY, options == null ? null : options.get(i)),
+                    submission.getIdempotencyKey() != null
+                            ? uuidParameter(submission.getIdempotencyKey())
+                            : new SqlParameterValue(binaryUuid ? Types.BINARY : Types.OTHER, null)});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SUBMISSION, rows);
+
+        return ids;
+    }
+
+    public Set<UUID> findIdempotencyKeys(Collection<UUID> idempotencyKeys) {
+        var sql = String.format(IDEMPOTENCY_KEYS, String.join(", ", Collections.nCopies(idempotencyKeys.size(), "?")));
+        var parameters = idempotencyKeys.stream().map(this::uuidParameter).toArray();
+        var stored = new HashSet<UUID>();
+
+        jdbcTemplate.query(sql, row -> {
+            stored.add(readUuid(row, 1));
+        }, parameters);
+
+        return stored;
+    }
+
+    public void insertAnswers(List<Answer> answers) {
+        var ids = answerSequence.next(answers.size());
+        var rows = new ArrayList<Object[]>(answers.size());
+
+        for (int i = 0; i < ids.length; i++) {
+            var answer = answers.get(i);
+
+            rows.add(new Object[] {
+                    ids[i],
+                    Timestamp.from(answer.getDate().toInstant()),
+                    uuidParameter(answer.getResearchId()),
+                    uuidParameter(answer.getQuestionId()),
+                    uuidParameter(answer.getOptionId()),
+                    answer.getSubmissionId()});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ANSWER, rows);
+    }
+
+    // Only the option ids and their amounts are read, the research structure comes from the entity cache
+    public Map<UUID, Long> findAmountByOption(UUID researchId, UUID questionId) {
+        var amountByOption = new HashMap<UUID, Long>();
+        var sql = questionId == null ? SUMMARY : QUESTION_SUMMARY;
+        var parameters = questionId == null
+                ? new Object[] {uuidParameter(researchId)}
+                : new Object[] {uuidParameter(researchId), uuidParameter(questionId)};
+
+        jdbcTemplate.query(sql, row -> {
+            amountByOption.merge(readUuid(row, 1), row.getLong(2), Long::sum);
+        }, parameters);
+
+        return amountByOption;
+    }
+
+    // Plain JDBC doesn't go through the Hibernate UUID types, so ids are bound as each vendor stores them
+    private Object uuidParameter(UUID uuid) {
+        if (!binaryUuid) {
+            return uuid;
+        }
+
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private UUID readUuid(ResultSet row, int column) throws SQLException {
+        if (!binaryUuid) {
+            return row.getObject(column, UUID.class);
+        }
+
+        var bytes = ByteBuffer.wrap(row.getBytes(column));
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+
+    private LongSupplier sequence(DatabaseDriver databaseDriver, TransactionTemplate requiresNew, String name) {
+        switch (databaseDriver) {
+            case POSTGRESQL:
+                return () -> jdbcTemplate.queryForObject("select nextval('" + name + "')", Long.class);
+            case H2:
+                return () -> jdbcTemplate.queryForObject("select next value for " + name, Long.class);
+            case MYSQL:
+            case MARIADB:
+                // Same table emulation as Hibernate, a block is reserved by moving next_val one increment ahead. It runs
+                // in its own transaction so the row lock isn't held until the submission commits.
+                return () -> requiresNew.execute(status -> jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                    try (var statement = connection.createStatement()) {
+                        statement.executeUpdate(String.format(
+                                "update %s set next_val = last_insert_id(next_val + %d)", name, SEQUENCE_INCREMENT));
+
+                        try (var result = statement.executeQuery("select last_insert_id()")) {
+                            result.next();
+                            return result.getLong(1) - SEQUENCE_INCREMENT;
+                        }
+                    }
+                }));
+            default:
+                throw new IllegalStateException("Sequences are not supported on " + databaseDriver);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.paulosalonso.research.adapter.jdbc;
+
+import com.github.paulosalonso.research.adapter.gateway.AnswerCounterAccumulator;
+import com.github.paulosalonso.research.adapter.gateway.AnswerGateway;
+import com.github.paulosalonso.research.adapter.jpa.mapper.AnswerMapper;
+import com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerOrdinalDictionary;
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import com.github.paulosalonso.research.usecase.port.ResearchPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+// Writes submissions and reads the plain summary with hand-written SQL, without entities or a persistence context.
+// Segmented and dated summaries, crosstabs and exports are already read as projections, so they stay with the JPA adapter.
+@Primary
+@Profile("jdbc")
+@Service
+public class JdbcAnswerGateway implements AnswerPort {
+
+    private final AnswerJdbcRepository answerJdbcRepository;
+    private final AnswerCounterAccumulator answerCounterAccumulator;
+    private final AnswerOrdinalDictionary answerOrdinalDictionary;
+    private final AnswerGateway answerGateway;
+    private final ResearchPort researchPort;
+    private final AnswerMapper answerMapper;
+    private final ResearchSummaryMapper researchSummaryMapper;
+    private final boolean packed;
+
+    public JdbcAnswerGateway(AnswerJdbcRepository answerJdbcRepository, AnswerCounterAccumulator answerCounterAccumulator,
+                             AnswerOrdinalDictionary answerOrdinalDictionary, AnswerGateway answerGateway,
+                             ResearchPort researchPort, AnswerMapper answerMapper,
+                             ResearchSummaryMapper researchSummaryMapper,
+                             @Value("${answer.storage.layout:rows}") String layout) {
+
+        this.answerJdbcRepository = answerJdbcRepository;
+        this.answerCounterAccumulator = answerCounterAccumulator;
+        this.answerOrdinalDictionary = answerOrdinalDictionary;
+        this.answerGateway = answerGateway;
+        this.researchPort = researchPort;
+        this.answerMapper = answerMapper;
+        this.researchSummaryMapper = researchSummaryMapper;
+        this.packed = "packed".equals(layout);
+    }
+
+    @Transactional
+    @Override
+    public Submission createSubmission(Submission submission) {
+        return createSubmissions(List.of(submission)).get(0);
+    }
+
+    // The submission ids are allocated at once and the submissions and their answers are inserted in one batch each.
+    // Submissions whose idempotency key is already stored are left out, as in the JPA adapter.
+    @Transactional
+    @Override
+    public List<Submission> createSubmissions(List<Submission> submissions) {
+        var pending = withoutStored(submissions);
+        var created = new ArrayList<Submission>(pending.size());
+
+        if (pending.isEmpty()) {
+            return created;
+        }
+
+        var options = packed ? pending.stream()
+                .map(submission -> answerOrdinalDictionary.encode(submission.getResearchId(), submission.getAnswers().stream()
+                        .map(Answer::getOptionId)
+                        .collect(toList())))
+                .collect(toList()) : null;
+
+        var submissionIds = answerJdbcRepository.insertSubmissions(pending, options);
+
+        for (int i = 0; i < submissionIds.length; i++) {
+            var submission = pending.get(i);
+            var submissionId = submissionIds[i];
+
+            created.add(submission.toBuilder()
+                    .id(submissionId)
+                    .answers(submission.getAnswers().stream()
+                            .map(answer -> answer.toBuilder().submissionId(submissionId).build())
+                            .collect(toList()))
+                    .build());
+        }
+
+        var answers = created.stream()
+                .flatMap(submission -> submission.getAnswers().stream())
+                .collect(toList());
+
+        if (!packed) {
+            answerJdbcRepository.insertAnswers(answers);
+        }
+
+        answerCounterAccumulator.register(Arrays.stream(submissionIds).boxed().collect(toList()));
+
+        answerCounterAccumulator.increment(answers.stream()
+                .collect(groupingBy(answerMapper::toCounterId, counting())));
+
+        for (var granularity : RollupGranularity.values()) {
+            answerCounterAccumulator.incrementRollup(granularity, answers.stream()
+                    .collect(groupingBy(answer -> answerMapper.toRollupId(answer, granularity), counting())));
+        }
+
+        return created;
+    }
+
+    @Override
+    public ResearchSummary search(AnswerCriteria answerCriteria) {
+        var segmented = answerCriteria.getSegment() != null && !answerCriteria.getSegment().isEmpty();
+        var dated = answerCriteria.getDateFrom() != null || answerCriteria.getDateTo() != null;
+
+        if (segmented || dated) {
+            return answerGateway.search(answerCriteria);
+        }
+
+        var researchId = answerCriteria.getResearchId();
+        var questionId = answerCriteria.getQuestionId();
+        var research = researchPort.readFetchingQuestions(researchId);
+
+        return researchSummaryMapper.toDomain(research, answerCounterAccumulator.amountByOption(researchId, questionId,
+                () -> answerJdbcRepository.findAmountByOption(researchId, questionId)));
+    }
+
+    @Override
+    public ResearchCrosstab crosstab(AnswerCriteria answerCriteria, UUID rowQuestionId, UUID columnQuestionId) {
+        return answerGateway.crosstab(answerCriteria, rowQuestionId, columnQuestionId);
+    }
+
+    @Override
+    public void export(AnswerCriteria answerCriteria, Consumer<Answer> consumer) {
+        answerGateway.export(answerCriteria, consumer);
+    }
+
+    private List<Submission> withoutStored(List<Submission> submissions) {
+        var idempotencyKeys = submissions.stream()
+                .map(Submission::getIdempotencyKey)
+                .filter(Objects::nonNull)
+                .collect(toList());
+
+        if (idempotencyKeys.isEmpty()) {
+            return submissions;
+        }
+
+        var stored = answerJdbcRepository.findIdempotencyKeys(idempotencyKeys);
+
+        return submissions.stream()
+                .filter(submission -> !stored.contains(submission.getIdempotencyKey()))
+                .collect(toList());
+    }
+}
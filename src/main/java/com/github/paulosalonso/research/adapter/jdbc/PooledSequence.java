@@ -0,0 +1,44 @@
+package com.github.paulosalonso.research.adapter.jdbc;
+
+import java.util.function.LongSupplier;
+
+// Hands out ids the way Hibernate's pooled optimizer does, each value read from the sequence is the last id of a
+// block of increment ids, so the JPA and JDBC adapters can share the same sequences
+class PooledSequence {
+
+    private final LongSupplier nextValue;
+    private final int increment;
+    private long next = 1;
+    private long last = 0;
+
+    PooledSequence(LongSupplier nextValue, int increment) {
+        this.nextValue = nextValue;
+        this.increment = increment;
+    }
+
+    synchronized long[] next(int count) {
+        var ids = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            if (next > last) {
+                allocate();
+            }
+
+            ids[i] = next++;
+        }
+
+        return ids;
+    }
+
+    // A fresh sequence starts at 1, which can't end a whole block, so Hibernate reads it twice and so does this
+    private void allocate() {
+        var value = nextValue.getAsLong();
+
+        if (value < increment) {
+            value = nextValue.getAsLong();
+        }
+
+        last = value;
+        next = value - increment + 1;
+    }
+}
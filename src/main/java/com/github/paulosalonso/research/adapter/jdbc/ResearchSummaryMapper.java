@@ -0,0 +1,53 @@
+package com.github.paulosalonso.research.adapter.jdbc;
+
+import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.domain.Question;
+import com.github.paulosalonso.research.domain.Research;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.domain.ResearchSummary.OptionSummary;
+import com.github.paulosalonso.research.domain.ResearchSummary.QuestionSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.toList;
+
+@Component
+public class ResearchSummaryMapper {
+
+    // The domain keeps questions and options in sets, so they are put back in sequence as the JPA adapter returns them
+    public ResearchSummary toDomain(Research research, Map<UUID, Long> amountByOption) {
+        return ResearchSummary.builder()
+                .id(research.getId())
+                .title(research.getTitle())
+                .questions(research.getQuestions().stream()
+                        .sorted(Comparator.comparing(Question::getSequence))
+                        .map(question -> toQuestionSummary(question, amountByOption))
+                        .collect(toList()))
+                .build();
+    }
+
+    private QuestionSummary toQuestionSummary(Question question, Map<UUID, Long> amountByOption) {
+        return QuestionSummary.builder()
+                .id(question.getId())
+                .sequence(question.getSequence())
+                .description(question.getDescription())
+                .options(toOptionSummaries(question, amountByOption))
+                .build();
+    }
+
+    private List<OptionSummary> toOptionSummaries(Question question, Map<UUID, Long> amountByOption) {
+        return question.getOptions().stream()
+                .sorted(Comparator.comparing(Option::getSequence))
+                .map(option -> OptionSummary.builder()
+                        .id(option.getId())
+                        .sequence(option.getSequence())
+                        .description(option.getDescription())
+                        .amount(amountByOption.getOrDefault(option.getId(), 0L))
+                        .build())
+                .collect(toList());
+    }
+}
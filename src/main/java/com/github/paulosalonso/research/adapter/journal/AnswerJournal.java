@@ -0,0 +1,358 @@
+package com.github.paulosalonso.research.adapter.journal;
+
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.port.AnswerBufferPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.annotation.PreDestroy;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Write-ahead journal of accepted submissions, split in memory mapped segments. A submission is only acknowledged
+// once its record is forced to disk: whoever finds no fsync running forces everything appended so far, so concurrent
+// requests share a single fsync. The AnswerJournalApplier stores the records and moves the checkpoint forward.
+@Slf4j
+@Primary
+@ConditionalOnProperty(name = "answer.ingestion.mode", havingValue = "journaled")
+@Component
+public class AnswerJournal implements AnswerBufferPort {
+
+    private static final String CHECKPOINT = "checkpoint";
+    private static final String DEAD_LETTERS = "dead-letters.ndjson";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final ConcurrentSkipListMap<Long, JournalSegment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncedCondition = syncLock.newCondition();
+    private final Counter rejectedCounter;
+    private final Timer syncTimer;
+
+    private JournalSegment current;
+    private JournalPosition appended;
+    private JournalPosition synced;
+    private volatile JournalPosition applied;
+    private boolean syncing;
+
+    public AnswerJournal(MeterRegistry meterRegistry,
+                         @Value("${answer.ingestion.journal.path:journal}") String directory,
+                         @Value("${answer.ingestion.journal.segment-size:64MB}") DataSize segmentSize,
+                         @Value("${answer.ingestion.journal.max-segments:16}") int maxSegments) {
+
+        this.directory = Path.of(directory);
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.maxSegments = maxSegments;
+
+        recover();
+
+        Gauge.builder("research.answer.journal.segments", segments, ConcurrentSkipListMap::size)
+                .description("Journal segments holding submissions not yet stored in the database")
+                .register(meterRegistry);
+
+        this.rejectedCounter = Counter.builder("research.answer.journal.rejected")
+                .description("Submissions refused because the journal was full")
+                .register(meterRegistry);
+
+        this.syncTimer = Timer.builder("research.answer.journal.sync")
+                .description("Time to force the journal to disk")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean offer(Submission submission) {
+        var position = append(SubmissionCodec.encode(submission));
+
+        if (position == null) {
+            rejectedCounter.increment();
+            return false;
+        }
+
+        awaitSync(position);
+        return true;
+    }
+
+    // Waits up to maxWait for a first synced record, then until the batch is full or maxWait has passed since then
+    JournalBatch read(JournalPosition from, int maxSize, Duration maxWait) throws InterruptedException {
+        var submissions = new ArrayList<Submission>(maxSize);
+        var position = from;
+        var deadline = System.nanoTime() + maxWait.toNanos();
+
+        while (true) {
+            position = readSynced(position, maxSize - submissions.size(), submissions);
+
+            if (submissions.size() == maxSize || !awaitSyncedAfter(position, deadline)) {
+                return new JournalBatch(submissions, position);
+            }
+
+            if (submissions.isEmpty()) {
+                deadline = System.nanoTime() + maxWait.toNanos();
+            }
+        }
+    }
+
+    JournalBatch readNow(JournalPosition from, int maxSize) {
+        var submissions = new ArrayList<Submission>(maxSize);
+        return new JournalBatch(submissions, readSynced(from, maxSize, submissions));
+    }
+
+    JournalPosition getApplied() {
+        return applied;
+    }
+
+    // Persists the checkpoint before deleting the segments it leaves behind, so a crash never loses unapplied records
+    void markApplied(JournalPosition position) {
+        applied = position;
+
+        try {
+            writeCheckpoint(position);
+        } catch (IOException e) {
+            log.error("Error writing answer journal checkpoint, records up to {} may be applied again after a restart", position, e);
+            return;
+        }
+
+        segments.headMap(position.getSegment()).values().removeIf(segment -> {
+            segment.delete();
+            return true;
+        });
+    }
+
+    // Records that can never be stored are kept as NDJSON lines next to the segments, forced to disk before the
+    // checkpoint moves past them
+    void deadLetter(Submission submission, Throwable failure) throws IOException {
+        var answers = submission.getAnswers().stream()
+                .map(answer -> String.format("{\"questionId\":\"%s\",\"optionId\":\"%s\"}",
+                        answer.getQuestionId(), answer.getOptionId()))
+                .collect(Collectors.joining(","));
+
+        var line = String.format("{\"researchId\":\"%s\",\"date\":\"%s\",\"answers\":[%s],\"error\":\"%s\"}\n",
+                submission.getResearchId(), submission.getDate(), answers, failure.getClass().getName());
+
+        try (var channel = FileChannel.open(directory.resolve(DEAD_LETTERS), CREATE, WRITE, APPEND)) {
+            channel.write(ByteBuffer.wrap(line.getBytes(UTF_8)));
+            channel.force(true);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        segments.values().forEach(JournalSegment::close);
+    }
+
+    private synchronized JournalPosition append(byte[] payload) {
+        if (JournalSegment.HEADER_SIZE + payload.length > segmentSize) {
+            throw new IllegalArgumentException("Submission larger than a journal segment");
+        }
+
+        if (!current.append(payload)) {
+            if (segments.size() >= maxSegments) {
+                return null;
+            }
+
+            // Records of the full segment are forced here, so a sync only needs to force the current one
+            current.force();
+            current = openSegment(current.getNumber() + 1);
+            current.append(payload);
+        }
+
+        appended = new JournalPosition(current.getNumber(), current.getEnd());
+        return appended;
+    }
+
+    private void awaitSync(JournalPosition position) {
+        syncLock.lock();
+
+        try {
+            while (synced.compareTo(position) < 0) {
+                if (syncing) {
+                    syncedCondition.awaitUninterruptibly();
+                    continue;
+                }
+
+                syncing = true;
+                syncLock.unlock();
+
+                JournalPosition target = null;
+
+                try {
+                    target = force();
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+
+                    if (target != null && synced.compareTo(target) < 0) {
+                        synced = target;
+                    }
+
+                    syncedCondition.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private JournalPosition force() {
+        JournalSegment segment;
+        JournalPosition target;
+
+        synchronized (this) {
+            segment = current;
+            target = appended;
+        }
+
+        var startedAt = System.nanoTime();
+        segment.force();
+        syncTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+
+        return target;
+    }
+
+    private boolean awaitSyncedAfter(JournalPosition position, long deadline) throws InterruptedException {
+        syncLock.lock();
+
+        try {
+            var remaining = deadline - System.nanoTime();
+
+            while (synced.compareTo(position) <= 0 && remaining > 0) {
+                remaining = syncedCondition.awaitNanos(remaining);
+            }
+
+            return synced.compareTo(position) > 0;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private JournalPosition readSynced(JournalPosition from, int maxSize, List<Submission> submissions) {
+        JournalPosition limit;
+
+        syncLock.lock();
+
+        try {
+            limit = synced;
+        } finally {
+            syncLock.unlock();
+        }
+
+        var position = from;
+
+        while (submissions.size() < maxSize && position.compareTo(limit) < 0) {
+            var segment = segments.get(position.getSegment());
+            var payload = segment.read(position.getOffset());
+
+            if (payload != null) {
+                submissions.add(SubmissionCodec.decode(payload));
+                position = new JournalPosition(position.getSegment(), position.getOffset() + JournalSegment.HEADER_SIZE + payload.length);
+            } else if (position.getSegment() < limit.getSegment() && position.getOffset() >= segment.getEnd()) {
+                position = new JournalPosition(segments.higherKey(position.getSegment()), 0);
+            } else {
+                // A record corrupted on disk, skipped with the rest of its segment
+                log.warn("Skipping corrupted answer journal records of segment {} from offset {}", position.getSegment(), position.getOffset());
+                position = position.getSegment() < limit.getSegment() ? new JournalPosition(segments.higherKey(position.getSegment()), 0) : limit;
+            }
+        }
+
+        return position;
+    }
+
+    // Everything found on disk survived the previous run, so it counts as synced and is applied again from the checkpoint
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            applied = readCheckpoint();
+
+            try (var files = Files.list(directory)) {
+                for (var file : files.filter(file -> file.toString().endsWith(".journal")).collect(Collectors.toList())) {
+                    var name = file.getFileName().toString();
+                    var number = Long.parseLong(name.substring(0, name.indexOf('.')));
+
+                    if (number < applied.getSegment()) {
+                        Files.delete(file);
+                    } else {
+                        segments.put(number, JournalSegment.open(directory, number, segmentSize));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (segments.isEmpty()) {
+            segments.put(applied.getSegment(), JournalSegment.open(directory, applied.getSegment(), segmentSize));
+        }
+
+        current = segments.lastEntry().getValue();
+        appended = new JournalPosition(current.getNumber(), current.getEnd());
+        synced = appended;
+
+        if (applied.compareTo(synced) < 0) {
+            log.info("Replaying answer journal {} from {}", directory, applied);
+        }
+    }
+
+    private JournalSegment openSegment(long number) {
+        var segment = JournalSegment.open(directory, number, segmentSize);
+        segments.put(number, segment);
+        return segment;
+    }
+
+    private JournalPosition readCheckpoint() throws IOException {
+        var checkpoint = directory.resolve(CHECKPOINT);
+
+        if (!Files.exists(checkpoint)) {
+            return new JournalPosition(0, 0);
+        }
+
+        try (var input = new DataInputStream(Files.newInputStream(checkpoint))) {
+            return new JournalPosition(input.readLong(), input.readInt());
+        }
+    }
+
+    private void writeCheckpoint(JournalPosition position) throws IOException {
+        var checkpoint = directory.resolve(CHECKPOINT);
+        var temporary = directory.resolve(CHECKPOINT + ".tmp");
+
+        try (var channel = FileChannel.open(temporary, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            var output = new DataOutputStream(Channels.newOutputStream(channel));
+            output.writeLong(position.getSegment());
+            output.writeInt(position.getOffset());
+            output.flush();
+            channel.force(true);
+        }
+
+        Files.move(temporary, checkpoint, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,195 @@
+package com.github.paulosalonso.research.adapter.journal;
+
+import com.github.paulosalonso.research.adapter.gateway.WriteFailure;
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.answer.AnswerCreate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Stores the journal records in batches, starting from the checkpoint, so records left by a crash are replayed on
+// startup. A crash between a commit and the checkpoint replays that batch, whose submissions are then skipped by their
+// idempotency key. The checkpoint only moves past a record once it is stored or dead lettered: on a database or
+// connection failure the applier backs off and reads again from the same position, and on shutdown it leaves what it
+// couldn't store for the next start.
+@Slf4j
+@ConditionalOnProperty(name = "answer.ingestion.mode", havingValue = "journaled")
+@Component
+public class AnswerJournalApplier {
+
+    private final AnswerJournal answerJournal;
+    private final AnswerCreate answerCreate;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Thread worker;
+    private final CountDownLatch stopping = new CountDownLatch(1);
+    private final Timer applyTimer;
+    private final Counter appliedCounter;
+    private final Counter failedCounter;
+
+    public AnswerJournalApplier(AnswerJournal answerJournal, AnswerCreate answerCreate, MeterRegistry meterRegistry,
+                                @Value("${answer.ingestion.batch-size:500}") int batchSize,
+                                @Value("${answer.ingestion.max-delay:200ms}") Duration maxDelay,
+                                @Value("${answer.ingestion.retry-delay:100ms}") Duration retryDelay,
+                                @Value("${answer.ingestion.max-retry-delay:30s}") Duration maxRetryDelay) {
+
+        this.answerJournal = answerJournal;
+        this.answerCreate = answerCreate;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.worker = new CustomizableThreadFactory("answer-journal-applier-").newThread(this::run);
+
+        this.applyTimer = Timer.builder("research.answer.journal.apply")
+                .description("Time to store a batch of journal records")
+                .register(meterRegistry);
+
+        this.appliedCounter = Counter.builder("research.answer.journal.applied")
+                .description("Journal records stored in the database")
+                .register(meterRegistry);
+
+        this.failedCounter = Counter.builder("research.answer.journal.failed")
+                .description("Journal records moved to the dead letters because they can never be stored")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    // The web server is stopped before beans are destroyed, so the records left once the worker is done are final
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping.countDown();
+        worker.join();
+
+        JournalBatch batch;
+
+        while (!(batch = answerJournal.readNow(answerJournal.getApplied(), batchSize)).isEmpty()) {
+            if (!apply(batch)) {
+                log.warn("Answer journal records from {} left to be applied on the next start", answerJournal.getApplied());
+                return;
+            }
+        }
+    }
+
+    // Returns whether the checkpoint moved past the batch
+    boolean apply(JournalBatch batch) {
+        var startedAt = System.nanoTime();
+
+        try {
+            answerCreate.createAll(batch.getSubmissions());
+            appliedCounter.increment(batch.getSubmissions().size());
+        } catch (RuntimeException e) {
+            if (!WriteFailure.isPermanent(e)) {
+                log.warn("Error storing a batch of {} journal records, retrying it from the checkpoint",
+                        batch.getSubmissions().size(), e);
+                return false;
+            }
+
+            log.warn("Error storing a batch of {} journal records, retrying them one by one", batch.getSubmissions().size(), e);
+
+            for (var submission : batch.getSubmissions()) {
+                if (!applyAlone(submission)) {
+                    return false;
+                }
+            }
+        } finally {
+            applyTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+
+        answerJournal.markApplied(batch.getEnd());
+        return true;
+    }
+
+    // Retries a record that fails for reasons other than its data until it's stored or the applier stops, keeping
+    // the journal order. One that can never be stored, e.g. for a research deleted meanwhile, is dead lettered.
+    private boolean applyAlone(Submission submission) {
+        var delay = retryDelay;
+
+        while (true) {
+            try {
+                answerCreate.createAll(List.of(submission));
+                appliedCounter.increment();
+                return true;
+            } catch (RuntimeException e) {
+                if (WriteFailure.isPermanent(e)) {
+                    return deadLetter(submission, e);
+                }
+
+                log.warn("Error storing journal record of research {}, retrying it", submission.getResearchId(), e);
+            }
+
+            if (!backOff(delay)) {
+                return false;
+            }
+
+            delay = next(delay);
+        }
+    }
+
+    private boolean deadLetter(Submission submission, RuntimeException failure) {
+        try {
+            answerJournal.deadLetter(submission, failure);
+        } catch (IOException e) {
+            log.error("Error dead lettering journal record of research {}", submission.getResearchId(), e);
+            return false;
+        }
+
+        failedCounter.increment();
+        log.error("Error storing journal record of research {}, moved it to the dead letters", submission.getResearchId(), failure);
+        return true;
+    }
+
+    // Returns false once the applier is stopping, instead of waiting
+    private boolean backOff(Duration delay) {
+        try {
+            return !stopping.await(delay.toNanos(), NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Duration next(Duration delay) {
+        var doubled = delay.multipliedBy(2);
+        return doubled.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : doubled;
+    }
+
+    private void run() {
+        var delay = retryDelay;
+
+        while (stopping.getCount() > 0) {
+            try {
+                var batch = answerJournal.read(answerJournal.getApplied(), batchSize, maxDelay);
+
+                if (batch.isEmpty() || apply(batch)) {
+                    delay = retryDelay;
+                } else if (backOff(delay)) {
+                    delay = next(delay);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.paulosalonso.research.adapter.journal;
+
+import com.github.paulosalonso.research.domain.Submission;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Submissions read from the journal and the position right after the last of them
+@AllArgsConstructor
+@Getter
+class JournalBatch {
+
+    private final List<Submission> submissions;
+    private final JournalPosition end;
+
+    public boolean isEmpty() {
+        return submissions.isEmpty();
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.paulosalonso.research.adapter.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+@ToString
+class JournalPosition implements Comparable<JournalPosition> {
+
+    private final long segment;
+    private final int offset;
+
+    @Override
+    public int compareTo(JournalPosition other) {
+        var bySegment = Long.compare(segment, other.segment);
+        return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.paulosalonso.research.adapter.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// A fixed size journal file mapped in memory. Each record is its length, the CRC32C of its payload and the payload;
+// the file is zero filled, so a zero length marks the end of the written records.
+class JournalSegment {
+
+    static final int HEADER_SIZE = 8;
+
+    private final long number;
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private volatile int end;
+
+    private JournalSegment(long number, Path file, FileChannel channel, MappedByteBuffer buffer) {
+        this.number = number;
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment open(Path directory, long number, int size) {
+        var file = directory.resolve(fileName(number));
+
+        try {
+            var channel = FileChannel.open(file, CREATE, READ, WRITE);
+            var mappedSize = Files.size(file) > 0 ? Math.toIntExact(Files.size(file)) : size;
+            var segment = new JournalSegment(number, file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+            segment.end = segment.scan();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String fileName(long number) {
+        return String.format("%020d.journal", number);
+    }
+
+    long getNumber() {
+        return number;
+    }
+
+    int getEnd() {
+        return end;
+    }
+
+    // Returns false when the record doesn't fit in the rest of the segment
+    boolean append(byte[] payload) {
+        if (buffer.capacity() - end < HEADER_SIZE + payload.length) {
+            return false;
+        }
+
+        var crc = new CRC32C();
+        crc.update(payload);
+
+        buffer.position(end);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        end = buffer.position();
+
+        return true;
+    }
+
+    // Returns the payload of the record at the offset, or null when there is no valid record there
+    byte[] read(int offset) {
+        if (buffer.capacity() - offset < HEADER_SIZE) {
+            return null;
+        }
+
+        var view = buffer.duplicate();
+        view.position(offset);
+
+        var length = view.getInt();
+        var expectedCrc = view.getInt();
+
+        if (length <= 0 || length > view.remaining()) {
+            return null;
+        }
+
+        var payload = new byte[length];
+        view.get(payload);
+
+        var crc = new CRC32C();
+        crc.update(payload);
+
+        return (int) crc.getValue() == expectedCrc ? payload : null;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    // The mapping is only released when the buffer is collected, which doesn't prevent deleting the file
+    void delete() {
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A record torn by a crash fails the CRC check, so writing resumes right before it
+    private int scan() {
+        var offset = 0;
+        byte[] payload;
+
+        while ((payload = read(offset)) != null) {
+            offset += HEADER_SIZE + payload.length;
+        }
+
+        return offset;
+    }
+}
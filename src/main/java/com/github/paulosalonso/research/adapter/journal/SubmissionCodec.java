@@ -0,0 +1,79 @@
+package com.github.paulosalonso.research.adapter.journal;
+
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.Submission;
+
+import java.io.*;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.UUID;
+
+// Binary form of a validated submission: the research, the idempotency key, the date and the selected question and
+// option pairs
+class SubmissionCodec {
+
+    private SubmissionCodec() {
+    }
+
+    static byte[] encode(Submission submission) {
+        var bytes = new ByteArrayOutputStream(56 + submission.getAnswers().size() * 32);
+
+        try (var output = new DataOutputStream(bytes)) {
+            writeUuid(output, submission.getResearchId());
+            writeUuid(output, submission.getIdempotencyKey());
+            output.writeLong(submission.getDate().toEpochSecond());
+            output.writeInt(submission.getDate().getNano());
+            output.writeInt(submission.getDate().getOffset().getTotalSeconds());
+            output.writeInt(submission.getAnswers().size());
+
+            for (var answer : submission.getAnswers()) {
+                writeUuid(output, answer.getQuestionId());
+                writeUuid(output, answer.getOptionId());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    static Submission decode(byte[] bytes) {
+        try (var input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            var researchId = readUuid(input);
+            var idempotencyKey = readUuid(input);
+            var instant = Instant.ofEpochSecond(input.readLong(), input.readInt());
+            var date = OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds(input.readInt()));
+            var answerCount = input.readInt();
+            var answers = new ArrayList<Answer>(answerCount);
+
+            for (int i = 0; i < answerCount; i++) {
+                answers.add(Answer.builder()
+                        .date(date)
+                        .researchId(researchId)
+                        .questionId(readUuid(input))
+                        .optionId(readUuid(input))
+                        .build());
+            }
+
+            return Submission.builder()
+                    .researchId(researchId)
+                    .date(date)
+                    .answers(answers)
+                    .idempotencyKey(idempotencyKey)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeUuid(DataOutput output, UUID uuid) throws IOException {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInput input) throws IOException {
+        return new UUID(input.readLong(), input.readLong());
+    }
+}
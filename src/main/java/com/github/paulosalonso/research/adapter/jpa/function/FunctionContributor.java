@@ -0,0 +1,13 @@
+package com.github.paulosalonso.research.adapter.jpa.function;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+
+// Registered through the hibernate.metadata_builder_contributor property
+public class FunctionContributor implements MetadataBuilderContributor {
+
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(TextMatchFunction.NAME, new TextMatchFunction());
+    }
+}
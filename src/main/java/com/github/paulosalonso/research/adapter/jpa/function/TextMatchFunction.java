@@ -0,0 +1,67 @@
+package com.github.paulosalonso.research.adapter.jpa.function;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+
+// text_match(column..., text) renders the predicate each vendor's full-text index can serve.
+// The expressions must stay identical to the ones indexed by the research_text_search migrations.
+public class TextMatchFunction implements SQLFunction {
+
+    public static final String NAME = "text_match";
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return true;
+    }
+
+    @Override
+    public Type getReturnType(Type firstArgumentType, Mapping mapping) {
+        return StandardBasicTypes.BOOLEAN;
+    }
+
+    @Override
+    public String render(Type firstArgumentType, List arguments, SessionFactoryImplementor factory) {
+        if (arguments.size() < 2) {
+            throw new QueryException(NAME + " requires at least one column and the searched text");
+        }
+
+        var columns = arguments.subList(0, arguments.size() - 1);
+        var text = arguments.get(arguments.size() - 1);
+        var dialect = factory.getJdbcServices().getDialect();
+
+        if (dialect instanceof PostgreSQL81Dialect) {
+            return String.format("(to_tsvector('simple', %s) @@ plainto_tsquery('simple', %s))",
+                    join(columns, "coalesce(%s, '')", " || ' ' || "), text);
+        }
+
+        if (dialect instanceof MySQLDialect) {
+            return String.format("(match (%s) against (%s in natural language mode) > 0)",
+                    join(columns, "%s", ", "), text);
+        }
+
+        // No index serves this one, it only keeps the same criteria working on other databases
+        return String.format("(locate(lower(%s), lower(concat(%s))) > 0)",
+                text, join(columns, "coalesce(%s, '')", ", ' ', "));
+    }
+
+    private static String join(List<?> columns, String format, String delimiter) {
+        return columns.stream()
+                .map(column -> String.format(format, column))
+                .collect(joining(delimiter));
+    }
+}
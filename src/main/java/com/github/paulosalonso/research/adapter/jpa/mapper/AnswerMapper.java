@@ -2,76 +2,156 @@ package com.github.paulosalonso.research.adapter.jpa.mapper;
 
 import com.github.paulosalonso.research.adapter.jpa.model.*;
 import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
 import com.github.paulosalonso.research.domain.ResearchSummary;
 import com.github.paulosalonso.research.domain.ResearchSummary.OptionSummary;
 import com.github.paulosalonso.research.domain.ResearchSummary.QuestionSummary;
+import com.github.paulosalonso.research.domain.Submission;
 import org.springframework.stereotype.Component;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
-
 @Component
 public class AnswerMapper {
 
     public Answer toDomain(AnswerEntity answerEntity) {
         return Answer.builder()
                 .date(answerEntity.getDate())
-                .researchId(UUID.fromString(answerEntity.getResearch().getId()))
-                .questionId(UUID.fromString(answerEntity.getQuestion().getId()))
-                .optionId(UUID.fromString(answerEntity.getOption().getId()))
+                .researchId(answerEntity.getResearch().getId())
+                .questionId(answerEntity.getQuestion().getId())
+                .optionId(answerEntity.getOption().getId())
+                .submissionId(answerEntity.getSubmission() == null ? null : answerEntity.getSubmission().getId())
+                .build();
+    }
+
+    public Answer toDomain(AnswerExportModel answerExportModel) {
+        return Answer.builder()
+                .date(answerExportModel.getDate())
+                .researchId(answerExportModel.getResearchId())
+                .questionId(answerExportModel.getQuestionId())
+                .optionId(answerExportModel.getOptionId())
+                .submissionId(answerExportModel.getSubmissionId())
                 .build();
     }
 
     public ResearchSummary toDomain(ResearchEntity research, List<ResearchSummaryModel> researchSummary) {
-        var groupedByQuestionSummary = researchSummary.stream()
-                .collect(groupingBy(ResearchSummaryModel::getQuestion, toList()));
+        var amountByOption = new HashMap<UUID, Long>(researchSummary.size() * 4 / 3 + 1);
+        researchSummary.forEach(row -> amountByOption.merge(row.getOptionId(), row.getAmount(), Long::sum));
 
         return ResearchSummary.builder()
-                .id(UUID.fromString(research.getId()))
+                .id(research.getId())
+                .title(research.getTitle())
+                .questions(fillQuestions(research, amountByOption))
+                .build();
+    }
+
+    // Cells missing from the crosstab are zero, and the amount of each option is the total of its row or column
+    public ResearchCrosstab toDomain(ResearchEntity research, QuestionEntity rowQuestion, QuestionEntity columnQuestion,
+                                     List<CrosstabModel> crosstab) {
+
+        var amountByCell = new HashMap<List<UUID>, Long>();
+        var amountByRow = new HashMap<UUID, Long>();
+        var amountByColumn = new HashMap<UUID, Long>();
+
+        crosstab.forEach(cell -> {
+            amountByCell.merge(List.of(cell.getRowOptionId(), cell.getColumnOptionId()), cell.getAmount(), Long::sum);
+            amountByRow.merge(cell.getRowOptionId(), cell.getAmount(), Long::sum);
+            amountByColumn.merge(cell.getColumnOptionId(), cell.getAmount(), Long::sum);
+        });
+
+        var amounts = new ArrayList<List<Long>>(rowQuestion.getOptions().size());
+
+        for (var row : rowQuestion.getOptions()) {
+            var line = new ArrayList<Long>(columnQuestion.getOptions().size());
+
+            for (var column : columnQuestion.getOptions()) {
+                line.add(amountByCell.getOrDefault(List.of(row.getId(), column.getId()), 0L));
+            }
+
+            amounts.add(line);
+        }
+
+        return ResearchCrosstab.builder()
+                .id(research.getId())
                 .title(research.getTitle())
-                .questions(fillQuestions(research, groupedByQuestionSummary))
+                .rowQuestion(toQuestionSummary(rowQuestion, amountByRow))
+                .columnQuestion(toQuestionSummary(columnQuestion, amountByColumn))
+                .amounts(amounts)
                 .build();
     }
 
-    private List<QuestionSummary> fillQuestions(ResearchEntity research,
-                                            Map<QuestionEntity, List<ResearchSummaryModel>> groupedByQuestionSummary) {
-
-        return research.getQuestions().stream()
-                .map(question -> QuestionSummary.builder()
-                        .id(UUID.fromString(question.getId()))
-                        .sequence(question.getSequence())
-                        .description(question.getDescription())
-                        .options(fillOptions(question, groupedByQuestionSummary.getOrDefault(question, emptyList())))
-                        .build())
-                .collect(toList());
+    private List<QuestionSummary> fillQuestions(ResearchEntity research, Map<UUID, Long> amountByOption) {
+        var questions = new ArrayList<QuestionSummary>(research.getQuestions().size());
+
+        for (var question : research.getQuestions()) {
+            questions.add(toQuestionSummary(question, amountByOption));
+        }
+
+        return questions;
+    }
+
+    private QuestionSummary toQuestionSummary(QuestionEntity question, Map<UUID, Long> amountByOption) {
+        return QuestionSummary.builder()
+                .id(question.getId())
+                .sequence(question.getSequence())
+                .description(question.getDescription())
+                .options(fillOptions(question, amountByOption))
+                .build();
     }
 
-    private List<OptionSummary> fillOptions(QuestionEntity question, List<ResearchSummaryModel> questionSummary) {
-        return question.getOptions().stream()
-                .map(option -> OptionSummary.builder()
-                        .id(UUID.fromString(option.getId()))
-                        .sequence(option.getSequence())
-                        .description(option.getDescription())
-                        .amount(questionSummary.stream()
-                                .filter(optionSummary -> optionSummary.getOption().equals(option))
-                                .findFirst()
-                                .map(ResearchSummaryModel::getAmount)
-                                .orElse(0L))
-                        .build())
-                .collect(toList());
+    private List<OptionSummary> fillOptions(QuestionEntity question, Map<UUID, Long> amountByOption) {
+        var options = new ArrayList<OptionSummary>(question.getOptions().size());
+
+        for (var option : question.getOptions()) {
+            options.add(OptionSummary.builder()
+                    .id(option.getId())
+                    .sequence(option.getSequence())
+                    .description(option.getDescription())
+                    .amount(amountByOption.getOrDefault(option.getId(), 0L))
+                    .build());
+        }
+
+        return options;
     }
 
     public AnswerEntity toEntity(Answer answer) {
         return AnswerEntity.builder()
                 .date(answer.getDate())
-                .research(ResearchEntity.builder().id(answer.getResearchId().toString()).build())
-                .question(QuestionEntity.builder().id(answer.getQuestionId().toString()).build())
-                .option(OptionEntity.builder().id(answer.getOptionId().toString()).build())
+                .research(ResearchEntity.builder().id(answer.getResearchId()).build())
+                .question(QuestionEntity.builder().id(answer.getQuestionId()).build())
+                .option(OptionEntity.builder().id(answer.getOptionId()).build())
+                .submission(answer.getSubmissionId() == null ? null : SubmissionEntity.builder().id(answer.getSubmissionId()).build())
+                .build();
+    }
+
+    public SubmissionEntity toEntity(Submission submission) {
+        return SubmissionEntity.builder()
+                .date(submission.getDate())
+                .storedAt(OffsetDateTime.now())
+                .research(ResearchEntity.builder().id(submission.getResearchId()).build())
+                .idempotencyKey(submission.getIdempotencyKey())
+                .build();
+    }
+
+    public AnswerRollupId toRollupId(Answer answer, RollupGranularity granularity) {
+        return AnswerRollupId.builder()
+                .researchId(answer.getResearchId())
+                .bucket(granularity.floor(answer.getDate()))
+                .questionId(answer.getQuestionId())
+                .optionId(answer.getOptionId())
+                .build();
+    }
+
+    public AnswerCounterId toCounterId(Answer answer) {
+        return AnswerCounterId.builder()
+                .researchId(answer.getResearchId())
+                .questionId(answer.getQuestionId())
+                .optionId(answer.getOptionId())
                 .build();
     }
 }
@@ -0,0 +1,33 @@
+package com.github.paulosalonso.research.adapter.jpa.mapper;
+
+import com.github.paulosalonso.research.adapter.jpa.model.NotificationOutboxEntity;
+import com.github.paulosalonso.research.domain.Answer;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+
+import static com.github.paulosalonso.research.adapter.jpa.model.NotificationStatus.PENDING;
+
+@Component
+public class NotificationOutboxMapper {
+
+    public NotificationOutboxEntity toEntity(Answer answer) {
+        return NotificationOutboxEntity.builder()
+                .researchId(answer.getResearchId())
+                .questionId(answer.getQuestionId())
+                .optionId(answer.getOptionId())
+                .answerDate(answer.getDate())
+                .status(PENDING)
+                .nextAttemptAt(OffsetDateTime.now())
+                .build();
+    }
+
+    public Answer toDomain(NotificationOutboxEntity entity) {
+        return Answer.builder()
+                .date(entity.getAnswerDate())
+                .researchId(entity.getResearchId())
+                .questionId(entity.getQuestionId())
+                .optionId(entity.getOptionId())
+                .build();
+    }
+}
@@ -4,8 +4,6 @@ import com.github.paulosalonso.research.adapter.jpa.model.OptionEntity;
 import com.github.paulosalonso.research.domain.Option;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 @Component
 public class OptionMapper {
 
@@ -16,10 +14,8 @@ public class OptionMapper {
     }
 
     public Option toDomain(OptionEntity optionEntity) {
-        UUID id = optionEntity.getId() != null ? UUID.fromString(optionEntity.getId()) : null;
-
         return Option.builder()
-                .id(id)
+                .id(optionEntity.getId())
                 .sequence(optionEntity.getSequence())
                 .description(optionEntity.getDescription())
                 .notify(optionEntity.isNotify())
@@ -27,10 +23,8 @@ public class OptionMapper {
     }
 
     public OptionEntity toEntity(Option option) {
-        String id = option.getId() != null ? option.getId().toString() : null;
-
         return OptionEntity.builder()
-                .id(id)
+                .id(option.getId())
                 .sequence(option.getSequence())
                 .description(option.getDescription())
                 .notify(option.isNotify())
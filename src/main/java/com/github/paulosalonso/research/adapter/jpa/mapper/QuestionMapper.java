@@ -5,8 +5,6 @@ import com.github.paulosalonso.research.domain.Question;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 import static java.util.stream.Collectors.toSet;
 
 @RequiredArgsConstructor
@@ -23,10 +21,8 @@ public class QuestionMapper {
     }
 
     public Question toDomain(QuestionEntity questionEntity, boolean fillOptions) {
-        UUID id = questionEntity.getId() != null ? UUID.fromString(questionEntity.getId()) : null;
-
         var builder = Question.builder()
-                .id(id)
+                .id(questionEntity.getId())
                 .sequence(questionEntity.getSequence())
                 .description(questionEntity.getDescription())
                 .multiSelect(questionEntity.getMultiSelect());
@@ -41,10 +37,8 @@ public class QuestionMapper {
     }
 
     public QuestionEntity toEntity(Question question) {
-        String id = question.getId() != null ? question.getId().toString() : null;
-
         return QuestionEntity.builder()
-                .id(id)
+                .id(question.getId())
                 .sequence(question.getSequence())
                 .description(question.getDescription())
                 .multiSelect(question.getMultiSelect())
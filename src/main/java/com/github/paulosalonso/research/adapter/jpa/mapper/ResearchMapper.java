@@ -5,8 +5,6 @@ import com.github.paulosalonso.research.domain.Research;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 import static java.util.stream.Collectors.toSet;
 
 @RequiredArgsConstructor
@@ -25,10 +23,8 @@ public class ResearchMapper {
     }
 
     public Research toDomain(ResearchEntity researchEntity, boolean fillQuestions) {
-        UUID id = researchEntity.getId() != null ? UUID.fromString(researchEntity.getId()) : null;
-
         var builder = Research.builder()
-                .id(id)
+                .id(researchEntity.getId())
                 .title(researchEntity.getTitle())
                 .description(researchEntity.getDescription())
                 .startsOn(researchEntity.getStartsOn())
@@ -44,10 +40,8 @@ public class ResearchMapper {
     }
 
     public ResearchEntity toEntity(Research research) {
-        String id = research.getId() != null ? research.getId().toString() : null;
-
         return ResearchEntity.builder()
-                .id(id)
+                .id(research.getId())
                 .title(research.getTitle())
                 .description(research.getDescription())
                 .startsOn(research.getStartsOn())
@@ -0,0 +1,38 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import static javax.persistence.FetchType.LAZY;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@FieldNameConstants
+@Entity(name = "AnswerCounter")
+@Table(name = "answer_counter")
+public class AnswerCounterEntity {
+
+    @EmbeddedId
+    private AnswerCounterId id;
+
+    @MapsId("researchId")
+    @ManyToOne(fetch = LAZY)
+    private ResearchEntity research;
+
+    @MapsId("questionId")
+    @ManyToOne(fetch = LAZY)
+    private QuestionEntity question;
+
+    @MapsId("optionId")
+    @ManyToOne(fetch = LAZY)
+    private OptionEntity option;
+
+    @NotNull
+    private Long amount;
+}
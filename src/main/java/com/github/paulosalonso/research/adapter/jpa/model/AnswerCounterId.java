@@ -0,0 +1,21 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+@Embeddable
+public class AnswerCounterId implements Serializable {
+
+    private UUID researchId;
+    private UUID questionId;
+    private UUID optionId;
+}
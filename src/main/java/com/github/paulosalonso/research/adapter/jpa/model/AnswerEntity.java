@@ -18,7 +18,8 @@ import java.time.OffsetDateTime;
 public class AnswerEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_sequence")
+    @SequenceGenerator(name = "answer_sequence", sequenceName = "answer_sequence", allocationSize = 50) // allocationSize must match the sequence increment
     private Long id;
 
     private OffsetDateTime date;
@@ -35,4 +36,7 @@ public class AnswerEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "`option_id`") // Column name escaped for MySQL compatibility, because "option" table name is quoted because is a reserved word
     private OptionEntity option;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private SubmissionEntity submission;
 }
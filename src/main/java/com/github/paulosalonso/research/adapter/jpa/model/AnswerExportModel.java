@@ -0,0 +1,19 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AnswerExportModel {
+    private OffsetDateTime date;
+    private UUID researchId;
+    private UUID questionId;
+    private UUID optionId;
+    private Long submissionId;
+}
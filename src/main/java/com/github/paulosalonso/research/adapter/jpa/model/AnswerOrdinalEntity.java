@@ -0,0 +1,31 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import java.util.UUID;
+
+// No foreign keys on purpose: ordinals outlive deleted options, so packed submissions can always be decoded
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@FieldNameConstants
+@Entity(name = "AnswerOrdinal")
+@Table(name = "answer_ordinal")
+public class AnswerOrdinalEntity {
+
+    @EmbeddedId
+    private AnswerOrdinalId id;
+
+    @NotNull
+    private UUID questionId;
+
+    @NotNull
+    private UUID optionId;
+}
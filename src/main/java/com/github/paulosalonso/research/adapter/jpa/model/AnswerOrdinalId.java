@@ -0,0 +1,20 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+@Embeddable
+public class AnswerOrdinalId implements Serializable {
+
+    private UUID researchId;
+    private Integer ordinal;
+}
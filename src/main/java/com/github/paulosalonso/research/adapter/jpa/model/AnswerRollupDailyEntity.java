@@ -0,0 +1,8 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+@Entity(name = "AnswerRollupDaily")
+@Table(name = "answer_rollup_daily")
+public class AnswerRollupDailyEntity extends AnswerRollupEntity {}
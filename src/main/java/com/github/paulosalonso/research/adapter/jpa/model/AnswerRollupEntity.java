@@ -0,0 +1,38 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.ManyToOne;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.MapsId;
+import javax.validation.constraints.NotNull;
+
+import static javax.persistence.FetchType.LAZY;
+
+@Getter
+@Setter
+@FieldNameConstants
+@MappedSuperclass
+public abstract class AnswerRollupEntity {
+
+    @EmbeddedId
+    private AnswerRollupId id;
+
+    @MapsId("researchId")
+    @ManyToOne(fetch = LAZY)
+    private ResearchEntity research;
+
+    @MapsId("questionId")
+    @ManyToOne(fetch = LAZY)
+    private QuestionEntity question;
+
+    @MapsId("optionId")
+    @ManyToOne(fetch = LAZY)
+    private OptionEntity option;
+
+    @NotNull
+    private Long amount;
+}
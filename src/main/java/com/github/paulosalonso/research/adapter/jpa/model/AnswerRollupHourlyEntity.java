@@ -0,0 +1,8 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+@Entity(name = "AnswerRollupHourly")
+@Table(name = "answer_rollup_hourly")
+public class AnswerRollupHourlyEntity extends AnswerRollupEntity {}
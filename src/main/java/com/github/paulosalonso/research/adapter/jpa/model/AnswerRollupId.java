@@ -0,0 +1,25 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+@FieldNameConstants
+@Embeddable
+public class AnswerRollupId implements Serializable {
+
+    private UUID researchId;
+    private OffsetDateTime bucket;
+    private UUID questionId;
+    private UUID optionId;
+}
@@ -0,0 +1,16 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CrosstabModel {
+    private UUID rowOptionId;
+    private UUID columnOptionId;
+    private Long amount;
+}
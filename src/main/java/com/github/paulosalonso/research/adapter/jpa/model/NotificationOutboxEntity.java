@@ -0,0 +1,48 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@FieldNameConstants
+@Entity(name = "NotificationOutbox")
+@Table(name = "notification_outbox")
+public class NotificationOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_sequence")
+    @SequenceGenerator(name = "notification_outbox_sequence", sequenceName = "notification_outbox_sequence", allocationSize = 50) // allocationSize must match the sequence increment
+    private Long id;
+
+    @NotNull
+    private UUID researchId;
+
+    @NotNull
+    private UUID questionId;
+
+    @NotNull
+    private UUID optionId;
+
+    @NotNull
+    private OffsetDateTime answerDate;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private NotificationStatus status;
+
+    private int attempts;
+
+    @NotNull
+    private OffsetDateTime nextAttemptAt;
+
+    private String lastError;
+}
@@ -0,0 +1,5 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+public enum NotificationStatus {
+    PENDING, DEAD
+}
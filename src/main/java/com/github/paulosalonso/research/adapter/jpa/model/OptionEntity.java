@@ -2,6 +2,7 @@ package com.github.paulosalonso.research.adapter.jpa.model;
 
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
+import org.hibernate.annotations.Cache;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -11,6 +12,9 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 import static javax.persistence.FetchType.LAZY;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+
+import java.util.UUID;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,10 +24,13 @@ import static javax.persistence.FetchType.LAZY;
 @FieldNameConstants
 @Entity(name = "Option")
 @Table(name = "`option`") // Table name escaped for MySQL compatibility, because "option" is a reserved word
+@Cache(usage = READ_WRITE, region = OptionEntity.CACHE_REGION)
 public class OptionEntity {
 
+    public static final String CACHE_REGION = "option";
+
     @Id
-    private String id;
+    private UUID id;
 
     @NotNull
     private Integer sequence;
@@ -0,0 +1,18 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PackedSubmissionModel {
+    private Long id;
+    private OffsetDateTime date;
+    private UUID researchId;
+    private byte[] options;
+}
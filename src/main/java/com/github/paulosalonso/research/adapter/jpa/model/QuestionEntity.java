@@ -2,13 +2,17 @@ package com.github.paulosalonso.research.adapter.jpa.model;
 
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.util.List;
+import java.util.UUID;
 
 import static javax.persistence.FetchType.LAZY;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,10 +22,14 @@ import static javax.persistence.FetchType.LAZY;
 @FieldNameConstants
 @Entity(name = "Question")
 @Table(name = "question")
+@Cache(usage = READ_WRITE, region = QuestionEntity.CACHE_REGION)
 public class QuestionEntity {
 
+    public static final String CACHE_REGION = "question";
+    public static final String OPTIONS_CACHE_REGION = "question.options";
+
     @Id
-    private String id;
+    private UUID id;
 
     @NotNull
     private Integer sequence;
@@ -38,5 +46,7 @@ public class QuestionEntity {
 
     @OrderBy("sequence")
     @OneToMany(mappedBy = "question")
+    @Cache(usage = READ_WRITE, region = OPTIONS_CACHE_REGION)
+    @BatchSize(size = 50) // Options of up to 50 questions are initialized by a single query
     private List<OptionEntity> options;
 }
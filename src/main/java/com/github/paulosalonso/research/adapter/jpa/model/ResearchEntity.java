@@ -2,12 +2,17 @@ package com.github.paulosalonso.research.adapter.jpa.model;
 
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
+
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,10 +22,14 @@ import java.util.List;
 @FieldNameConstants
 @Entity(name = "Research")
 @Table(name = "research")
+@Cache(usage = READ_WRITE, region = ResearchEntity.CACHE_REGION)
 public class ResearchEntity {
 
+    public static final String CACHE_REGION = "research";
+    public static final String QUESTIONS_CACHE_REGION = "research.questions";
+
     @Id
-    private String id;
+    private UUID id;
 
     @NotBlank
     private String title;
@@ -34,5 +43,7 @@ public class ResearchEntity {
 
     @OrderBy("sequence")
     @OneToMany(mappedBy = "research")
+    @Cache(usage = READ_WRITE, region = QUESTIONS_CACHE_REGION)
+    @BatchSize(size = 50)
     private List<QuestionEntity> questions;
 }
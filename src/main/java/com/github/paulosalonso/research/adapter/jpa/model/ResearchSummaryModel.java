@@ -2,13 +2,15 @@ package com.github.paulosalonso.research.adapter.jpa.model;
 
 import lombok.*;
 
+import java.util.UUID;
+
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 @Builder
 public class ResearchSummaryModel {
-    public QuestionEntity question;
-    public OptionEntity option;
-    public Long amount;
+    private UUID questionId;
+    private UUID optionId;
+    private Long amount;
 }
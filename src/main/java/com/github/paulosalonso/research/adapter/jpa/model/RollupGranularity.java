@@ -0,0 +1,36 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// Buckets follow the JVM time zone, the same one timestamps are stored with
+@RequiredArgsConstructor
+public enum RollupGranularity {
+
+    HOURLY("answer_rollup_hourly", AnswerRollupHourlyEntity.class, ChronoUnit.HOURS),
+    DAILY("answer_rollup_daily", AnswerRollupDailyEntity.class, ChronoUnit.DAYS);
+
+    @Getter
+    private final String table;
+    @Getter
+    private final Class<? extends AnswerRollupEntity> entityClass;
+    private final ChronoUnit unit;
+
+    public OffsetDateTime floor(OffsetDateTime date) {
+        return date.atZoneSameInstant(ZoneId.systemDefault())
+                .truncatedTo(unit)
+                .toOffsetDateTime();
+    }
+
+    public OffsetDateTime ceil(OffsetDateTime date) {
+        var floor = date.atZoneSameInstant(ZoneId.systemDefault()).truncatedTo(unit);
+
+        return floor.toInstant().equals(date.toInstant())
+                ? floor.toOffsetDateTime()
+                : floor.plus(1, unit).toOffsetDateTime();
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.paulosalonso.research.adapter.jpa.model;
+
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@FieldNameConstants
+@Entity(name = "Submission")
+@Table(name = "submission")
+public class SubmissionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submission_sequence")
+    @SequenceGenerator(name = "submission_sequence", sequenceName = "submission_sequence", allocationSize = 50) // allocationSize must match the sequence increment
+    private Long id;
+
+    @NotNull
+    private OffsetDateTime date;
+
+    // When the row was written, which for buffered and journaled submissions can be well after their date
+    @NotNull
+    private OffsetDateTime storedAt;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    private ResearchEntity research;
+
+    // Bitset of the answer ordinals, only filled when the packed layout is used
+    @Column(length = 1024)
+    private byte[] options;
+
+    @Column(unique = true)
+    private UUID idempotencyKey;
+}
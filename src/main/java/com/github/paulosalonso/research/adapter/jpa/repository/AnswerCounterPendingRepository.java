@@ -0,0 +1,90 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+
+// Submissions stored but not yet added to the accumulated counters. A row is written in the submission transaction and
+// deleted in the transaction that adds the submission to the counters, so each one is counted exactly once.
+@Repository
+public class AnswerCounterPendingRepository {
+
+    private static final int MAX_PARAMETERS = 1000;
+
+    private static final String INSERT = "insert into answer_counter_pending (submission_id, created_at) values (?, ?)";
+    private static final String LOCK = "select submission_id from answer_counter_pending where submission_id in (%s) for update";
+    private static final String LOCK_STALE = "select submission_id from answer_counter_pending where created_at < ? " +
+            "order by created_at limit ? for update";
+    private static final String DELETE = "delete from answer_counter_pending where submission_id in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lockStale;
+
+    public AnswerCounterPendingRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+
+        // H2 can't skip locked rows, it waits for them instead
+        this.lockStale = IncrementStatement.databaseDriver(dataSource) == DatabaseDriver.H2
+                ? LOCK_STALE
+                : LOCK_STALE + " skip locked";
+    }
+
+    public void insert(Collection<Long> submissionIds, OffsetDateTime createdAt) {
+        var timestamp = Timestamp.from(createdAt.toInstant());
+
+        jdbcTemplate.batchUpdate(INSERT, submissionIds.stream()
+                .map(submissionId -> new Object[] {submissionId, timestamp})
+                .collect(toList()));
+    }
+
+    // Waits for the rows being counted by another transaction, and returns the ones still pending once it ends
+    public Set<Long> lock(Collection<Long> submissionIds) {
+        var locked = new HashSet<Long>(submissionIds.size() * 4 / 3 + 1);
+
+        for (var chunk : chunks(submissionIds)) {
+            locked.addAll(jdbcTemplate.queryForList(String.format(LOCK, placeholders(chunk)), Long.class, chunk.toArray()));
+        }
+
+        return locked;
+    }
+
+    // The oldest rows created before the given time, skipping the ones another transaction is counting
+    public List<Long> lockStale(OffsetDateTime before, int limit) {
+        return jdbcTemplate.queryForList(lockStale, Long.class, Timestamp.from(before.toInstant()), limit);
+    }
+
+    public void delete(Collection<Long> submissionIds) {
+        for (var chunk : chunks(submissionIds)) {
+            jdbcTemplate.update(String.format(DELETE, placeholders(chunk)), chunk.toArray());
+        }
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> submissionIds) {
+        // Always locked in the same order, so two flushes over the same submissions can't deadlock
+        var ids = submissionIds.stream().sorted().collect(toList());
+        var chunks = new ArrayList<List<Long>>();
+
+        for (int from = 0; from < ids.size(); from += MAX_PARAMETERS) {
+            chunks.add(ids.subList(from, Math.min(from + MAX_PARAMETERS, ids.size())));
+        }
+
+        return chunks;
+    }
+
+    private static String placeholders(List<Long> chunk) {
+        return String.join(", ", Collections.nCopies(chunk.size(), "?"));
+    }
+}
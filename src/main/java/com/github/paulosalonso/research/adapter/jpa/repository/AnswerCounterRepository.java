@@ -0,0 +1,22 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerCounterEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerCounterId;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchSummaryModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AnswerCounterRepository extends
+        JpaRepository<AnswerCounterEntity, AnswerCounterId>, AnswerCounterRepositoryCustom {
+
+    @Query("SELECT new com.github.paulosalonso.research.adapter.jpa.model.ResearchSummaryModel(c.id.questionId, c.id.optionId, c.amount) " +
+            "FROM AnswerCounter c WHERE c.research.id = :researchId")
+    List<ResearchSummaryModel> findSummaryByResearchId(UUID researchId);
+
+    @Query("SELECT new com.github.paulosalonso.research.adapter.jpa.model.ResearchSummaryModel(c.id.questionId, c.id.optionId, c.amount) " +
+            "FROM AnswerCounter c WHERE c.research.id = :researchId AND c.question.id = :questionId")
+    List<ResearchSummaryModel> findSummaryByResearchIdAndQuestionId(UUID researchId, UUID questionId);
+}
@@ -0,0 +1,10 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerCounterId;
+
+import java.util.Map;
+
+public interface AnswerCounterRepositoryCustom {
+
+    void increment(Map<AnswerCounterId, Long> increments);
+}
@@ -0,0 +1,57 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerCounterId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+@Repository
+public class AnswerCounterRepositoryImpl implements AnswerCounterRepositoryCustom {
+
+    // Rows are always locked in the same order so concurrent submissions can't deadlock each other
+    private static final Comparator<AnswerCounterId> LOCK_ORDER = Comparator
+            .comparing(AnswerCounterId::getResearchId)
+            .thenComparing(AnswerCounterId::getQuestionId)
+            .thenComparing(AnswerCounterId::getOptionId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Function<UUID, Object> uuidParameter;
+    private final String upsert;
+
+    public AnswerCounterRepositoryImpl(JdbcTemplate jdbcTemplate, DataSource dataSource) throws MetaDataAccessException {
+        var keyColumns = new LinkedHashMap<String, String>();
+        keyColumns.put("research_id", "uuid");
+        keyColumns.put("question_id", "uuid");
+        keyColumns.put("option_id", "uuid");
+
+        var databaseDriver = IncrementStatement.databaseDriver(dataSource);
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.uuidParameter = IncrementStatement.uuidParameter(databaseDriver);
+        this.upsert = IncrementStatement.build(databaseDriver, "answer_counter", keyColumns, "amount");
+    }
+
+    @Override
+    public void increment(Map<AnswerCounterId, Long> increments) {
+        var rows = increments.entrySet().stream()
+                .sorted(Entry.comparingByKey(LOCK_ORDER))
+                .map(increment -> new Object[] {
+                        uuidParameter.apply(increment.getKey().getResearchId()),
+                        uuidParameter.apply(increment.getKey().getQuestionId()),
+                        uuidParameter.apply(increment.getKey().getOptionId()),
+                        increment.getValue()})
+                .collect(toList());
+
+        jdbcTemplate.batchUpdate(upsert, rows);
+    }
+}
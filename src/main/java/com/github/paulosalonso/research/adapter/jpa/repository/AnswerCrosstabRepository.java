@@ -0,0 +1,55 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.*;
+import com.github.paulosalonso.research.adapter.jpa.repository.specification.AnswerSpecificationFactory;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Counts the option pairs of two questions answered in the same submission, with a single grouped self join
+@RequiredArgsConstructor
+@Repository
+public class AnswerCrosstabRepository {
+
+    private final EntityManager entityManager;
+    private final AnswerSpecificationFactory answerSpecificationFactory;
+    private final PackedSubmissionRepository packedSubmissionRepository;
+
+    public List<CrosstabModel> crosstab(AnswerCriteria criteria, UUID rowQuestionId, UUID columnQuestionId) {
+        var specification = answerSpecificationFactory.findByResearchId(criteria.getResearchId())
+                .and(answerSpecificationFactory.findByQuestionId(rowQuestionId));
+
+        if (criteria.getDateFrom() != null) {
+            specification = specification.and(answerSpecificationFactory.findByDateFrom(criteria.getDateFrom()));
+        }
+
+        if (criteria.getDateTo() != null) {
+            specification = specification.and(answerSpecificationFactory.findByDateTo(criteria.getDateTo()));
+        }
+
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createQuery(CrosstabModel.class);
+        var row = criteriaQuery.from(AnswerEntity.class);
+        var column = criteriaQuery.from(AnswerEntity.class);
+        Path<UUID> rowOptionId = row.get(AnswerEntity.Fields.option).get(OptionEntity.Fields.id);
+        Path<UUID> columnOptionId = column.get(AnswerEntity.Fields.option).get(OptionEntity.Fields.id);
+
+        criteriaQuery
+                .select(criteriaBuilder.construct(CrosstabModel.class, rowOptionId, columnOptionId, criteriaBuilder.count(row)))
+                .where(specification.toPredicate(row, criteriaQuery, criteriaBuilder),
+                        criteriaBuilder.equal(row.get(AnswerEntity.Fields.submission), column.get(AnswerEntity.Fields.submission)),
+                        criteriaBuilder.equal(column.get(AnswerEntity.Fields.question).get(QuestionEntity.Fields.id),
+                                columnQuestionId))
+                .groupBy(rowOptionId, columnOptionId);
+
+        var crosstab = new ArrayList<>(entityManager.createQuery(criteriaQuery).getResultList());
+        crosstab.addAll(packedSubmissionRepository.crosstab(criteria, rowQuestionId, columnQuestionId));
+        return crosstab;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.*;
+import com.github.paulosalonso.research.adapter.jpa.repository.specification.AnswerSpecificationFactory;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.stream.Stream;
+
+// Streams answers as projections through a forward-only cursor, so no entity is attached to the persistence context
+@Repository
+public class AnswerExportRepository {
+
+    private final EntityManager entityManager;
+    private final AnswerSpecificationFactory answerSpecificationFactory;
+    private final PackedSubmissionRepository packedSubmissionRepository;
+    private final int fetchSize;
+
+    public AnswerExportRepository(EntityManager entityManager, AnswerSpecificationFactory answerSpecificationFactory,
+                                  PackedSubmissionRepository packedSubmissionRepository, DataSource dataSource,
+                                  @Value("${answer.export.fetch-size:1000}") int fetchSize) throws MetaDataAccessException {
+
+        this.entityManager = entityManager;
+        this.answerSpecificationFactory = answerSpecificationFactory;
+        this.packedSubmissionRepository = packedSubmissionRepository;
+        this.fetchSize = fetchSize(IncrementStatement.databaseDriver(dataSource),
+                JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getURL), fetchSize);
+    }
+
+    // MySQL ignores the fetch size and reads the whole result unless the URL sets useCursorFetch, so without it the
+    // rows are streamed one by one instead
+    static int fetchSize(DatabaseDriver databaseDriver, String url, int fetchSize) {
+        switch (databaseDriver) {
+            case MYSQL:
+            case MARIADB:
+                return url.contains("useCursorFetch=true") ? fetchSize : Integer.MIN_VALUE;
+            default:
+                return fetchSize;
+        }
+    }
+
+    // Must be consumed and closed inside a transaction, PostgreSQL only honors the fetch size without auto-commit
+    public Stream<AnswerExportModel> stream(AnswerCriteria criteria) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createQuery(AnswerExportModel.class);
+        var root = criteriaQuery.from(AnswerEntity.class);
+
+        criteriaQuery
+                .select(criteriaBuilder.construct(AnswerExportModel.class,
+                        root.get(AnswerEntity.Fields.date),
+                        root.get(AnswerEntity.Fields.research).get(ResearchEntity.Fields.id),
+                        root.get(AnswerEntity.Fields.question).get(QuestionEntity.Fields.id),
+                        root.get(AnswerEntity.Fields.option).get(OptionEntity.Fields.id),
+                        root.get(AnswerEntity.Fields.submission).get(SubmissionEntity.Fields.id)))
+                .where(answerSpecificationFactory.findByAnswerCriteria(criteria)
+                        .toPredicate(root, criteriaQuery, criteriaBuilder));
+
+        var rows = entityManager.createQuery(criteriaQuery)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+
+        // The packed cursor is only opened once the rows are exhausted, and closing the result closes both
+        return Stream.concat(rows, Stream.of(criteria).flatMap(packedSubmissionRepository::stream));
+    }
+}
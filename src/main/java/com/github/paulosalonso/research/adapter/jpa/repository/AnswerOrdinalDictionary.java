@@ -0,0 +1,97 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerOrdinalEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+// Maps each option of a research to a stable bit position. Ordinals are only appended, so a cached
+// dictionary is reloaded when it doesn't know an option or ordinal yet.
+@RequiredArgsConstructor
+@Component
+public class AnswerOrdinalDictionary {
+
+    private final AnswerOrdinalRepository answerOrdinalRepository;
+    private final Map<UUID, Ordinals> ordinalsByResearch = new ConcurrentHashMap<>();
+
+    public byte[] encode(UUID researchId, Collection<UUID> optionIds) {
+        var bits = new BitSet();
+        optionIds.forEach(optionId -> bits.set(ordinalOf(researchId, optionId)));
+        return bits.toByteArray();
+    }
+
+    // The consumer receives the question id and the option id of each selected option
+    public void decode(UUID researchId, byte[] options, BiConsumer<UUID, UUID> consumer) {
+        var bits = BitSet.valueOf(options);
+        var ordinals = ordinalsByResearch.computeIfAbsent(researchId, this::load);
+
+        if (bits.length() > ordinals.size()) {
+            ordinals = reload(researchId);
+        }
+
+        for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+            if (ordinal >= ordinals.size() || ordinals.optionIds[ordinal] == null) {
+                throw new IllegalStateException(String.format("Unknown ordinal %d for research %s", ordinal, researchId));
+            }
+
+            consumer.accept(ordinals.questionIds[ordinal], ordinals.optionIds[ordinal]);
+        }
+    }
+
+    private int ordinalOf(UUID researchId, UUID optionId) {
+        var ordinal = ordinalsByResearch.computeIfAbsent(researchId, this::load).ordinalByOption.get(optionId);
+
+        if (ordinal == null) {
+            ordinal = reload(researchId).ordinalByOption.get(optionId);
+        }
+
+        if (ordinal == null) {
+            throw new IllegalStateException("Option has no ordinal: " + optionId);
+        }
+
+        return ordinal;
+    }
+
+    private Ordinals reload(UUID researchId) {
+        var ordinals = load(researchId);
+        ordinalsByResearch.put(researchId, ordinals);
+        return ordinals;
+    }
+
+    private Ordinals load(UUID researchId) {
+        return new Ordinals(answerOrdinalRepository.findByIdResearchId(researchId));
+    }
+
+    private static class Ordinals {
+
+        private final UUID[] questionIds;
+        private final UUID[] optionIds;
+        private final Map<UUID, Integer> ordinalByOption;
+
+        private Ordinals(Collection<AnswerOrdinalEntity> entities) {
+            var size = entities.stream().mapToInt(entity -> entity.getId().getOrdinal() + 1).max().orElse(0);
+
+            this.questionIds = new UUID[size];
+            this.optionIds = new UUID[size];
+            this.ordinalByOption = new HashMap<>(entities.size() * 4 / 3 + 1);
+
+            for (var entity : entities) {
+                var ordinal = entity.getId().getOrdinal();
+                questionIds[ordinal] = entity.getQuestionId();
+                optionIds[ordinal] = entity.getOptionId();
+                ordinalByOption.put(entity.getOptionId(), ordinal);
+            }
+        }
+
+        private int size() {
+            return optionIds.length;
+        }
+    }
+}
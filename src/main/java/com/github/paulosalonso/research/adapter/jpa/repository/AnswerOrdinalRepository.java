@@ -0,0 +1,22 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerOrdinalEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerOrdinalId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AnswerOrdinalRepository extends JpaRepository<AnswerOrdinalEntity, AnswerOrdinalId> {
+
+    List<AnswerOrdinalEntity> findByIdResearchId(UUID researchId);
+
+    // Two options of the same research would read the same MAX, so callers must hold the research row lock
+    @Modifying
+    @Query(value = "INSERT INTO answer_ordinal (research_id, ordinal, question_id, option_id) " +
+            "SELECT :researchId, COALESCE(MAX(ordinal), -1) + 1, :questionId, :optionId " +
+            "FROM answer_ordinal WHERE research_id = :researchId", nativeQuery = true)
+    void assign(UUID researchId, UUID questionId, UUID optionId);
+}
@@ -1,8 +1,38 @@
 package com.github.paulosalonso.research.adapter.jpa.repository;
 
 import com.github.paulosalonso.research.adapter.jpa.model.AnswerEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerExportModel;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface AnswerRepository extends
-        JpaRepository<AnswerEntity, Long>, JpaSpecificationExecutor<AnswerEntity>, AnswerRepositoryCustom {}
+        JpaRepository<AnswerEntity, Long>, JpaSpecificationExecutor<AnswerEntity> {
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT new com.github.paulosalonso.research.adapter.jpa.model.AnswerExportModel(s.date, a.research.id, a.question.id, a.option.id, s.id) " +
+            "FROM Answer a JOIN a.submission s WHERE s.storedAt >= :since")
+    Stream<AnswerExportModel> streamStoredSince(OffsetDateTime since);
+
+    @Query("SELECT new com.github.paulosalonso.research.adapter.jpa.model.AnswerExportModel(s.date, a.research.id, a.question.id, a.option.id, s.id) " +
+            "FROM Answer a JOIN a.submission s WHERE s.id IN :submissionIds")
+    List<AnswerExportModel> findBySubmissionIds(Collection<Long> submissionIds);
+
+    // The partitioned MySQL answer table has no foreign keys, so deletes check for answers before removing their targets
+    boolean existsByResearchId(UUID researchId);
+
+    boolean existsByResearchIdAndQuestionId(UUID researchId, UUID questionId);
+
+    boolean existsByResearchIdAndQuestionIdAndOptionId(UUID researchId, UUID questionId, UUID optionId);
+}
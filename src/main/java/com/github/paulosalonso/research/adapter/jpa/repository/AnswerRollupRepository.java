@@ -0,0 +1,64 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerRollupId;
+import com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+@Repository
+public class AnswerRollupRepository {
+
+    private static final Comparator<AnswerRollupId> LOCK_ORDER = Comparator
+            .comparing(AnswerRollupId::getResearchId)
+            .thenComparing(AnswerRollupId::getBucket)
+            .thenComparing(AnswerRollupId::getQuestionId)
+            .thenComparing(AnswerRollupId::getOptionId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Function<UUID, Object> uuidParameter;
+    private final Map<RollupGranularity, String> upserts = new EnumMap<>(RollupGranularity.class);
+
+    public AnswerRollupRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) throws MetaDataAccessException {
+        var databaseDriver = IncrementStatement.databaseDriver(dataSource);
+
+        var keyColumns = new LinkedHashMap<String, String>();
+        keyColumns.put("research_id", "uuid");
+        keyColumns.put("bucket", "timestamp");
+        keyColumns.put("question_id", "uuid");
+        keyColumns.put("option_id", "uuid");
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.uuidParameter = IncrementStatement.uuidParameter(databaseDriver);
+
+        for (var granularity : RollupGranularity.values()) {
+            upserts.put(granularity, IncrementStatement.build(databaseDriver, granularity.getTable(), keyColumns, "amount"));
+        }
+    }
+
+    public void increment(RollupGranularity granularity, Map<AnswerRollupId, Long> increments) {
+        var rows = increments.entrySet().stream()
+                .sorted(Entry.comparingByKey(LOCK_ORDER))
+                .map(increment -> new Object[] {
+                        uuidParameter.apply(increment.getKey().getResearchId()),
+                        Timestamp.from(increment.getKey().getBucket().toInstant()),
+                        uuidParameter.apply(increment.getKey().getQuestionId()),
+                        uuidParameter.apply(increment.getKey().getOptionId()),
+                        increment.getValue()})
+                .collect(toList());
+
+        jdbcTemplate.batchUpdate(upserts.get(granularity), rows);
+    }
+}
@@ -0,0 +1,306 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.event.AnswerEventBus;
+import com.github.paulosalonso.research.adapter.event.AnswerEventSubscription;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchSummaryModel;
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+// Keeps one bitmap of submission ids per option, so a segmented summary is a bitmap intersection plus cardinality
+// counts. Local submissions are added from the answer events and the others are picked up by a periodic sync, which
+// re-reads a safety margin because adding a submission twice is harmless. The sync follows the time each submission was
+// stored, not its date, so buffered and journaled submissions written long after being received aren't missed.
+@Slf4j
+@Component
+public class AnswerSegmentIndex implements SmartInitializingSingleton {
+
+    private static final int SNAPSHOT_VERSION = 3;
+    private static final OffsetDateTime EPOCH = OffsetDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+    private static final Duration CATCH_UP_TIMEOUT = Duration.ofSeconds(1);
+
+    private final AnswerRepository answerRepository;
+    private final SubmissionRepository submissionRepository;
+    private final AnswerOrdinalDictionary answerOrdinalDictionary;
+    private final AnswerEventBus answerEventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration syncMargin;
+    private final Path snapshotPath;
+    private final Map<UUID, ResearchIndex> researches = new ConcurrentHashMap<>();
+    private volatile OffsetDateTime syncedUntil = EPOCH;
+    private volatile AnswerEventSubscription subscription;
+
+    public AnswerSegmentIndex(AnswerRepository answerRepository, SubmissionRepository submissionRepository,
+                              AnswerOrdinalDictionary answerOrdinalDictionary, AnswerEventBus answerEventBus,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${answer.segment-index.sync-margin:5m}") Duration syncMargin,
+                              @Value("${answer.segment-index.snapshot-path:}") String snapshotPath) {
+
+        this.answerRepository = answerRepository;
+        this.submissionRepository = submissionRepository;
+        this.answerOrdinalDictionary = answerOrdinalDictionary;
+        this.answerEventBus = answerEventBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.syncMargin = syncMargin;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+
+    // Runs before the web server starts, so no summary is served from a partial index and no submission is missed
+    @Override
+    public void afterSingletonsInstantiated() {
+        subscription = answerEventBus.subscribe("segment-index", this::add);
+        sync(loadSnapshot());
+    }
+
+    @Scheduled(fixedDelayString = "${answer.segment-index.sync-interval:10000}")
+    public void sync() {
+        sync(syncedUntil.minus(syncMargin));
+    }
+
+    @Scheduled(fixedDelayString = "${answer.segment-index.snapshot-interval:600000}",
+            initialDelayString = "${answer.segment-index.snapshot-interval:600000}")
+    public void snapshot() {
+        if (snapshotPath != null) {
+            writeSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshot();
+    }
+
+    // Counts, per option, the submissions that also selected every option of the segment. Waits for the submissions
+    // already committed by this instance, so a segmented summary reflects them as soon as their request returns.
+    public List<ResearchSummaryModel> summarize(UUID researchId, UUID questionId, Collection<UUID> segment) {
+        if (subscription != null && !subscription.awaitCaughtUp(CATCH_UP_TIMEOUT)) {
+            log.warn("Segment index is behind the answer events, summarizing without the latest submissions");
+        }
+
+        var index = researches.get(researchId);
+        return index == null ? List.of() : index.summarize(questionId, segment);
+    }
+
+    private synchronized void sync(OffsetDateTime since) {
+        var startedAt = OffsetDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (var answers = answerRepository.streamStoredSince(since)) {
+                answers.forEach(answer -> add(answer.getResearchId(), answer.getSubmissionId(),
+                        answer.getQuestionId(), answer.getOptionId()));
+            }
+
+            try (var submissions = submissionRepository.streamPackedStoredSince(since)) {
+                submissions.forEach(submission -> answerOrdinalDictionary.decode(
+                        submission.getResearchId(), submission.getOptions(),
+                        (questionId, optionId) -> add(submission.getResearchId(), submission.getId(), questionId, optionId)));
+            }
+        });
+
+        syncedUntil = startedAt;
+    }
+
+    private void add(List<AnswersSubmitted> events) {
+        events.forEach(event -> event.getAnswers().forEach(answer -> add(event.getResearchId(), event.getSubmissionId(),
+                answer.getQuestionId(), answer.getOptionId())));
+    }
+
+    private void add(UUID researchId, Long submissionId, UUID questionId, UUID optionId) {
+        researches.computeIfAbsent(researchId, key -> new ResearchIndex())
+                .add(questionId, optionId, submissionId);
+    }
+
+    private OffsetDateTime loadSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return EPOCH;
+        }
+
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (input.readInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring segment index snapshot {} written by another version", snapshotPath);
+                return EPOCH;
+            }
+
+            var snapshotSyncedUntil = OffsetDateTime.ofInstant(Instant.ofEpochMilli(input.readLong()), ZoneOffset.UTC);
+            var researchCount = input.readInt();
+
+            for (int i = 0; i < researchCount; i++) {
+                var researchId = readUuid(input);
+                researches.put(researchId, ResearchIndex.read(input));
+            }
+
+            syncedUntil = snapshotSyncedUntil;
+            log.info("Loaded segment index snapshot of {} researches synced until {}", researchCount, snapshotSyncedUntil);
+
+            return snapshotSyncedUntil.minus(syncMargin);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable segment index snapshot {}", snapshotPath, e);
+            researches.clear();
+            return EPOCH;
+        }
+    }
+
+    private synchronized void writeSnapshot() {
+        var temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        var entries = new ArrayList<>(researches.entrySet());
+
+        try {
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(SNAPSHOT_VERSION);
+                output.writeLong(syncedUntil.toInstant().toEpochMilli());
+                output.writeInt(entries.size());
+
+                for (var entry : entries) {
+                    writeUuid(output, entry.getKey());
+                    entry.getValue().write(output);
+                }
+            }
+
+            Files.move(temporary, snapshotPath, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Error writing segment index snapshot {}", snapshotPath, e);
+        }
+    }
+
+    private static void writeUuid(DataOutput output, UUID uuid) throws IOException {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInput input) throws IOException {
+        return new UUID(input.readLong(), input.readLong());
+    }
+
+    private static class ResearchIndex {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<UUID, OptionBitmap> options = new HashMap<>();
+
+        private void add(UUID questionId, UUID optionId, long submission) {
+            lock.writeLock().lock();
+
+            try {
+                options.computeIfAbsent(optionId, key -> new OptionBitmap(questionId, newBitmap()))
+                        .bitmap.addLong(submission);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private List<ResearchSummaryModel> summarize(UUID questionId, Collection<UUID> segment) {
+            lock.readLock().lock();
+
+            try {
+                Roaring64NavigableMap respondents = null;
+
+                for (var optionId : segment) {
+                    var option = options.get(optionId);
+
+                    if (option == null) {
+                        return List.of();
+                    }
+
+                    if (respondents == null) {
+                        respondents = copy(option.bitmap);
+                    } else {
+                        respondents.and(option.bitmap);
+                    }
+                }
+
+                var summary = new ArrayList<ResearchSummaryModel>();
+
+                for (var entry : options.entrySet()) {
+                    var option = entry.getValue();
+
+                    if (questionId == null || questionId.equals(option.questionId)) {
+                        summary.add(new ResearchSummaryModel(option.questionId, entry.getKey(),
+                                respondents == null ? option.bitmap.getLongCardinality() : andCardinality(respondents, option.bitmap)));
+                    }
+                }
+
+                return summary;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void write(DataOutput output) throws IOException {
+            lock.readLock().lock();
+
+            try {
+                output.writeInt(options.size());
+
+                for (var entry : options.entrySet()) {
+                    writeUuid(output, entry.getKey());
+                    writeUuid(output, entry.getValue().questionId);
+                    entry.getValue().bitmap.serialize(output);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private static ResearchIndex read(DataInput input) throws IOException {
+            var index = new ResearchIndex();
+            var optionCount = input.readInt();
+
+            for (int i = 0; i < optionCount; i++) {
+                var optionId = readUuid(input);
+                var questionId = readUuid(input);
+                var bitmap = newBitmap();
+                bitmap.deserialize(input);
+                index.options.put(optionId, new OptionBitmap(questionId, bitmap));
+            }
+
+            return index;
+        }
+
+        // Cached cardinalities are rebuilt on read, which concurrent summaries under the read lock can't do safely
+        private static Roaring64NavigableMap newBitmap() {
+            return new Roaring64NavigableMap(false, false);
+        }
+
+        // The 64-bit bitmaps can only be intersected in place, so the operations work on a copy
+        private static Roaring64NavigableMap copy(Roaring64NavigableMap bitmap) {
+            var copy = newBitmap();
+            copy.or(bitmap);
+            return copy;
+        }
+
+        private static long andCardinality(Roaring64NavigableMap respondents, Roaring64NavigableMap bitmap) {
+            var intersection = copy(respondents);
+            intersection.and(bitmap);
+            return intersection.getLongCardinality();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class OptionBitmap {
+        private final UUID questionId;
+        private final Roaring64NavigableMap bitmap;
+    }
+}
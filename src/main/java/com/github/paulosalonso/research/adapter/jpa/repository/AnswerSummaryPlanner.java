@@ -0,0 +1,179 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.gateway.AnswerCounterAccumulator;
+import com.github.paulosalonso.research.adapter.jpa.model.*;
+import com.github.paulosalonso.research.adapter.jpa.repository.specification.AnswerSpecificationFactory;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.DAILY;
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.HOURLY;
+import static lombok.AccessLevel.PRIVATE;
+
+// Answers a date range summary from whole daily and hourly buckets, reading raw answers only on the edges
+@RequiredArgsConstructor
+@Repository
+public class AnswerSummaryPlanner {
+
+    private final EntityManager entityManager;
+    private final AnswerSpecificationFactory answerSpecificationFactory;
+    private final PackedSubmissionRepository packedSubmissionRepository;
+    private final AnswerCounterAccumulator answerCounterAccumulator;
+
+    public List<ResearchSummaryModel> search(AnswerCriteria criteria) {
+        var plan = plan(criteria.getDateFrom(), criteria.getDateTo());
+        var summary = new HashMap<UUID, ResearchSummaryModel>();
+
+        plan.forEach(segment -> segment.read(this, criteria).forEach(row -> summary.merge(row.getOptionId(), row,
+                (current, increment) -> {
+                    current.setAmount(current.getAmount() + increment.getAmount());
+                    return current;
+                })));
+
+        return new ArrayList<>(summary.values());
+    }
+
+    // A null bound is unbounded. The upper bound of the requested range is inclusive, like in AnswerSpecificationFactory.
+    static List<Segment> plan(OffsetDateTime from, OffsetDateTime to) {
+        var plan = new ArrayList<Segment>();
+        var dayStart = from == null ? null : DAILY.ceil(from);
+        var dayEnd = to == null ? null : DAILY.floor(to);
+
+        if (dayStart != null && dayEnd != null && !dayStart.isBefore(dayEnd)) {
+            planHours(plan, from, to, true);
+            return plan;
+        }
+
+        plan.add(Segment.rollup(DAILY, dayStart, dayEnd));
+
+        if (from != null && from.isBefore(dayStart)) {
+            planHours(plan, from, dayStart, false);
+        }
+
+        if (to != null) {
+            planHours(plan, dayEnd, to, true);
+        }
+
+        return plan;
+    }
+
+    private static void planHours(List<Segment> plan, OffsetDateTime from, OffsetDateTime to, boolean toInclusive) {
+        var hourStart = HOURLY.ceil(from);
+        var hourEnd = HOURLY.floor(to);
+
+        if (!hourStart.isBefore(hourEnd)) {
+            plan.add(Segment.raw(from, to, toInclusive));
+            return;
+        }
+
+        if (from.isBefore(hourStart)) {
+            plan.add(Segment.raw(from, hourStart, false));
+        }
+
+        plan.add(Segment.rollup(HOURLY, hourStart, hourEnd));
+
+        if (toInclusive || hourEnd.isBefore(to)) {
+            plan.add(Segment.raw(hourEnd, to, toInclusive));
+        }
+    }
+
+    private List<ResearchSummaryModel> readRollup(AnswerCriteria criteria, RollupGranularity granularity,
+                                                  OffsetDateTime from, OffsetDateTime to) {
+
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createQuery(ResearchSummaryModel.class);
+        var root = criteriaQuery.from(granularity.getEntityClass());
+        var id = root.get(AnswerRollupEntity.Fields.id);
+        Path<UUID> questionId = id.get(AnswerRollupId.Fields.questionId);
+        Path<UUID> optionId = id.get(AnswerRollupId.Fields.optionId);
+        Path<OffsetDateTime> bucket = id.get(AnswerRollupId.Fields.bucket);
+
+        var predicates = new ArrayList<Predicate>();
+        predicates.add(criteriaBuilder.equal(
+                id.get(AnswerRollupId.Fields.researchId), criteria.getResearchId()));
+
+        if (criteria.getQuestionId() != null) {
+            predicates.add(criteriaBuilder.equal(questionId, criteria.getQuestionId()));
+        }
+
+        if (from != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(bucket, from));
+        }
+
+        if (to != null) {
+            predicates.add(criteriaBuilder.lessThan(bucket, to));
+        }
+
+        criteriaQuery
+                .select(criteriaBuilder.construct(ResearchSummaryModel.class,
+                        questionId, optionId, criteriaBuilder.sum(root.<Long>get(AnswerRollupEntity.Fields.amount))))
+                .where(predicates.toArray(Predicate[]::new))
+                .groupBy(questionId, optionId);
+
+        return answerCounterAccumulator.summarizeRollup(criteria.getResearchId(), criteria.getQuestionId(), granularity,
+                from, to, () -> entityManager.createQuery(criteriaQuery).getResultList());
+    }
+
+    private List<ResearchSummaryModel> readRaw(AnswerCriteria criteria, OffsetDateTime from, OffsetDateTime to,
+                                               boolean toInclusive) {
+
+        var specification = answerSpecificationFactory.findByResearchId(criteria.getResearchId())
+                .and(answerSpecificationFactory.findByDateFrom(from))
+                .and(toInclusive ? answerSpecificationFactory.findByDateTo(to) : answerSpecificationFactory.findByDateBefore(to));
+
+        if (criteria.getQuestionId() != null) {
+            specification = specification.and(answerSpecificationFactory.findByQuestionId(criteria.getQuestionId()));
+        }
+
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createQuery(ResearchSummaryModel.class);
+        var root = criteriaQuery.from(AnswerEntity.class);
+        Path<UUID> questionId = root.get(AnswerEntity.Fields.question).get(QuestionEntity.Fields.id);
+        Path<UUID> optionId = root.get(AnswerEntity.Fields.option).get(OptionEntity.Fields.id);
+
+        criteriaQuery
+                .select(criteriaBuilder.construct(ResearchSummaryModel.class, questionId, optionId, criteriaBuilder.count(root)))
+                .where(specification.toPredicate(root, criteriaQuery, criteriaBuilder))
+                .groupBy(questionId, optionId);
+
+        var summary = new ArrayList<>(entityManager.createQuery(criteriaQuery).getResultList());
+        summary.addAll(packedSubmissionRepository.summarize(criteria, from, to, toInclusive));
+        return summary;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = PRIVATE)
+    static class Segment {
+
+        private final RollupGranularity granularity;
+        private final OffsetDateTime from;
+        private final OffsetDateTime to;
+        private final boolean toInclusive;
+
+        static Segment rollup(RollupGranularity granularity, OffsetDateTime from, OffsetDateTime to) {
+            return new Segment(granularity, from, to, false);
+        }
+
+        static Segment raw(OffsetDateTime from, OffsetDateTime to, boolean toInclusive) {
+            return new Segment(null, from, to, toInclusive);
+        }
+
+        private List<ResearchSummaryModel> read(AnswerSummaryPlanner planner, AnswerCriteria criteria) {
+            return granularity == null
+                    ? planner.readRaw(criteria, from, to, toInclusive)
+                    : planner.readRollup(criteria, granularity, from, to);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.DatabaseMetaData;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.joining;
+
+class IncrementStatement {
+
+    private IncrementStatement() {}
+
+    static DatabaseDriver databaseDriver(DataSource dataSource) throws MetaDataAccessException {
+        return DatabaseDriver.fromProductName(
+                JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+    }
+
+    // Plain JDBC doesn't go through the Hibernate UUID types, so ids are bound as each vendor stores them
+    static Function<UUID, Object> uuidParameter(DatabaseDriver databaseDriver) {
+        switch (databaseDriver) {
+            case MYSQL:
+            case MARIADB:
+                return uuid -> ByteBuffer.allocate(16)
+                        .putLong(uuid.getMostSignificantBits())
+                        .putLong(uuid.getLeastSignificantBits())
+                        .array();
+            default:
+                return uuid -> uuid;
+        }
+    }
+
+    // Parameters are the key columns in map order followed by the amount. The SQL types are only used by H2.
+    static String build(DatabaseDriver databaseDriver, String table, Map<String, String> keyColumns, String amountColumn) {
+        var keys = String.join(", ", keyColumns.keySet());
+        var placeholders = keyColumns.keySet().stream().map(column -> "?").collect(joining(", "));
+
+        switch (databaseDriver) {
+            case POSTGRESQL:
+                return String.format("insert into %1$s (%2$s, %3$s) values (%4$s, ?) " +
+                                "on conflict (%2$s) do update set %3$s = %1$s.%3$s + excluded.%3$s",
+                        table, keys, amountColumn, placeholders);
+            case MYSQL:
+            case MARIADB:
+                return String.format("insert into %1$s (%2$s, %3$s) values (%4$s, ?) " +
+                                "on duplicate key update %3$s = %3$s + values(%3$s)",
+                        table, keys, amountColumn, placeholders);
+            case H2:
+                var source = keyColumns.entrySet().stream()
+                        .map(column -> String.format("cast(? as %s) %s", column.getValue(), column.getKey()))
+                        .collect(joining(", "));
+                var join = keyColumns.keySet().stream()
+                        .map(column -> String.format("t.%1$s = s.%1$s", column))
+                        .collect(joining(" and "));
+                var values = keyColumns.keySet().stream()
+                        .map(column -> "s." + column)
+                        .collect(joining(", "));
+
+                return String.format("merge into %1$s t using (select %5$s, cast(? as bigint) %3$s) s on (%6$s) " +
+                                "when matched then update set t.%3$s = t.%3$s + s.%3$s " +
+                                "when not matched then insert (%2$s, %3$s) values (%7$s, s.%3$s)",
+                        table, keys, amountColumn, placeholders, source, join, values);
+            default:
+                throw new IllegalStateException("Increment statements are not supported on " + databaseDriver);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+// Unlike findAll(Specification, Pageable) no count query is issued, so the cost depends only on the page size
+@RequiredArgsConstructor
+@Repository
+public class KeysetRepository {
+
+    private final EntityManager entityManager;
+
+    public <T> List<T> findAll(Class<T> type, Specification<T> specification, int maxResults) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var query = criteriaBuilder.createQuery(type);
+        var root = query.from(type);
+        var predicate = specification.toPredicate(root, query, criteriaBuilder);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query.select(root))
+                .setHint(HINT_READONLY, true)
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+}
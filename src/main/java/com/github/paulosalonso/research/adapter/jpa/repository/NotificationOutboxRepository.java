@@ -0,0 +1,22 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.NotificationOutboxEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.NotificationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    // Lock timeout -2 is translated by Hibernate to SKIP LOCKED, so concurrent instances drain disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    List<NotificationOutboxEntity> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            NotificationStatus status, OffsetDateTime nextAttemptAt, Pageable pageable);
+}
@@ -0,0 +1,134 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.*;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Reads submissions stored with the packed layout, expanding their bitsets into answers
+@Repository
+public class PackedSubmissionRepository {
+
+    private final EntityManager entityManager;
+    private final AnswerOrdinalDictionary answerOrdinalDictionary;
+    private final int fetchSize;
+
+    public PackedSubmissionRepository(EntityManager entityManager, AnswerOrdinalDictionary answerOrdinalDictionary,
+                                      @Value("${answer.export.fetch-size:1000}") int fetchSize) {
+
+        this.entityManager = entityManager;
+        this.answerOrdinalDictionary = answerOrdinalDictionary;
+        this.fetchSize = fetchSize;
+    }
+
+    public Stream<AnswerExportModel> stream(AnswerCriteria criteria) {
+        var questionId = criteria.getQuestionId();
+
+        return find(criteria, criteria.getDateFrom(), criteria.getDateTo(), true)
+                .flatMap(submission -> {
+                    var answers = new ArrayList<AnswerExportModel>();
+
+                    answerOrdinalDictionary.decode(submission.getResearchId(), submission.getOptions(), (question, option) -> {
+                        if (questionId == null || questionId.equals(question)) {
+                            answers.add(new AnswerExportModel(submission.getDate(), submission.getResearchId(),
+                                    question, option, submission.getId()));
+                        }
+                    });
+
+                    return answers.stream();
+                });
+    }
+
+    public List<ResearchSummaryModel> summarize(AnswerCriteria criteria, OffsetDateTime from, OffsetDateTime to,
+                                                boolean toInclusive) {
+
+        var questionId = criteria.getQuestionId();
+        var summary = new HashMap<UUID, ResearchSummaryModel>();
+
+        try (var submissions = find(criteria, from, to, toInclusive)) {
+            submissions.forEach(submission -> answerOrdinalDictionary.decode(
+                    submission.getResearchId(), submission.getOptions(), (question, option) -> {
+                        if (questionId == null || questionId.equals(question)) {
+                            var row = summary.computeIfAbsent(option, key -> new ResearchSummaryModel(question, option, 0L));
+                            row.setAmount(row.getAmount() + 1);
+                        }
+                    }));
+        }
+
+        return new ArrayList<>(summary.values());
+    }
+
+    public List<CrosstabModel> crosstab(AnswerCriteria criteria, UUID rowQuestionId, UUID columnQuestionId) {
+        var crosstab = new HashMap<List<UUID>, CrosstabModel>();
+
+        try (var submissions = find(criteria, criteria.getDateFrom(), criteria.getDateTo(), true)) {
+            submissions.forEach(submission -> {
+                var rows = new ArrayList<UUID>();
+                var columns = new ArrayList<UUID>();
+
+                answerOrdinalDictionary.decode(submission.getResearchId(), submission.getOptions(), (question, option) -> {
+                    if (rowQuestionId.equals(question)) {
+                        rows.add(option);
+                    }
+
+                    if (columnQuestionId.equals(question)) {
+                        columns.add(option);
+                    }
+                });
+
+                for (var row : rows) {
+                    for (var column : columns) {
+                        var cell = crosstab.computeIfAbsent(List.of(row, column), key -> new CrosstabModel(row, column, 0L));
+                        cell.setAmount(cell.getAmount() + 1);
+                    }
+                }
+            });
+        }
+
+        return new ArrayList<>(crosstab.values());
+    }
+
+    private Stream<PackedSubmissionModel> find(AnswerCriteria criteria, OffsetDateTime from, OffsetDateTime to,
+                                               boolean toInclusive) {
+
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createQuery(PackedSubmissionModel.class);
+        var root = criteriaQuery.from(SubmissionEntity.class);
+        Path<UUID> researchId = root.get(SubmissionEntity.Fields.research).get(ResearchEntity.Fields.id);
+        Path<OffsetDateTime> date = root.get(SubmissionEntity.Fields.date);
+        Path<byte[]> options = root.get(SubmissionEntity.Fields.options);
+
+        var predicates = new ArrayList<Predicate>();
+        predicates.add(criteriaBuilder.equal(researchId, criteria.getResearchId()));
+        predicates.add(criteriaBuilder.isNotNull(options));
+
+        if (from != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(date, from));
+        }
+
+        if (to != null) {
+            predicates.add(toInclusive ? criteriaBuilder.lessThanOrEqualTo(date, to) : criteriaBuilder.lessThan(date, to));
+        }
+
+        criteriaQuery
+                .select(criteriaBuilder.construct(PackedSubmissionModel.class,
+                        root.get(SubmissionEntity.Fields.id), date, researchId, options))
+                .where(predicates.toArray(Predicate[]::new));
+
+        return entityManager.createQuery(criteriaQuery)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.SubmissionEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+// Stores the selected options as a bitset in the submission row instead of one answer row per option
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "answer.storage.layout", havingValue = "packed")
+@Repository
+public class PackedSubmissionStore implements SubmissionStore {
+
+    private final SubmissionRepository submissionRepository;
+    private final AnswerOrdinalDictionary answerOrdinalDictionary;
+
+    @Override
+    public void save(SubmissionEntity submission, List<AnswerEntity> answers) {
+        var optionIds = answers.stream()
+                .map(answer -> answer.getOption().getId())
+                .collect(toList());
+
+        submission.setOptions(answerOrdinalDictionary.encode(submission.getResearch().getId(), optionIds));
+        submissionRepository.save(submission);
+        answers.forEach(answer -> answer.setSubmission(submission));
+    }
+}
@@ -6,10 +6,11 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
+import java.util.UUID;
 
 public interface QuestionRepository extends
-        JpaRepository<QuestionEntity, String>, JpaSpecificationExecutor<QuestionEntity> {
+        JpaRepository<QuestionEntity, UUID>, JpaSpecificationExecutor<QuestionEntity> {
 
     @Query("SELECT MAX(o.sequence) FROM Option o WHERE o.question.id = :questionId")
-    Optional<Integer> findLastOptionSequence(String questionId);
+    Optional<Integer> findLastOptionSequence(UUID questionId);
 }
@@ -3,13 +3,20 @@ package com.github.paulosalonso.research.adapter.jpa.repository;
 import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import javax.persistence.LockModeType;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface ResearchRepository extends
-        JpaRepository<ResearchEntity, String>, JpaSpecificationExecutor<ResearchEntity> {
+        JpaRepository<ResearchEntity, UUID>, JpaSpecificationExecutor<ResearchEntity> {
 
     @Query("SELECT MAX(q.sequence) FROM Question q WHERE q.research.id = :researchId")
-    Optional<Integer> findLastQuestionSequence(String researchId);
+    Optional<Integer> findLastQuestionSequence(UUID researchId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Research r WHERE r.id = :researchId")
+    Optional<ResearchEntity> lockById(UUID researchId);
 }
@@ -0,0 +1,25 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.SubmissionEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "answer.storage.layout", havingValue = "rows", matchIfMissing = true)
+@Repository
+public class RowSubmissionStore implements SubmissionStore {
+
+    private final SubmissionRepository submissionRepository;
+    private final AnswerRepository answerRepository;
+
+    @Override
+    public void save(SubmissionEntity submission, List<AnswerEntity> answers) {
+        submissionRepository.save(submission);
+        answers.forEach(answer -> answer.setSubmission(submission));
+        answerRepository.saveAll(answers);
+    }
+}
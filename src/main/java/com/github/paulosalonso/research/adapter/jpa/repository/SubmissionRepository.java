@@ -0,0 +1,33 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.PackedSubmissionModel;
+import com.github.paulosalonso.research.adapter.jpa.model.SubmissionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface SubmissionRepository extends JpaRepository<SubmissionEntity, Long> {
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT new com.github.paulosalonso.research.adapter.jpa.model.PackedSubmissionModel(s.id, s.date, s.research.id, s.options) " +
+            "FROM Submission s WHERE s.options IS NOT NULL AND s.storedAt >= :since")
+    Stream<PackedSubmissionModel> streamPackedStoredSince(OffsetDateTime since);
+
+    @Query("SELECT new com.github.paulosalonso.research.adapter.jpa.model.PackedSubmissionModel(s.id, s.date, s.research.id, s.options) " +
+            "FROM Submission s WHERE s.options IS NOT NULL AND s.id IN :submissionIds")
+    List<PackedSubmissionModel> findPackedByIds(Collection<Long> submissionIds);
+
+    @Query("SELECT s.idempotencyKey FROM Submission s WHERE s.idempotencyKey IN :idempotencyKeys")
+    Set<UUID> findIdempotencyKeys(Collection<UUID> idempotencyKeys);
+}
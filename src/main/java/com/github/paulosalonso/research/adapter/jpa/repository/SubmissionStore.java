@@ -0,0 +1,11 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.SubmissionEntity;
+
+import java.util.List;
+
+// Storage layout for new submissions, selected by answer.storage.layout. Reads always cover both layouts.
+public interface SubmissionStore {
+    void save(SubmissionEntity submission, List<AnswerEntity> answers);
+}
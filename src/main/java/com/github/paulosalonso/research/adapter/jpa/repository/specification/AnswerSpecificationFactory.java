@@ -46,14 +46,19 @@ public class AnswerSpecificationFactory {
                 criteriaBuilder.lessThanOrEqualTo(root.get(AnswerEntity.Fields.date), date);
     }
 
+    public Specification<AnswerEntity> findByDateBefore(OffsetDateTime date) {
+        return (root, criteriaQuery, criteriaBuilder) ->
+                criteriaBuilder.lessThan(root.get(AnswerEntity.Fields.date), date);
+    }
+
     public Specification<AnswerEntity> findByResearchId(UUID researchId) {
         return (root, criteriaQuery, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get(AnswerEntity.Fields.research).get(ResearchEntity.Fields.id), researchId.toString());
+                criteriaBuilder.equal(root.get(AnswerEntity.Fields.research).get(ResearchEntity.Fields.id), researchId);
     }
 
     public Specification<AnswerEntity> findByQuestionId(UUID questionId) {
         return (root, criteriaQuery, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get(AnswerEntity.Fields.question).get(QuestionEntity.Fields.id), questionId.toString());
+                criteriaBuilder.equal(root.get(AnswerEntity.Fields.question).get(QuestionEntity.Fields.id), questionId);
     }
 
 }
@@ -2,6 +2,9 @@ package com.github.paulosalonso.research.adapter.jpa.repository.specification;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -23,4 +26,23 @@ public final class GeneralSpecificationFactory {
             return null;
         };
     }
+
+    // Rows positioned after the given key in the order produced by orderByAsc with the same fields
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(List<Comparable<?>> key, String... fields) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            Predicate predicate = null;
+
+            for (int i = fields.length - 1; i >= 0; i--) {
+                Expression field = root.get(fields[i]);
+                Comparable value = key.get(i);
+                var greater = criteriaBuilder.greaterThan(field, value);
+
+                predicate = predicate == null ? greater
+                        : criteriaBuilder.or(greater, criteriaBuilder.and(criteriaBuilder.equal(field, value), predicate));
+            }
+
+            return predicate;
+        };
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static com.github.paulosalonso.research.adapter.jpa.repository.specification.GeneralSpecificationFactory.findWithoutFilter;
 import static java.util.Optional.ofNullable;
@@ -27,12 +28,12 @@ public class OptionSpecificationFactory {
         return specifications.stream().reduce(findWithoutFilter(), Specification::and);
     }
 
-    public Specification<OptionEntity> findById(String id) {
+    public Specification<OptionEntity> findById(UUID id) {
         return (root, criteriaQuery, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get(OptionEntity.Fields.id), id);
     }
 
-    public Specification<OptionEntity> findByQuestionId(String questionId) {
+    public Specification<OptionEntity> findByQuestionId(UUID questionId) {
         return (root, criteriaQuery, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get(OptionEntity.Fields.question).get(QuestionEntity.Fields.id), questionId);
     }
@@ -6,9 +6,9 @@ import com.github.paulosalonso.research.domain.QuestionCriteria;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
-import javax.persistence.criteria.JoinType;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static com.github.paulosalonso.research.adapter.jpa.repository.specification.GeneralSpecificationFactory.findWithoutFilter;
 import static java.util.Optional.ofNullable;
@@ -28,12 +28,12 @@ public class QuestionSpecificationFactory {
         return specifications.stream().reduce(findWithoutFilter(), Specification::and);
     }
 
-    public Specification<QuestionEntity> findById(String id) {
+    public Specification<QuestionEntity> findById(UUID id) {
         return (root, criteriaQuery, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get(QuestionEntity.Fields.id), id);
     }
 
-    public Specification<QuestionEntity> findByResearchId(String researchId) {
+    public Specification<QuestionEntity> findByResearchId(UUID researchId) {
         return (root, criteriaQuery, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get(QuestionEntity.Fields.research).get(ResearchEntity.Fields.id), researchId);
     }
@@ -47,12 +47,4 @@ public class QuestionSpecificationFactory {
         return (root, criteriaQuery, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get(QuestionEntity.Fields.multiSelect), multiSelect);
     }
-
-    public Specification<QuestionEntity> findFetchingOptions() {
-        return (root, criteriaQuery, criteriaBuilder) -> {
-            criteriaQuery.distinct(true);
-            root.fetch(QuestionEntity.Fields.options, JoinType.LEFT);
-            return null;
-        };
-    }
 }
@@ -1,5 +1,6 @@
 package com.github.paulosalonso.research.adapter.jpa.repository.specification;
 
+import com.github.paulosalonso.research.adapter.jpa.function.TextMatchFunction;
 import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
 import com.github.paulosalonso.research.domain.ResearchCriteria;
 import org.springframework.data.jpa.domain.Specification;
@@ -24,6 +25,9 @@ public class ResearchSpecificationFactory {
         ofNullable(researchCriteria.getDescription())
                 .ifPresent(description -> specifications.add(findByDescriptionLike(description)));
 
+        ofNullable(researchCriteria.getText())
+                .ifPresent(text -> specifications.add(findByText(text)));
+
         ofNullable(researchCriteria.getStartsOnFrom())
                 .ifPresent(startsOn -> specifications.add(findByStartsOnFrom(startsOn)));
 
@@ -49,6 +53,15 @@ public class ResearchSpecificationFactory {
                 criteriaBuilder.like(root.get(ResearchEntity.Fields.description), "%" + description + "%");
     }
 
+    // Served by the full-text indexes, unlike the LIKE filters above that only PostgreSQL can index
+    public Specification<ResearchEntity> findByText(String text) {
+        return (root, criteriaQuery, criteriaBuilder) -> criteriaBuilder.isTrue(
+                criteriaBuilder.function(TextMatchFunction.NAME, Boolean.class,
+                        root.get(ResearchEntity.Fields.title),
+                        root.get(ResearchEntity.Fields.description),
+                        criteriaBuilder.literal(text)));
+    }
+
     public Specification<ResearchEntity> findByStartsOnFrom(OffsetDateTime startsOnFrom) {
         return (root, criteriaQuery, criteriaBuilder) ->
                 criteriaBuilder.greaterThanOrEqualTo(root.get(ResearchEntity.Fields.startsOn), startsOnFrom);
@@ -6,6 +6,7 @@ import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 
 @SpringBootApplication
@@ -14,6 +15,7 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 @EnableJpaRepositories(basePackages = "com.github.paulosalonso.research")
 @EntityScan(basePackages = "com.github.paulosalonso.research")
 @EnableGlobalMethodSecurity(prePostEnabled = true)
+@EnableScheduling
 public class ResearchApplication {
 
 	public static void main(String[] args) {
@@ -1,10 +1,13 @@
 package com.github.paulosalonso.research.application.configuration;
 
 import com.github.paulosalonso.research.usecase.answer.AnswerCreate;
+import com.github.paulosalonso.research.usecase.answer.AnswerCrosstab;
+import com.github.paulosalonso.research.usecase.answer.AnswerExport;
 import com.github.paulosalonso.research.usecase.answer.AnswerRead;
 import com.github.paulosalonso.research.usecase.answer.AnswerValidator;
 import com.github.paulosalonso.research.usecase.port.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,14 +17,30 @@ public class AnswerConfig {
 
     private final AnswerPort answerPort;
     private final NotifierPort notifierPort;
+    private final TransactionPort transactionPort;
+    private final ResearchSummaryCachePort summaryCachePort;
 
+    // The buffer only exists in the buffered and journaled ingestion modes
     @Bean
-    public AnswerCreate answerCreate(ResearchPort researchPort, QuestionPort questionPort, OptionPort optionPort) {
-        return new AnswerCreate(answerPort, new AnswerValidator(researchPort, questionPort, optionPort), optionPort, notifierPort);
+    public AnswerCreate answerCreate(AnswerSchemaCachePort schemaCachePort, ObjectProvider<AnswerBufferPort> answerBufferPort,
+                                     AnswerEventPort answerEventPort) {
+
+        return new AnswerCreate(answerPort, new AnswerValidator(schemaCachePort), schemaCachePort, notifierPort,
+                transactionPort, summaryCachePort, answerBufferPort.getIfAvailable(), answerEventPort);
     }
 
     @Bean
     public AnswerRead answerRead() {
-        return new AnswerRead(answerPort);
+        return new AnswerRead(answerPort, summaryCachePort);
+    }
+
+    @Bean
+    public AnswerCrosstab answerCrosstab() {
+        return new AnswerCrosstab(answerPort);
+    }
+
+    @Bean
+    public AnswerExport answerExport(ResearchPort researchPort) {
+        return new AnswerExport(answerPort, researchPort);
     }
 }
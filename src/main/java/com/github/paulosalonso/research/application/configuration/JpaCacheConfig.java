@@ -0,0 +1,59 @@
+package com.github.paulosalonso.research.application.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.github.paulosalonso.research.adapter.jpa.model.OptionEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.QuestionEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class JpaCacheConfig {
+
+    // Each collection region follows the settings of the entity that owns it
+    @Bean
+    public CacheManager jpaCacheManager(@Value("${jpa.cache.research.max-size:1000}") long researchMaxSize,
+                                        @Value("${jpa.cache.research.ttl:1h}") Duration researchTtl,
+                                        @Value("${jpa.cache.question.max-size:10000}") long questionMaxSize,
+                                        @Value("${jpa.cache.question.ttl:1h}") Duration questionTtl,
+                                        @Value("${jpa.cache.option.max-size:50000}") long optionMaxSize,
+                                        @Value("${jpa.cache.option.ttl:1h}") Duration optionTtl) {
+
+        // A manager of its own, the provider's default one would be shared by every context in the JVM
+        var cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("jpa-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(cacheManager, ResearchEntity.CACHE_REGION, researchMaxSize, researchTtl);
+        createRegion(cacheManager, ResearchEntity.QUESTIONS_CACHE_REGION, researchMaxSize, researchTtl);
+        createRegion(cacheManager, QuestionEntity.CACHE_REGION, questionMaxSize, questionTtl);
+        createRegion(cacheManager, QuestionEntity.OPTIONS_CACHE_REGION, questionMaxSize, questionTtl);
+        createRegion(cacheManager, OptionEntity.CACHE_REGION, optionMaxSize, optionTtl);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaCacheManagerCustomizer(CacheManager jpaCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, jpaCacheManager);
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, long maxSize, Duration ttl) {
+        var configuration = new CaffeineConfiguration<Object, Object>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStoreByValue(false); // Hibernate caches disassembled state, serializing copies of it would only cost time
+
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -4,6 +4,7 @@ import com.github.paulosalonso.research.usecase.option.OptionCreate;
 import com.github.paulosalonso.research.usecase.option.OptionDelete;
 import com.github.paulosalonso.research.usecase.option.OptionRead;
 import com.github.paulosalonso.research.usecase.option.OptionUpdate;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import lombok.RequiredArgsConstructor;
@@ -16,10 +17,11 @@ public class OptionConfig {
 
     private final OptionPort optionPort;
     private final QuestionPort questionPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     @Bean
     public OptionCreate optionCreate() {
-        return new OptionCreate(optionPort, questionPort);
+        return new OptionCreate(optionPort, questionPort, schemaCachePort);
     }
 
     @Bean
@@ -29,11 +31,11 @@ public class OptionConfig {
 
     @Bean
     public OptionUpdate optionUpdate() {
-        return new OptionUpdate(optionPort);
+        return new OptionUpdate(optionPort, schemaCachePort);
     }
 
     @Bean
     public OptionDelete optionDelete() {
-        return new OptionDelete(optionPort);
+        return new OptionDelete(optionPort, schemaCachePort);
     }
 }
@@ -1,5 +1,6 @@
 package com.github.paulosalonso.research.application.configuration;
 
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import com.github.paulosalonso.research.usecase.question.QuestionCreate;
@@ -16,10 +17,11 @@ public class QuestionConfig {
 
     private final QuestionPort questionPort;
     private final ResearchPort researchPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     @Bean
     public QuestionCreate questionCreate() {
-        return new QuestionCreate(questionPort, researchPort);
+        return new QuestionCreate(questionPort, researchPort, schemaCachePort);
     }
 
     @Bean
@@ -29,11 +31,11 @@ public class QuestionConfig {
 
     @Bean
     public QuestionUpdate questionUpdate() {
-        return new QuestionUpdate(questionPort);
+        return new QuestionUpdate(questionPort, schemaCachePort);
     }
 
     @Bean
     public QuestionDelete questionDelete() {
-        return new QuestionDelete(questionPort);
+        return new QuestionDelete(questionPort, schemaCachePort);
     }
 }
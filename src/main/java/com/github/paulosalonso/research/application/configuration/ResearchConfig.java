@@ -1,5 +1,6 @@
 package com.github.paulosalonso.research.application.configuration;
 
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import com.github.paulosalonso.research.usecase.research.ResearchCreate;
 import com.github.paulosalonso.research.usecase.research.ResearchDelete;
@@ -14,6 +15,7 @@ import org.springframework.context.annotation.Configuration;
 public class ResearchConfig {
 
     private final ResearchPort port;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     @Bean
     public ResearchCreate researchCreate() {
@@ -27,11 +29,11 @@ public class ResearchConfig {
 
     @Bean
     public ResearchUpdate researchUpdate() {
-        return new ResearchUpdate(port);
+        return new ResearchUpdate(port, schemaCachePort);
     }
 
     @Bean
     public ResearchDelete researchDelete() {
-        return new ResearchDelete(port);
+        return new ResearchDelete(port, schemaCachePort);
     }
 }
@@ -2,19 +2,31 @@ package com.github.paulosalonso.research.application.configuration;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
 import java.util.List;
 
 @EnableWebMvc
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // @EnableWebMvc turns off spring.mvc.async.request-timeout, and streamed exports outlive the container default
+    @Value("${answer.export.timeout:1h}")
+    private Duration asyncRequestTimeout;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+
     @Override
     public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
 
@@ -15,4 +15,5 @@ public class Answer {
     private UUID researchId;
     private UUID questionId;
     private UUID optionId;
+    private Long submissionId;
 }
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.time.OffsetDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 @AllArgsConstructor
@@ -17,4 +18,5 @@ public class AnswerCriteria {
     private OffsetDateTime dateTo;
     private UUID researchId;
     private UUID questionId;
+    private Set<UUID> segment;
 }
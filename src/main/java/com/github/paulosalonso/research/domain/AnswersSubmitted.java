@@ -0,0 +1,18 @@
+package com.github.paulosalonso.research.domain;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder(toBuilder = true)
+public class AnswersSubmitted {
+    private Long submissionId;
+    private UUID researchId;
+    private OffsetDateTime date;
+    private List<Answer> answers;
+}
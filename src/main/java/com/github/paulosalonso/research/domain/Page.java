@@ -0,0 +1,18 @@
+package com.github.paulosalonso.research.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+@Builder
+public class Page<T> {
+
+    private final List<T> content;
+
+    // Opaque position of the last element, absent on the last page
+    private final String nextCursor;
+}
@@ -0,0 +1,14 @@
+package com.github.paulosalonso.research.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+@Builder
+public class PageCriteria {
+
+    private final String cursor;
+    private final int limit;
+}
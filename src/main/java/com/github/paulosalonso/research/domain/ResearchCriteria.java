@@ -13,6 +13,7 @@ public class ResearchCriteria {
 
     private final String title;
     private final String description;
+    private final String text;
     private final OffsetDateTime startsOnFrom;
     private final OffsetDateTime startsOnTo;
     private final OffsetDateTime endsOnFrom;
@@ -0,0 +1,20 @@
+package com.github.paulosalonso.research.domain;
+
+import com.github.paulosalonso.research.domain.ResearchSummary.QuestionSummary;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ResearchCrosstab {
+    private UUID id;
+    private String title;
+    private QuestionSummary rowQuestion;
+    private QuestionSummary columnQuestion;
+    private List<List<Long>> amounts;
+}
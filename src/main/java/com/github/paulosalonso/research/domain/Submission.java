@@ -0,0 +1,20 @@
+package com.github.paulosalonso.research.domain;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder(toBuilder = true)
+public class Submission {
+    private Long id;
+    private UUID researchId;
+    private OffsetDateTime date;
+    private List<Answer> answers;
+    // Set for the submissions stored asynchronously, so one written again after a failure or a crash is skipped
+    private UUID idempotencyKey;
+}
@@ -1,36 +1,108 @@
 package com.github.paulosalonso.research.usecase.answer;
 
 import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.exception.AnswerBufferFullException;
+import com.github.paulosalonso.research.usecase.port.AnswerBufferPort;
+import com.github.paulosalonso.research.usecase.port.AnswerEventPort;
 import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.NotifierPort;
-import com.github.paulosalonso.research.usecase.port.OptionPort;
+import com.github.paulosalonso.research.usecase.port.ResearchSummaryCachePort;
+import com.github.paulosalonso.research.usecase.port.TransactionPort;
 import lombok.RequiredArgsConstructor;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import static java.util.stream.Collectors.toList;
+
 @RequiredArgsConstructor
 public class AnswerCreate {
 
     private final AnswerPort answerPort;
     private final AnswerValidator validator;
-    private final OptionPort optionPort;
+    private final AnswerSchemaCachePort schemaCachePort;
     private final NotifierPort notifierPort;
+    private final TransactionPort transactionPort;
+    private final ResearchSummaryCachePort summaryCachePort;
+    private final AnswerBufferPort bufferPort;
+    private final AnswerEventPort eventPort;
 
     public void create(UUID researchId, List<Answer> answers) {
-        validator.validate(researchId, answers);
+        var schema = validator.validate(researchId, answers);
+        var submission = buildSubmission(researchId, answers, null);
+        var created = new ArrayList<Submission>(1);
+
+        transactionPort.execute(() -> {
+            created.add(answerPort.createSubmission(submission));
 
-        answers.stream()
-                .peek(answer -> answer.setDate(OffsetDateTime.now()))
-                .forEach(answerPort::create);
+            answers.stream()
+                    .filter(answer -> schema.shouldNotify(answer.getQuestionId(), answer.getOptionId()))
+                    .forEach(notifierPort::notifyAnswer);
+        });
 
-        answers.forEach(this::notify);
+        summaryCachePort.invalidate(researchId);
+        eventPort.publish(toEvents(created));
     }
 
-    private void notify(Answer answer) {
-        if (optionPort.shouldNotify(answer.getOptionId())) {
-            notifierPort.notifyAnswer(answer);
+    // Validated right away, but only stored when the buffer is flushed through createAll
+    public void enqueue(UUID researchId, List<Answer> answers) {
+        validator.validate(researchId, answers);
+
+        if (!bufferPort.offer(buildSubmission(researchId, answers, UUID.randomUUID()))) {
+            throw new AnswerBufferFullException();
         }
     }
+
+    // Submissions already stored under their idempotency key aren't returned by the port, so they aren't notified,
+    // invalidated or published again
+    public void createAll(List<Submission> submissions) {
+        var created = new ArrayList<Submission>(submissions.size());
+
+        transactionPort.execute(() -> {
+            created.addAll(answerPort.createSubmissions(submissions));
+
+            created.forEach(submission -> {
+                var schema = schemaCachePort.get(submission.getResearchId());
+
+                submission.getAnswers().stream()
+                        .filter(answer -> schema.shouldNotify(answer.getQuestionId(), answer.getOptionId()))
+                        .forEach(notifierPort::notifyAnswer);
+            });
+        });
+
+        created.stream()
+                .map(Submission::getResearchId)
+                .distinct()
+                .forEach(summaryCachePort::invalidate);
+
+        eventPort.publish(toEvents(created));
+    }
+
+    private List<AnswersSubmitted> toEvents(List<Submission> submissions) {
+        return submissions.stream()
+                .map(submission -> AnswersSubmitted.builder()
+                        .submissionId(submission.getId())
+                        .researchId(submission.getResearchId())
+                        .date(submission.getDate())
+                        .answers(submission.getAnswers())
+                        .build())
+                .collect(toList());
+    }
+
+    private Submission buildSubmission(UUID researchId, List<Answer> answers, UUID idempotencyKey) {
+        var date = OffsetDateTime.now();
+        answers.forEach(answer -> answer.setDate(date));
+
+        return Submission.builder()
+                .researchId(researchId)
+                .date(date)
+                .answers(answers)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
 }
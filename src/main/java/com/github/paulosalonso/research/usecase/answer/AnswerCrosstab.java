@@ -0,0 +1,23 @@
+package com.github.paulosalonso.research.usecase.answer;
+
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
+import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class AnswerCrosstab {
+
+    private final AnswerPort answerPort;
+
+    public ResearchCrosstab crosstab(AnswerCriteria answerCriteria, UUID rowQuestionId, UUID columnQuestionId) {
+        if (rowQuestionId == null || columnQuestionId == null) {
+            throw new InvalidCriteriaException("Row and column questions are required");
+        }
+
+        return answerPort.crosstab(answerCriteria, rowQuestionId, columnQuestionId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.paulosalonso.research.usecase.answer;
+
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import com.github.paulosalonso.research.usecase.port.ResearchPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class AnswerExport {
+
+    private final AnswerPort answerPort;
+    private final ResearchPort researchPort;
+
+    // The research is checked eagerly, so a missing one is reported before anything has been written
+    public Consumer<Consumer<Answer>> export(AnswerCriteria answerCriteria) {
+        researchPort.read(answerCriteria.getResearchId());
+        return consumer -> answerPort.export(answerCriteria, consumer);
+    }
+}
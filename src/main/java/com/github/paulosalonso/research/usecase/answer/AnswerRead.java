@@ -2,15 +2,29 @@ package com.github.paulosalonso.research.usecase.answer;
 
 import com.github.paulosalonso.research.domain.AnswerCriteria;
 import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
 import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import com.github.paulosalonso.research.usecase.port.ResearchSummaryCachePort;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class AnswerRead {
 
     private final AnswerPort answerPort;
+    private final ResearchSummaryCachePort summaryCachePort;
 
     public ResearchSummary search(AnswerCriteria answerCriteria) {
-        return answerPort.search(answerCriteria);
+        validate(answerCriteria);
+        return summaryCachePort.get(answerCriteria, () -> answerPort.search(answerCriteria));
+    }
+
+    // Segments are resolved from the in-memory index, which only knows who answered what, not when
+    private void validate(AnswerCriteria answerCriteria) {
+        var segmented = answerCriteria.getSegment() != null && !answerCriteria.getSegment().isEmpty();
+        var dated = answerCriteria.getDateFrom() != null || answerCriteria.getDateTo() != null;
+
+        if (segmented && dated) {
+            throw new InvalidCriteriaException("Segment filters can't be combined with date filters");
+        }
     }
 }
@@ -0,0 +1,85 @@
+package com.github.paulosalonso.research.usecase.answer;
+
+import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.domain.Question;
+import com.github.paulosalonso.research.domain.Research;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+
+import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class AnswerSchema {
+
+    private final UUID researchId;
+    private final long version;
+    private final OffsetDateTime startsOn;
+    private final OffsetDateTime endsOn;
+    private final List<QuestionSchema> questions;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, QuestionSchema> questionsById;
+
+    public static AnswerSchema compile(Research research, long version) {
+        var questions = ofNullable(research.getQuestions())
+                .orElse(Set.of())
+                .stream()
+                .map(QuestionSchema::compile)
+                .sorted(Comparator.comparing(QuestionSchema::getSequence))
+                .collect(toList());
+
+        return new AnswerSchema(research.getId(), version, research.getStartsOn(), research.getEndsOn(),
+                List.copyOf(questions), questions.stream().collect(toMap(QuestionSchema::getId, identity())));
+    }
+
+    public Optional<QuestionSchema> getQuestion(UUID questionId) {
+        return ofNullable(questionsById.get(questionId));
+    }
+
+    public boolean shouldNotify(UUID questionId, UUID optionId) {
+        return getQuestion(questionId)
+                .map(question -> question.notifies(optionId))
+                .orElse(false);
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    public static class QuestionSchema {
+
+        private final UUID id;
+        private final int sequence;
+        private final boolean multiSelect;
+        private final Set<UUID> optionIds;
+        private final Set<UUID> notifyOptionIds;
+
+        private static QuestionSchema compile(Question question) {
+            var options = ofNullable(question.getOptions()).orElse(Set.of());
+
+            return new QuestionSchema(question.getId(), question.getSequence(), question.getMultiSelect(),
+                    options.stream()
+                            .map(Option::getId)
+                            .collect(toUnmodifiableSet()),
+                    options.stream()
+                            .filter(Option::isNotify)
+                            .map(Option::getId)
+                            .collect(toUnmodifiableSet()));
+        }
+
+        public boolean hasOption(UUID optionId) {
+            return optionId != null && optionIds.contains(optionId);
+        }
+
+        public boolean notifies(UUID optionId) {
+            return optionId != null && notifyOptionIds.contains(optionId);
+        }
+    }
+}
@@ -1,47 +1,43 @@
 package com.github.paulosalonso.research.usecase.answer;
 
 import com.github.paulosalonso.research.domain.Answer;
-import com.github.paulosalonso.research.domain.Question;
-import com.github.paulosalonso.research.domain.QuestionCriteria;
-import com.github.paulosalonso.research.domain.Research;
+import com.github.paulosalonso.research.usecase.answer.AnswerSchema.QuestionSchema;
 import com.github.paulosalonso.research.usecase.exception.InvalidAnswerException;
-import com.github.paulosalonso.research.usecase.exception.NotFoundException;
-import com.github.paulosalonso.research.usecase.port.OptionPort;
-import com.github.paulosalonso.research.usecase.port.QuestionPort;
-import com.github.paulosalonso.research.usecase.port.ResearchPort;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import lombok.RequiredArgsConstructor;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static java.util.Optional.ofNullable;
 import static java.util.function.Predicate.not;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.*;
 
 @RequiredArgsConstructor
 public class AnswerValidator {
 
-    private final ResearchPort researchPort;
-    private final QuestionPort questionPort;
-    private final OptionPort optionPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
-    public void validate(UUID researchId, List<Answer> answers) {
-        validate(researchPort.read(researchId), answers);
+    public AnswerSchema validate(UUID researchId, List<Answer> answers) {
+        var schema = schemaCachePort.get(researchId);
+        validate(schema, answers);
+        return schema;
     }
 
-    private void validate(Research research, List<Answer> answers) {
-        validateResearchDatetimeRange(research);
-        var questions = questionPort.search(research.getId(), QuestionCriteria.builder().build());
-        validateThatAllQuestionsHasBeenAnswered(questions, answers);
+    private void validate(AnswerSchema schema, List<Answer> answers) {
+        validateResearchDatetimeRange(schema);
+        answers.forEach(answer -> validateDataExistence(schema, answer));
+        validateThatAllQuestionsHasBeenAnswered(schema, answers);
     }
 
-    private void validateResearchDatetimeRange(Research research) {
-        if (research.getStartsOn().isAfter(OffsetDateTime.now())) {
+    private void validateResearchDatetimeRange(AnswerSchema schema) {
+        if (schema.getStartsOn().isAfter(OffsetDateTime.now())) {
             throw new InvalidAnswerException("Research is not started");
         }
 
-        var finalized = ofNullable(research.getEndsOn())
+        var finalized = ofNullable(schema.getEndsOn())
                 .map(endsOn -> endsOn.isBefore(OffsetDateTime.now()))
                 .orElse(false);
 
@@ -50,16 +46,15 @@ public class AnswerValidator {
         }
     }
 
-    private void validateThatAllQuestionsHasBeenAnswered(List<Question> questions, List<Answer> answers) {
-        var answeredQuestions = answers.stream()
-                .peek(this::validateDataExistence)
-                .map(Answer::getQuestionId)
-                .collect(toList());
+    private void validateThatAllQuestionsHasBeenAnswered(AnswerSchema schema, List<Answer> answers) {
+        var answersCountByQuestion = answers.stream()
+                .collect(groupingBy(Answer::getQuestionId, counting()));
+
+        schema.getQuestions().forEach(question -> validateMultipleOptionsSelection(question, answersCountByQuestion));
 
-        var notAnsweredQuestions = questions.stream()
-                .peek(question -> validateMultipleOptionsSelection(question, answers))
-                .map(Question::getId)
-                .filter(not(answeredQuestions::contains))
+        var notAnsweredQuestions = schema.getQuestions().stream()
+                .map(QuestionSchema::getId)
+                .filter(not(answersCountByQuestion::containsKey))
                 .map(UUID::toString)
                 .collect(toList());
 
@@ -68,26 +63,19 @@ public class AnswerValidator {
         }
     }
 
-    private void validateDataExistence(Answer answer) {
-        try {
-            questionPort.read(answer.getResearchId(), answer.getQuestionId());
-        } catch (NotFoundException e) {
-            throw new InvalidAnswerException("Question not found: " + answer.getQuestionId());
-        }
+    private void validateDataExistence(AnswerSchema schema, Answer answer) {
+        var question = schema.getQuestion(answer.getQuestionId())
+                .orElseThrow(() -> new InvalidAnswerException("Question not found: " + answer.getQuestionId()));
 
-        try {
-            optionPort.read(answer.getQuestionId(), answer.getOptionId());
-        } catch (NotFoundException e) {
+        if (!question.hasOption(answer.getOptionId())) {
             throw new InvalidAnswerException("Option not found: " + answer.getOptionId());
         }
     }
 
-    private void validateMultipleOptionsSelection(Question question, List<Answer> answers) {
-        var answersCount = answers.stream()
-                .filter(answer -> answer.getQuestionId().equals(question.getId()))
-                .count();
+    private void validateMultipleOptionsSelection(QuestionSchema question, Map<UUID, Long> answersCountByQuestion) {
+        var answersCount = answersCountByQuestion.getOrDefault(question.getId(), 0L);
 
-        if (answersCount > 1 && !question.getMultiSelect()) {
+        if (answersCount > 1 && !question.isMultiSelect()) {
             throw new InvalidAnswerException(
                     "The question does not allow the selection of various options: " + question.getId());
         }
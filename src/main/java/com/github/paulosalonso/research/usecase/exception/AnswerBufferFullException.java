@@ -0,0 +1,7 @@
+package com.github.paulosalonso.research.usecase.exception;
+
+public class AnswerBufferFullException extends RuntimeException {
+    public AnswerBufferFullException() {
+        super("Too many answers being received, try again later");
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.paulosalonso.research.usecase.exception;
+
+public class InvalidCriteriaException extends RuntimeException {
+    public InvalidCriteriaException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.option;
 
 import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ public class OptionCreate {
 
     private final OptionPort optionPort;
     private final QuestionPort questionPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     public Option create(UUID questionId, Option option) {
         option = option.toBuilder()
@@ -19,6 +21,8 @@ public class OptionCreate {
                 .sequence(questionPort.getNextOptionSequence(questionId))
                 .build();
 
-        return optionPort.create(questionId, option);
+        var created = optionPort.create(questionId, option);
+        schemaCachePort.invalidateByQuestion(questionId);
+        return created;
     }
 }
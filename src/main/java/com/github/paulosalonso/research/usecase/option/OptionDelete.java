@@ -1,5 +1,6 @@
 package com.github.paulosalonso.research.usecase.option;
 
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import lombok.RequiredArgsConstructor;
 
@@ -9,8 +10,10 @@ import java.util.UUID;
 public class OptionDelete {
 
     private final OptionPort optionPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     public void delete(UUID questionId, UUID optionId) {
         optionPort.delete(questionId, optionId);
+        schemaCachePort.invalidateByQuestion(questionId);
     }
 }
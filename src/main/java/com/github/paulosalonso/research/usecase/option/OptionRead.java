@@ -2,10 +2,12 @@ package com.github.paulosalonso.research.usecase.option;
 
 import com.github.paulosalonso.research.domain.Option;
 import com.github.paulosalonso.research.domain.OptionCriteria;
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
+import com.github.paulosalonso.research.usecase.page.PageCriteriaValidator;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -17,7 +19,8 @@ public class OptionRead {
         return optionPort.read(questionId, optionId);
     }
 
-    public List<Option> search(UUID questionId, OptionCriteria criteria) {
-        return optionPort.search(questionId, criteria);
+    public Page<Option> search(UUID questionId, OptionCriteria criteria, PageCriteria page) {
+        PageCriteriaValidator.validate(page);
+        return optionPort.search(questionId, criteria, page);
     }
 }
@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.option;
 
 import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import lombok.RequiredArgsConstructor;
 
@@ -10,8 +11,11 @@ import java.util.UUID;
 public class OptionUpdate {
 
     private final OptionPort optionPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     public Option update(UUID questionId, Option option) {
-        return optionPort.update(questionId, option);
+        var updated = optionPort.update(questionId, option);
+        schemaCachePort.invalidateByQuestion(questionId);
+        return updated;
     }
 }
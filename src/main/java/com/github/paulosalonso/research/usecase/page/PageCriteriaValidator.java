@@ -0,0 +1,17 @@
+package com.github.paulosalonso.research.usecase.page;
+
+import com.github.paulosalonso.research.domain.PageCriteria;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
+
+public final class PageCriteriaValidator {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private PageCriteriaValidator() {}
+
+    public static void validate(PageCriteria page) {
+        if (page.getLimit() < 1 || page.getLimit() > MAX_LIMIT) {
+            throw new InvalidCriteriaException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.paulosalonso.research.usecase.port;
+
+import com.github.paulosalonso.research.domain.Submission;
+
+public interface AnswerBufferPort {
+
+    // Returns false when the buffer is full
+    boolean offer(Submission submission);
+
+}
@@ -0,0 +1,12 @@
+package com.github.paulosalonso.research.usecase.port;
+
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+
+import java.util.List;
+
+public interface AnswerEventPort {
+
+    // Called after the submissions are committed
+    void publish(List<AnswersSubmitted> events);
+
+}
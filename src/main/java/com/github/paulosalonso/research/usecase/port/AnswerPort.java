@@ -2,9 +2,18 @@ package com.github.paulosalonso.research.usecase.port;
 
 import com.github.paulosalonso.research.domain.Answer;
 import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
 import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.domain.Submission;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface AnswerPort {
-    Answer create(Answer answer);
+    Submission createSubmission(Submission submission);
+    List<Submission> createSubmissions(List<Submission> submissions);
     ResearchSummary search(AnswerCriteria answerCriteria);
+    ResearchCrosstab crosstab(AnswerCriteria answerCriteria, UUID rowQuestionId, UUID columnQuestionId);
+    void export(AnswerCriteria answerCriteria, Consumer<Answer> consumer);
 }
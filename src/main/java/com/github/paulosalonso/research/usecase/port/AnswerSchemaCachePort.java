@@ -0,0 +1,15 @@
+package com.github.paulosalonso.research.usecase.port;
+
+import com.github.paulosalonso.research.usecase.answer.AnswerSchema;
+
+import java.util.UUID;
+
+public interface AnswerSchemaCachePort {
+
+    AnswerSchema get(UUID researchId);
+
+    void invalidate(UUID researchId);
+
+    void invalidateByQuestion(UUID questionId);
+
+}
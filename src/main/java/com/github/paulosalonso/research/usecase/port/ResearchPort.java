@@ -1,9 +1,10 @@
 package com.github.paulosalonso.research.usecase.port;
 
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.domain.Research;
 import com.github.paulosalonso.research.domain.ResearchCriteria;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ResearchPort {
@@ -11,7 +12,7 @@ public interface ResearchPort {
     Research create(Research research);
     Research read(UUID id);
     Research readFetchingQuestions(UUID id);
-    List<Research> search(ResearchCriteria criteria);
+    Page<Research> search(ResearchCriteria criteria, PageCriteria page);
     Research update(Research research);
     void delete(UUID id);
     Integer getNextQuestionSequence(UUID researchId);
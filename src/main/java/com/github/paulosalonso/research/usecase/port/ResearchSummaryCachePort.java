@@ -0,0 +1,15 @@
+package com.github.paulosalonso.research.usecase.port;
+
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public interface ResearchSummaryCachePort {
+
+    ResearchSummary get(AnswerCriteria criteria, Supplier<ResearchSummary> loader);
+
+    void invalidate(UUID researchId);
+
+}
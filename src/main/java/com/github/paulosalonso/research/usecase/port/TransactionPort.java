@@ -0,0 +1,7 @@
+package com.github.paulosalonso.research.usecase.port;
+
+public interface TransactionPort {
+
+    void execute(Runnable action);
+
+}
@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.question;
 
 import com.github.paulosalonso.research.domain.Question;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ public class QuestionCreate {
 
     private final QuestionPort questionPort;
     private final ResearchPort researchPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     public Question create(UUID researchId, Question question) {
         question = question.toBuilder()
@@ -19,6 +21,8 @@ public class QuestionCreate {
                 .sequence(researchPort.getNextQuestionSequence(researchId))
                 .build();
 
-        return questionPort.create(researchId, question);
+        var created = questionPort.create(researchId, question);
+        schemaCachePort.invalidate(researchId);
+        return created;
     }
 }
@@ -1,5 +1,6 @@
 package com.github.paulosalonso.research.usecase.question;
 
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import lombok.RequiredArgsConstructor;
 
@@ -9,8 +10,10 @@ import java.util.UUID;
 public class QuestionDelete {
 
     private final QuestionPort questionPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     public void delete(UUID researchId, UUID questionId) {
         questionPort.delete(researchId, questionId);
+        schemaCachePort.invalidate(researchId);
     }
 }
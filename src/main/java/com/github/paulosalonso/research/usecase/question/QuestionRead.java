@@ -1,11 +1,13 @@
 package com.github.paulosalonso.research.usecase.question;
 
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.domain.Question;
 import com.github.paulosalonso.research.domain.QuestionCriteria;
+import com.github.paulosalonso.research.usecase.page.PageCriteriaValidator;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -21,7 +23,8 @@ public class QuestionRead {
         return questionPort.read(researchId, questionId);
     }
 
-    public List<Question> search(UUID researchId, QuestionCriteria criteria) {
-        return questionPort.search(researchId, criteria);
+    public Page<Question> search(UUID researchId, QuestionCriteria criteria, PageCriteria page) {
+        PageCriteriaValidator.validate(page);
+        return questionPort.search(researchId, criteria, page);
     }
 }
@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.question;
 
 import com.github.paulosalonso.research.domain.Question;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import lombok.RequiredArgsConstructor;
 
@@ -10,8 +11,11 @@ import java.util.UUID;
 public class QuestionUpdate {
 
     private final QuestionPort questionPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     public Question update(UUID researchId, Question question) {
-        return questionPort.update(researchId, question);
+        var updated = questionPort.update(researchId, question);
+        schemaCachePort.invalidate(researchId);
+        return updated;
     }
 }
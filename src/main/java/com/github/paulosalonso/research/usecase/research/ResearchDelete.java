@@ -1,5 +1,6 @@
 package com.github.paulosalonso.research.usecase.research;
 
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import lombok.RequiredArgsConstructor;
 
@@ -9,8 +10,10 @@ import java.util.UUID;
 public class ResearchDelete {
 
     private final ResearchPort researchPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     public void delete(UUID id) {
         researchPort.delete(id);
+        schemaCachePort.invalidate(id);
     }
 }
@@ -1,11 +1,13 @@
 package com.github.paulosalonso.research.usecase.research;
 
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.domain.Research;
 import com.github.paulosalonso.research.domain.ResearchCriteria;
+import com.github.paulosalonso.research.usecase.page.PageCriteriaValidator;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -21,7 +23,8 @@ public class ResearchRead {
         return researchPort.read(id);
     }
 
-    public List<Research> search(ResearchCriteria criteria) {
-        return researchPort.search(criteria);
+    public Page<Research> search(ResearchCriteria criteria, PageCriteria page) {
+        PageCriteriaValidator.validate(page);
+        return researchPort.search(criteria, page);
     }
 }
@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.research;
 
 import com.github.paulosalonso.research.domain.Research;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import lombok.RequiredArgsConstructor;
 
@@ -8,8 +9,11 @@ import lombok.RequiredArgsConstructor;
 public class ResearchUpdate {
 
     private final ResearchPort researchPort;
+    private final AnswerSchemaCachePort schemaCachePort;
 
     public Research update(Research research) {
-        return researchPort.update(research);
+        var updated = researchPort.update(research);
+        schemaCachePort.invalidate(research.getId());
+        return updated;
     }
 }
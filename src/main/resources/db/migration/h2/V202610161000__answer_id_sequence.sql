@@ -0,0 +1 @@
+create sequence answer_sequence start with 1 increment by 50;
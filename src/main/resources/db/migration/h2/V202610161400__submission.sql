@@ -0,0 +1,14 @@
+create sequence submission_sequence start with 1 increment by 50;
+
+create table submission (
+    id bigint not null,
+    research_id varchar(255) not null,
+    date timestamp not null,
+    primary key (id)
+);
+
+alter table submission add constraint FK_submission_research foreign key (research_id) references research;
+
+alter table answer add column submission_id bigint;
+alter table answer add constraint FK_answer_submission foreign key (submission_id) references submission;
+create index IDX_answer_submission on answer (submission_id);
@@ -0,0 +1,18 @@
+alter table submission add column options varbinary(1024);
+
+create index IDX_submission_research_date on submission (research_id, date);
+
+create table answer_ordinal (
+    research_id varchar(255) not null,
+    ordinal int not null,
+    question_id varchar(255) not null,
+    option_id varchar(255) not null,
+    primary key (research_id, ordinal)
+);
+
+create unique index UK_answer_ordinal_option on answer_ordinal (option_id);
+
+insert into answer_ordinal (research_id, ordinal, question_id, option_id)
+select q.research_id, row_number() over (partition by q.research_id order by q.sequence, o.sequence, o.id) - 1, q.id, o.id
+from "option" o
+join question q on q.id = o.question_id;
@@ -0,0 +1,57 @@
+-- Foreign keys are recreated because the referenced and referencing columns must change type together
+alter table answer drop constraint FK_answer_option;
+alter table answer drop constraint FK_answer_question;
+alter table answer drop constraint FK_answer_research;
+alter table "option" drop constraint FK_option_question;
+alter table question drop constraint FK_question_research;
+alter table answer_counter drop constraint FK_answer_counter_research;
+alter table answer_counter drop constraint FK_answer_counter_question;
+alter table answer_counter drop constraint FK_answer_counter_option;
+alter table answer_rollup_hourly drop constraint FK_answer_rollup_hourly_research;
+alter table answer_rollup_hourly drop constraint FK_answer_rollup_hourly_question;
+alter table answer_rollup_hourly drop constraint FK_answer_rollup_hourly_option;
+alter table answer_rollup_daily drop constraint FK_answer_rollup_daily_research;
+alter table answer_rollup_daily drop constraint FK_answer_rollup_daily_question;
+alter table answer_rollup_daily drop constraint FK_answer_rollup_daily_option;
+alter table submission drop constraint FK_submission_research;
+
+alter table research alter column id set data type uuid;
+alter table question alter column id set data type uuid;
+alter table question alter column research_id set data type uuid;
+alter table "option" alter column id set data type uuid;
+alter table "option" alter column question_id set data type uuid;
+alter table answer alter column research_id set data type uuid;
+alter table answer alter column question_id set data type uuid;
+alter table answer alter column "option_id" set data type uuid;
+alter table answer_counter alter column research_id set data type uuid;
+alter table answer_counter alter column question_id set data type uuid;
+alter table answer_counter alter column option_id set data type uuid;
+alter table answer_rollup_hourly alter column research_id set data type uuid;
+alter table answer_rollup_hourly alter column question_id set data type uuid;
+alter table answer_rollup_hourly alter column option_id set data type uuid;
+alter table answer_rollup_daily alter column research_id set data type uuid;
+alter table answer_rollup_daily alter column question_id set data type uuid;
+alter table answer_rollup_daily alter column option_id set data type uuid;
+alter table submission alter column research_id set data type uuid;
+alter table answer_ordinal alter column research_id set data type uuid;
+alter table answer_ordinal alter column question_id set data type uuid;
+alter table answer_ordinal alter column option_id set data type uuid;
+alter table notification_outbox alter column research_id set data type uuid;
+alter table notification_outbox alter column question_id set data type uuid;
+alter table notification_outbox alter column option_id set data type uuid;
+
+alter table answer add constraint FK_answer_option foreign key ("option_id") references "option";
+alter table answer add constraint FK_answer_question foreign key (question_id) references question;
+alter table answer add constraint FK_answer_research foreign key (research_id) references research;
+alter table "option" add constraint FK_option_question foreign key (question_id) references question;
+alter table question add constraint FK_question_research foreign key (research_id) references research;
+alter table answer_counter add constraint FK_answer_counter_research foreign key (research_id) references research;
+alter table answer_counter add constraint FK_answer_counter_question foreign key (question_id) references question;
+alter table answer_counter add constraint FK_answer_counter_option foreign key (option_id) references "option";
+alter table answer_rollup_hourly add constraint FK_answer_rollup_hourly_research foreign key (research_id) references research;
+alter table answer_rollup_hourly add constraint FK_answer_rollup_hourly_question foreign key (question_id) references question;
+alter table answer_rollup_hourly add constraint FK_answer_rollup_hourly_option foreign key (option_id) references "option";
+alter table answer_rollup_daily add constraint FK_answer_rollup_daily_research foreign key (research_id) references research;
+alter table answer_rollup_daily add constraint FK_answer_rollup_daily_question foreign key (question_id) references question;
+alter table answer_rollup_daily add constraint FK_answer_rollup_daily_option foreign key (option_id) references "option";
+alter table submission add constraint FK_submission_research foreign key (research_id) references research;
@@ -0,0 +1,3 @@
+create index IDX_answer_research_question_option_date on answer (research_id, question_id, "option_id", date);
+create index IDX_answer_research_date on answer (research_id, date, question_id, "option_id");
+create index IDX_answer_submission_question on answer (submission_id, question_id, "option_id");
@@ -0,0 +1,5 @@
+create table answer_sequence (
+    next_val bigint not null
+) engine=InnoDB;
+
+insert into answer_sequence (next_val) select coalesce(max(id), 0) + 51 from answer;
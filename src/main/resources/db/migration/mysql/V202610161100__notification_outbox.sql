@@ -0,0 +1,20 @@
+create table notification_outbox_sequence (
+    next_val bigint not null
+) engine=InnoDB;
+
+insert into notification_outbox_sequence (next_val) values (1);
+
+create table notification_outbox (
+    id bigint not null,
+    research_id varchar(255) not null,
+    question_id varchar(255) not null,
+    option_id varchar(255) not null,
+    answer_date datetime(6) not null,
+    status varchar(20) not null,
+    attempts int not null,
+    next_attempt_at datetime(6) not null,
+    last_error varchar(1000),
+    primary key (id)
+) engine=InnoDB charset=UTF8MB4;
+
+create index IDX_notification_outbox_status_next_attempt on notification_outbox (status, next_attempt_at);
@@ -0,0 +1,14 @@
+create table answer_counter (
+    research_id varchar(255) not null,
+    question_id varchar(255) not null,
+    option_id varchar(255) not null,
+    amount bigint not null,
+    primary key (research_id, question_id, option_id)
+) engine=InnoDB charset=UTF8MB4;
+
+alter table answer_counter add constraint FK_answer_counter_research foreign key (research_id) references research (id);
+alter table answer_counter add constraint FK_answer_counter_question foreign key (question_id) references question (id);
+alter table answer_counter add constraint FK_answer_counter_option foreign key (option_id) references `option` (id);
+
+insert into answer_counter (research_id, question_id, option_id, amount)
+select research_id, question_id, `option_id`, count(*) from answer group by research_id, question_id, `option_id`;
@@ -0,0 +1,32 @@
+create table answer_rollup_hourly (
+    research_id varchar(255) not null,
+    bucket datetime(6) not null,
+    question_id varchar(255) not null,
+    option_id varchar(255) not null,
+    amount bigint not null,
+    primary key (research_id, bucket, question_id, option_id)
+) engine=InnoDB charset=UTF8MB4;
+
+create table answer_rollup_daily (
+    research_id varchar(255) not null,
+    bucket datetime(6) not null,
+    question_id varchar(255) not null,
+    option_id varchar(255) not null,
+    amount bigint not null,
+    primary key (research_id, bucket, question_id, option_id)
+) engine=InnoDB charset=UTF8MB4;
+
+alter table answer_rollup_hourly add constraint FK_answer_rollup_hourly_research foreign key (research_id) references research (id);
+alter table answer_rollup_hourly add constraint FK_answer_rollup_hourly_question foreign key (question_id) references question (id);
+alter table answer_rollup_hourly add constraint FK_answer_rollup_hourly_option foreign key (option_id) references `option` (id);
+alter table answer_rollup_daily add constraint FK_answer_rollup_daily_research foreign key (research_id) references research (id);
+alter table answer_rollup_daily add constraint FK_answer_rollup_daily_question foreign key (question_id) references question (id);
+alter table answer_rollup_daily add constraint FK_answer_rollup_daily_option foreign key (option_id) references `option` (id);
+
+insert into answer_rollup_hourly (research_id, bucket, question_id, option_id, amount)
+select research_id, date_format(date, '%Y-%m-%d %H:00:00'), question_id, `option_id`, count(*) from answer
+group by research_id, date_format(date, '%Y-%m-%d %H:00:00'), question_id, `option_id`;
+
+insert into answer_rollup_daily (research_id, bucket, question_id, option_id, amount)
+select research_id, date(date), question_id, `option_id`, count(*) from answer
+group by research_id, date(date), question_id, `option_id`;
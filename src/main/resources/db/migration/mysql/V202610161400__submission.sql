@@ -0,0 +1,17 @@
+create table submission_sequence (
+    next_val bigint not null
+) engine=InnoDB;
+
+insert into submission_sequence (next_val) values (1);
+
+create table submission (
+    id bigint not null,
+    research_id varchar(255) not null,
+    date datetime(6) not null,
+    primary key (id)
+) engine=InnoDB charset=UTF8MB4;
+
+alter table submission add constraint FK_submission_research foreign key (research_id) references research (id);
+
+alter table answer add column submission_id bigint;
+alter table answer add constraint FK_answer_submission foreign key (submission_id) references submission (id);
@@ -0,0 +1,73 @@
+-- Foreign keys are recreated because the referenced and referencing columns must change type together.
+-- Each id is first reinterpreted as bytes, then its hex digits are packed into 16 bytes.
+alter table answer drop foreign key FK_answer_option;
+alter table answer drop foreign key FK_answer_question;
+alter table answer drop foreign key FK_answer_research;
+alter table `option` drop foreign key FK_option_question;
+alter table question drop foreign key FK_question_research;
+alter table answer_counter drop foreign key FK_answer_counter_research;
+alter table answer_counter drop foreign key FK_answer_counter_question;
+alter table answer_counter drop foreign key FK_answer_counter_option;
+alter table answer_rollup_hourly drop foreign key FK_answer_rollup_hourly_research;
+alter table answer_rollup_hourly drop foreign key FK_answer_rollup_hourly_question;
+alter table answer_rollup_hourly drop foreign key FK_answer_rollup_hourly_option;
+alter table answer_rollup_daily drop foreign key FK_answer_rollup_daily_research;
+alter table answer_rollup_daily drop foreign key FK_answer_rollup_daily_question;
+alter table answer_rollup_daily drop foreign key FK_answer_rollup_daily_option;
+alter table submission drop foreign key FK_submission_research;
+
+alter table research modify id varbinary(36) not null;
+update research set id = unhex(replace(id, '-', ''));
+alter table research modify id binary(16) not null;
+
+alter table question modify id varbinary(36) not null, modify research_id varbinary(36) not null;
+update question set id = unhex(replace(id, '-', '')), research_id = unhex(replace(research_id, '-', ''));
+alter table question modify id binary(16) not null, modify research_id binary(16) not null;
+
+alter table `option` modify id varbinary(36) not null, modify question_id varbinary(36) not null;
+update `option` set id = unhex(replace(id, '-', '')), question_id = unhex(replace(question_id, '-', ''));
+alter table `option` modify id binary(16) not null, modify question_id binary(16) not null;
+
+alter table answer modify research_id varbinary(36) not null, modify question_id varbinary(36) not null, modify `option_id` varbinary(36) not null;
+update answer set research_id = unhex(replace(research_id, '-', '')), question_id = unhex(replace(question_id, '-', '')), `option_id` = unhex(replace(`option_id`, '-', ''));
+alter table answer modify research_id binary(16) not null, modify question_id binary(16) not null, modify `option_id` binary(16) not null;
+
+alter table answer_counter modify research_id varbinary(36) not null, modify question_id varbinary(36) not null, modify option_id varbinary(36) not null;
+update answer_counter set research_id = unhex(replace(research_id, '-', '')), question_id = unhex(replace(question_id, '-', '')), option_id = unhex(replace(option_id, '-', ''));
+alter table answer_counter modify research_id binary(16) not null, modify question_id binary(16) not null, modify option_id binary(16) not null;
+
+alter table answer_rollup_hourly modify research_id varbinary(36) not null, modify question_id varbinary(36) not null, modify option_id varbinary(36) not null;
+update answer_rollup_hourly set research_id = unhex(replace(research_id, '-', '')), question_id = unhex(replace(question_id, '-', '')), option_id = unhex(replace(option_id, '-', ''));
+alter table answer_rollup_hourly modify research_id binary(16) not null, modify question_id binary(16) not null, modify option_id binary(16) not null;
+
+alter table answer_rollup_daily modify research_id varbinary(36) not null, modify question_id varbinary(36) not null, modify option_id varbinary(36) not null;
+update answer_rollup_daily set research_id = unhex(replace(research_id, '-', '')), question_id = unhex(replace(question_id, '-', '')), option_id = unhex(replace(option_id, '-', ''));
+alter table answer_rollup_daily modify research_id binary(16) not null, modify question_id binary(16) not null, modify option_id binary(16) not null;
+
+alter table submission modify research_id varbinary(36) not null;
+update submission set research_id = unhex(replace(research_id, '-', ''));
+alter table submission modify research_id binary(16) not null;
+
+alter table answer_ordinal modify research_id varbinary(36) not null, modify question_id varbinary(36) not null, modify option_id varbinary(36) not null;
+update answer_ordinal set research_id = unhex(replace(research_id, '-', '')), question_id = unhex(replace(question_id, '-', '')), option_id = unhex(replace(option_id, '-', ''));
+alter table answer_ordinal modify research_id binary(16) not null, modify question_id binary(16) not null, modify option_id binary(16) not null;
+
+alter table notification_outbox modify research_id varbinary(36) not null, modify question_id varbinary(36) not null, modify option_id varbinary(36) not null;
+update notification_outbox set research_id = unhex(replace(research_id, '-', '')), question_id = unhex(replace(question_id, '-', '')), option_id = unhex(replace(option_id, '-', ''));
+alter table notification_outbox modify research_id binary(16) not null, modify question_id binary(16) not null, modify option_id binary(16) not null;
+
+alter table answer add constraint FK_answer_option foreign key (`option_id`) references `option` (id);
+alter table answer add constraint FK_answer_question foreign key (question_id) references question (id);
+alter table answer add constraint FK_answer_research foreign key (research_id) references research (id);
+alter table `option` add constraint FK_option_question foreign key (question_id) references question (id);
+alter table question add constraint FK_question_research foreign key (research_id) references research (id);
+alter table answer_counter add constraint FK_answer_counter_research foreign key (research_id) references research (id);
+alter table answer_counter add constraint FK_answer_counter_question foreign key (question_id) references question (id);
+alter table answer_counter add constraint FK_answer_counter_option foreign key (option_id) references `option` (id);
+alter table answer_rollup_hourly add constraint FK_answer_rollup_hourly_research foreign key (research_id) references research (id);
+alter table answer_rollup_hourly add constraint FK_answer_rollup_hourly_question foreign key (question_id) references question (id);
+alter table answer_rollup_hourly add constraint FK_answer_rollup_hourly_option foreign key (option_id) references `option` (id);
+alter table answer_rollup_daily add constraint FK_answer_rollup_daily_research foreign key (research_id) references research (id);
+alter table answer_rollup_daily add constraint FK_answer_rollup_daily_question foreign key (question_id) references question (id);
+alter table answer_rollup_daily add constraint FK_answer_rollup_daily_option foreign key (option_id) references `option` (id);
+alter table submission add constraint FK_submission_research foreign key (research_id) references research (id);
@@ -0,0 +1,3 @@
+create index IDX_research_starts_on_id on research (starts_on, id);
+create index IDX_question_research_sequence_id on question (research_id, sequence, id);
+create index IDX_option_question_sequence_id on `option` (question_id, sequence, id);
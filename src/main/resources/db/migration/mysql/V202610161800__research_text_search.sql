@@ -0,0 +1 @@
+create fulltext index IDX_research_text on research (title, description);
@@ -0,0 +1,33 @@
+-- Partitioned InnoDB tables don't support foreign keys, so they are dropped along with the indexes created for them
+alter table answer drop foreign key FK_answer_option;
+alter table answer drop foreign key FK_answer_question;
+alter table answer drop foreign key FK_answer_research;
+alter table answer drop foreign key FK_answer_submission;
+
+alter table answer
+    drop index FK_answer_option,
+    drop index FK_answer_question,
+    drop index FK_answer_research,
+    drop index FK_answer_submission,
+    add index IDX_answer_research_question_option_date (research_id, question_id, `option_id`, date),
+    add index IDX_answer_research_date (research_id, date, question_id, `option_id`),
+    add index IDX_answer_submission_question (submission_id, question_id, `option_id`),
+    algorithm=inplace, lock=none;
+
+-- Unique keys must contain the partitioning column
+alter table answer drop primary key, add primary key (id, date);
+
+alter table answer partition by range columns(date) (
+    partition p2020 values less than ('2021-01-01'),
+    partition p2021 values less than ('2022-01-01'),
+    partition p2022 values less than ('2023-01-01'),
+    partition p2023 values less than ('2024-01-01'),
+    partition p2024 values less than ('2025-01-01'),
+    partition p2025 values less than ('2026-01-01'),
+    partition p2026 values less than ('2027-01-01'),
+    partition p2027 values less than ('2028-01-01'),
+    partition p2028 values less than ('2029-01-01'),
+    partition p2029 values less than ('2030-01-01'),
+    partition p2030 values less than ('2031-01-01'),
+    partition pmax values less than (maxvalue)
+);
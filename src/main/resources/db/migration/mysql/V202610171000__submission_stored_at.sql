@@ -0,0 +1,8 @@
+-- The time the row was written, which for buffered and journaled submissions can be well after their date
+alter table submission add column stored_at datetime(6);
+
+update submission set stored_at = date;
+
+alter table submission modify column stored_at datetime(6) not null;
+
+create index IDX_submission_stored_at on submission (stored_at);
@@ -0,0 +1,8 @@
+-- Submissions whose answers are counted in memory but not yet flushed to the counters
+create table answer_counter_pending (
+    submission_id bigint not null,
+    created_at datetime(6) not null,
+    primary key (submission_id)
+) engine=InnoDB;
+
+create index IDX_answer_counter_pending_created_at on answer_counter_pending (created_at);
@@ -0,0 +1,3 @@
+create sequence answer_sequence increment by 50;
+
+select setval('answer_sequence', coalesce(max(id), 0) + 51, false) from answer;
@@ -0,0 +1,16 @@
+create sequence notification_outbox_sequence increment by 50;
+
+create table notification_outbox (
+    id int8 not null,
+    research_id varchar(255) not null,
+    question_id varchar(255) not null,
+    option_id varchar(255) not null,
+    answer_date timestamp not null,
+    status varchar(20) not null,
+    attempts int not null,
+    next_attempt_at timestamp not null,
+    last_error varchar(1000),
+    primary key (id)
+);
+
+create index IDX_notification_outbox_status_next_attempt on notification_outbox (status, next_attempt_at);
@@ -0,0 +1,14 @@
+create table answer_counter (
+    research_id varchar(255) not null,
+    question_id varchar(255) not null,
+    option_id varchar(255) not null,
+    amount int8 not null,
+    primary key (research_id, question_id, option_id)
+);
+
+alter table if exists answer_counter add constraint FK_answer_counter_research foreign key (research_id) references research;
+alter table if exists answer_counter add constraint FK_answer_counter_question foreign key (question_id) references question;
+alter table if exists answer_counter add constraint FK_answer_counter_option foreign key (option_id) references option;
+
+insert into answer_counter (research_id, question_id, option_id, amount)
+select research_id, question_id, "option_id", count(*) from answer group by research_id, question_id, "option_id";
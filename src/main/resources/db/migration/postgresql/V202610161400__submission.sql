@@ -0,0 +1,14 @@
+create sequence submission_sequence increment by 50;
+
+create table submission (
+    id int8 not null,
+    research_id varchar(255) not null,
+    date timestamp not null,
+    primary key (id)
+);
+
+alter table if exists submission add constraint FK_submission_research foreign key (research_id) references research;
+
+alter table if exists answer add column submission_id int8;
+alter table if exists answer add constraint FK_answer_submission foreign key (submission_id) references submission;
+create index IDX_answer_submission on answer (submission_id);
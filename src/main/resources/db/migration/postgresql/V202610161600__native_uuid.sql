@@ -0,0 +1,43 @@
+-- Foreign keys are recreated because the referenced and referencing columns must change type together
+alter table if exists answer drop constraint FK_answer_option;
+alter table if exists answer drop constraint FK_answer_question;
+alter table if exists answer drop constraint FK_answer_research;
+alter table if exists option drop constraint FK_option_question;
+alter table if exists question drop constraint FK_question_research;
+alter table if exists answer_counter drop constraint FK_answer_counter_research;
+alter table if exists answer_counter drop constraint FK_answer_counter_question;
+alter table if exists answer_counter drop constraint FK_answer_counter_option;
+alter table if exists answer_rollup_hourly drop constraint FK_answer_rollup_hourly_research;
+alter table if exists answer_rollup_hourly drop constraint FK_answer_rollup_hourly_question;
+alter table if exists answer_rollup_hourly drop constraint FK_answer_rollup_hourly_option;
+alter table if exists answer_rollup_daily drop constraint FK_answer_rollup_daily_research;
+alter table if exists answer_rollup_daily drop constraint FK_answer_rollup_daily_question;
+alter table if exists answer_rollup_daily drop constraint FK_answer_rollup_daily_option;
+alter table if exists submission drop constraint FK_submission_research;
+
+alter table if exists research alter column id type uuid using id::uuid;
+alter table if exists question alter column id type uuid using id::uuid, alter column research_id type uuid using research_id::uuid;
+alter table if exists option alter column id type uuid using id::uuid, alter column question_id type uuid using question_id::uuid;
+alter table if exists answer alter column research_id type uuid using research_id::uuid, alter column question_id type uuid using question_id::uuid, alter column option_id type uuid using option_id::uuid;
+alter table if exists answer_counter alter column research_id type uuid using research_id::uuid, alter column question_id type uuid using question_id::uuid, alter column option_id type uuid using option_id::uuid;
+alter table if exists answer_rollup_hourly alter column research_id type uuid using research_id::uuid, alter column question_id type uuid using question_id::uuid, alter column option_id type uuid using option_id::uuid;
+alter table if exists answer_rollup_daily alter column research_id type uuid using research_id::uuid, alter column question_id type uuid using question_id::uuid, alter column option_id type uuid using option_id::uuid;
+alter table if exists submission alter column research_id type uuid using research_id::uuid;
+alter table if exists answer_ordinal alter column research_id type uuid using research_id::uuid, alter column question_id type uuid using question_id::uuid, alter column option_id type uuid using option_id::uuid;
+alter table if exists notification_outbox alter column research_id type uuid using research_id::uuid, alter column question_id type uuid using question_id::uuid, alter column option_id type uuid using option_id::uuid;
+
+alter table if exists answer add constraint FK_answer_option foreign key (option_id) references option;
+alter table if exists answer add constraint FK_answer_question foreign key (question_id) references question;
+alter table if exists answer add constraint FK_answer_research foreign key (research_id) references research;
+alter table if exists option add constraint FK_option_question foreign key (question_id) references question;
+alter table if exists question add constraint FK_question_research foreign key (research_id) references research;
+alter table if exists answer_counter add constraint FK_answer_counter_research foreign key (research_id) references research;
+alter table if exists answer_counter add constraint FK_answer_counter_question foreign key (question_id) references question;
+alter table if exists answer_counter add constraint FK_answer_counter_option foreign key (option_id) references option;
+alter table if exists answer_rollup_hourly add constraint FK_answer_rollup_hourly_research foreign key (research_id) references research;
+alter table if exists answer_rollup_hourly add constraint FK_answer_rollup_hourly_question foreign key (question_id) references question;
+alter table if exists answer_rollup_hourly add constraint FK_answer_rollup_hourly_option foreign key (option_id) references option;
+alter table if exists answer_rollup_daily add constraint FK_answer_rollup_daily_research foreign key (research_id) references research;
+alter table if exists answer_rollup_daily add constraint FK_answer_rollup_daily_question foreign key (question_id) references question;
+alter table if exists answer_rollup_daily add constraint FK_answer_rollup_daily_option foreign key (option_id) references option;
+alter table if exists submission add constraint FK_submission_research foreign key (research_id) references research;
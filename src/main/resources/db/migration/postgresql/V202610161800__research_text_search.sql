@@ -0,0 +1,7 @@
+create extension if not exists pg_trgm;
+
+create index IDX_research_title_trgm on research using gin (title gin_trgm_ops);
+create index IDX_research_description_trgm on research using gin (description gin_trgm_ops);
+
+create index IDX_research_text on research
+    using gin (to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(description, '')));
@@ -0,0 +1,46 @@
+-- Rebuilds answer range partitioned by date. The copy runs under an exclusive lock and, since a partitioned
+-- table can't be indexed concurrently, the indexes are built once after the copy.
+alter table if exists answer drop constraint FK_answer_option;
+alter table if exists answer drop constraint FK_answer_question;
+alter table if exists answer drop constraint FK_answer_research;
+alter table if exists answer drop constraint FK_answer_submission;
+drop index IDX_answer_submission;
+alter table if exists answer drop constraint answer_pkey;
+alter table if exists answer rename to answer_unpartitioned;
+
+create table answer (
+    id int8 not null,
+    date timestamp not null,
+    option_id uuid not null,
+    question_id uuid not null,
+    research_id uuid not null,
+    submission_id int8,
+    primary key (id, date)
+) partition by range (date);
+
+create table answer_2020 partition of answer for values from (minvalue) to ('2021-01-01');
+create table answer_2021 partition of answer for values from ('2021-01-01') to ('2022-01-01');
+create table answer_2022 partition of answer for values from ('2022-01-01') to ('2023-01-01');
+create table answer_2023 partition of answer for values from ('2023-01-01') to ('2024-01-01');
+create table answer_2024 partition of answer for values from ('2024-01-01') to ('2025-01-01');
+create table answer_2025 partition of answer for values from ('2025-01-01') to ('2026-01-01');
+create table answer_2026 partition of answer for values from ('2026-01-01') to ('2027-01-01');
+create table answer_2027 partition of answer for values from ('2027-01-01') to ('2028-01-01');
+create table answer_2028 partition of answer for values from ('2028-01-01') to ('2029-01-01');
+create table answer_2029 partition of answer for values from ('2029-01-01') to ('2030-01-01');
+create table answer_2030 partition of answer for values from ('2030-01-01') to ('2031-01-01');
+create table answer_max partition of answer for values from ('2031-01-01') to (maxvalue);
+
+insert into answer (id, date, option_id, question_id, research_id, submission_id)
+select id, date, option_id, question_id, research_id, submission_id from answer_unpartitioned;
+
+drop table answer_unpartitioned;
+
+create index IDX_answer_research_question_option_date on answer (research_id, question_id, option_id, date);
+create index IDX_answer_research_date on answer (research_id, date, question_id, option_id);
+create index IDX_answer_submission_question on answer (submission_id, question_id, option_id);
+
+alter table if exists answer add constraint FK_answer_option foreign key (option_id) references option;
+alter table if exists answer add constraint FK_answer_question foreign key (question_id) references question;
+alter table if exists answer add constraint FK_answer_research foreign key (research_id) references research;
+alter table if exists answer add constraint FK_answer_submission foreign key (submission_id) references submission;
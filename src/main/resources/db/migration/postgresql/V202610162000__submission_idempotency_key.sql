@@ -0,0 +1,4 @@
+-- Null for the submissions stored synchronously, which are never written twice
+alter table if exists submission add column idempotency_key uuid;
+
+create unique index UK_submission_idempotency_key on submission (idempotency_key);
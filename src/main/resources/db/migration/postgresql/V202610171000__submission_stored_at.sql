@@ -0,0 +1,8 @@
+-- The time the row was written, which for buffered and journaled submissions can be well after their date
+alter table if exists submission add column stored_at timestamp;
+
+update submission set stored_at = date;
+
+alter table if exists submission alter column stored_at set not null;
+
+create index IDX_submission_stored_at on submission (stored_at);
@@ -0,0 +1,8 @@
+-- Submissions whose answers are counted in memory but not yet flushed to the counters
+create table answer_counter_pending (
+    submission_id int8 not null,
+    created_at timestamp not null,
+    primary key (submission_id)
+);
+
+create index IDX_answer_counter_pending_created_at on answer_counter_pending (created_at);
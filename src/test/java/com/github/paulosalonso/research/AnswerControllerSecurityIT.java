@@ -25,4 +25,13 @@ public class AnswerControllerSecurityIT extends BaseIT {
                 .then()
                 .statusCode(HttpStatus.UNAUTHORIZED.value());
     }
+
+    @Test
+    public void givenANormalUserTokenWhenAttemptToExportAnswersThenReturnForbidden() {
+        givenAuthenticatedUser()
+                .when()
+                .get("/researches/{researchId}/answers/export", UUID.randomUUID())
+                .then()
+                .statusCode(HttpStatus.FORBIDDEN.value());
+    }
 }
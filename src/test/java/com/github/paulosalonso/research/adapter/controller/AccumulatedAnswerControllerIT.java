@@ -0,0 +1,8 @@
+package com.github.paulosalonso.research.adapter.controller;
+
+import org.springframework.test.context.TestPropertySource;
+
+// Runs every answer scenario again with the summary counters accumulated in memory
+@TestPropertySource(properties = "answer.counters.mode=accumulated")
+public class AccumulatedAnswerControllerIT extends AnswerControllerIT {
+}
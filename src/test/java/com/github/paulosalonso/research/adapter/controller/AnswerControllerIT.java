@@ -17,6 +17,7 @@ import static com.github.paulosalonso.research.adapter.controller.QuestionCreato
 import static com.github.paulosalonso.research.adapter.controller.ResearchCreator.createResearch;
 import static io.restassured.http.ContentType.JSON;
 import static java.time.format.DateTimeFormatter.ISO_DATE_TIME;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -547,6 +548,79 @@ public class AnswerControllerIT extends BaseIT {
                 .body("questions[1].options[0].amount", equalTo(0));
     }
 
+    @Test
+    public void whenSearchWithSegmentParametersThenCountOnlyTheSubmissionsThatSelectedAllOfThem() {
+        truncateDatabase();
+
+        var research = createResearch();
+        var questionA = createQuestion(research.getId());
+        var optionAA = createOption(questionA.getId());
+        var optionAB = createOption(questionA.getId());
+        var questionB = createQuestion(research.getId());
+        var optionBA = createOption(questionB.getId());
+        var optionBB = createOption(questionB.getId());
+        var questionC = createQuestion(research.getId());
+        var optionCA = createOption(questionC.getId());
+        var optionCB = createOption(questionC.getId());
+
+        createAnswer(research.getId(), Map.of(
+                questionA.getId(), optionAA.getId(),
+                questionB.getId(), optionBA.getId(),
+                questionC.getId(), optionCA.getId()));
+
+        createAnswer(research.getId(), Map.of(
+                questionA.getId(), optionAA.getId(),
+                questionB.getId(), optionBB.getId(),
+                questionC.getId(), optionCA.getId()));
+
+        createAnswer(research.getId(), Map.of(
+                questionA.getId(), optionAB.getId(),
+                questionB.getId(), optionBA.getId(),
+                questionC.getId(), optionCB.getId()));
+
+        givenAuthenticatedUser()
+                .accept(JSON)
+                .queryParam("segment", optionAA.getId(), optionBA.getId())
+                .when()
+                .get("/researches/{researchId}/answers", research.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("criteria.segment", containsInAnyOrder(optionAA.getId().toString(), optionBA.getId().toString()))
+                .body("questions[0].options.amount", contains(1, 0))
+                .body("questions[1].options.amount", contains(1, 0))
+                .body("questions[2].options.amount", contains(1, 0));
+
+        givenAuthenticatedUser()
+                .accept(JSON)
+                .queryParam("segment", optionBA.getId())
+                .queryParam("questionId", questionC.getId())
+                .when()
+                .get("/researches/{researchId}/answers", research.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("questions[0].options.amount", contains(0, 0))
+                .body("questions[2].options.amount", contains(1, 1));
+    }
+
+    @Test
+    public void whenSearchWithSegmentAndDateParametersThenReturnBadRequest() {
+        truncateDatabase();
+
+        var research = createResearch();
+
+        givenAuthenticatedUser()
+                .accept(JSON)
+                .queryParam("segment", UUID.randomUUID())
+                .queryParam("dateFrom", ISO_DATE_TIME.format(OffsetDateTime.now()))
+                .when()
+                .get("/researches/{researchId}/answers", research.getId())
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("status", equalTo(HttpStatus.BAD_REQUEST.value()))
+                .body("message", equalTo("Segment filters can't be combined with date filters"))
+                .body("timestamp", matchesRegex(ISO_8601_REGEX));
+    }
+
     @Test
     public void whenSearchWithNonexistentResearchIdThenReturnNotFound() {
         truncateDatabase();
@@ -562,4 +636,177 @@ public class AnswerControllerIT extends BaseIT {
                 .body("timestamp", matchesRegex(ISO_8601_REGEX))
                 .body("$", not(hasKey("fields")));
     }
+
+    @Test
+    public void whenCrosstabThenReturnTheFullMatrixOfTheTwoQuestions() {
+        truncateDatabase();
+
+        var research = createResearch();
+        var questionA = createQuestion(research.getId());
+        var optionAA = createOption(questionA.getId());
+        var optionAB = createOption(questionA.getId());
+        var questionB = createQuestion(research.getId());
+        var optionBA = createOption(questionB.getId());
+        var optionBB = createOption(questionB.getId());
+        var optionBC = createOption(questionB.getId());
+
+        createAnswer(research.getId(), Map.of(questionA.getId(), optionAA.getId(), questionB.getId(), optionBA.getId()));
+        createAnswer(research.getId(), Map.of(questionA.getId(), optionAA.getId(), questionB.getId(), optionBA.getId()));
+        createAnswer(research.getId(), Map.of(questionA.getId(), optionAA.getId(), questionB.getId(), optionBC.getId()));
+        createAnswer(research.getId(), Map.of(questionA.getId(), optionAB.getId(), questionB.getId(), optionBB.getId()));
+
+        givenAuthenticatedUser()
+                .accept(JSON)
+                .queryParam("rowQuestionId", questionA.getId())
+                .queryParam("columnQuestionId", questionB.getId())
+                .when()
+                .get("/researches/{researchId}/answers/crosstab", research.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("id", equalTo(research.getId().toString()))
+                .body("title", equalTo(research.getTitle()))
+                .body("criteria.rowQuestionId", equalTo(questionA.getId().toString()))
+                .body("criteria.columnQuestionId", equalTo(questionB.getId().toString()))
+                .body("rowQuestion.id", equalTo(questionA.getId().toString()))
+                .body("rowQuestion.options.id", contains(optionAA.getId().toString(), optionAB.getId().toString()))
+                .body("rowQuestion.options.amount", contains(3, 1))
+                .body("columnQuestion.id", equalTo(questionB.getId().toString()))
+                .body("columnQuestion.options.id", contains(optionBA.getId().toString(), optionBB.getId().toString(), optionBC.getId().toString()))
+                .body("columnQuestion.options.amount", contains(2, 1, 1))
+                .body("amounts[0]", contains(2, 0, 1))
+                .body("amounts[1]", contains(0, 1, 0));
+    }
+
+    @Test
+    public void whenCrosstabWithDateParametersThenReturnFiltered() throws InterruptedException {
+        truncateDatabase();
+
+        var research = createResearch();
+        var questionA = createQuestion(research.getId());
+        var optionA = createOption(questionA.getId());
+        var questionB = createQuestion(research.getId());
+        var optionB = createOption(questionB.getId());
+
+        createAnswer(research.getId(), Map.of(questionA.getId(), optionA.getId(), questionB.getId(), optionB.getId()));
+
+        Thread.sleep(1000);
+
+        var dateFrom = OffsetDateTime.now();
+
+        createAnswer(research.getId(), Map.of(questionA.getId(), optionA.getId(), questionB.getId(), optionB.getId()));
+
+        givenAuthenticatedUser()
+                .accept(JSON)
+                .queryParam("rowQuestionId", questionA.getId())
+                .queryParam("columnQuestionId", questionB.getId())
+                .queryParam("dateFrom", ISO_DATE_TIME.format(dateFrom))
+                .when()
+                .get("/researches/{researchId}/answers/crosstab", research.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("criteria.dateFrom", equalTo(ISO_DATE_TIME.format(dateFrom)))
+                .body("amounts[0]", contains(1));
+    }
+
+    @Test
+    public void whenCrosstabWithoutColumnQuestionThenReturnBadRequest() {
+        truncateDatabase();
+
+        var research = createResearch();
+        var question = createQuestion(research.getId());
+
+        givenAuthenticatedUser()
+                .accept(JSON)
+                .queryParam("rowQuestionId", question.getId())
+                .when()
+                .get("/researches/{researchId}/answers/crosstab", research.getId())
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", equalTo("Row and column questions are required"));
+    }
+
+    @Test
+    public void whenCrosstabWithNonexistentQuestionIdThenReturnNotFound() {
+        truncateDatabase();
+
+        var research = createResearch();
+        var question = createQuestion(research.getId());
+
+        givenAuthenticatedUser()
+                .accept(JSON)
+                .queryParam("rowQuestionId", question.getId())
+                .queryParam("columnQuestionId", UUID.randomUUID())
+                .when()
+                .get("/researches/{researchId}/answers/crosstab", research.getId())
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body("message", equalTo("Requested resource not found"));
+    }
+
+    @Test
+    public void whenExportAsCsvThenReturnOneLinePerAnswer() {
+        truncateDatabase();
+
+        var research = createResearch();
+        var question = createQuestion(research.getId());
+        var option = createOption(question.getId());
+
+        createAnswer(research.getId(), Map.of(question.getId(), option.getId()));
+        createAnswer(research.getId(), Map.of(question.getId(), option.getId()));
+
+        var lines = givenAuthenticatedAdmin()
+                .queryParam("format", "CSV")
+                .when()
+                .get("/researches/{researchId}/answers/export", research.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith("text/csv"))
+                .extract().asString().split("\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("date,researchId,questionId,optionId,submissionId");
+        assertThat(lines[1]).contains(String.join(",", research.getId().toString(),
+                question.getId().toString(), option.getId().toString()));
+        assertThat(lines[1].substring(lines[1].lastIndexOf(',') + 1))
+                .isNotEqualTo(lines[2].substring(lines[2].lastIndexOf(',') + 1));
+    }
+
+    @Test
+    public void whenExportWithQuestionIdParameterThenReturnFilteredNdjson() {
+        truncateDatabase();
+
+        var research = createResearch();
+        var questionA = createQuestion(research.getId());
+        var optionA = createOption(questionA.getId());
+        var questionB = createQuestion(research.getId());
+        var optionB = createOption(questionB.getId());
+
+        createAnswer(research.getId(), Map.of(
+                questionA.getId(), optionA.getId(),
+                questionB.getId(), optionB.getId()));
+
+        givenAuthenticatedAdmin()
+                .queryParam("questionId", questionA.getId())
+                .when()
+                .get("/researches/{researchId}/answers/export", research.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith("application/x-ndjson"))
+                .body("researchId", equalTo(research.getId().toString()))
+                .body("questionId", equalTo(questionA.getId().toString()))
+                .body("optionId", equalTo(optionA.getId().toString()))
+                .body("submissionId", notNullValue())
+                .body("date", notNullValue());
+    }
+
+    @Test
+    public void whenExportWithNonexistentResearchIdThenReturnNotFound() {
+        truncateDatabase();
+
+        givenAuthenticatedAdmin()
+                .when()
+                .get("/researches/{researchId}/answers/export", UUID.randomUUID())
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value());
+    }
 }
@@ -3,12 +3,15 @@ package com.github.paulosalonso.research.adapter.controller;
 import com.github.paulosalonso.research.application.ResearchApplication;
 import io.restassured.RestAssured;
 import io.restassured.specification.RequestSpecification;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.web.server.LocalServerPort;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import javax.persistence.EntityManagerFactory;
+
 import static io.restassured.RestAssured.given;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
 
@@ -18,6 +21,9 @@ public class BaseIT {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @LocalServerPort
     private int port;
 
@@ -40,10 +46,26 @@ public class BaseIT {
     }
 
     protected void truncateDatabase() {
+        truncateTable("notification_outbox");
+        truncateTable("answer_ordinal");
+        truncateTable("answer_counter");
+        truncateTable("answer_rollup_hourly");
+        truncateTable("answer_rollup_daily");
+        truncateTable("answer_counter_pending");
         truncateTable("answer");
+        truncateTable("submission");
         truncateTable("\"option\"");
         truncateTable("question");
         truncateTable("research");
+
+        // The rows were deleted behind Hibernate's back
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    protected long secondLevelCacheHits(String region) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(region)
+                .getHitCount();
     }
 
     protected void truncateTable(String tableName) {
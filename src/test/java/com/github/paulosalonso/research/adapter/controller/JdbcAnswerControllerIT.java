@@ -0,0 +1,8 @@
+package com.github.paulosalonso.research.adapter.controller;
+
+import org.springframework.test.context.ActiveProfiles;
+
+// Runs every answer scenario again with the JDBC adapter in place of the JPA one
+@ActiveProfiles({"default", "jdbc"})
+public class JdbcAnswerControllerIT extends AnswerControllerIT {
+}
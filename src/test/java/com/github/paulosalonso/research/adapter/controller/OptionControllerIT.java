@@ -10,6 +10,7 @@ import java.util.UUID;
 import static com.github.paulosalonso.research.adapter.controller.OptionCreator.createOption;
 import static com.github.paulosalonso.research.adapter.controller.QuestionCreator.createQuestion;
 import static com.github.paulosalonso.research.adapter.controller.ResearchCreator.createResearch;
+import static com.github.paulosalonso.research.adapter.controller.mapper.PageDTOMapper.NEXT_CURSOR_HEADER;
 import static io.restassured.http.ContentType.JSON;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
@@ -131,6 +132,39 @@ public class OptionControllerIT extends BaseIT {
                 .body("$", hasSize(2));
     }
 
+    @Test
+    public void whenSearchWithLimitThenReturnPagesInSequenceOrder() {
+        truncateDatabase();
+
+        var research = createResearch();
+        var question = createQuestion(research.getId());
+
+        var optionA = createOption(question.getId());
+        var optionB = createOption(question.getId());
+
+        var cursor = givenAuthenticatedAdmin()
+                .accept(JSON)
+                .queryParam("limit", 1)
+                .when()
+                .get("/questions/{questionId}/options", question.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("id", contains(optionA.getId().toString()))
+                .extract()
+                .header(NEXT_CURSOR_HEADER);
+
+        givenAuthenticatedAdmin()
+                .accept(JSON)
+                .queryParam("limit", 1)
+                .queryParam("cursor", cursor)
+                .when()
+                .get("/questions/{questionId}/options", question.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header(NEXT_CURSOR_HEADER, nullValue())
+                .body("id", contains(optionB.getId().toString()));
+    }
+
     @Test
     public void whenSearchWithDescriptionParameterThenReturnFiltered() {
         truncateDatabase();
@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.adapter.controller;
 
 import com.github.paulosalonso.research.adapter.controller.dto.QuestionInputDTO;
+import com.github.paulosalonso.research.adapter.jpa.model.QuestionEntity;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
@@ -9,7 +10,9 @@ import java.util.UUID;
 import static com.github.paulosalonso.research.adapter.controller.OptionCreator.createOption;
 import static com.github.paulosalonso.research.adapter.controller.QuestionCreator.createQuestion;
 import static com.github.paulosalonso.research.adapter.controller.ResearchCreator.createResearch;
+import static com.github.paulosalonso.research.adapter.controller.mapper.PageDTOMapper.NEXT_CURSOR_HEADER;
 import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -46,6 +49,29 @@ public class QuestionControllerIT extends BaseIT {
                 .body("$", not(hasKey("options")));
     }
 
+    @Test
+    public void whenGetTwiceThenTheSecondReadIsServedByTheSecondLevelCache() {
+        var research = createResearch();
+        var question = createQuestion(research.getId());
+
+        givenAuthenticatedAdmin()
+                .accept(JSON)
+                .get("/researches/{researchId}/questions/{questionId}", research.getId(), question.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        var hits = secondLevelCacheHits(QuestionEntity.CACHE_REGION);
+
+        givenAuthenticatedAdmin()
+                .accept(JSON)
+                .get("/researches/{researchId}/questions/{questionId}", research.getId(), question.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("id", equalTo(question.getId().toString()));
+
+        assertThat(secondLevelCacheHits(QuestionEntity.CACHE_REGION)).isGreaterThan(hits);
+    }
+
     @Test
     public void whenGetWithOptionsThenReturnOk() {
         var research = createResearch();
@@ -157,6 +183,38 @@ public class QuestionControllerIT extends BaseIT {
                 .body("$", hasSize(2));
     }
 
+    @Test
+    public void whenSearchWithLimitThenReturnPagesInSequenceOrder() {
+        truncateDatabase();
+
+        var researchId = createResearch().getId();
+
+        var questionA = createQuestion(researchId);
+        var questionB = createQuestion(researchId);
+
+        var cursor = givenAuthenticatedAdmin()
+                .accept(JSON)
+                .queryParam("limit", 1)
+                .when()
+                .get("/researches/{researchId}/questions", researchId.toString())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("id", contains(questionA.getId().toString()))
+                .extract()
+                .header(NEXT_CURSOR_HEADER);
+
+        givenAuthenticatedAdmin()
+                .accept(JSON)
+                .queryParam("limit", 1)
+                .queryParam("cursor", cursor)
+                .when()
+                .get("/researches/{researchId}/questions", researchId.toString())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header(NEXT_CURSOR_HEADER, nullValue())
+                .body("id", contains(questionB.getId().toString()));
+    }
+
     @Test
     public void whenSearchWithDescriptionParameterThenReturnFiltered() {
         truncateDatabase();
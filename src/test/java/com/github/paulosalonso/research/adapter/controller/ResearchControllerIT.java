@@ -11,6 +11,7 @@ import java.util.UUID;
 import static com.github.paulosalonso.research.adapter.controller.OptionCreator.createOption;
 import static com.github.paulosalonso.research.adapter.controller.QuestionCreator.createQuestion;
 import static com.github.paulosalonso.research.adapter.controller.ResearchCreator.createResearch;
+import static com.github.paulosalonso.research.adapter.controller.mapper.PageDTOMapper.NEXT_CURSOR_HEADER;
 import static io.restassured.http.ContentType.JSON;
 import static java.time.format.DateTimeFormatter.ISO_DATE_TIME;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -135,6 +136,66 @@ public class ResearchControllerIT extends BaseIT {
                 .body("id", hasItems(researchA.getId().toString(), researchB.getId().toString()));
     }
 
+    @Test
+    public void whenSearchWithLimitThenReturnPagesFollowingTheNextCursor() {
+        truncateDatabase();
+
+        var researchA = createResearch(OffsetDateTime.now().minusDays(3));
+        var researchB = createResearch(OffsetDateTime.now().minusDays(2));
+        var researchC = createResearch(OffsetDateTime.now().minusDays(1));
+
+        var cursor = givenAuthenticatedAdmin()
+                .accept(JSON)
+                .queryParam("limit", 2)
+                .when()
+                .get("/researches")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header(NEXT_CURSOR_HEADER, notNullValue())
+                .body("id", contains(researchA.getId().toString(), researchB.getId().toString()))
+                .extract()
+                .header(NEXT_CURSOR_HEADER);
+
+        givenAuthenticatedAdmin()
+                .accept(JSON)
+                .queryParam("limit", 2)
+                .queryParam("cursor", cursor)
+                .when()
+                .get("/researches")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header(NEXT_CURSOR_HEADER, nullValue())
+                .body("id", contains(researchC.getId().toString()));
+    }
+
+    @Test
+    public void whenSearchWithInvalidLimitThenReturnBadRequest() {
+        givenAuthenticatedAdmin()
+                .accept(JSON)
+                .queryParam("limit", 1001)
+                .when()
+                .get("/researches")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("status", equalTo(HttpStatus.BAD_REQUEST.value()))
+                .body("message", equalTo("Limit must be between 1 and 1000"))
+                .body("timestamp", matchesRegex(ISO_8601_REGEX));
+    }
+
+    @Test
+    public void whenSearchWithInvalidCursorThenReturnBadRequest() {
+        givenAuthenticatedAdmin()
+                .accept(JSON)
+                .queryParam("cursor", "invalid")
+                .when()
+                .get("/researches")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("status", equalTo(HttpStatus.BAD_REQUEST.value()))
+                .body("message", equalTo("Invalid cursor: invalid"))
+                .body("timestamp", matchesRegex(ISO_8601_REGEX));
+    }
+
     @Test
     public void whenSearchWithTitleParameterThenReturnFiltered() {
         truncateDatabase();
@@ -193,6 +254,35 @@ public class ResearchControllerIT extends BaseIT {
                 .body("id", contains(researchB.getId().toString()));
     }
 
+    @Test
+    public void whenSearchWithTextParameterThenReturnResearchesMatchingAllWordsInTitleOrDescription() {
+        truncateDatabase();
+
+        createResearch(ResearchInputDTO.builder()
+                .title("Customer satisfaction")
+                .description("Quarterly survey")
+                .startsOn(OffsetDateTime.now())
+                .endsOn(OffsetDateTime.now().plusMonths(1))
+                .build());
+
+        var researchB = createResearch(ResearchInputDTO.builder()
+                .title("Employee engagement")
+                .description("Quarterly survey")
+                .startsOn(OffsetDateTime.now())
+                .endsOn(OffsetDateTime.now().plusMonths(1))
+                .build());
+
+        givenAuthenticatedAdmin()
+                .accept(JSON)
+                .queryParam("text", "ENGAGEMENT survey")
+                .when()
+                .get("/researches")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("$", hasSize(1))
+                .body("id", contains(researchB.getId().toString()));
+    }
+
     @Test
     public void whenSearchWithStartsOnParametersThenReturnFiltered() {
         truncateDatabase();
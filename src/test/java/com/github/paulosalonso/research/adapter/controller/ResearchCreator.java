@@ -12,12 +12,16 @@ import static io.restassured.http.ContentType.JSON;
 public class ResearchCreator {
 
     public static ResearchDTO createResearch() {
+        return createResearch(OffsetDateTime.now());
+    }
+
+    public static ResearchDTO createResearch(OffsetDateTime startsOn) {
         var uuid = UUID.randomUUID();
 
         var body = ResearchInputDTO.builder()
                 .title("title " + uuid)
                 .description("description " + uuid)
-                .startsOn(OffsetDateTime.now())
+                .startsOn(startsOn)
                 .endsOn(OffsetDateTime.now().plusMonths(1))
                 .build();
 
@@ -1,8 +1,10 @@
 package com.github.paulosalonso.research.adapter.controller.mapper;
 
 import com.github.paulosalonso.research.adapter.controller.dto.AnswerCriteriaDTO;
+import com.github.paulosalonso.research.adapter.controller.dto.AnswerCrosstabCriteriaDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchAnswerInputDTO;
 import com.github.paulosalonso.research.adapter.controller.dto.ResearchAnswerInputDTO.QuestionAnswerInputDTO;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
 import com.github.paulosalonso.research.domain.ResearchSummary;
 import com.github.paulosalonso.research.domain.ResearchSummary.OptionSummary;
 import com.github.paulosalonso.research.domain.ResearchSummary.QuestionSummary;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,6 +50,7 @@ public class AnswerDTOMapperTest {
                 .dateFrom(OffsetDateTime.now())
                 .dateTo(OffsetDateTime.now().plusMonths(1))
                 .questionId(UUID.randomUUID())
+                .segment(Set.of(UUID.randomUUID()))
                 .build();
 
         var answerCriteria = mapper.toDomain(researchId, answerCriteriaInputDTO);
@@ -55,6 +59,70 @@ public class AnswerDTOMapperTest {
         assertThat(answerCriteria.getDateFrom()).isEqualTo(answerCriteriaInputDTO.getDateFrom());
         assertThat(answerCriteria.getDateTo()).isEqualTo(answerCriteriaInputDTO.getDateTo());
         assertThat(answerCriteria.getQuestionId()).isEqualTo(answerCriteriaInputDTO.getQuestionId());
+        assertThat(answerCriteria.getSegment()).isEqualTo(answerCriteriaInputDTO.getSegment());
+    }
+
+    @Test
+    public void givenAnAnswerCrosstabCriteriaDTOWhenMapThenReturnDomain() {
+        var researchId = UUID.randomUUID();
+        var criteriaDTO = AnswerCrosstabCriteriaDTO.builder()
+                .dateFrom(OffsetDateTime.now())
+                .dateTo(OffsetDateTime.now().plusMonths(1))
+                .rowQuestionId(UUID.randomUUID())
+                .columnQuestionId(UUID.randomUUID())
+                .build();
+
+        var answerCriteria = mapper.toDomain(researchId, criteriaDTO);
+
+        assertThat(answerCriteria.getResearchId()).isEqualTo(researchId);
+        assertThat(answerCriteria.getDateFrom()).isEqualTo(criteriaDTO.getDateFrom());
+        assertThat(answerCriteria.getDateTo()).isEqualTo(criteriaDTO.getDateTo());
+        assertThat(answerCriteria.getQuestionId()).isNull();
+    }
+
+    @Test
+    public void givenAResearchCrosstabWhenMapThenReturnDTO() {
+        var rowQuestion = QuestionSummary.builder()
+                .id(UUID.randomUUID())
+                .sequence(1)
+                .description("row")
+                .options(List.of(OptionSummary.builder()
+                        .id(UUID.randomUUID())
+                        .sequence(1)
+                        .description("row option")
+                        .amount(3L)
+                        .build()))
+                .build();
+
+        var columnQuestion = QuestionSummary.builder()
+                .id(UUID.randomUUID())
+                .sequence(2)
+                .description("column")
+                .options(List.of())
+                .build();
+
+        var crosstab = ResearchCrosstab.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .rowQuestion(rowQuestion)
+                .columnQuestion(columnQuestion)
+                .amounts(List.of(List.of(3L)))
+                .build();
+
+        var criteriaDTO = AnswerCrosstabCriteriaDTO.builder().build();
+
+        var crosstabDTO = mapper.toDTO(crosstab, criteriaDTO);
+
+        assertThat(crosstabDTO.getId()).isEqualTo(crosstab.getId());
+        assertThat(crosstabDTO.getTitle()).isEqualTo(crosstab.getTitle());
+        assertThat(crosstabDTO.getCriteria()).isSameAs(criteriaDTO);
+        assertThat(crosstabDTO.getRowQuestion().getId()).isEqualTo(rowQuestion.getId());
+        assertThat(crosstabDTO.getRowQuestion().getOptions()).hasSize(1)
+                .first()
+                .satisfies(option -> assertThat(option.getAmount()).isEqualTo(3L));
+        assertThat(crosstabDTO.getColumnQuestion().getId()).isEqualTo(columnQuestion.getId());
+        assertThat(crosstabDTO.getColumnQuestion().getOptions()).isEmpty();
+        assertThat(crosstabDTO.getAmounts()).isEqualTo(crosstab.getAmounts());
     }
 
     @Test
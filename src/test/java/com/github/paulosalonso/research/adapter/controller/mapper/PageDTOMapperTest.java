@@ -0,0 +1,62 @@
+package com.github.paulosalonso.research.adapter.controller.mapper;
+
+import com.github.paulosalonso.research.adapter.controller.dto.PageCriteriaDTO;
+import com.github.paulosalonso.research.domain.Page;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.paulosalonso.research.adapter.controller.mapper.PageDTOMapper.DEFAULT_LIMIT;
+import static com.github.paulosalonso.research.adapter.controller.mapper.PageDTOMapper.NEXT_CURSOR_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageDTOMapperTest {
+
+    private PageDTOMapper mapper = new PageDTOMapper();
+
+    @Test
+    public void givenAPageCriteriaDTOWhenMapThenReturnPageCriteria() {
+        var dto = PageCriteriaDTO.builder()
+                .cursor("cursor")
+                .limit(10)
+                .build();
+
+        var page = mapper.toDomain(dto);
+
+        assertThat(page.getCursor()).isEqualTo(dto.getCursor());
+        assertThat(page.getLimit()).isEqualTo(dto.getLimit());
+    }
+
+    @Test
+    public void givenAPageCriteriaDTOWithoutLimitWhenMapThenUseTheDefaultLimit() {
+        var page = mapper.toDomain(new PageCriteriaDTO());
+
+        assertThat(page.getCursor()).isNull();
+        assertThat(page.getLimit()).isEqualTo(DEFAULT_LIMIT);
+    }
+
+    @Test
+    public void givenAPageWithNextCursorWhenMapThenReturnTheCursorInAHeader() {
+        var page = Page.<Integer>builder()
+                .content(List.of(1, 2))
+                .nextCursor("cursor")
+                .build();
+
+        var response = mapper.toResponse(page, String::valueOf);
+
+        assertThat(response.getBody()).containsExactly("1", "2");
+        assertThat(response.getHeaders().getFirst(NEXT_CURSOR_HEADER)).isEqualTo("cursor");
+    }
+
+    @Test
+    public void givenTheLastPageWhenMapThenReturnNoCursorHeader() {
+        var page = Page.<Integer>builder()
+                .content(List.of(1))
+                .build();
+
+        var response = mapper.toResponse(page, String::valueOf);
+
+        assertThat(response.getBody()).containsExactly("1");
+        assertThat(response.getHeaders().containsKey(NEXT_CURSOR_HEADER)).isFalse();
+    }
+}
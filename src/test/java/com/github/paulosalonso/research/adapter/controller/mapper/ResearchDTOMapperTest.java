@@ -80,6 +80,7 @@ public class ResearchDTOMapperTest {
         var dto = ResearchCriteriaDTO.builder()
                 .title("title")
                 .description("description")
+                .text("text")
                 .startsOnFrom(OffsetDateTime.now())
                 .startsOnTo(OffsetDateTime.now().plusDays(5))
                 .endsOnFrom(OffsetDateTime.now().plusMonths(1))
@@ -90,6 +91,7 @@ public class ResearchDTOMapperTest {
 
         assertThat(searchCriteria.getTitle()).isEqualTo(dto.getTitle());
         assertThat(searchCriteria.getDescription()).isEqualTo(dto.getDescription());
+        assertThat(searchCriteria.getText()).isEqualTo(dto.getText());
         assertThat(searchCriteria.getStartsOnFrom()).isEqualTo(dto.getStartsOnFrom());
         assertThat(searchCriteria.getStartsOnTo()).isEqualTo(dto.getStartsOnTo());
         assertThat(searchCriteria.getEndsOnFrom()).isEqualTo(dto.getEndsOnFrom());
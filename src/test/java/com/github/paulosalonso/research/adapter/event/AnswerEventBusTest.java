@@ -0,0 +1,214 @@
+package com.github.paulosalonso.research.adapter.event;
+
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AnswerEventBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AnswerEventBus bus;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bus = new AnswerEventBus(meterRegistry, 8, 4, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        bus.shutdown();
+    }
+
+    @Test
+    public void givenARingSizeThatIsNotAPowerOfTwoWhenCreateThenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new AnswerEventBus(meterRegistry, 10, 4, Duration.ofSeconds(5)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The answer event ring size must be a power of two");
+    }
+
+    @Test
+    public void givenSubscriptionsWhenPublishThenEachReceivesEveryEventInOrderAndInBatches() {
+        var first = Collections.synchronizedList(new ArrayList<Long>());
+        var second = Collections.synchronizedList(new ArrayList<Long>());
+        var batchSizes = Collections.synchronizedList(new ArrayList<Integer>());
+
+        var firstSubscription = bus.subscribe("first", batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(event -> first.add(event.getSubmissionId()));
+        });
+
+        var secondSubscription = bus.subscribe("second", batch -> batch.forEach(event -> second.add(event.getSubmissionId())));
+
+        // More events than the ring holds, so the publisher has to wait for the subscriptions
+        bus.publish(events(0, 20));
+
+        assertThat(firstSubscription.awaitCaughtUp(Duration.ofSeconds(5))).isTrue();
+        assertThat(secondSubscription.awaitCaughtUp(Duration.ofSeconds(5))).isTrue();
+        assertThat(first).containsExactlyElementsOf(LongStream.range(0, 20).boxed().collect(Collectors.toList()));
+        assertThat(second).containsExactlyElementsOf(first);
+        assertThat(batchSizes).allMatch(size -> size <= 4);
+        assertThat(meterRegistry.get("research.answer.events.published").counter().count()).isEqualTo(20);
+        assertThat(meterRegistry.get("research.answer.events.lag").tag("subscription", "first").gauge().value()).isZero();
+    }
+
+    @Test
+    public void givenASlowSubscriptionWhenPublishThenTheOthersAreNotHeldBehindIt() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var fast = Collections.synchronizedList(new ArrayList<Long>());
+
+        var slowSubscription = bus.subscribe("slow", batch -> {
+            try {
+                release.await(5, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        var fastSubscription = bus.subscribe("fast", batch -> batch.forEach(event -> fast.add(event.getSubmissionId())));
+
+        bus.publish(events(0, 4));
+
+        assertThat(fastSubscription.awaitCaughtUp(Duration.ofSeconds(5))).isTrue();
+        assertThat(slowSubscription.awaitCaughtUp(Duration.ofMillis(50))).isFalse();
+        assertThat(fast).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(meterRegistry.get("research.answer.events.lag").tag("subscription", "slow").gauge().value()).isPositive();
+
+        release.countDown();
+
+        assertThat(slowSubscription.awaitCaughtUp(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    public void givenAFailingHandlerWhenPublishThenSkipTheBatchAndKeepGoing() {
+        var received = Collections.synchronizedList(new ArrayList<Long>());
+
+        var subscription = bus.subscribe("failing", batch -> {
+            if (batch.get(0).getSubmissionId() == 0) {
+                throw new RuntimeException("test exception");
+            }
+
+            batch.forEach(event -> received.add(event.getSubmissionId()));
+        });
+
+        bus.publish(events(0, 1));
+        assertThat(subscription.awaitCaughtUp(Duration.ofSeconds(5))).isTrue();
+
+        bus.publish(events(1, 2));
+        assertThat(subscription.awaitCaughtUp(Duration.ofSeconds(5))).isTrue();
+
+        assertThat(received).containsExactly(1L);
+        assertThat(meterRegistry.get("research.answer.events.failed").tag("subscription", "failing").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenASubscriptionWhoseThreadDiedWhenPublishThenDetachItAndKeepPublishing() {
+        var received = Collections.synchronizedList(new ArrayList<Long>());
+
+        var deadSubscription = bus.subscribe("dead", batch -> {
+            throw new Error("test error");
+        });
+
+        var subscription = bus.subscribe("alive", batch -> batch.forEach(event -> received.add(event.getSubmissionId())));
+
+        // More events than the ring holds, so the publisher would wait forever for the dead subscription
+        bus.publish(events(0, 20));
+
+        assertThat(subscription.awaitCaughtUp(Duration.ofSeconds(5))).isTrue();
+        assertThat(deadSubscription.awaitCaughtUp(Duration.ofSeconds(1))).isFalse();
+        assertThat(received).containsExactlyElementsOf(LongStream.range(0, 20).boxed().collect(Collectors.toList()));
+        assertThat(meterRegistry.get("research.answer.events.detached").tag("subscription", "dead").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenASubscriptionStalledForLongerThanTheStallTimeoutWhenPublishThenDetachIt() throws InterruptedException {
+        var stallingBus = new AnswerEventBus(meterRegistry, 8, 4, Duration.ofMillis(100));
+        var release = new CountDownLatch(1);
+        var received = Collections.synchronizedList(new ArrayList<Long>());
+
+        try {
+            var stalledSubscription = stallingBus.subscribe("stalled", batch -> {
+                try {
+                    release.await(5, SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            var subscription = stallingBus.subscribe("alive", batch -> batch.forEach(event -> received.add(event.getSubmissionId())));
+
+            stallingBus.publish(events(0, 20));
+
+            assertThat(subscription.awaitCaughtUp(Duration.ofSeconds(5))).isTrue();
+            assertThat(stalledSubscription.awaitCaughtUp(Duration.ofMillis(50))).isFalse();
+            assertThat(received).containsExactlyElementsOf(LongStream.range(0, 20).boxed().collect(Collectors.toList()));
+            assertThat(meterRegistry.get("research.answer.events.detached").tag("subscription", "stalled").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            stallingBus.shutdown();
+        }
+    }
+
+    @Test
+    public void givenConcurrentPublishersWhenPublishThenNoEventIsLostOrRepeated() throws Exception {
+        var received = Collections.synchronizedList(new ArrayList<Long>());
+        var subscription = bus.subscribe("all", batch -> batch.forEach(event -> received.add(event.getSubmissionId())));
+        var ids = new AtomicLong();
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var publishers = IntStream.range(0, 4)
+                    .mapToObj(i -> executor.submit(() -> {
+                        for (int j = 0; j < 250; j++) {
+                            bus.publish(List.of(AnswersSubmitted.builder().submissionId(ids.getAndIncrement()).build()));
+                        }
+                    }))
+                    .collect(Collectors.toList());
+
+            for (Future<?> publisher : publishers) {
+                publisher.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(subscription.awaitCaughtUp(Duration.ofSeconds(5))).isTrue();
+        assertThat(received).containsExactlyInAnyOrderElementsOf(LongStream.range(0, 1000).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void givenPendingEventsWhenShutdownThenDeliverThemBeforeStopping() throws InterruptedException {
+        var received = Collections.synchronizedList(new ArrayList<Long>());
+        bus.subscribe("pending", batch -> batch.forEach(event -> received.add(event.getSubmissionId())));
+
+        bus.publish(events(0, 6));
+        bus.shutdown();
+
+        assertThat(received).containsExactly(0L, 1L, 2L, 3L, 4L, 5L);
+    }
+
+    private List<AnswersSubmitted> events(long from, long to) {
+        return LongStream.range(from, to)
+                .mapToObj(id -> AnswersSubmitted.builder().submissionId(id).build())
+                .collect(Collectors.toList());
+    }
+}
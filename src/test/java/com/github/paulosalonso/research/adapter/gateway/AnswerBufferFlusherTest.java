@@ -0,0 +1,186 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.answer.AnswerCreate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnswerBufferFlusherTest {
+
+    @Mock
+    private AnswerCreate answerCreate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AnswerBufferGateway answerBufferGateway;
+
+    private AnswerBufferFlusher flusher;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        answerBufferGateway = new AnswerBufferGateway(meterRegistry, 10);
+        flusher = new AnswerBufferFlusher(answerBufferGateway, answerCreate, meterRegistry, 2, Duration.ofMillis(50),
+                Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    @Test
+    public void givenABatchWhenFlushThenCreateAllAndRecordIt() {
+        var batch = List.of(buildSubmission(), buildSubmission());
+
+        flusher.flush(batch);
+
+        verify(answerCreate).createAll(batch);
+        assertThat(meterRegistry.get("research.answer.buffer.flushed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("research.answer.buffer.failed").counter().count()).isZero();
+        assertThat(meterRegistry.get("research.answer.buffer.flush").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenABatchWithInvalidDataWhenFlushThenRetryEachSubmissionAndDiscardTheInvalidOnes() {
+        var valid = buildSubmission();
+        var invalid = buildSubmission();
+        var batch = List.of(valid, invalid);
+
+        doThrow(new DataIntegrityViolationException("test exception")).when(answerCreate).createAll(batch);
+        doNothing().when(answerCreate).createAll(List.of(valid));
+        doThrow(new DataIntegrityViolationException("test exception")).when(answerCreate).createAll(List.of(invalid));
+
+        assertThat(flusher.flush(batch)).isEmpty();
+
+        verify(answerCreate).createAll(List.of(valid));
+        verify(answerCreate).createAll(List.of(invalid));
+        assertThat(meterRegistry.get("research.answer.buffer.flushed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("research.answer.buffer.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("research.answer.buffer.flush").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenATransientFailureWhenFlushThenKeepTheBatchToRetry() {
+        var batch = List.of(buildSubmission(), buildSubmission());
+
+        doThrow(new RuntimeException("test exception")).when(answerCreate).createAll(batch);
+
+        assertThat(flusher.flush(batch)).isEqualTo(batch);
+
+        verify(answerCreate).createAll(batch);
+        verifyNoMoreInteractions(answerCreate);
+        assertThat(meterRegistry.get("research.answer.buffer.failed").counter().count()).isZero();
+    }
+
+    @Test
+    public void givenATransientFailureWhileRetryingOneByOneWhenFlushThenKeepOnlyThatSubmissionToRetry() {
+        var valid = buildSubmission();
+        var invalid = buildSubmission();
+        var unreachable = buildSubmission();
+        var batch = List.of(valid, invalid, unreachable);
+
+        doThrow(new DataIntegrityViolationException("test exception")).when(answerCreate).createAll(batch);
+        doNothing().when(answerCreate).createAll(List.of(valid));
+        doThrow(new DataIntegrityViolationException("test exception")).when(answerCreate).createAll(List.of(invalid));
+        doThrow(new RuntimeException("test exception")).when(answerCreate).createAll(List.of(unreachable));
+
+        assertThat(flusher.flush(batch)).containsExactly(unreachable);
+
+        assertThat(meterRegistry.get("research.answer.buffer.flushed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("research.answer.buffer.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenATransientFailureWhenRunningThenRetryTheBatchBeforeTheNextOnes() throws InterruptedException {
+        var first = buildSubmission();
+        var second = buildSubmission();
+        var third = buildSubmission();
+
+        doThrow(new RuntimeException("test exception")).doThrow(new RuntimeException("test exception")).doNothing()
+                .when(answerCreate).createAll(List.of(first, second));
+
+        answerBufferGateway.offer(first);
+        answerBufferGateway.offer(second);
+        answerBufferGateway.offer(third);
+
+        flusher.start();
+
+        try {
+            verify(answerCreate, timeout(5000)).createAll(List.of(third));
+        } finally {
+            flusher.shutdown();
+        }
+
+        var inOrder = inOrder(answerCreate);
+        inOrder.verify(answerCreate, times(3)).createAll(List.of(first, second));
+        inOrder.verify(answerCreate).createAll(List.of(third));
+
+        assertThat(meterRegistry.get("research.answer.buffer.failed").counter().count()).isZero();
+    }
+
+    @Test
+    public void givenATransientFailureWhenShutdownThenGiveUpAfterTheLastAttempts() throws InterruptedException {
+        var submission = buildSubmission();
+
+        doThrow(new RuntimeException("test exception")).when(answerCreate).createAll(List.of(submission));
+
+        answerBufferGateway.offer(submission);
+        flusher.shutdown();
+
+        verify(answerCreate, times(3)).createAll(List.of(submission));
+        assertThat(meterRegistry.get("research.answer.buffer.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenBufferedSubmissionsWhenRunningThenFlushThemInBatches() throws InterruptedException {
+        var first = buildSubmission();
+        var second = buildSubmission();
+        var third = buildSubmission();
+
+        answerBufferGateway.offer(first);
+        answerBufferGateway.offer(second);
+        answerBufferGateway.offer(third);
+
+        flusher.start();
+
+        try {
+            verify(answerCreate, timeout(5000)).createAll(List.of(first, second));
+            verify(answerCreate, timeout(5000)).createAll(List.of(third));
+        } finally {
+            flusher.shutdown();
+        }
+    }
+
+    @Test
+    public void givenPendingSubmissionsWhenShutdownThenFlushThemAll() throws InterruptedException {
+        var first = buildSubmission();
+        var second = buildSubmission();
+        var third = buildSubmission();
+
+        answerBufferGateway.offer(first);
+        answerBufferGateway.offer(second);
+        answerBufferGateway.offer(third);
+
+        flusher.shutdown();
+
+        var inOrder = inOrder(answerCreate);
+        inOrder.verify(answerCreate).createAll(List.of(first, second));
+        inOrder.verify(answerCreate).createAll(List.of(third));
+        assertThat(answerBufferGateway.drainNow(10)).isEmpty();
+    }
+
+    private Submission buildSubmission() {
+        return Submission.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.Submission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnswerBufferGatewayTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AnswerBufferGateway gateway;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gateway = new AnswerBufferGateway(meterRegistry, 3);
+    }
+
+    @Test
+    public void givenAFullBufferWhenOfferThenRejectAndCountIt() {
+        assertThat(gateway.offer(buildSubmission())).isTrue();
+        assertThat(gateway.offer(buildSubmission())).isTrue();
+        assertThat(gateway.offer(buildSubmission())).isTrue();
+        assertThat(gateway.offer(buildSubmission())).isFalse();
+
+        assertThat(meterRegistry.get("research.answer.buffer.size").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("research.answer.buffer.capacity").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("research.answer.buffer.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenMoreSubmissionsThanTheBatchSizeWhenDrainThenReturnOnlyTheBatchInOrder() throws InterruptedException {
+        var first = buildSubmission();
+        var second = buildSubmission();
+        var third = buildSubmission();
+
+        gateway.offer(first);
+        gateway.offer(second);
+        gateway.offer(third);
+
+        assertThat(gateway.drain(2, Duration.ofSeconds(5))).containsExactly(first, second);
+        assertThat(meterRegistry.get("research.answer.buffer.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenFewerSubmissionsThanTheBatchSizeWhenDrainThenReturnThemAfterTheMaxWait() throws InterruptedException {
+        var submission = buildSubmission();
+        gateway.offer(submission);
+
+        var startedAt = System.nanoTime();
+        var batch = gateway.drain(2, Duration.ofMillis(100));
+
+        assertThat(batch).containsExactly(submission);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    public void givenAnEmptyBufferWhenDrainThenReturnEmptyAfterTheMaxWait() throws InterruptedException {
+        assertThat(gateway.drain(2, Duration.ofMillis(50))).isEmpty();
+    }
+
+    @Test
+    public void givenSubmissionsWhenDrainNowThenReturnThemWithoutWaiting() {
+        var first = buildSubmission();
+        var second = buildSubmission();
+
+        gateway.offer(first);
+        gateway.offer(second);
+
+        assertThat(gateway.drainNow(1)).containsExactly(first);
+        assertThat(gateway.drainNow(5)).containsExactly(second);
+        assertThat(gateway.drainNow(5)).isEmpty();
+    }
+
+    private Submission buildSubmission() {
+        return Submission.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,425 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.adapter.event.AnswerEventBus;
+import com.github.paulosalonso.research.adapter.event.AnswerEventSubscription;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerCounterId;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerExportModel;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerRollupId;
+import com.github.paulosalonso.research.adapter.jpa.model.PackedSubmissionModel;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchSummaryModel;
+import com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerCounterPendingRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerCounterRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerOrdinalDictionary;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRollupRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.SubmissionRepository;
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.DAILY;
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.HOURLY;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnswerCounterAccumulatorTest {
+
+    private static final UUID RESEARCH_ID = UUID.randomUUID();
+    private static final UUID QUESTION_A = UUID.randomUUID();
+    private static final UUID QUESTION_B = UUID.randomUUID();
+    private static final UUID OPTION_AA = UUID.randomUUID();
+    private static final UUID OPTION_AB = UUID.randomUUID();
+    private static final UUID OPTION_BA = UUID.randomUUID();
+    private static final OffsetDateTime DATE = OffsetDateTime.now();
+    private static final AtomicLong SUBMISSION_IDS = new AtomicLong();
+
+    @Mock
+    private AnswerCounterRepository answerCounterRepository;
+
+    @Mock
+    private AnswerRollupRepository answerRollupRepository;
+
+    @Mock
+    private AnswerCounterPendingRepository answerCounterPendingRepository;
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private AnswerOrdinalDictionary answerOrdinalDictionary;
+
+    @Mock
+    private ResearchRepository researchRepository;
+
+    @Mock
+    private AnswerEventBus answerEventBus;
+
+    @Mock
+    private AnswerEventSubscription subscription;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        lenient().when(answerEventBus.subscribe(eq("counters"), any())).thenReturn(subscription);
+        lenient().when(subscription.awaitCaughtUp(any())).thenReturn(true);
+
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        lenient().when(answerCounterPendingRepository.lock(any()))
+                .thenAnswer(invocation -> new HashSet<Long>(invocation.getArgument(0)));
+    }
+
+    @Test
+    public void givenTheDirectModeWhenIncrementThenWriteTheCountersRightAway() {
+        var accumulator = accumulator("direct");
+        var increments = Map.of(counterId(QUESTION_A, OPTION_AA), 2L);
+
+        accumulator.increment(increments);
+        accumulator.flush();
+
+        verify(answerCounterRepository).increment(increments);
+        verifyNoInteractions(answerEventBus, transactionManager);
+    }
+
+    @Test
+    public void givenTheDirectModeWhenIncrementRollupThenWriteItRightAway() {
+        var accumulator = accumulator("direct");
+        var increments = Map.of(rollupId(HOURLY, QUESTION_A, OPTION_AA), 2L);
+
+        accumulator.incrementRollup(HOURLY, increments);
+
+        verify(answerRollupRepository).increment(HOURLY, increments);
+        verifyNoInteractions(answerEventBus, transactionManager);
+    }
+
+    @Test
+    public void givenTheDirectModeWhenSummarizeThenReturnThePersistedSummary() {
+        var accumulator = accumulator("direct");
+        var persisted = List.of(new ResearchSummaryModel(QUESTION_A, OPTION_AA, 3L));
+
+        assertThat(accumulator.summarize(RESEARCH_ID, null, () -> persisted)).isSameAs(persisted);
+        verifyNoInteractions(subscription);
+    }
+
+    @Test
+    public void givenTheAccumulatedModeWhenIncrementThenLeaveTheCountersToTheEvents() {
+        var accumulator = accumulator("accumulated");
+
+        accumulator.increment(Map.of(counterId(QUESTION_A, OPTION_AA), 2L));
+        accumulator.incrementRollup(HOURLY, Map.of(rollupId(HOURLY, QUESTION_A, OPTION_AA), 2L));
+
+        verify(answerEventBus).subscribe(eq("counters"), any());
+        verifyNoInteractions(answerCounterRepository, answerRollupRepository);
+    }
+
+    @Test
+    public void givenTheAccumulatedModeWhenRegisterThenRecordTheSubmissionsAsPending() {
+        var accumulator = accumulator("accumulated");
+
+        accumulator.register(List.of(1L, 2L));
+
+        verify(answerCounterPendingRepository).insert(eq(List.of(1L, 2L)), any());
+    }
+
+    @Test
+    public void givenTheDirectModeWhenRegisterOrReconcileThenDoNothing() {
+        var accumulator = accumulator("direct");
+
+        accumulator.register(List.of(1L, 2L));
+        accumulator.reconcile();
+
+        verifyNoInteractions(answerCounterPendingRepository, transactionManager);
+    }
+
+    @Test
+    public void givenAccumulatedEventsWhenSummarizeThenAddThemToThePersistedSummary() {
+        var accumulator = accumulator("accumulated");
+
+        accumulator.add(List.of(event(OPTION_AA, OPTION_BA), event(OPTION_AA)));
+
+        var summary = accumulator.summarize(RESEARCH_ID, null,
+                () -> List.of(new ResearchSummaryModel(QUESTION_A, OPTION_AA, 3L)));
+
+        assertThat(summary)
+                .extracting(ResearchSummaryModel::getOptionId, ResearchSummaryModel::getAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(OPTION_AA, 3L),
+                        tuple(OPTION_AA, 2L),
+                        tuple(OPTION_BA, 1L));
+
+        verify(subscription).awaitCaughtUp(any());
+        verifyNoInteractions(answerCounterRepository);
+    }
+
+    @Test
+    public void givenAccumulatedEventsWhenReadAmountByOptionOfAQuestionThenMergeOnlyItsOptions() {
+        var accumulator = accumulator("accumulated");
+
+        accumulator.add(List.of(event(OPTION_AA, OPTION_BA), event(OPTION_AB)));
+
+        var amounts = accumulator.amountByOption(RESEARCH_ID, QUESTION_A, () -> Map.of(OPTION_AA, 3L));
+
+        assertThat(amounts).isEqualTo(Map.of(OPTION_AA, 4L, OPTION_AB, 1L));
+    }
+
+    @Test
+    public void givenAccumulatedEventsWhenSummarizeRollupThenAddTheBucketsInTheRange() {
+        var accumulator = accumulator("accumulated");
+        var bucket = HOURLY.floor(DATE);
+
+        accumulator.add(List.of(event(OPTION_AA, OPTION_BA), event(OPTION_AA)));
+
+        var summary = accumulator.summarizeRollup(RESEARCH_ID, QUESTION_A, HOURLY, bucket, bucket.plusHours(1),
+                () -> List.of(new ResearchSummaryModel(QUESTION_A, OPTION_AA, 3L)));
+
+        assertThat(summary)
+                .extracting(ResearchSummaryModel::getOptionId, ResearchSummaryModel::getAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(OPTION_AA, 3L),
+                        tuple(OPTION_AA, 2L));
+
+        assertThat(accumulator.summarizeRollup(RESEARCH_ID, null, HOURLY, null, bucket, List::of)).isEmpty();
+        assertThat(accumulator.summarizeRollup(RESEARCH_ID, null, DAILY, bucket.plusDays(1), null, List::of)).isEmpty();
+        verifyNoInteractions(answerRollupRepository);
+    }
+
+    @Test
+    public void givenAccumulatedEventsWhenFlushThenWriteThemInASingleIncrementAndForgetThem() {
+        var accumulator = accumulator("accumulated");
+
+        accumulator.add(List.of(event(OPTION_AA, OPTION_BA), event(OPTION_AA)));
+        assertThat(meterRegistry.get("research.answer.counters.pending").gauge().value()).isEqualTo(3.0);
+
+        accumulator.flush();
+
+        verify(answerCounterRepository).increment(Map.of(
+                counterId(QUESTION_A, OPTION_AA), 2L,
+                counterId(QUESTION_B, OPTION_BA), 1L));
+
+        for (var granularity : RollupGranularity.values()) {
+            verify(answerRollupRepository).increment(granularity, Map.of(
+                    rollupId(granularity, QUESTION_A, OPTION_AA), 2L,
+                    rollupId(granularity, QUESTION_B, OPTION_BA), 1L));
+        }
+
+        assertThat(meterRegistry.get("research.answer.counters.pending").gauge().value()).isZero();
+        assertThat(accumulator.amountByOption(RESEARCH_ID, null, Map::of)).isEmpty();
+        verify(answerCounterPendingRepository).delete(Set.of(SUBMISSION_IDS.get() - 1, SUBMISSION_IDS.get()));
+
+        accumulator.flush();
+
+        verifyNoMoreInteractions(answerCounterRepository, answerRollupRepository);
+    }
+
+    @Test
+    public void givenSubmissionsAlreadyReconciledWhenFlushThenWriteOnlyTheOnesStillPending() {
+        var accumulator = accumulator("accumulated");
+        var reconciled = event(OPTION_AA, OPTION_BA);
+        var stillPending = event(OPTION_AA);
+
+        when(answerCounterPendingRepository.lock(Set.of(reconciled.getSubmissionId(), stillPending.getSubmissionId())))
+                .thenReturn(Set.of(stillPending.getSubmissionId()));
+
+        accumulator.add(List.of(reconciled, stillPending));
+        accumulator.flush();
+
+        verify(answerCounterRepository).increment(Map.of(counterId(QUESTION_A, OPTION_AA), 1L));
+        verify(answerRollupRepository).increment(HOURLY, Map.of(rollupId(HOURLY, QUESTION_A, OPTION_AA), 1L));
+        verify(answerCounterPendingRepository).delete(Set.of(stillPending.getSubmissionId()));
+        verify(transactionManager).commit(transactionStatus);
+        assertThat(accumulator.amountByOption(RESEARCH_ID, null, Map::of)).isEmpty();
+    }
+
+    @Test
+    public void givenStalePendingSubmissionsWhenReconcileThenCountThemFromTheStoredAnswers() {
+        var accumulator = accumulator("accumulated");
+        var packedOptions = new byte[] {1};
+        var submissionIds = List.of(1L, 2L);
+
+        when(answerCounterPendingRepository.lockStale(any(), eq(500))).thenReturn(submissionIds);
+        when(answerRepository.findBySubmissionIds(submissionIds)).thenReturn(List.of(
+                new AnswerExportModel(DATE, RESEARCH_ID, QUESTION_A, OPTION_AA, 1L),
+                new AnswerExportModel(DATE, RESEARCH_ID, QUESTION_B, OPTION_BA, 1L)));
+        when(submissionRepository.findPackedByIds(submissionIds)).thenReturn(List.of(
+                new PackedSubmissionModel(2L, DATE, RESEARCH_ID, packedOptions)));
+
+        doAnswer(invocation -> {
+            BiConsumer<UUID, UUID> consumer = invocation.getArgument(2);
+            consumer.accept(QUESTION_A, OPTION_AA);
+            return null;
+        }).when(answerOrdinalDictionary).decode(eq(RESEARCH_ID), eq(packedOptions), any());
+
+        accumulator.reconcile();
+
+        verify(answerCounterRepository).increment(Map.of(
+                counterId(QUESTION_A, OPTION_AA), 2L,
+                counterId(QUESTION_B, OPTION_BA), 1L));
+
+        for (var granularity : RollupGranularity.values()) {
+            verify(answerRollupRepository).increment(granularity, Map.of(
+                    rollupId(granularity, QUESTION_A, OPTION_AA), 2L,
+                    rollupId(granularity, QUESTION_B, OPTION_BA), 1L));
+        }
+
+        verify(answerCounterPendingRepository).delete(submissionIds);
+        verify(transactionManager).commit(transactionStatus);
+        assertThat(meterRegistry.get("research.answer.counters.reconciled").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void givenAFailingReconciliationWhenReconcileThenRollBackAndKeepThemPending() {
+        var accumulator = accumulator("accumulated");
+
+        when(answerCounterPendingRepository.lockStale(any(), eq(500))).thenReturn(List.of(1L));
+        when(answerRepository.findBySubmissionIds(List.of(1L))).thenThrow(new RuntimeException());
+
+        accumulator.reconcile();
+
+        verify(answerCounterPendingRepository, never()).delete(any(Collection.class));
+        verify(transactionManager).rollback(transactionStatus);
+        verifyNoInteractions(answerCounterRepository, answerRollupRepository);
+    }
+
+    @Test
+    public void givenAFlushBeingWrittenWhenAddAndReadThenCountTheWrittenAmountsUntilTheCommit() {
+        var accumulator = accumulator("accumulated");
+        var amountsWhileWriting = new AtomicReference<Map<UUID, Long>>();
+
+        doAnswer(invocation -> {
+            accumulator.add(List.of(event(OPTION_AA)));
+            amountsWhileWriting.set(accumulator.amountByOption(RESEARCH_ID, null, Map::of));
+            return null;
+        }).when(answerCounterRepository).increment(Map.of(counterId(QUESTION_A, OPTION_AA), 1L));
+
+        accumulator.add(List.of(event(OPTION_AA)));
+        accumulator.flush();
+
+        assertThat(amountsWhileWriting.get()).isEqualTo(Map.of(OPTION_AA, 2L));
+        assertThat(accumulator.amountByOption(RESEARCH_ID, null, Map::of)).isEqualTo(Map.of(OPTION_AA, 1L));
+        assertThat(meterRegistry.get("research.answer.counters.pending").gauge().value()).isEqualTo(1.0);
+        verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    public void givenAFailingFlushWhenTheResearchExistsThenKeepTheAmountsForTheNextFlush() {
+        var accumulator = accumulator("accumulated");
+        var increments = Map.of(counterId(QUESTION_A, OPTION_AA), 1L);
+
+        doThrow(new RuntimeException()).doThrow(new RuntimeException()).doNothing()
+                .when(answerCounterRepository).increment(increments);
+        when(researchRepository.existsById(RESEARCH_ID)).thenReturn(true);
+
+        accumulator.add(List.of(event(OPTION_AA)));
+        accumulator.flush();
+
+        assertThat(accumulator.amountByOption(RESEARCH_ID, null, Map::of)).isEqualTo(Map.of(OPTION_AA, 1L));
+
+        accumulator.flush();
+
+        verify(answerCounterRepository, times(3)).increment(increments);
+        verify(transactionManager, times(2)).rollback(transactionStatus);
+        verify(transactionManager).commit(transactionStatus);
+        verify(answerRollupRepository).increment(HOURLY, Map.of(rollupId(HOURLY, QUESTION_A, OPTION_AA), 1L));
+        assertThat(accumulator.amountByOption(RESEARCH_ID, null, Map::of)).isEmpty();
+    }
+
+    @Test
+    public void givenAFailingFlushWhenTheResearchWasDeletedThenDiscardItsAmounts() {
+        var accumulator = accumulator("accumulated");
+
+        doThrow(new RuntimeException()).when(answerCounterRepository).increment(any());
+        when(researchRepository.existsById(RESEARCH_ID)).thenReturn(false);
+
+        accumulator.add(List.of(event(OPTION_AA, OPTION_BA)));
+        accumulator.flush();
+
+        assertThat(accumulator.amountByOption(RESEARCH_ID, null, Map::of)).isEmpty();
+        assertThat(accumulator.summarizeRollup(RESEARCH_ID, null, DAILY, null, null, List::of)).isEmpty();
+        assertThat(meterRegistry.get("research.answer.counters.discarded").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void givenAccumulatedEventsWhenShutdownThenFlushThemAndWriteLaterEventsRightAway() {
+        var accumulator = accumulator("accumulated");
+
+        accumulator.add(List.of(event(OPTION_AA)));
+        accumulator.shutdown();
+
+        verify(subscription).awaitCaughtUp(any());
+        verify(answerCounterRepository).increment(Map.of(counterId(QUESTION_A, OPTION_AA), 1L));
+
+        accumulator.add(List.of(event(OPTION_BA), event(OPTION_BA)));
+
+        verify(answerCounterRepository).increment(Map.of(counterId(QUESTION_B, OPTION_BA), 2L));
+        assertThat(meterRegistry.get("research.answer.counters.pending").gauge().value()).isZero();
+    }
+
+    private AnswerCounterAccumulator accumulator(String mode) {
+        var accumulator = new AnswerCounterAccumulator(answerCounterRepository, answerRollupRepository,
+                answerCounterPendingRepository, answerRepository, submissionRepository, answerOrdinalDictionary,
+                researchRepository, answerEventBus, transactionManager, meterRegistry, mode, Duration.ofMinutes(5));
+
+        accumulator.afterSingletonsInstantiated();
+        return accumulator;
+    }
+
+    private static AnswersSubmitted event(UUID... options) {
+        return AnswersSubmitted.builder()
+                .submissionId(SUBMISSION_IDS.incrementAndGet())
+                .researchId(RESEARCH_ID)
+                .date(DATE)
+                .answers(List.of(options).stream()
+                        .map(option -> Answer.builder()
+                                .researchId(RESEARCH_ID)
+                                .questionId(option.equals(OPTION_BA) ? QUESTION_B : QUESTION_A)
+                                .optionId(option)
+                                .build())
+                        .collect(toList()))
+                .build();
+    }
+
+    private static AnswerCounterId counterId(UUID questionId, UUID optionId) {
+        return new AnswerCounterId(RESEARCH_ID, questionId, optionId);
+    }
+
+    private static AnswerRollupId rollupId(RollupGranularity granularity, UUID questionId, UUID optionId) {
+        return new AnswerRollupId(RESEARCH_ID, granularity.floor(DATE), questionId, optionId);
+    }
+}
@@ -1,12 +1,26 @@
 package com.github.paulosalonso.research.adapter.gateway;
 
 import com.github.paulosalonso.research.adapter.jpa.mapper.AnswerMapper;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerCounterId;
 import com.github.paulosalonso.research.adapter.jpa.model.AnswerEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerExportModel;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerRollupId;
+import com.github.paulosalonso.research.adapter.jpa.model.CrosstabModel;
+import com.github.paulosalonso.research.adapter.jpa.model.QuestionEntity;
 import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
-import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.model.SubmissionEntity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerCounterRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerCrosstabRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerExportRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerSegmentIndex;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerSummaryPlanner;
 import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.SubmissionRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.SubmissionStore;
 import com.github.paulosalonso.research.domain.Answer;
 import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
+import com.github.paulosalonso.research.domain.Submission;
 import com.github.paulosalonso.research.usecase.exception.NotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,12 +29,25 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.DAILY;
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.HOURLY;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +57,28 @@ public class AnswerGatewayTest {
     private AnswerGateway gateway;
 
     @Mock
-    private AnswerRepository answerRepository;
+    private SubmissionStore submissionStore;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private AnswerCounterRepository answerCounterRepository;
+
+    @Mock
+    private AnswerCounterAccumulator answerCounterAccumulator;
+
+    @Mock
+    private AnswerExportRepository answerExportRepository;
+
+    @Mock
+    private AnswerCrosstabRepository answerCrosstabRepository;
+
+    @Mock
+    private AnswerSummaryPlanner answerSummaryPlanner;
+
+    @Mock
+    private AnswerSegmentIndex answerSegmentIndex;
 
     @Mock
     private ResearchRepository researchRepository;
@@ -39,25 +87,159 @@ public class AnswerGatewayTest {
     private AnswerMapper mapper;
 
     @Test
-    public void givenAnAnswerWhenCreateThenReturnCreatedAnswer() {
-        var answer = Answer.builder()
+    public void givenAnAlreadyStoredIdempotencyKeyWhenCreateSubmissionsThenSkipThatSubmission() {
+        var stored = Answer.builder()
                 .date(OffsetDateTime.now())
                 .researchId(UUID.randomUUID())
                 .questionId(UUID.randomUUID())
                 .optionId(UUID.randomUUID())
                 .build();
 
+        var fresh = stored.toBuilder()
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var storedSubmission = Submission.builder()
+                .researchId(stored.getResearchId())
+                .date(stored.getDate())
+                .answers(List.of(stored))
+                .idempotencyKey(UUID.randomUUID())
+                .build();
+
+        var freshSubmission = storedSubmission.toBuilder()
+                .answers(List.of(fresh))
+                .idempotencyKey(UUID.randomUUID())
+                .build();
+
+        var submissionEntity = SubmissionEntity.builder().id(1L).build();
         var answerEntity = AnswerEntity.builder().build();
+        var counterId = AnswerCounterId.builder().build();
+        var rollupId = AnswerRollupId.builder().build();
+
+        when(submissionRepository.findIdempotencyKeys(List.of(storedSubmission.getIdempotencyKey(), freshSubmission.getIdempotencyKey())))
+                .thenReturn(Set.of(storedSubmission.getIdempotencyKey()));
+        when(mapper.toEntity(freshSubmission)).thenReturn(submissionEntity);
+        when(mapper.toEntity(fresh)).thenReturn(answerEntity);
+        when(mapper.toDomain(answerEntity)).thenReturn(fresh);
+        when(mapper.toCounterId(fresh)).thenReturn(counterId);
+        when(mapper.toRollupId(eq(fresh), any())).thenReturn(rollupId);
+
+        var result = gateway.createSubmissions(List.of(storedSubmission, freshSubmission));
+
+        assertThat(result).extracting(Submission::getIdempotencyKey).containsExactly(freshSubmission.getIdempotencyKey());
+        verify(submissionStore).save(submissionEntity, List.of(answerEntity));
+        verifyNoMoreInteractions(submissionStore);
+        verify(answerCounterAccumulator).increment(Map.of(counterId, 1L));
+    }
+
+    @Test
+    public void givenASubmissionWhenCreateThenSaveItAndAllItsAnswersInOneCall() {
+        var answerA = Answer.builder()
+                .date(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var answerB = answerA.toBuilder()
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var answerC = answerA.toBuilder().build();
+
+        var submission = Submission.builder()
+                .researchId(answerA.getResearchId())
+                .date(answerA.getDate())
+                .answers(List.of(answerA, answerB, answerC))
+                .build();
+
+        var submissionEntity = SubmissionEntity.builder().id(1L).build();
+        var entityA = AnswerEntity.builder().build();
+        var entityB = AnswerEntity.builder().build();
+        var entityC = AnswerEntity.builder().build();
+
+        var counterIdA = AnswerCounterId.builder().optionId(answerA.getOptionId()).build();
+        var counterIdB = AnswerCounterId.builder().optionId(answerB.getOptionId()).build();
+        var hourlyId = AnswerRollupId.builder().bucket(HOURLY.floor(answerA.getDate())).build();
+        var dailyId = AnswerRollupId.builder().bucket(DAILY.floor(answerA.getDate())).build();
+
+        when(mapper.toEntity(submission)).thenReturn(submissionEntity);
+        when(mapper.toEntity(answerA)).thenReturn(entityA);
+        when(mapper.toEntity(answerB)).thenReturn(entityB);
+        when(mapper.toEntity(answerC)).thenReturn(entityC);
+        when(mapper.toDomain(entityA)).thenReturn(answerA);
+        when(mapper.toDomain(entityB)).thenReturn(answerB);
+        when(mapper.toDomain(entityC)).thenReturn(answerC);
+        when(mapper.toCounterId(answerA)).thenReturn(counterIdA);
+        when(mapper.toCounterId(answerB)).thenReturn(counterIdB);
+        when(mapper.toCounterId(answerC)).thenReturn(counterIdA);
+        when(mapper.toRollupId(any(), eq(HOURLY))).thenReturn(hourlyId);
+        when(mapper.toRollupId(any(), eq(DAILY))).thenReturn(dailyId);
+
+        var created = gateway.createSubmission(submission);
+
+        assertThat(created.getId()).isEqualTo(submissionEntity.getId());
+        assertThat(created.getAnswers()).containsExactly(answerA, answerB, answerC);
+
+        verify(submissionStore).save(submissionEntity, List.of(entityA, entityB, entityC));
+        verify(answerCounterAccumulator).register(List.of(1L));
+        verify(answerCounterAccumulator).increment(Map.of(counterIdA, 2L, counterIdB, 1L));
+        verify(answerCounterAccumulator).incrementRollup(HOURLY, Map.of(hourlyId, 3L));
+        verify(answerCounterAccumulator).incrementRollup(DAILY, Map.of(dailyId, 3L));
+        verifyNoMoreInteractions(submissionStore, answerCounterAccumulator);
+    }
+
+    @Test
+    public void givenSubmissionsWhenCreateSubmissionsThenSaveEachAndMergeTheirCounters() {
+        var answerA = Answer.builder()
+                .date(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var answerB = answerA.toBuilder().build();
+
+        var submissionA = Submission.builder()
+                .researchId(answerA.getResearchId())
+                .date(answerA.getDate())
+                .answers(List.of(answerA))
+                .build();
+
+        var submissionB = submissionA.toBuilder()
+                .answers(List.of(answerB))
+                .build();
+
+        var submissionEntityA = SubmissionEntity.builder().id(1L).build();
+        var submissionEntityB = SubmissionEntity.builder().id(2L).build();
+        var entityA = AnswerEntity.builder().build();
+        var entityB = AnswerEntity.builder().build();
 
-        when(mapper.toEntity(answer)).thenReturn(answerEntity);
-        when(answerRepository.save(answerEntity)).thenReturn(answerEntity);
-        when(mapper.toDomain(answerEntity)).thenReturn(answer);
+        var counterId = AnswerCounterId.builder().optionId(answerA.getOptionId()).build();
+        var hourlyId = AnswerRollupId.builder().bucket(HOURLY.floor(answerA.getDate())).build();
+        var dailyId = AnswerRollupId.builder().bucket(DAILY.floor(answerA.getDate())).build();
 
-        assertThat(gateway.create(answer)).isSameAs(answer);
+        when(mapper.toEntity(submissionA)).thenReturn(submissionEntityA);
+        when(mapper.toEntity(submissionB)).thenReturn(submissionEntityB);
+        when(mapper.toEntity(answerA)).thenReturn(entityA);
+        when(mapper.toEntity(answerB)).thenReturn(entityB);
+        when(mapper.toDomain(entityA)).thenReturn(answerA);
+        when(mapper.toDomain(entityB)).thenReturn(answerB);
+        when(mapper.toCounterId(any())).thenReturn(counterId);
+        when(mapper.toRollupId(any(), eq(HOURLY))).thenReturn(hourlyId);
+        when(mapper.toRollupId(any(), eq(DAILY))).thenReturn(dailyId);
 
-        verify(mapper).toEntity(answer);
-        verify(answerRepository).save(answerEntity);
-        verify(mapper).toDomain(answerEntity);
+        var created = gateway.createSubmissions(List.of(submissionA, submissionB));
+
+        assertThat(created).extracting(Submission::getId).containsExactly(1L, 2L);
+
+        verify(submissionStore).save(submissionEntityA, List.of(entityA));
+        verify(submissionStore).save(submissionEntityB, List.of(entityB));
+        verify(answerCounterAccumulator).register(List.of(1L, 2L));
+        verify(answerCounterAccumulator).increment(Map.of(counterId, 2L));
+        verify(answerCounterAccumulator).incrementRollup(HOURLY, Map.of(hourlyId, 2L));
+        verify(answerCounterAccumulator).incrementRollup(DAILY, Map.of(dailyId, 2L));
+        verifyNoMoreInteractions(submissionStore, answerCounterAccumulator);
     }
 
     @Test
@@ -70,19 +252,182 @@ public class AnswerGatewayTest {
                 .build();
 
         var research = ResearchEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
+                .questions(emptyList())
+                .build();
+
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.of(research));
+        when(answerSummaryPlanner.search(criteria)).thenReturn(emptyList());
+        when(mapper.toDomain(research, emptyList())).thenCallRealMethod();
+
+        gateway.search(criteria);
+
+        verify(researchRepository).findById(criteria.getResearchId());
+        verify(answerSummaryPlanner).search(criteria);
+        verify(mapper).toDomain(research, emptyList());
+        verifyNoInteractions(answerCounterRepository);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithOnlyDateFromWhenSearchThenUseSummaryPlanner() {
+        var criteria = AnswerCriteria.builder()
+                .dateFrom(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .build();
+
+        var research = ResearchEntity.builder()
+                .id(criteria.getResearchId())
+                .questions(emptyList())
+                .build();
+
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.of(research));
+        when(answerSummaryPlanner.search(criteria)).thenReturn(emptyList());
+
+        gateway.search(criteria);
+
+        verify(answerSummaryPlanner).search(criteria);
+        verifyNoInteractions(answerCounterRepository);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithOnlyDateToWhenSearchThenUseSummaryPlanner() {
+        var criteria = AnswerCriteria.builder()
+                .dateTo(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .build();
+
+        var research = ResearchEntity.builder()
+                .id(criteria.getResearchId())
                 .questions(emptyList())
                 .build();
 
-        when(researchRepository.findById(criteria.getResearchId().toString())).thenReturn(Optional.of(research));
-        when(answerRepository.search(criteria)).thenReturn(emptyList());
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.of(research));
+        when(answerSummaryPlanner.search(criteria)).thenReturn(emptyList());
+
+        gateway.search(criteria);
+
+        verify(answerSummaryPlanner).search(criteria);
+        verifyNoInteractions(answerCounterRepository);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithoutDatesWhenSearchThenReadCounters() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        var research = ResearchEntity.builder()
+                .id(criteria.getResearchId())
+                .questions(emptyList())
+                .build();
+
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.of(research));
+        when(answerCounterAccumulator.summarize(eq(research.getId()), isNull(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        when(answerCounterRepository.findSummaryByResearchId(research.getId())).thenReturn(emptyList());
         when(mapper.toDomain(research, emptyList())).thenCallRealMethod();
 
         gateway.search(criteria);
 
-        verify(researchRepository).findById(criteria.getResearchId().toString());
-        verify(answerRepository).search(criteria);
+        verify(answerCounterRepository).findSummaryByResearchId(research.getId());
         verify(mapper).toDomain(research, emptyList());
+        verifyNoInteractions(answerSummaryPlanner);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithQuestionAndWithoutDatesWhenSearchThenReadCountersOfTheQuestion() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .build();
+
+        var research = ResearchEntity.builder()
+                .id(criteria.getResearchId())
+                .questions(emptyList())
+                .build();
+
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.of(research));
+        when(answerCounterAccumulator.summarize(eq(research.getId()), eq(criteria.getQuestionId()), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        when(answerCounterRepository.findSummaryByResearchIdAndQuestionId(
+                research.getId(), criteria.getQuestionId())).thenReturn(emptyList());
+
+        gateway.search(criteria);
+
+        verify(answerCounterRepository).findSummaryByResearchIdAndQuestionId(
+                research.getId(), criteria.getQuestionId());
+        verifyNoInteractions(answerSummaryPlanner);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithSegmentWhenSearchThenReadSegmentIndex() {
+        var optionA = UUID.randomUUID();
+        var optionB = UUID.randomUUID();
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .segment(new LinkedHashSet<>(List.of(optionA, optionB)))
+                .build();
+
+        var research = ResearchEntity.builder()
+                .id(criteria.getResearchId())
+                .questions(emptyList())
+                .build();
+
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.of(research));
+        when(answerSegmentIndex.summarize(research.getId(), null, criteria.getSegment()))
+                .thenReturn(emptyList());
+
+        gateway.search(criteria);
+
+        verify(answerSegmentIndex).summarize(research.getId(), null, criteria.getSegment());
+        verifyNoInteractions(answerSummaryPlanner, answerCounterRepository);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithSegmentAndQuestionWhenSearchThenReadSegmentIndexOfTheQuestion() {
+        var option = UUID.randomUUID();
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .segment(Set.of(option))
+                .build();
+
+        var research = ResearchEntity.builder()
+                .id(criteria.getResearchId())
+                .questions(emptyList())
+                .build();
+
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.of(research));
+        when(answerSegmentIndex.summarize(research.getId(), criteria.getQuestionId(), criteria.getSegment()))
+                .thenReturn(emptyList());
+
+        gateway.search(criteria);
+
+        verify(answerSegmentIndex).summarize(research.getId(), criteria.getQuestionId(), criteria.getSegment());
+        verifyNoInteractions(answerSummaryPlanner, answerCounterRepository);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithEmptySegmentWhenSearchThenReadCounters() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .segment(Set.of())
+                .build();
+
+        var research = ResearchEntity.builder()
+                .id(criteria.getResearchId())
+                .questions(emptyList())
+                .build();
+
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.of(research));
+        when(answerCounterAccumulator.summarize(eq(research.getId()), isNull(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        when(answerCounterRepository.findSummaryByResearchId(research.getId())).thenReturn(emptyList());
+
+        gateway.search(criteria);
+
+        verify(answerCounterRepository).findSummaryByResearchId(research.getId());
+        verifyNoInteractions(answerSegmentIndex);
     }
 
     @Test
@@ -94,13 +439,104 @@ public class AnswerGatewayTest {
                 .questionId(UUID.randomUUID())
                 .build();
 
-        when(researchRepository.findById(criteria.getResearchId().toString())).thenReturn(Optional.empty());
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gateway.search(criteria))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(researchRepository).findById(criteria.getResearchId().toString());
-        verifyNoInteractions(answerRepository);
+        verify(researchRepository).findById(criteria.getResearchId());
+        verifyNoInteractions(answerSummaryPlanner);
+        verifyNoInteractions(answerCounterRepository);
         verifyNoInteractions(mapper);
     }
+
+    @Test
+    public void givenTwoQuestionsWhenCrosstabThenReturnMappedResult() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .dateFrom(OffsetDateTime.now())
+                .build();
+
+        var rowQuestion = QuestionEntity.builder().id(UUID.randomUUID()).build();
+        var columnQuestion = QuestionEntity.builder().id(UUID.randomUUID()).build();
+        var research = ResearchEntity.builder()
+                .id(criteria.getResearchId())
+                .questions(List.of(rowQuestion, columnQuestion))
+                .build();
+
+        var rowQuestionId = rowQuestion.getId();
+        var columnQuestionId = columnQuestion.getId();
+        var crosstabModel = List.of(new CrosstabModel(UUID.randomUUID(), UUID.randomUUID(), 1L));
+        var crosstab = ResearchCrosstab.builder().build();
+
+        when(researchRepository.findById(research.getId())).thenReturn(Optional.of(research));
+        when(answerCrosstabRepository.crosstab(criteria, rowQuestionId, columnQuestionId)).thenReturn(crosstabModel);
+        when(mapper.toDomain(research, rowQuestion, columnQuestion, crosstabModel)).thenReturn(crosstab);
+
+        assertThat(gateway.crosstab(criteria, rowQuestionId, columnQuestionId)).isSameAs(crosstab);
+
+        verify(answerCrosstabRepository).crosstab(criteria, rowQuestionId, columnQuestionId);
+        verifyNoInteractions(answerCounterRepository, answerSummaryPlanner);
+    }
+
+    @Test
+    public void givenAQuestionOfAnotherResearchWhenCrosstabThenThrowsNotFoundException() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        var question = QuestionEntity.builder().id(UUID.randomUUID()).build();
+        var research = ResearchEntity.builder()
+                .id(criteria.getResearchId())
+                .questions(List.of(question))
+                .build();
+
+        when(researchRepository.findById(research.getId())).thenReturn(Optional.of(research));
+
+        assertThatThrownBy(() -> gateway.crosstab(criteria, question.getId(), UUID.randomUUID()))
+                .isExactlyInstanceOf(NotFoundException.class);
+
+        verifyNoInteractions(answerCrosstabRepository, mapper);
+    }
+
+    @Test
+    public void givenANonexistentResearchWhenCrosstabThenThrowsNotFoundException() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        when(researchRepository.findById(criteria.getResearchId())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> gateway.crosstab(criteria, UUID.randomUUID(), UUID.randomUUID()))
+                .isExactlyInstanceOf(NotFoundException.class);
+
+        verifyNoInteractions(answerCrosstabRepository, mapper);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWhenExportThenPassEveryMappedAnswerToTheConsumerAndCloseTheStream() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        var model = AnswerExportModel.builder()
+                .date(OffsetDateTime.now())
+                .researchId(criteria.getResearchId())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var closed = new AtomicBoolean();
+        var exported = new ArrayList<Answer>();
+
+        when(answerExportRepository.stream(criteria)).thenReturn(Stream.of(model, model).onClose(() -> closed.set(true)));
+        when(mapper.toDomain(model)).thenCallRealMethod();
+
+        gateway.export(criteria, exported::add);
+
+        assertThat(exported).hasSize(2);
+        assertThat(exported.get(0).getOptionId()).isEqualTo(model.getOptionId());
+        assertThat(closed).isTrue();
+        verify(mapper, times(2)).toDomain(model);
+    }
 }
@@ -0,0 +1,157 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.domain.Question;
+import com.github.paulosalonso.research.domain.Research;
+import com.github.paulosalonso.research.usecase.port.ResearchPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnswerSchemaCacheGatewayTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private ResearchPort researchPort;
+
+    private AtomicLong clock;
+    private AnswerSchemaCacheGateway cache;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new AtomicLong();
+        cache = new AnswerSchemaCacheGateway(researchPort, 2, TTL, clock::get);
+    }
+
+    @Test
+    public void givenACachedSchemaWhenGetAgainThenDoesNotReadThePort() {
+        var research = buildResearch(buildQuestion());
+
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
+
+        var first = cache.get(research.getId());
+        var second = cache.get(research.getId());
+
+        assertThat(second).isSameAs(first);
+        verify(researchPort, times(1)).readFetchingQuestions(research.getId());
+    }
+
+    @Test
+    public void givenACachedSchemaWhenInvalidateThenReloadOnNextGet() {
+        var research = buildResearch(buildQuestion());
+
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
+
+        var first = cache.get(research.getId());
+        cache.invalidate(research.getId());
+        var second = cache.get(research.getId());
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        verify(researchPort, times(2)).readFetchingQuestions(research.getId());
+    }
+
+    @Test
+    public void givenACachedSchemaWhenInvalidateByOneOfItsQuestionsThenReloadOnNextGet() {
+        var question = buildQuestion();
+        var research = buildResearch(question);
+
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
+
+        cache.get(research.getId());
+        cache.invalidateByQuestion(question.getId());
+        cache.get(research.getId());
+
+        verify(researchPort, times(2)).readFetchingQuestions(research.getId());
+    }
+
+    @Test
+    public void givenACachedSchemaWhenInvalidateByUnknownQuestionThenKeepIt() {
+        var research = buildResearch(buildQuestion());
+
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
+
+        var first = cache.get(research.getId());
+        cache.invalidateByQuestion(UUID.randomUUID());
+
+        assertThat(cache.get(research.getId())).isSameAs(first);
+        verify(researchPort, times(1)).readFetchingQuestions(research.getId());
+    }
+
+    @Test
+    public void givenAnInvalidationDuringLoadWhenGetThenDoesNotCacheTheLoadedSchema() {
+        var research = buildResearch(buildQuestion());
+
+        when(researchPort.readFetchingQuestions(research.getId())).thenAnswer(invocation -> {
+            cache.invalidate(research.getId());
+            return research;
+        });
+
+        cache.get(research.getId());
+        cache.get(research.getId());
+
+        verify(researchPort, times(2)).readFetchingQuestions(research.getId());
+    }
+
+    @Test
+    public void givenAnExpiredSchemaWhenGetThenReloadIt() {
+        var research = buildResearch(buildQuestion());
+
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
+
+        var first = cache.get(research.getId());
+        clock.addAndGet(TTL.toNanos() + 1);
+
+        assertThat(cache.get(research.getId())).isNotSameAs(first);
+        verify(researchPort, times(2)).readFetchingQuestions(research.getId());
+    }
+
+    @Test
+    public void givenMoreSchemasThanTheMaxSizeWhenGetThenEvictSomeOfThem() {
+        var researches = List.of(buildResearch(buildQuestion()), buildResearch(buildQuestion()),
+                buildResearch(buildQuestion()));
+
+        researches.forEach(research -> when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research));
+        researches.forEach(research -> cache.get(research.getId()));
+        researches.forEach(research -> cache.get(research.getId()));
+
+        verify(researchPort, atLeast(4)).readFetchingQuestions(any());
+    }
+
+    private Research buildResearch(Question... questions) {
+        return Research.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .startsOn(OffsetDateTime.now())
+                .questions(Set.of(questions))
+                .build();
+    }
+
+    private Question buildQuestion() {
+        return Question.builder()
+                .id(UUID.randomUUID())
+                .sequence(1)
+                .description("description")
+                .multiSelect(false)
+                .options(Set.of(Option.builder()
+                        .id(UUID.randomUUID())
+                        .description("description")
+                        .build()))
+                .build();
+    }
+}
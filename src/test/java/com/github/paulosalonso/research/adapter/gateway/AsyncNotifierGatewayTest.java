@@ -0,0 +1,135 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.Answer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncNotifierGatewayTest {
+
+    @Mock
+    private NotifierGateway notifierGateway;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AsyncNotifierGateway gateway;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gateway = new AsyncNotifierGateway(notifierGateway, meterRegistry, 1, 1);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        gateway.shutdown();
+    }
+
+    @Test
+    public void givenAnAnswerWhenNotifyThenDelegateOnWorkerThread() throws InterruptedException {
+        var answer = buildAnswer();
+        var callerThread = Thread.currentThread();
+        var dispatched = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isNotSameAs(callerThread);
+            dispatched.countDown();
+            return null;
+        }).when(notifierGateway).notifyAnswer(answer);
+
+        gateway.notifyAnswer(answer);
+
+        assertThat(dispatched.await(5, SECONDS)).isTrue();
+        verify(notifierGateway, timeout(5000)).notifyAnswer(answer);
+        await(() -> meterRegistry.get("research.notifier.latency").timer().count() == 1);
+        assertThat(meterRegistry.get("research.notifier.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenAnActiveTransactionWhenNotifyThenDispatchOnlyAfterCommit() throws InterruptedException {
+        var answer = buildAnswer();
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            gateway.notifyAnswer(answer);
+
+            Thread.sleep(100);
+            verifyNoInteractions(notifierGateway);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(notifierGateway, timeout(5000)).notifyAnswer(answer);
+    }
+
+    @Test
+    public void givenAFullQueueWhenNotifyThenDropAndCountIt() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, SECONDS);
+            return null;
+        }).when(notifierGateway).notifyAnswer(any());
+
+        gateway.notifyAnswer(buildAnswer());
+        assertThat(started.await(5, SECONDS)).isTrue();
+
+        gateway.notifyAnswer(buildAnswer());
+        gateway.notifyAnswer(buildAnswer());
+
+        assertThat(meterRegistry.get("research.notifier.queue.depth").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("research.notifier.dropped").counter().count()).isEqualTo(1);
+
+        release.countDown();
+
+        verify(notifierGateway, timeout(5000).times(2)).notifyAnswer(any());
+    }
+
+    @Test
+    public void givenANotifierErrorWhenNotifyThenCountTheFailure() throws InterruptedException {
+        var answer = buildAnswer();
+
+        doThrow(RuntimeException.class).when(notifierGateway).notifyAnswer(answer);
+
+        gateway.notifyAnswer(answer);
+
+        await(() -> meterRegistry.get("research.notifier.failed").counter().count() == 1);
+        assertThat(meterRegistry.get("research.notifier.failed").counter().count()).isEqualTo(1);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(50);
+        }
+    }
+
+    private Answer buildAnswer() {
+        return Answer.builder()
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.PageCriteria;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class KeysetTest {
+
+    @Test
+    public void givenAKeyWhenEncodeAndDecodeThenReturnTheSameKey() {
+        var startsOn = OffsetDateTime.now();
+        var id = UUID.randomUUID();
+
+        var key = Keyset.decode(Keyset.encode(startsOn, id), List.of(OffsetDateTime::parse, UUID::fromString));
+
+        assertThat(key).containsExactly(startsOn, id);
+    }
+
+    @Test
+    public void givenACursorWithAnotherNumberOfValuesWhenDecodeThenThrowsException() {
+        var cursor = Keyset.encode(1);
+
+        assertThatThrownBy(() -> Keyset.decode(cursor, List.of(Integer::valueOf, UUID::fromString)))
+                .isExactlyInstanceOf(InvalidCriteriaException.class)
+                .hasMessage("Invalid cursor: " + cursor);
+    }
+
+    @Test
+    public void givenACursorThatIsNotBase64WhenDecodeThenThrowsException() {
+        assertThatThrownBy(() -> Keyset.decode("#", List.of(Integer::valueOf)))
+                .isExactlyInstanceOf(InvalidCriteriaException.class)
+                .hasMessage("Invalid cursor: #");
+    }
+
+    @Test
+    public void givenACursorWithAnInvalidDateWhenDecodeThenThrowsException() {
+        var cursor = Keyset.encode("yesterday");
+
+        assertThatThrownBy(() -> Keyset.decode(cursor, List.of(OffsetDateTime::parse)))
+                .isExactlyInstanceOf(InvalidCriteriaException.class);
+    }
+
+    @Test
+    public void givenMoreElementsThanTheLimitWhenToPageThenReturnTheLimitAndTheCursorOfTheLastOne() {
+        var page = Keyset.toPage(List.of(1, 2, 3), PageCriteria.builder().limit(2).build(),
+                Function.identity(), String::valueOf);
+
+        assertThat(page.getContent()).containsExactly(1, 2);
+        assertThat(page.getNextCursor()).isEqualTo("2");
+    }
+
+    @Test
+    public void givenElementsUpToTheLimitWhenToPageThenReturnThemWithoutCursor() {
+        var page = Keyset.toPage(List.of(1, 2), PageCriteria.builder().limit(2).build(),
+                Function.identity(), String::valueOf);
+
+        assertThat(page.getContent()).containsExactly(1, 2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,213 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.adapter.jpa.mapper.NotificationOutboxMapper;
+import com.github.paulosalonso.research.adapter.jpa.model.NotificationOutboxEntity;
+import com.github.paulosalonso.research.adapter.jpa.repository.NotificationOutboxRepository;
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.usecase.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static com.github.paulosalonso.research.adapter.jpa.model.NotificationStatus.DEAD;
+import static com.github.paulosalonso.research.adapter.jpa.model.NotificationStatus.PENDING;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock
+    private NotificationOutboxRepository repository;
+
+    @Mock
+    private NotificationOutboxMapper mapper;
+
+    @Mock
+    private NotifierGateway notifierGateway;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationOutboxDispatcher(repository, mapper, notifierGateway, transactionTemplate,
+                meterRegistry, BATCH_SIZE, 3, Duration.ofSeconds(5), Duration.ofSeconds(8), LEASE);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    public void givenPendingNotificationsWhenDispatchThenSendAndDeleteThem() {
+        var notification = buildNotification(0);
+        var answer = buildAnswer();
+
+        when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                eq(PENDING), any(OffsetDateTime.class), eq(PageRequest.of(0, BATCH_SIZE))))
+                .thenReturn(List.of(notification));
+        when(mapper.toDomain(notification)).thenReturn(answer);
+
+        dispatcher.dispatch();
+
+        verify(notifierGateway).notifyAnswer(answer);
+        verify(repository).deleteInBatch(List.of(notification));
+        verify(repository, never()).saveAll(any());
+        assertThat(meterRegistry.get("research.notifier.outbox.sent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenPendingNotificationsWhenDispatchThenLeaseThemAndCallTheNotifierOutsideTheTransactions() {
+        var notification = buildNotification(0);
+        var testInit = OffsetDateTime.now();
+
+        when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(List.of(notification));
+        when(mapper.toDomain(notification)).thenReturn(buildAnswer());
+        doAnswer(invocation -> {
+            assertThat(notification.getNextAttemptAt()).isAfterOrEqualTo(testInit.plus(LEASE));
+            return null;
+        }).when(notifierGateway).notifyAnswer(any());
+
+        dispatcher.dispatch();
+
+        var inOrder = inOrder(transactionTemplate, notifierGateway, repository);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(notifierGateway).notifyAnswer(any());
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(repository).deleteInBatch(List.of(notification));
+    }
+
+    @Test
+    public void givenAFullBatchWhenDispatchThenDrainTheNextBatch() {
+        var first = buildNotification(0);
+        var second = buildNotification(0);
+
+        when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(List.of(first, second))
+                .thenReturn(emptyList());
+        when(mapper.toDomain(any())).thenReturn(buildAnswer());
+
+        dispatcher.dispatch();
+
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(notifierGateway, times(2)).notifyAnswer(any());
+        verify(repository).deleteInBatch(List.of(first, second));
+    }
+
+    @Test
+    public void givenNoPendingNotificationsWhenDispatchThenDoNothing() {
+        when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(emptyList());
+
+        dispatcher.dispatch();
+
+        verifyNoInteractions(notifierGateway);
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    public void givenANotifierErrorWhenDispatchThenRescheduleWithBackoff() {
+        var notification = buildNotification(1);
+        var testInit = OffsetDateTime.now();
+
+        when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(List.of(notification));
+        when(mapper.toDomain(notification)).thenReturn(buildAnswer());
+        doThrow(new RuntimeException("notifier down")).when(notifierGateway).notifyAnswer(any());
+
+        dispatcher.dispatch();
+
+        assertThat(notification.getStatus()).isEqualTo(PENDING);
+        assertThat(notification.getAttempts()).isEqualTo(2);
+        assertThat(notification.getLastError()).contains("notifier down");
+        assertThat(notification.getNextAttemptAt()).isBetween(testInit.plusSeconds(8), OffsetDateTime.now().plusSeconds(8));
+        assertThat(meterRegistry.get("research.notifier.outbox.retried").counter().count()).isEqualTo(1);
+        verify(repository).saveAll(List.of(notification));
+        verify(repository, never()).deleteInBatch(any());
+    }
+
+    @Test
+    public void givenTheLastAttemptFailingWhenDispatchThenMoveToDeadLetter() {
+        var notification = buildNotification(2);
+
+        when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(List.of(notification));
+        when(mapper.toDomain(notification)).thenReturn(buildAnswer());
+        doThrow(new RuntimeException(new String(new char[2000]))).when(notifierGateway).notifyAnswer(any());
+
+        dispatcher.dispatch();
+
+        assertThat(notification.getStatus()).isEqualTo(DEAD);
+        assertThat(notification.getAttempts()).isEqualTo(3);
+        assertThat(notification.getLastError()).hasSize(1000);
+        assertThat(meterRegistry.get("research.notifier.outbox.dead").counter().count()).isEqualTo(1);
+        verify(repository).saveAll(List.of(notification));
+    }
+
+    @Test
+    public void givenANotFoundErrorWhenDispatchThenMoveToDeadLetterWithoutRetrying() {
+        var notification = buildNotification(0);
+
+        when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(List.of(notification));
+        when(mapper.toDomain(notification)).thenReturn(buildAnswer());
+        doThrow(NotFoundException.class).when(notifierGateway).notifyAnswer(any());
+
+        dispatcher.dispatch();
+
+        assertThat(notification.getStatus()).isEqualTo(DEAD);
+        assertThat(notification.getAttempts()).isEqualTo(1);
+    }
+
+    private NotificationOutboxEntity buildNotification(int attempts) {
+        return NotificationOutboxEntity.builder()
+                .id(1L)
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .answerDate(OffsetDateTime.now())
+                .status(PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(OffsetDateTime.now())
+                .build();
+    }
+
+    private Answer buildAnswer() {
+        return Answer.builder()
+                .date(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+    }
+}
@@ -3,11 +3,17 @@ package com.github.paulosalonso.research.adapter.gateway;
 import com.github.paulosalonso.research.adapter.jpa.mapper.OptionMapper;
 import com.github.paulosalonso.research.adapter.jpa.model.OptionEntity;
 import com.github.paulosalonso.research.adapter.jpa.model.QuestionEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerOrdinalRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.KeysetRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.OptionRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.QuestionRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.specification.OptionSpecificationFactory;
 import com.github.paulosalonso.research.domain.Option;
 import com.github.paulosalonso.research.domain.OptionCriteria;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.usecase.exception.NotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +21,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -38,6 +45,18 @@ public class OptionGatewayTest {
     @Mock
     private QuestionRepository questionRepository;
 
+    @Mock
+    private ResearchRepository researchRepository;
+
+    @Mock
+    private AnswerOrdinalRepository answerOrdinalRepository;
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    @Mock
+    private KeysetRepository keysetRepository;
+
     @Mock
     private OptionSpecificationFactory specificationFactory;
 
@@ -49,9 +68,10 @@ public class OptionGatewayTest {
         var questionId = UUID.randomUUID();
 
         var question = QuestionEntity.builder()
-                .id(questionId.toString())
+                .id(questionId)
                 .description("description")
                 .multiSelect(false)
+                .research(ResearchEntity.builder().id(UUID.randomUUID()).build())
                 .build();
 
         var option = Option.builder()
@@ -64,7 +84,7 @@ public class OptionGatewayTest {
 
         gateway.create(questionId, option);
 
-        verify(questionRepository).findById(questionId.toString());
+        verify(questionRepository).findById(questionId);
         verifyNoMoreInteractions(questionRepository);
         verify(mapper).toEntity(option);
         verifyNoMoreInteractions(mapper);
@@ -74,6 +94,10 @@ public class OptionGatewayTest {
         verifyNoMoreInteractions(optionRepository);
 
         assertThat(questionCaptor.getValue().getQuestion()).isSameAs(question);
+
+        var inOrder = inOrder(researchRepository, answerOrdinalRepository);
+        inOrder.verify(researchRepository).lockById(question.getResearch().getId());
+        inOrder.verify(answerOrdinalRepository).assign(question.getResearch().getId(), question.getId(), option.getId());
     }
 
     @Test
@@ -82,42 +106,54 @@ public class OptionGatewayTest {
         var optionId = UUID.randomUUID();
 
         var entity = OptionEntity.builder()
-                .id(optionId.toString())
+                .id(optionId)
                 .description("description")
+                .question(QuestionEntity.builder().id(questionId).build())
                 .build();
 
-        when(specificationFactory.findByQuestionId(questionId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(optionId.toString())).thenCallRealMethod();
-        when(optionRepository.findOne(any(Specification.class))).thenReturn(Optional.of(entity));
+        when(optionRepository.findById(optionId)).thenReturn(Optional.of(entity));
         when(mapper.toDomain(entity)).thenCallRealMethod();
 
         gateway.read(questionId, optionId);
 
-        verify(specificationFactory).findByQuestionId(questionId.toString());
-        verify(specificationFactory).findById(optionId.toString());
-        verifyNoMoreInteractions(specificationFactory);
-        verify(optionRepository).findOne(any(Specification.class));
+        verify(optionRepository).findById(optionId);
         verifyNoMoreInteractions(optionRepository);
+        verifyNoInteractions(specificationFactory);
         verify(mapper).toDomain(entity);
         verifyNoMoreInteractions(mapper);
     }
 
+    @Test
+    public void givenAnOptionOfAnotherQuestionWhenReadThenThrowsNotFoundException() {
+        var questionId = UUID.randomUUID();
+        var optionId = UUID.randomUUID();
+
+        var entity = OptionEntity.builder()
+                .id(optionId)
+                .question(QuestionEntity.builder().id(UUID.randomUUID()).build())
+                .build();
+
+        when(optionRepository.findById(optionId)).thenReturn(Optional.of(entity));
+
+        assertThatThrownBy(() -> gateway.read(questionId, optionId))
+                .isExactlyInstanceOf(NotFoundException.class);
+
+        verify(optionRepository).findById(optionId);
+        verifyNoInteractions(mapper);
+    }
+
     @Test
     public void givenANonexistentCompositeIdWhenReadThenThrowsNotFoundException() {
         var questionId = UUID.randomUUID();
         var optionId = UUID.randomUUID();
 
-        when(specificationFactory.findByQuestionId(questionId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(optionId.toString())).thenCallRealMethod();
-        when(optionRepository.findOne(any(Specification.class))).thenThrow(NotFoundException.class);
+        when(optionRepository.findById(optionId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gateway.read(questionId, optionId))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(specificationFactory).findByQuestionId(questionId.toString());
-        verify(specificationFactory).findById(optionId.toString());
-        verifyNoMoreInteractions(specificationFactory);
-        verify(optionRepository).findOne(any(Specification.class));
+        verify(optionRepository).findById(optionId);
+        verifyNoInteractions(specificationFactory);
         verifyNoInteractions(mapper);
     }
 
@@ -129,22 +165,50 @@ public class OptionGatewayTest {
                 .description("description")
                 .build();
 
-        when(specificationFactory.findByQuestionId(questionId.toString())).thenCallRealMethod();
+        var page = PageCriteria.builder().limit(10).build();
+
+        when(specificationFactory.findByQuestionId(questionId)).thenCallRealMethod();
         when(specificationFactory.findByOptionCriteria(criteria)).thenCallRealMethod();
         when(mapper.toDomain(any(OptionEntity.class))).thenCallRealMethod();
-        when(optionRepository.findAll(any(Specification.class))).thenReturn(List.of(entity));
+        when(keysetRepository.findAll(eq(OptionEntity.class), any(Specification.class), eq(11))).thenReturn(List.of(entity));
 
-        assertThat(gateway.search(questionId, criteria)).hasSize(1);
+        var result = gateway.search(questionId, criteria, page);
 
-        verify(specificationFactory).findByQuestionId(questionId.toString());
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+
+        verify(specificationFactory).findByQuestionId(questionId);
         verify(specificationFactory).findByOptionCriteria(criteria);
         verifyNoMoreInteractions(specificationFactory);
-        verify(optionRepository).findAll(any(Specification.class));
-        verifyNoMoreInteractions(optionRepository);
+        verify(keysetRepository).findAll(eq(OptionEntity.class), any(Specification.class), eq(11));
+        verifyNoInteractions(optionRepository);
         verify(mapper).toDomain(entity);
         verifyNoMoreInteractions(mapper);
     }
 
+    @Test
+    public void givenACursorWhenSearchThenReturnTheNextOptionsAndTheirCursor() {
+        var questionId = UUID.randomUUID();
+        var criteria = OptionCriteria.builder().build();
+        var entityA = OptionEntity.builder().id(UUID.randomUUID()).sequence(2).description("a").build();
+        var entityB = OptionEntity.builder().id(UUID.randomUUID()).sequence(3).description("b").build();
+        var page = PageCriteria.builder()
+                .cursor(Keyset.encode(1, UUID.randomUUID()))
+                .limit(1)
+                .build();
+
+        when(specificationFactory.findByQuestionId(questionId)).thenCallRealMethod();
+        when(specificationFactory.findByOptionCriteria(criteria)).thenCallRealMethod();
+        when(mapper.toDomain(any(OptionEntity.class))).thenCallRealMethod();
+        when(keysetRepository.findAll(eq(OptionEntity.class), any(Specification.class), eq(2)))
+                .thenReturn(List.of(entityA, entityB));
+
+        var result = gateway.search(questionId, criteria, page);
+
+        assertThat(result.getContent()).extracting(Option::getId).containsExactly(entityA.getId());
+        assertThat(result.getNextCursor()).isEqualTo(Keyset.encode(2, entityA.getId()));
+    }
+
     @Test
     public void givenAQuestionIdAndAnOptionWhenUpdateThenFindAndCopyIt() {
         var questionId = UUID.randomUUID();
@@ -155,19 +219,19 @@ public class OptionGatewayTest {
                 .build();
 
         var entity = OptionEntity.builder()
-                .id(option.getId().toString())
+                .id(option.getId())
                 .description("description a")
                 .build();
 
-        when(specificationFactory.findByQuestionId(questionId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(option.getId().toString())).thenCallRealMethod();
+        when(specificationFactory.findByQuestionId(questionId)).thenCallRealMethod();
+        when(specificationFactory.findById(option.getId())).thenCallRealMethod();
         when(optionRepository.findOne(any(Specification.class))).thenReturn(Optional.of(entity));
         when(mapper.copy(option, entity)).thenCallRealMethod();
 
         gateway.update(questionId, option);
 
-        verify(specificationFactory).findByQuestionId(questionId.toString());
-        verify(specificationFactory).findById(option.getId().toString());
+        verify(specificationFactory).findByQuestionId(questionId);
+        verify(specificationFactory).findById(option.getId());
         verifyNoMoreInteractions(specificationFactory);
         verify(optionRepository).findOne(any(Specification.class));
         verifyNoMoreInteractions(optionRepository);
@@ -186,15 +250,15 @@ public class OptionGatewayTest {
                 .description("description")
                 .build();
 
-        when(specificationFactory.findByQuestionId(questionId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(option.getId().toString())).thenCallRealMethod();
+        when(specificationFactory.findByQuestionId(questionId)).thenCallRealMethod();
+        when(specificationFactory.findById(option.getId())).thenCallRealMethod();
         when(optionRepository.findOne(any(Specification.class))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gateway.update(questionId, option))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(specificationFactory).findByQuestionId(questionId.toString());
-        verify(specificationFactory).findById(option.getId().toString());
+        verify(specificationFactory).findByQuestionId(questionId);
+        verify(specificationFactory).findById(option.getId());
         verifyNoMoreInteractions(specificationFactory);
         verify(optionRepository).findOne(any(Specification.class));
         verifyNoMoreInteractions(optionRepository);
@@ -205,62 +269,73 @@ public class OptionGatewayTest {
     public void givenAQuestionIdAndAnOptionIdWhenDeleteThenFindAndDeleteIt() {
         var questionId = UUID.randomUUID();
         var optionId = UUID.randomUUID();
+        var option = buildOptionToDelete(questionId, optionId);
 
-        var option = OptionEntity.builder()
-                .id(optionId.toString())
-                .description("description")
-                .build();
-
-        when(specificationFactory.findByQuestionId(questionId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(optionId.toString())).thenCallRealMethod();
+        when(specificationFactory.findByQuestionId(questionId)).thenCallRealMethod();
+        when(specificationFactory.findById(optionId)).thenCallRealMethod();
         when(optionRepository.findOne(any(Specification.class))).thenReturn(Optional.of(option));
 
         gateway.delete(questionId, optionId);
 
-        verify(specificationFactory).findByQuestionId(questionId.toString());
+        verify(specificationFactory).findByQuestionId(questionId);
         verify(specificationFactory).findById(option.getId());
         verifyNoMoreInteractions(specificationFactory);
+        verify(answerRepository).existsByResearchIdAndQuestionIdAndOptionId(
+                option.getQuestion().getResearch().getId(), questionId, optionId);
         verify(optionRepository).delete(option);
         verifyNoMoreInteractions(optionRepository);
     }
 
+    @Test
+    public void givenAnOptionWithAnswersWhenDeleteThenThrowsDataIntegrityViolationException() {
+        var questionId = UUID.randomUUID();
+        var optionId = UUID.randomUUID();
+        var option = buildOptionToDelete(questionId, optionId);
+
+        when(specificationFactory.findByQuestionId(questionId)).thenCallRealMethod();
+        when(specificationFactory.findById(optionId)).thenCallRealMethod();
+        when(optionRepository.findOne(any(Specification.class))).thenReturn(Optional.of(option));
+        when(answerRepository.existsByResearchIdAndQuestionIdAndOptionId(
+                option.getQuestion().getResearch().getId(), questionId, optionId)).thenReturn(true);
+
+        assertThatThrownBy(() -> gateway.delete(questionId, optionId))
+                .isExactlyInstanceOf(DataIntegrityViolationException.class);
+
+        verify(optionRepository, never()).delete(option);
+    }
+
     @Test
     public void givenANonexistentCompositeIdWhenDeleteThenThrowsNotFoundException() {
         var questionId = UUID.randomUUID();
         var optionId = UUID.randomUUID();
 
         var option = OptionEntity.builder()
-                .id(optionId.toString())
+                .id(optionId)
                 .description("description")
                 .build();
 
-        when(specificationFactory.findByQuestionId(questionId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(optionId.toString())).thenCallRealMethod();
+        when(specificationFactory.findByQuestionId(questionId)).thenCallRealMethod();
+        when(specificationFactory.findById(optionId)).thenCallRealMethod();
         when(optionRepository.findOne(any(Specification.class))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gateway.delete(questionId, optionId))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(specificationFactory).findByQuestionId(questionId.toString());
+        verify(specificationFactory).findByQuestionId(questionId);
         verify(specificationFactory).findById(option.getId());
         verifyNoMoreInteractions(specificationFactory);
         verify(optionRepository, never()).delete(option);
         verifyNoMoreInteractions(optionRepository);
     }
 
-    @Test
-    public void givenAnOptionIdWhenOptionRepositoryReturnTrueThenReturnTrue() {
-        UUID id = UUID.randomUUID();
-        when(optionRepository.findNotifyById(id.toString())).thenReturn(true);
-        assertThat(gateway.shouldNotify(id)).isTrue();
-        verify(optionRepository).findNotifyById(id.toString());
-    }
-
-    @Test
-    public void givenAnOptionIdWhenOptionRepositoryReturnFalseThenReturnFalse() {
-        UUID id = UUID.randomUUID();
-        when(optionRepository.findNotifyById(id.toString())).thenReturn(false);
-        assertThat(gateway.shouldNotify(id)).isFalse();
-        verify(optionRepository).findNotifyById(id.toString());
+    private OptionEntity buildOptionToDelete(UUID questionId, UUID optionId) {
+        return OptionEntity.builder()
+                .id(optionId)
+                .description("description")
+                .question(QuestionEntity.builder()
+                        .id(questionId)
+                        .research(ResearchEntity.builder().id(UUID.randomUUID()).build())
+                        .build())
+                .build();
     }
 }
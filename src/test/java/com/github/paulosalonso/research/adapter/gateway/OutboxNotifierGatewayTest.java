@@ -0,0 +1,49 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.adapter.jpa.mapper.NotificationOutboxMapper;
+import com.github.paulosalonso.research.adapter.jpa.model.NotificationOutboxEntity;
+import com.github.paulosalonso.research.adapter.jpa.repository.NotificationOutboxRepository;
+import com.github.paulosalonso.research.domain.Answer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxNotifierGatewayTest {
+
+    @InjectMocks
+    private OutboxNotifierGateway gateway;
+
+    @Mock
+    private NotificationOutboxRepository repository;
+
+    @Mock
+    private NotificationOutboxMapper mapper;
+
+    @Test
+    public void givenAnAnswerWhenNotifyThenSaveItOnOutbox() {
+        var answer = Answer.builder()
+                .date(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var entity = NotificationOutboxEntity.builder().build();
+
+        when(mapper.toEntity(answer)).thenReturn(entity);
+
+        gateway.notifyAnswer(answer);
+
+        verify(mapper).toEntity(answer);
+        verify(repository).save(entity);
+    }
+}
@@ -4,9 +4,12 @@ import com.github.paulosalonso.research.adapter.jpa.mapper.QuestionMapper;
 import com.github.paulosalonso.research.adapter.jpa.model.OptionEntity;
 import com.github.paulosalonso.research.adapter.jpa.model.QuestionEntity;
 import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.KeysetRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.QuestionRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.specification.QuestionSpecificationFactory;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.domain.Question;
 import com.github.paulosalonso.research.domain.QuestionCriteria;
 import com.github.paulosalonso.research.usecase.exception.NotFoundException;
@@ -16,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.OffsetDateTime;
@@ -37,9 +41,15 @@ public class QuestionGatewayTest {
     @Mock
     private QuestionRepository questionRepository;
 
+    @Mock
+    private AnswerRepository answerRepository;
+
     @Mock
     private ResearchRepository researchRepository;
 
+    @Mock
+    private KeysetRepository keysetRepository;
+
     @Mock
     private QuestionSpecificationFactory specificationFactory;
 
@@ -51,7 +61,7 @@ public class QuestionGatewayTest {
         var researchId = UUID.randomUUID();
 
         var research = ResearchEntity.builder()
-                .id(researchId.toString())
+                .id(researchId)
                 .title("title")
                 .startsOn(OffsetDateTime.now())
                 .build();
@@ -67,7 +77,7 @@ public class QuestionGatewayTest {
 
         gateway.create(researchId, question);
 
-        verify(researchRepository).findById(researchId.toString());
+        verify(researchRepository).findById(researchId);
         verifyNoMoreInteractions(researchRepository);
         verify(mapper).toEntity(question);
         verifyNoMoreInteractions(mapper);
@@ -85,14 +95,13 @@ public class QuestionGatewayTest {
         var questionId = UUID.randomUUID();
 
         var entity = QuestionEntity.builder()
-                .id(questionId.toString())
+                .id(questionId)
                 .description("description")
                 .multiSelect(true)
+                .research(ResearchEntity.builder().id(researchId).build())
                 .build();
 
-        when(specificationFactory.findByResearchId(researchId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(questionId.toString())).thenCallRealMethod();
-        when(questionRepository.findOne(any(Specification.class))).thenReturn(Optional.of(entity));
+        when(questionRepository.findById(questionId)).thenReturn(Optional.of(entity));
         when(mapper.toDomain(entity, false)).thenReturn(Question.builder()
                 .description("description")
                 .multiSelect(false)
@@ -100,15 +109,32 @@ public class QuestionGatewayTest {
 
         gateway.read(researchId, questionId);
 
-        verify(specificationFactory).findByResearchId(researchId.toString());
-        verify(specificationFactory).findById(questionId.toString());
-        verifyNoMoreInteractions(specificationFactory);
-        verify(questionRepository).findOne(any(Specification.class));
+        verify(questionRepository).findById(questionId);
         verifyNoMoreInteractions(questionRepository);
+        verifyNoInteractions(specificationFactory);
         verify(mapper).toDomain(entity, false);
         verifyNoMoreInteractions(mapper);
     }
 
+    @Test
+    public void givenAQuestionOfAnotherResearchWhenReadThenThrowsNotFoundException() {
+        var researchId = UUID.randomUUID();
+        var questionId = UUID.randomUUID();
+
+        var entity = QuestionEntity.builder()
+                .id(questionId)
+                .research(ResearchEntity.builder().id(UUID.randomUUID()).build())
+                .build();
+
+        when(questionRepository.findById(questionId)).thenReturn(Optional.of(entity));
+
+        assertThatThrownBy(() -> gateway.read(researchId, questionId))
+                .isExactlyInstanceOf(NotFoundException.class);
+
+        verify(questionRepository).findById(questionId);
+        verifyNoInteractions(mapper);
+    }
+
     @Test
     public void givenAResearchIdAndAQuestionIdWhenReadWithOptionsThenFindAndMapIt() {
         var researchId = UUID.randomUUID();
@@ -119,15 +145,14 @@ public class QuestionGatewayTest {
                 .build();
 
         var entity = QuestionEntity.builder()
-                .id(questionId.toString())
+                .id(questionId)
                 .description("description")
                 .multiSelect(true)
                 .options(List.of(option))
+                .research(ResearchEntity.builder().id(researchId).build())
                 .build();
 
-        when(specificationFactory.findByResearchId(researchId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(questionId.toString())).thenCallRealMethod();
-        when(questionRepository.findOne(any(Specification.class))).thenReturn(Optional.of(entity));
+        when(questionRepository.findById(questionId)).thenReturn(Optional.of(entity));
         when(mapper.toDomain(entity, true)).thenReturn(Question.builder()
                 .description("description")
                 .multiSelect(false)
@@ -135,10 +160,7 @@ public class QuestionGatewayTest {
 
         gateway.readFetchingOptions(researchId, questionId);
 
-        verify(specificationFactory).findByResearchId(researchId.toString());
-        verify(specificationFactory).findById(questionId.toString());
-        verify(specificationFactory).findFetchingOptions();
-        verify(questionRepository).findOne(any(Specification.class));
+        verify(questionRepository).findById(questionId);
         verifyNoMoreInteractions(questionRepository);
         verify(mapper).toDomain(entity, true);
         verifyNoMoreInteractions(mapper);
@@ -149,17 +171,13 @@ public class QuestionGatewayTest {
         var researchId = UUID.randomUUID();
         var questionId = UUID.randomUUID();
 
-        when(specificationFactory.findByResearchId(researchId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(questionId.toString())).thenCallRealMethod();
-        when(questionRepository.findOne(any(Specification.class))).thenThrow(NotFoundException.class);
+        when(questionRepository.findById(questionId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gateway.read(researchId, questionId))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(specificationFactory).findByResearchId(researchId.toString());
-        verify(specificationFactory).findById(questionId.toString());
-        verifyNoMoreInteractions(specificationFactory);
-        verify(questionRepository).findOne(any(Specification.class));
+        verify(questionRepository).findById(questionId);
+        verifyNoInteractions(specificationFactory);
         verifyNoInteractions(mapper);
     }
 
@@ -172,22 +190,51 @@ public class QuestionGatewayTest {
                 .multiSelect(true)
                 .build();
 
-        when(specificationFactory.findByResearchId(researchId.toString())).thenCallRealMethod();
+        var page = PageCriteria.builder().limit(10).build();
+
+        when(specificationFactory.findByResearchId(researchId)).thenCallRealMethod();
         when(specificationFactory.findByQuestionCriteria(criteria)).thenCallRealMethod();
         when(mapper.toDomain(entity, false)).thenCallRealMethod();
-        when(questionRepository.findAll(any(Specification.class))).thenReturn(List.of(entity));
+        when(keysetRepository.findAll(eq(QuestionEntity.class), any(Specification.class), eq(11))).thenReturn(List.of(entity));
+
+        var result = gateway.search(researchId, criteria, page);
 
-        assertThat(gateway.search(researchId, criteria)).hasSize(1);
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
 
-        verify(specificationFactory).findByResearchId(researchId.toString());
+        verify(specificationFactory).findByResearchId(researchId);
         verify(specificationFactory).findByQuestionCriteria(criteria);
         verifyNoMoreInteractions(specificationFactory);
-        verify(questionRepository).findAll(any(Specification.class));
-        verifyNoMoreInteractions(questionRepository);
+        verify(keysetRepository).findAll(eq(QuestionEntity.class), any(Specification.class), eq(11));
+        verifyNoInteractions(questionRepository);
         verify(mapper).toDomain(entity, false);
         verifyNoMoreInteractions(mapper);
     }
 
+    @Test
+    public void givenACursorWhenSearchThenReturnTheNextQuestionsAndTheirCursor() {
+        var researchId = UUID.randomUUID();
+        var criteria = QuestionCriteria.builder().build();
+        var entityA = QuestionEntity.builder().id(UUID.randomUUID()).sequence(2).description("a").multiSelect(false).build();
+        var entityB = QuestionEntity.builder().id(UUID.randomUUID()).sequence(3).description("b").multiSelect(false).build();
+        var page = PageCriteria.builder()
+                .cursor(Keyset.encode(1, UUID.randomUUID()))
+                .limit(1)
+                .build();
+
+        when(specificationFactory.findByResearchId(researchId)).thenCallRealMethod();
+        when(specificationFactory.findByQuestionCriteria(criteria)).thenCallRealMethod();
+        when(mapper.toDomain(entityA, false)).thenCallRealMethod();
+        when(keysetRepository.findAll(eq(QuestionEntity.class), any(Specification.class), eq(2)))
+                .thenReturn(List.of(entityA, entityB));
+
+        var result = gateway.search(researchId, criteria, page);
+
+        assertThat(result.getContent()).extracting(Question::getId).containsExactly(entityA.getId());
+        assertThat(result.getNextCursor()).isEqualTo(Keyset.encode(2, entityA.getId()));
+        verify(mapper, never()).toDomain(entityB, false);
+    }
+
     @Test
     public void givenAResearchIdAndAQuestionWhenUpdateThenFindAndCopyIt() {
         var researchId = UUID.randomUUID();
@@ -199,20 +246,20 @@ public class QuestionGatewayTest {
                 .build();
 
         var entity = QuestionEntity.builder()
-                .id(question.getId().toString())
+                .id(question.getId())
                 .description("description a")
                 .multiSelect(true)
                 .build();
 
-        when(specificationFactory.findByResearchId(researchId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(question.getId().toString())).thenCallRealMethod();
+        when(specificationFactory.findByResearchId(researchId)).thenCallRealMethod();
+        when(specificationFactory.findById(question.getId())).thenCallRealMethod();
         when(questionRepository.findOne(any(Specification.class))).thenReturn(Optional.of(entity));
         when(mapper.copy(question, entity)).thenCallRealMethod();
 
         gateway.update(researchId, question);
 
-        verify(specificationFactory).findByResearchId(researchId.toString());
-        verify(specificationFactory).findById(question.getId().toString());
+        verify(specificationFactory).findByResearchId(researchId);
+        verify(specificationFactory).findById(question.getId());
         verifyNoMoreInteractions(specificationFactory);
         verify(questionRepository).findOne(any(Specification.class));
         verifyNoMoreInteractions(questionRepository);
@@ -233,15 +280,15 @@ public class QuestionGatewayTest {
                 .multiSelect(true)
                 .build();
 
-        when(specificationFactory.findByResearchId(researchId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(question.getId().toString())).thenCallRealMethod();
+        when(specificationFactory.findByResearchId(researchId)).thenCallRealMethod();
+        when(specificationFactory.findById(question.getId())).thenCallRealMethod();
         when(questionRepository.findOne(any(Specification.class))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gateway.update(researchId, question))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(specificationFactory).findByResearchId(researchId.toString());
-        verify(specificationFactory).findById(question.getId().toString());
+        verify(specificationFactory).findByResearchId(researchId);
+        verify(specificationFactory).findById(question.getId());
         verifyNoMoreInteractions(specificationFactory);
         verify(questionRepository).findOne(any(Specification.class));
         verifyNoMoreInteractions(questionRepository);
@@ -254,42 +301,65 @@ public class QuestionGatewayTest {
         var questionId = UUID.randomUUID();
 
         var question = QuestionEntity.builder()
-                .id(questionId.toString())
+                .id(questionId)
                 .description("description")
                 .build();
 
-        when(specificationFactory.findByResearchId(researchId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(questionId.toString())).thenCallRealMethod();
+        when(specificationFactory.findByResearchId(researchId)).thenCallRealMethod();
+        when(specificationFactory.findById(questionId)).thenCallRealMethod();
         when(questionRepository.findOne(any(Specification.class))).thenReturn(Optional.of(question));
 
         gateway.delete(researchId, questionId);
 
-        verify(specificationFactory).findByResearchId(researchId.toString());
+        verify(specificationFactory).findByResearchId(researchId);
         verify(specificationFactory).findById(question.getId());
         verifyNoMoreInteractions(specificationFactory);
+        verify(answerRepository).existsByResearchIdAndQuestionId(researchId, questionId);
         verify(questionRepository).delete(question);
         verifyNoMoreInteractions(questionRepository);
     }
 
+    @Test
+    public void givenAQuestionWithAnswersWhenDeleteThenThrowsDataIntegrityViolationException() {
+        var researchId = UUID.randomUUID();
+        var questionId = UUID.randomUUID();
+
+        var question = QuestionEntity.builder()
+                .id(questionId)
+                .description("description")
+                .multiSelect(false)
+                .build();
+
+        when(specificationFactory.findByResearchId(researchId)).thenCallRealMethod();
+        when(specificationFactory.findById(questionId)).thenCallRealMethod();
+        when(questionRepository.findOne(any(Specification.class))).thenReturn(Optional.of(question));
+        when(answerRepository.existsByResearchIdAndQuestionId(researchId, questionId)).thenReturn(true);
+
+        assertThatThrownBy(() -> gateway.delete(researchId, questionId))
+                .isExactlyInstanceOf(DataIntegrityViolationException.class);
+
+        verify(questionRepository, never()).delete(question);
+    }
+
     @Test
     public void givenANonexistentCompositeIdWhenDeleteThenThrowsNotFoundException() {
         var researchId = UUID.randomUUID();
         var questionId = UUID.randomUUID();
 
         var question = QuestionEntity.builder()
-                .id(questionId.toString())
+                .id(questionId)
                 .description("description")
                 .multiSelect(false)
                 .build();
 
-        when(specificationFactory.findByResearchId(researchId.toString())).thenCallRealMethod();
-        when(specificationFactory.findById(questionId.toString())).thenCallRealMethod();
+        when(specificationFactory.findByResearchId(researchId)).thenCallRealMethod();
+        when(specificationFactory.findById(questionId)).thenCallRealMethod();
         when(questionRepository.findOne(any(Specification.class))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gateway.delete(researchId, questionId))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(specificationFactory).findByResearchId(researchId.toString());
+        verify(specificationFactory).findByResearchId(researchId);
         verify(specificationFactory).findById(question.getId());
         verifyNoMoreInteractions(specificationFactory);
         verify(questionRepository, never()).delete(question);
@@ -300,23 +370,23 @@ public class QuestionGatewayTest {
     public void givenAQuestionWithoutOptionsWhenGetNextOptionSequenceThenReturnOne() {
         var id = UUID.randomUUID();
 
-        when(questionRepository.findLastOptionSequence(id.toString())).thenReturn(Optional.empty());
+        when(questionRepository.findLastOptionSequence(id)).thenReturn(Optional.empty());
 
         var sequence = gateway.getNextOptionSequence(id);
 
         assertThat(sequence).isEqualTo(1);
-        verify(questionRepository).findLastOptionSequence(id.toString());
+        verify(questionRepository).findLastOptionSequence(id);
     }
 
     @Test
     public void givenAQuestionWithOptionsWhenGetNextOptionSequenceThenReturnNextSequence() {
         var id = UUID.randomUUID();
 
-        when(questionRepository.findLastOptionSequence(id.toString())).thenReturn(Optional.of(1));
+        when(questionRepository.findLastOptionSequence(id)).thenReturn(Optional.of(1));
 
         var sequence = gateway.getNextOptionSequence(id);
 
         assertThat(sequence).isEqualTo(2);
-        verify(questionRepository).findLastOptionSequence(id.toString());
+        verify(questionRepository).findLastOptionSequence(id);
     }
 }
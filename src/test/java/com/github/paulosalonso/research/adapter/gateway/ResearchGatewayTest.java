@@ -5,18 +5,21 @@ import com.github.paulosalonso.research.adapter.jpa.mapper.ResearchMapper;
 import com.github.paulosalonso.research.adapter.jpa.model.OptionEntity;
 import com.github.paulosalonso.research.adapter.jpa.model.QuestionEntity;
 import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
-import com.github.paulosalonso.research.adapter.jpa.repository.QuestionRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerRepository;
+import com.github.paulosalonso.research.adapter.jpa.repository.KeysetRepository;
 import com.github.paulosalonso.research.adapter.jpa.repository.ResearchRepository;
-import com.github.paulosalonso.research.adapter.jpa.repository.specification.QuestionSpecificationFactory;
 import com.github.paulosalonso.research.adapter.jpa.repository.specification.ResearchSpecificationFactory;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.domain.Research;
 import com.github.paulosalonso.research.domain.ResearchCriteria;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
 import com.github.paulosalonso.research.usecase.exception.NotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.OffsetDateTime;
@@ -39,13 +42,13 @@ public class ResearchGatewayTest {
     private ResearchRepository researchRepository;
 
     @Mock
-    private QuestionRepository questionRepository;
+    private AnswerRepository answerRepository;
 
     @Mock
-    private ResearchSpecificationFactory researchSpecificationFactory;
+    private KeysetRepository keysetRepository;
 
     @Mock
-    private QuestionSpecificationFactory questionSpecificationFactory;
+    private ResearchSpecificationFactory researchSpecificationFactory;
 
     @Mock
     private ResearchMapper researchMapper;
@@ -75,17 +78,17 @@ public class ResearchGatewayTest {
         var id = UUID.randomUUID();
 
         var entity = ResearchEntity.builder()
-                .id(id.toString())
+                .id(id)
                 .title("title")
                 .startsOn(OffsetDateTime.now())
                 .build();
 
-        when(researchRepository.findById(id.toString())).thenReturn(Optional.of(entity));
+        when(researchRepository.findById(id)).thenReturn(Optional.of(entity));
         when(researchMapper.toDomain(entity, false)).thenCallRealMethod();
 
         gateway.read(id);
 
-        verify(researchRepository).findById(id.toString());
+        verify(researchRepository).findById(id);
         verifyNoMoreInteractions(researchRepository);
         verify(researchMapper).toDomain(entity, false);
         verifyNoMoreInteractions(researchMapper);
@@ -100,9 +103,10 @@ public class ResearchGatewayTest {
                 .options(List.of(option))
                 .build();
         var entity = ResearchEntity.builder()
-                .id(id.toString())
+                .id(id)
                 .title("title")
                 .startsOn(OffsetDateTime.now())
+                .questions(List.of(question))
                 .build();
 
         var result = Research.builder()
@@ -110,18 +114,12 @@ public class ResearchGatewayTest {
                 .startsOn(entity.getStartsOn())
                 .build();
 
-        when(questionSpecificationFactory.findByResearchId(entity.getId())).thenCallRealMethod();
-        when(questionSpecificationFactory.findFetchingOptions()).thenCallRealMethod();
         when(researchRepository.findById(entity.getId())).thenReturn(Optional.of(entity));
-        when(questionRepository.findAll(any(Specification.class))).thenReturn(List.of(question));
         when(researchMapper.toDomain(entity, false)).thenReturn(result);
 
         gateway.readFetchingQuestions(id);
 
         verify(researchRepository).findById(entity.getId());
-        verify(questionSpecificationFactory).findByResearchId(entity.getId());
-        verify(questionSpecificationFactory).findFetchingOptions();
-        verify(questionRepository).findAll(any(Specification.class));
         verify(researchMapper).toDomain(entity, false);
         verify(questionMapper).toDomain(question, true);
     }
@@ -130,12 +128,12 @@ public class ResearchGatewayTest {
     public void givenANonexistentIdWhenReadThenThrowsNotFoundException() {
         var id = UUID.randomUUID();
 
-        when(researchRepository.findById(id.toString())).thenReturn(Optional.empty());
+        when(researchRepository.findById(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gateway.read(id))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(researchRepository).findById(id.toString());
+        verify(researchRepository).findById(id);
         verifyNoInteractions(researchMapper);
     }
 
@@ -148,20 +146,74 @@ public class ResearchGatewayTest {
                 .startsOn(OffsetDateTime.now())
                 .build();
 
+        var page = PageCriteria.builder().limit(10).build();
+
         when(researchSpecificationFactory.findByResearchCriteria(criteria)).thenCallRealMethod();
         when(researchMapper.toDomain(any(ResearchEntity.class), eq(false))).thenCallRealMethod();
-        when(researchRepository.findAll(any(Specification.class))).thenReturn(List.of(entity));
+        when(keysetRepository.findAll(eq(ResearchEntity.class), any(Specification.class), eq(11))).thenReturn(List.of(entity));
 
-        assertThat(gateway.search(criteria)).hasSize(1);
+        var result = gateway.search(criteria, page);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
 
         verify(researchSpecificationFactory).findByResearchCriteria(criteria);
         verifyNoMoreInteractions(researchSpecificationFactory);
-        verify(researchRepository).findAll(any(Specification.class));
-        verifyNoMoreInteractions(researchRepository);
+        verify(keysetRepository).findAll(eq(ResearchEntity.class), any(Specification.class), eq(11));
+        verifyNoInteractions(researchRepository);
         verify(researchMapper).toDomain(entity, false);
         verifyNoMoreInteractions(researchMapper);
     }
 
+    @Test
+    public void givenMoreResearchesThanTheLimitWhenSearchThenReturnTheCursorOfTheLastOne() {
+        var criteria = ResearchCriteria.builder().build();
+        var entityA = ResearchEntity.builder().id(UUID.randomUUID()).title("a").startsOn(OffsetDateTime.now()).build();
+        var entityB = ResearchEntity.builder().id(UUID.randomUUID()).title("b").startsOn(OffsetDateTime.now()).build();
+        var page = PageCriteria.builder().limit(1).build();
+
+        when(researchSpecificationFactory.findByResearchCriteria(criteria)).thenCallRealMethod();
+        when(researchMapper.toDomain(any(ResearchEntity.class), eq(false))).thenCallRealMethod();
+        when(keysetRepository.findAll(eq(ResearchEntity.class), any(Specification.class), eq(2)))
+                .thenReturn(List.of(entityA, entityB));
+
+        var result = gateway.search(criteria, page);
+
+        assertThat(result.getContent()).extracting(Research::getId).containsExactly(entityA.getId());
+        assertThat(result.getNextCursor()).isEqualTo(Keyset.encode(entityA.getStartsOn(), entityA.getId()));
+    }
+
+    @Test
+    public void givenACursorWhenSearchThenReadAfterIt() {
+        var criteria = ResearchCriteria.builder().build();
+        var page = PageCriteria.builder()
+                .cursor(Keyset.encode(OffsetDateTime.now(), UUID.randomUUID()))
+                .limit(10)
+                .build();
+
+        when(researchSpecificationFactory.findByResearchCriteria(criteria)).thenCallRealMethod();
+        when(keysetRepository.findAll(eq(ResearchEntity.class), any(Specification.class), eq(11))).thenReturn(List.of());
+
+        assertThat(gateway.search(criteria, page).getContent()).isEmpty();
+        verify(keysetRepository).findAll(eq(ResearchEntity.class), any(Specification.class), eq(11));
+    }
+
+    @Test
+    public void givenAnInvalidCursorWhenSearchThenThrowsException() {
+        var criteria = ResearchCriteria.builder().build();
+        var page = PageCriteria.builder()
+                .cursor(Keyset.encode(1, UUID.randomUUID()))
+                .limit(10)
+                .build();
+
+        when(researchSpecificationFactory.findByResearchCriteria(criteria)).thenCallRealMethod();
+
+        assertThatThrownBy(() -> gateway.search(criteria, page))
+                .isExactlyInstanceOf(InvalidCriteriaException.class);
+
+        verifyNoInteractions(keysetRepository);
+    }
+
     @Test
     public void givenAResearchWhenUpdateThenFindAndCopy() {
         var research = Research.builder()
@@ -172,19 +224,19 @@ public class ResearchGatewayTest {
                 .build();
 
         var entity = ResearchEntity.builder()
-                .id(research.getId().toString())
+                .id(research.getId())
                 .title("title a")
                 .description("description a")
                 .startsOn(OffsetDateTime.now().minusHours(2))
                 .endsOn(OffsetDateTime.now().plusDays(10))
                 .build();
 
-        when(researchRepository.findById(research.getId().toString())).thenReturn(Optional.of(entity));
+        when(researchRepository.findById(research.getId())).thenReturn(Optional.of(entity));
         when(researchMapper.copy(research, entity)).thenCallRealMethod();
 
         gateway.update(research);
 
-        verify(researchRepository).findById(research.getId().toString());
+        verify(researchRepository).findById(research.getId());
         verifyNoMoreInteractions(researchRepository);
         verify(researchMapper).copy(research, entity);
         verifyNoMoreInteractions(researchMapper);
@@ -203,12 +255,12 @@ public class ResearchGatewayTest {
                 .startsOn(OffsetDateTime.now())
                 .build();
 
-        when(researchRepository.findById(research.getId().toString())).thenReturn(Optional.empty());
+        when(researchRepository.findById(research.getId())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gateway.update(research))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(researchRepository).findById(research.getId().toString());
+        verify(researchRepository).findById(research.getId());
         verifyNoMoreInteractions(researchRepository);
         verifyNoInteractions(researchMapper);
     }
@@ -219,31 +271,44 @@ public class ResearchGatewayTest {
 
         gateway.delete(id);
 
-        verify(researchRepository).deleteById(id.toString());
+        verify(answerRepository).existsByResearchId(id);
+        verify(researchRepository).deleteById(id);
         verifyNoMoreInteractions(researchRepository);
     }
 
+    @Test
+    public void givenAResearchWithAnswersWhenDeleteThenThrowsDataIntegrityViolationException() {
+        var id = UUID.randomUUID();
+
+        when(answerRepository.existsByResearchId(id)).thenReturn(true);
+
+        assertThatThrownBy(() -> gateway.delete(id))
+                .isExactlyInstanceOf(DataIntegrityViolationException.class);
+
+        verifyNoInteractions(researchRepository);
+    }
+
     @Test
     public void givenAResearchWithoutQuestionsWhenGetNextQuestionSequenceThenReturnOne() {
         var id = UUID.randomUUID();
 
-        when(researchRepository.findLastQuestionSequence(id.toString())).thenReturn(Optional.empty());
+        when(researchRepository.findLastQuestionSequence(id)).thenReturn(Optional.empty());
 
         var sequence = gateway.getNextQuestionSequence(id);
 
         assertThat(sequence).isEqualTo(1);
-        verify(researchRepository).findLastQuestionSequence(id.toString());
+        verify(researchRepository).findLastQuestionSequence(id);
     }
 
     @Test
     public void givenAResearchWithOptionsWhenGetNextQuestionSequenceThenReturnNextSequence() {
         var id = UUID.randomUUID();
 
-        when(researchRepository.findLastQuestionSequence(id.toString())).thenReturn(Optional.of(1));
+        when(researchRepository.findLastQuestionSequence(id)).thenReturn(Optional.of(1));
 
         var sequence = gateway.getNextQuestionSequence(id);
 
         assertThat(sequence).isEqualTo(2);
-        verify(researchRepository).findLastQuestionSequence(id.toString());
+        verify(researchRepository).findLastQuestionSequence(id);
     }
 }
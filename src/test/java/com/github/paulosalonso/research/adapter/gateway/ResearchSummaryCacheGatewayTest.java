@@ -0,0 +1,186 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResearchSummaryCacheGatewayTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void givenARepeatedCriteriaWhenGetThenLoadOnlyOnce() {
+        var cache = buildCache(10, Duration.ofSeconds(30), Duration.ZERO);
+        var criteria = buildCriteria(UUID.randomUUID());
+
+        var first = cache.get(criteria, loader());
+        var second = cache.get(criteria, loader());
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    public void givenCriteriaWithTheSameInstantInDifferentOffsetsWhenGetThenShareTheEntry() {
+        var cache = buildCache(10, Duration.ofSeconds(30), Duration.ZERO);
+        var researchId = UUID.randomUUID();
+        var date = OffsetDateTime.now();
+
+        cache.get(AnswerCriteria.builder().researchId(researchId).dateFrom(date).build(), loader());
+        cache.get(AnswerCriteria.builder().researchId(researchId)
+                .dateFrom(date.withOffsetSameInstant(ZoneOffset.ofHours(5))).build(), loader());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void givenCriteriaWithDifferentSegmentsWhenGetThenLoadEachOne() {
+        var cache = buildCache(10, Duration.ofSeconds(30), Duration.ZERO);
+        var researchId = UUID.randomUUID();
+        var optionA = UUID.randomUUID();
+        var optionB = UUID.randomUUID();
+
+        cache.get(AnswerCriteria.builder().researchId(researchId).build(), loader());
+        cache.get(AnswerCriteria.builder().researchId(researchId).segment(Set.of(optionA)).build(), loader());
+        cache.get(AnswerCriteria.builder().researchId(researchId).segment(Set.of(optionA, optionB)).build(), loader());
+        cache.get(AnswerCriteria.builder().researchId(researchId).segment(Set.of(optionB, optionA)).build(), loader());
+        cache.get(AnswerCriteria.builder().researchId(researchId).segment(Set.of()).build(), loader());
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    public void givenAnExpiredEntryWhenGetThenReload() {
+        var cache = buildCache(10, Duration.ofSeconds(30), Duration.ZERO);
+        var criteria = buildCriteria(UUID.randomUUID());
+
+        cache.get(criteria, loader());
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        cache.get(criteria, loader());
+
+        assertThat(loads).hasValue(2);
+        assertThat(evictions()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenAWriteWhenMaxStalenessIsZeroThenReloadOnlyThatResearch() {
+        var cache = buildCache(10, Duration.ofSeconds(30), Duration.ZERO);
+        var criteria = buildCriteria(UUID.randomUUID());
+        var otherCriteria = buildCriteria(UUID.randomUUID());
+
+        cache.get(criteria, loader());
+        cache.get(otherCriteria, loader());
+        clock.incrementAndGet();
+        cache.invalidate(criteria.getResearchId());
+        cache.get(criteria, loader());
+        cache.get(otherCriteria, loader());
+
+        assertThat(loads).hasValue(3);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    public void givenAWriteWhenEntryIsYoungerThanMaxStalenessThenServeIt() {
+        var cache = buildCache(10, Duration.ofSeconds(30), Duration.ofSeconds(5));
+        var criteria = buildCriteria(UUID.randomUUID());
+
+        cache.get(criteria, loader());
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.invalidate(criteria.getResearchId());
+        cache.get(criteria, loader());
+
+        assertThat(loads).hasValue(1);
+
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        cache.get(criteria, loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void givenAWriteDuringTheLoadWhenGetThenTheLoadedEntryIsStale() {
+        var cache = buildCache(10, Duration.ofSeconds(30), Duration.ZERO);
+        var criteria = buildCriteria(UUID.randomUUID());
+
+        cache.get(criteria, () -> {
+            clock.incrementAndGet();
+            cache.invalidate(criteria.getResearchId());
+            return loader().get();
+        });
+        cache.get(criteria, loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void givenAFullCacheWhenGetThenEvictAnEntryToStayWithinTheMaximumSize() {
+        var cache = buildCache(2, Duration.ofSeconds(30), Duration.ZERO);
+        var criteriaA = buildCriteria(UUID.randomUUID());
+        var criteriaB = buildCriteria(UUID.randomUUID());
+        var criteriaC = buildCriteria(UUID.randomUUID());
+
+        cache.get(criteriaA, loader());
+        cache.get(criteriaB, loader());
+        cache.get(criteriaA, loader());
+        cache.get(criteriaC, loader());
+
+        assertThat(loads).hasValue(3);
+        assertThat(evictions()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(2);
+
+        cache.get(criteriaA, loader());
+        cache.get(criteriaB, loader());
+        cache.get(criteriaC, loader());
+
+        assertThat(loads.get()).isGreaterThan(3);
+    }
+
+    private ResearchSummaryCacheGateway buildCache(int maxSize, Duration ttl, Duration maxStaleness) {
+        return new ResearchSummaryCacheGateway(meterRegistry, maxSize, ttl, maxStaleness, clock::get);
+    }
+
+    private Supplier<ResearchSummary> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return ResearchSummary.builder().build();
+        };
+    }
+
+    private AnswerCriteria buildCriteria(UUID researchId) {
+        return AnswerCriteria.builder()
+                .researchId(researchId)
+                .build();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("cache.gets").tag("result", result).counter().count();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("cache.evictions").counter().count();
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.paulosalonso.research.adapter.gateway;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionGatewayTest {
+
+    @InjectMocks
+    private TransactionGateway gateway;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private Runnable action;
+
+    @Test
+    public void givenAnActionWhenExecuteThenRunItInsideATransaction() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        gateway.execute(action);
+
+        verify(transactionTemplate).executeWithoutResult(any());
+        verify(action).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.paulosalonso.research.adapter.jdbc;
+
+import com.github.paulosalonso.research.application.ResearchApplication;
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn -P benchmark verify (requires Docker)
+// Compares the JPA and the JDBC answer adapters through the port, below the summary cache
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JdbcAnswerGatewayBenchmark {
+
+    private static final UUID RESEARCH_ID = UUID.fromString("6a1f4ad4-1f5e-4a9b-9d1c-0f4c2a7d3e10");
+
+    @Param({"default", "default,jdbc"})
+    private String profiles;
+
+    private PostgreSQLContainer<?> container;
+    private ConfigurableApplicationContext context;
+    private AnswerPort answerPort;
+    private List<Answer> answers;
+
+    @Setup
+    public void setUp() {
+        container = new PostgreSQLContainer<>("postgres:12");
+        container.start();
+
+        // Command line arguments, so they take precedence over the test application.properties
+        context = new SpringApplicationBuilder(ResearchApplication.class)
+                .profiles(profiles.split(","))
+                .run("--server.port=0",
+                        "--spring.datasource.driver-class-name=" + container.getDriverClassName(),
+                        "--spring.datasource.url=" + container.getJdbcUrl(),
+                        "--spring.datasource.username=" + container.getUsername(),
+                        "--spring.datasource.password=" + container.getPassword(),
+                        "--logging.level.org.hibernate.SQL=info",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info");
+
+        answerPort = context.getBean(AnswerPort.class);
+        answers = seed(context.getBean(JdbcTemplate.class));
+    }
+
+    // One research with 10 questions of 5 options, each submission selects the first option of every question
+    private List<Answer> seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into research (id, title, starts_on) values (?, 'benchmark', timestamp '2020-01-01')", RESEARCH_ID);
+        jdbcTemplate.update("insert into question (id, sequence, description, multi_select, research_id) " +
+                "select md5(r.id::text || q)::uuid, q, 'question ' || q, false, r.id from research r, generate_series(1, 10) q");
+        jdbcTemplate.update("insert into option (id, sequence, description, notify, question_id) " +
+                "select md5(q.id::text || o)::uuid, o, 'option ' || o, false, q.id from question q, generate_series(1, 5) o");
+
+        var date = OffsetDateTime.now();
+
+        return jdbcTemplate.query("select o.question_id, o.id from option o where o.sequence = 1", (row, index) -> Answer.builder()
+                .date(date)
+                .researchId(RESEARCH_ID)
+                .questionId(row.getObject(1, UUID.class))
+                .optionId(row.getObject(2, UUID.class))
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        container.stop();
+    }
+
+    @Benchmark
+    public Submission createSubmission() {
+        return answerPort.createSubmission(Submission.builder()
+                .researchId(RESEARCH_ID)
+                .date(OffsetDateTime.now())
+                .answers(answers)
+                .build());
+    }
+
+    @Benchmark
+    public ResearchSummary search() {
+        return answerPort.search(AnswerCriteria.builder()
+                .researchId(RESEARCH_ID)
+                .build());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JdbcAnswerGatewayBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,317 @@
+package com.github.paulosalonso.research.adapter.jdbc;
+
+import com.github.paulosalonso.research.adapter.gateway.AnswerCounterAccumulator;
+import com.github.paulosalonso.research.adapter.gateway.AnswerGateway;
+import com.github.paulosalonso.research.adapter.jpa.mapper.AnswerMapper;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerCounterId;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerRollupId;
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerOrdinalDictionary;
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.Research;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.port.ResearchPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.DAILY;
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.HOURLY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JdbcAnswerGatewayTest {
+
+    @Mock
+    private AnswerJdbcRepository answerJdbcRepository;
+
+    @Mock
+    private AnswerCounterAccumulator answerCounterAccumulator;
+
+    @Mock
+    private AnswerOrdinalDictionary answerOrdinalDictionary;
+
+    @Mock
+    private AnswerGateway answerGateway;
+
+    @Mock
+    private ResearchPort researchPort;
+
+    @Mock
+    private AnswerMapper answerMapper;
+
+    @Mock
+    private ResearchSummaryMapper researchSummaryMapper;
+
+    @Captor
+    private ArgumentCaptor<List<Answer>> answersCaptor;
+
+    private JdbcAnswerGateway gateway;
+
+    @BeforeEach
+    public void setUp() {
+        gateway = buildGateway("rows");
+    }
+
+    @Test
+    public void givenASubmissionWhenCreateThenInsertItAndItsAnswersInABatch() {
+        var answerA = buildAnswer();
+        var answerB = answerA.toBuilder()
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var submission = Submission.builder()
+                .researchId(answerA.getResearchId())
+                .date(answerA.getDate())
+                .answers(List.of(answerA, answerB))
+                .build();
+
+        var counterId = AnswerCounterId.builder().build();
+        var hourlyId = AnswerRollupId.builder().build();
+        var dailyId = AnswerRollupId.builder().build();
+
+        when(answerJdbcRepository.insertSubmissions(List.of(submission), null)).thenReturn(new long[] {7L});
+        when(answerMapper.toCounterId(any(Answer.class))).thenReturn(counterId);
+        when(answerMapper.toRollupId(any(Answer.class), eq(HOURLY))).thenReturn(hourlyId);
+        when(answerMapper.toRollupId(any(Answer.class), eq(DAILY))).thenReturn(dailyId);
+
+        var result = gateway.createSubmission(submission);
+
+        assertThat(result.getId()).isEqualTo(7L);
+        assertThat(result.getAnswers())
+                .extracting(Answer::getOptionId)
+                .containsExactly(answerA.getOptionId(), answerB.getOptionId());
+        assertThat(result.getAnswers())
+                .extracting(Answer::getSubmissionId)
+                .containsOnly(7L);
+
+        verify(answerJdbcRepository).insertAnswers(answersCaptor.capture());
+        assertThat(answersCaptor.getValue()).isEqualTo(result.getAnswers());
+
+        verify(answerCounterAccumulator).register(List.of(7L));
+        verify(answerCounterAccumulator).increment(Map.of(counterId, 2L));
+        verify(answerCounterAccumulator).incrementRollup(HOURLY, Map.of(hourlyId, 2L));
+        verify(answerCounterAccumulator).incrementRollup(DAILY, Map.of(dailyId, 2L));
+        verifyNoInteractions(answerOrdinalDictionary);
+    }
+
+    @Test
+    public void givenManySubmissionsWhenCreateThenInsertThemInOneBatchWithTheirIds() {
+        var first = Submission.builder()
+                .researchId(UUID.randomUUID())
+                .date(OffsetDateTime.now())
+                .answers(List.of(buildAnswer()))
+                .build();
+
+        var second = first.toBuilder()
+                .answers(List.of(buildAnswer()))
+                .build();
+
+        when(answerJdbcRepository.insertSubmissions(List.of(first, second), null)).thenReturn(new long[] {7L, 8L});
+        stubIncrementIds();
+
+        var result = gateway.createSubmissions(List.of(first, second));
+
+        assertThat(result).extracting(Submission::getId).containsExactly(7L, 8L);
+        verify(answerJdbcRepository).insertAnswers(answersCaptor.capture());
+        assertThat(answersCaptor.getValue()).extracting(Answer::getSubmissionId).containsExactly(7L, 8L);
+    }
+
+    @Test
+    public void givenAnAlreadyStoredIdempotencyKeyWhenCreateSubmissionsThenSkipThatSubmission() {
+        var stored = buildAnswer();
+        var fresh = buildAnswer();
+
+        var storedSubmission = Submission.builder()
+                .researchId(stored.getResearchId())
+                .date(stored.getDate())
+                .answers(List.of(stored))
+                .idempotencyKey(UUID.randomUUID())
+                .build();
+
+        var freshSubmission = Submission.builder()
+                .researchId(fresh.getResearchId())
+                .date(fresh.getDate())
+                .answers(List.of(fresh))
+                .idempotencyKey(UUID.randomUUID())
+                .build();
+
+        when(answerJdbcRepository.findIdempotencyKeys(List.of(storedSubmission.getIdempotencyKey(), freshSubmission.getIdempotencyKey())))
+                .thenReturn(Set.of(storedSubmission.getIdempotencyKey()));
+        when(answerJdbcRepository.insertSubmissions(List.of(freshSubmission), null)).thenReturn(new long[] {7L});
+        when(answerMapper.toCounterId(any(Answer.class))).thenReturn(AnswerCounterId.builder().build());
+        when(answerMapper.toRollupId(any(Answer.class), any())).thenReturn(AnswerRollupId.builder().build());
+
+        var result = gateway.createSubmissions(List.of(storedSubmission, freshSubmission));
+
+        assertThat(result).extracting(Submission::getId).containsExactly(7L);
+        verify(answerJdbcRepository).insertSubmissions(List.of(freshSubmission), null);
+        verify(answerJdbcRepository).insertAnswers(answersCaptor.capture());
+        assertThat(answersCaptor.getValue()).extracting(Answer::getOptionId).containsExactly(fresh.getOptionId());
+    }
+
+    @Test
+    public void givenOnlyStoredIdempotencyKeysWhenCreateSubmissionsThenWriteNothing() {
+        var answer = buildAnswer();
+        var submission = Submission.builder()
+                .researchId(answer.getResearchId())
+                .date(answer.getDate())
+                .answers(List.of(answer))
+                .idempotencyKey(UUID.randomUUID())
+                .build();
+
+        when(answerJdbcRepository.findIdempotencyKeys(List.of(submission.getIdempotencyKey())))
+                .thenReturn(Set.of(submission.getIdempotencyKey()));
+
+        assertThat(gateway.createSubmissions(List.of(submission))).isEmpty();
+
+        verifyNoMoreInteractions(answerJdbcRepository);
+        verifyNoInteractions(answerCounterAccumulator);
+    }
+
+    @Test
+    public void givenThePackedLayoutWhenCreateSubmissionThenStoreTheOptionsInTheSubmissionRow() {
+        gateway = buildGateway("packed");
+
+        var answer = buildAnswer();
+        var submission = Submission.builder()
+                .researchId(answer.getResearchId())
+                .date(answer.getDate())
+                .answers(List.of(answer))
+                .build();
+
+        var options = new byte[] {1};
+
+        when(answerOrdinalDictionary.encode(answer.getResearchId(), List.of(answer.getOptionId()))).thenReturn(options);
+        when(answerJdbcRepository.insertSubmissions(List.of(submission), List.of(options))).thenReturn(new long[] {7L});
+        stubIncrementIds();
+
+        var result = gateway.createSubmission(submission);
+
+        assertThat(result.getId()).isEqualTo(7L);
+        verify(answerJdbcRepository).insertSubmissions(List.of(submission), List.of(options));
+        verifyNoMoreInteractions(answerJdbcRepository);
+    }
+
+    @Test
+    public void givenACriteriaWithoutDatesAndSegmentWhenSearchThenReadTheCountersById() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .build();
+
+        var research = Research.builder()
+                .id(criteria.getResearchId())
+                .title("title")
+                .startsOn(OffsetDateTime.now())
+                .build();
+
+        var amountByOption = Map.of(UUID.randomUUID(), 1L);
+        var summary = ResearchSummary.builder().build();
+
+        when(researchPort.readFetchingQuestions(criteria.getResearchId())).thenReturn(research);
+        when(answerCounterAccumulator.amountByOption(eq(criteria.getResearchId()), eq(criteria.getQuestionId()), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        when(answerJdbcRepository.findAmountByOption(criteria.getResearchId(), criteria.getQuestionId())).thenReturn(amountByOption);
+        when(researchSummaryMapper.toDomain(research, amountByOption)).thenReturn(summary);
+
+        assertThat(gateway.search(criteria)).isSameAs(summary);
+
+        verifyNoInteractions(answerGateway);
+    }
+
+    @Test
+    public void givenACriteriaWithDatesWhenSearchThenDelegateToTheJpaAdapter() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .dateTo(OffsetDateTime.now())
+                .build();
+
+        var summary = ResearchSummary.builder().build();
+
+        when(answerGateway.search(criteria)).thenReturn(summary);
+
+        assertThat(gateway.search(criteria)).isSameAs(summary);
+
+        verifyNoInteractions(answerJdbcRepository, researchPort);
+    }
+
+    @Test
+    public void givenACriteriaWithSegmentWhenSearchThenDelegateToTheJpaAdapter() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .segment(Set.of(UUID.randomUUID()))
+                .build();
+
+        var summary = ResearchSummary.builder().build();
+
+        when(answerGateway.search(criteria)).thenReturn(summary);
+
+        assertThat(gateway.search(criteria)).isSameAs(summary);
+
+        verifyNoInteractions(answerJdbcRepository, researchPort);
+    }
+
+    @Test
+    public void givenACriteriaWhenCrosstabThenDelegateToTheJpaAdapter() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        var rowQuestionId = UUID.randomUUID();
+        var columnQuestionId = UUID.randomUUID();
+        var crosstab = ResearchCrosstab.builder().build();
+
+        when(answerGateway.crosstab(criteria, rowQuestionId, columnQuestionId)).thenReturn(crosstab);
+
+        assertThat(gateway.crosstab(criteria, rowQuestionId, columnQuestionId)).isSameAs(crosstab);
+    }
+
+    @Test
+    public void givenACriteriaWhenExportThenDelegateToTheJpaAdapter() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        Consumer<Answer> consumer = answer -> {};
+
+        gateway.export(criteria, consumer);
+
+        verify(answerGateway).export(criteria, consumer);
+    }
+
+    private JdbcAnswerGateway buildGateway(String layout) {
+        return new JdbcAnswerGateway(answerJdbcRepository, answerCounterAccumulator, answerOrdinalDictionary,
+                answerGateway, researchPort, answerMapper, researchSummaryMapper, layout);
+    }
+
+    private void stubIncrementIds() {
+        when(answerMapper.toCounterId(any(Answer.class))).thenReturn(AnswerCounterId.builder().build());
+        when(answerMapper.toRollupId(any(Answer.class), any())).thenReturn(AnswerRollupId.builder().build());
+    }
+
+    private Answer buildAnswer() {
+        return Answer.builder()
+                .date(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.paulosalonso.research.adapter.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PooledSequenceTest {
+
+    @Test
+    public void givenASequenceValueWhenNextThenReturnTheIdsOfTheBlockEndingOnIt() {
+        var values = LongStream.of(101, 151).iterator();
+        var sequence = new PooledSequence(values::nextLong, 50);
+
+        assertThat(sequence.next(2)).containsExactly(52, 53);
+        assertThat(sequence.next(1)).containsExactly(54);
+    }
+
+    @Test
+    public void givenAnExhaustedBlockWhenNextThenReadTheSequenceAgain() {
+        var values = LongStream.of(101, 151).iterator();
+        var sequence = new PooledSequence(values::nextLong, 50);
+
+        sequence.next(49);
+
+        assertThat(sequence.next(3)).containsExactly(101, 102, 103);
+        assertThat(values.hasNext()).isFalse();
+    }
+
+    @Test
+    public void givenAFreshSequenceWhenNextThenSkipItsInitialValue() {
+        var values = LongStream.of(1, 51).iterator();
+        var sequence = new PooledSequence(values::nextLong, 50);
+
+        assertThat(sequence.next(1)).containsExactly(2);
+        assertThat(values.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.paulosalonso.research.adapter.jdbc;
+
+import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.domain.Question;
+import com.github.paulosalonso.research.domain.Research;
+import com.github.paulosalonso.research.domain.ResearchSummary.OptionSummary;
+import com.github.paulosalonso.research.domain.ResearchSummary.QuestionSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class ResearchSummaryMapperTest {
+
+    private ResearchSummaryMapper mapper = new ResearchSummaryMapper();
+
+    @Test
+    public void givenAResearchAndTheAmountsByOptionWhenMapThenReturnSummaryInSequence() {
+        var optionAA = buildOption(1);
+        var optionAB = buildOption(2);
+        var optionBA = buildOption(1);
+        var questionA = buildQuestion(1, optionAB, optionAA);
+        var questionB = buildQuestion(2, optionBA);
+
+        var research = Research.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .startsOn(OffsetDateTime.now())
+                .questions(Set.of(questionB, questionA))
+                .build();
+
+        var summary = mapper.toDomain(research, Map.of(optionAA.getId(), 3L, optionBA.getId(), 1L));
+
+        assertThat(summary.getId()).isEqualTo(research.getId());
+        assertThat(summary.getTitle()).isEqualTo(research.getTitle());
+        assertThat(summary.getQuestions())
+                .extracting(QuestionSummary::getId, QuestionSummary::getSequence, QuestionSummary::getDescription)
+                .containsExactly(
+                        tuple(questionA.getId(), 1, "question 1"),
+                        tuple(questionB.getId(), 2, "question 2"));
+        assertThat(summary.getQuestions().get(0).getOptions())
+                .extracting(OptionSummary::getId, OptionSummary::getSequence, OptionSummary::getAmount)
+                .containsExactly(
+                        tuple(optionAA.getId(), 1, 3L),
+                        tuple(optionAB.getId(), 2, 0L));
+        assertThat(summary.getQuestions().get(1).getOptions())
+                .extracting(OptionSummary::getAmount)
+                .containsExactly(1L);
+    }
+
+    private Question buildQuestion(int sequence, Option... options) {
+        return Question.builder()
+                .id(UUID.randomUUID())
+                .sequence(sequence)
+                .description("question " + sequence)
+                .multiSelect(false)
+                .options(Set.of(options))
+                .build();
+    }
+
+    private Option buildOption(int sequence) {
+        return Option.builder()
+                .id(UUID.randomUUID())
+                .sequence(sequence)
+                .description("option " + sequence)
+                .build();
+    }
+}
@@ -0,0 +1,223 @@
+package com.github.paulosalonso.research.adapter.journal;
+
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.answer.AnswerCreate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnswerJournalApplierTest {
+
+    @Mock
+    private AnswerJournal answerJournal;
+
+    @Mock
+    private AnswerCreate answerCreate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AnswerJournalApplier applier;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        applier = new AnswerJournalApplier(answerJournal, answerCreate, meterRegistry, 2, Duration.ofMillis(50),
+                Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    @Test
+    public void givenABatchWhenApplyThenCreateAllAndMoveTheCheckpoint() {
+        var end = new JournalPosition(0, 100);
+        var batch = new JournalBatch(List.of(buildSubmission(), buildSubmission()), end);
+
+        assertThat(applier.apply(batch)).isTrue();
+
+        var inOrder = inOrder(answerCreate, answerJournal);
+        inOrder.verify(answerCreate).createAll(batch.getSubmissions());
+        inOrder.verify(answerJournal).markApplied(end);
+        assertThat(meterRegistry.get("research.answer.journal.applied").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("research.answer.journal.failed").counter().count()).isZero();
+        assertThat(meterRegistry.get("research.answer.journal.apply").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(10)
+    public void givenABatchWithInvalidDataWhenApplyThenRetryEachRecordAndDeadLetterTheInvalidOnes() throws IOException {
+        var valid = buildSubmission();
+        var invalid = buildSubmission();
+        var end = new JournalPosition(0, 100);
+        var batch = new JournalBatch(List.of(valid, invalid), end);
+        var failure = new DataIntegrityViolationException("test exception");
+
+        doThrow(new DataIntegrityViolationException("test exception")).when(answerCreate).createAll(batch.getSubmissions());
+        doNothing().when(answerCreate).createAll(List.of(valid));
+        doThrow(failure).when(answerCreate).createAll(List.of(invalid));
+
+        assertThat(applier.apply(batch)).isTrue();
+
+        var inOrder = inOrder(answerCreate, answerJournal);
+        inOrder.verify(answerCreate).createAll(List.of(valid));
+        inOrder.verify(answerCreate).createAll(List.of(invalid));
+        inOrder.verify(answerJournal).deadLetter(invalid, failure);
+        inOrder.verify(answerJournal).markApplied(end);
+        assertThat(meterRegistry.get("research.answer.journal.applied").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("research.answer.journal.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenATransientFailureWhenApplyThenKeepTheCheckpoint() {
+        var batch = new JournalBatch(List.of(buildSubmission(), buildSubmission()), new JournalPosition(0, 100));
+
+        doThrow(new RuntimeException("test exception")).when(answerCreate).createAll(batch.getSubmissions());
+
+        assertThat(applier.apply(batch)).isFalse();
+
+        verify(answerCreate).createAll(batch.getSubmissions());
+        verifyNoMoreInteractions(answerCreate);
+        verify(answerJournal, never()).markApplied(any());
+        assertThat(meterRegistry.get("research.answer.journal.failed").counter().count()).isZero();
+    }
+
+    @Test
+    @Timeout(10)
+    public void givenATransientFailureWhileRetryingOneByOneWhenApplyThenRetryTheRecordUntilItsStored() throws IOException {
+        var invalid = buildSubmission();
+        var unreachable = buildSubmission();
+        var end = new JournalPosition(0, 100);
+        var batch = new JournalBatch(List.of(invalid, unreachable), end);
+
+        doThrow(new DataIntegrityViolationException("test exception")).when(answerCreate).createAll(batch.getSubmissions());
+        doThrow(new DataIntegrityViolationException("test exception")).when(answerCreate).createAll(List.of(invalid));
+        doThrow(new RuntimeException("test exception")).doNothing().when(answerCreate).createAll(List.of(unreachable));
+
+        assertThat(applier.apply(batch)).isTrue();
+
+        verify(answerCreate, times(2)).createAll(List.of(unreachable));
+        verify(answerJournal).deadLetter(eq(invalid), any());
+        verify(answerJournal).markApplied(end);
+        assertThat(meterRegistry.get("research.answer.journal.applied").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("research.answer.journal.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(10)
+    public void givenADeadLetterThatCantBeWrittenWhenApplyThenKeepTheCheckpoint() throws IOException {
+        var invalid = buildSubmission();
+        var batch = new JournalBatch(List.of(invalid), new JournalPosition(0, 100));
+
+        doThrow(new DataIntegrityViolationException("test exception")).when(answerCreate).createAll(List.of(invalid));
+        doThrow(new IOException("test exception")).when(answerJournal).deadLetter(eq(invalid), any());
+
+        assertThat(applier.apply(batch)).isFalse();
+
+        verify(answerJournal, never()).markApplied(any());
+    }
+
+    @Test
+    @Timeout(10)
+    public void givenATransientFailureWhenRunningThenBackOffAndReadAgainFromTheCheckpoint() throws InterruptedException {
+        var checkpoint = new JournalPosition(0, 0);
+        var end = new JournalPosition(0, 100);
+        var submissions = List.of(buildSubmission());
+        var empty = new JournalBatch(List.of(), end);
+
+        doThrow(new RuntimeException("test exception")).doNothing().when(answerCreate).createAll(submissions);
+        when(answerJournal.getApplied()).thenReturn(checkpoint, checkpoint, end);
+        when(answerJournal.read(eq(checkpoint), eq(2), any())).thenReturn(new JournalBatch(submissions, end));
+        lenient().when(answerJournal.read(eq(end), eq(2), any())).thenReturn(empty);
+        lenient().when(answerJournal.readNow(any(), anyInt())).thenReturn(empty);
+
+        applier.start();
+
+        try {
+            verify(answerJournal, timeout(5000)).markApplied(end);
+            verify(answerCreate, times(2)).createAll(submissions);
+            verify(answerJournal, times(2)).read(eq(checkpoint), eq(2), any());
+        } finally {
+            applier.shutdown();
+        }
+    }
+
+    @Test
+    public void givenRecordsInTheJournalWhenRunningThenApplyThemFromTheCheckpoint() throws InterruptedException {
+        var checkpoint = new JournalPosition(0, 0);
+        var end = new JournalPosition(0, 100);
+        var submissions = List.of(buildSubmission());
+        var empty = new JournalBatch(List.of(), end);
+
+        when(answerJournal.getApplied()).thenReturn(checkpoint, end);
+        when(answerJournal.read(eq(checkpoint), eq(2), any())).thenReturn(new JournalBatch(submissions, end));
+        lenient().when(answerJournal.read(eq(end), eq(2), any())).thenReturn(empty);
+        when(answerJournal.readNow(any(), anyInt())).thenReturn(empty);
+
+        applier.start();
+
+        try {
+            verify(answerJournal, timeout(5000)).markApplied(end);
+            verify(answerCreate).createAll(submissions);
+        } finally {
+            applier.shutdown();
+        }
+    }
+
+    @Test
+    public void givenPendingRecordsWhenShutdownThenApplyThemAll() throws InterruptedException {
+        var checkpoint = new JournalPosition(0, 0);
+        var middle = new JournalPosition(0, 100);
+        var end = new JournalPosition(1, 50);
+        var first = List.of(buildSubmission(), buildSubmission());
+        var second = List.of(buildSubmission());
+
+        when(answerJournal.getApplied()).thenReturn(checkpoint, middle, end);
+        when(answerJournal.readNow(checkpoint, 2)).thenReturn(new JournalBatch(first, middle));
+        when(answerJournal.readNow(middle, 2)).thenReturn(new JournalBatch(second, end));
+        when(answerJournal.readNow(end, 2)).thenReturn(new JournalBatch(List.of(), end));
+
+        applier.shutdown();
+
+        var inOrder = inOrder(answerCreate, answerJournal);
+        inOrder.verify(answerCreate).createAll(first);
+        inOrder.verify(answerJournal).markApplied(middle);
+        inOrder.verify(answerCreate).createAll(second);
+        inOrder.verify(answerJournal).markApplied(end);
+    }
+
+    @Test
+    @Timeout(10)
+    public void givenATransientFailureWhenShutdownThenLeaveTheRecordsInTheJournal() throws InterruptedException {
+        var checkpoint = new JournalPosition(0, 0);
+        var submissions = List.of(buildSubmission());
+
+        doThrow(new RuntimeException("test exception")).when(answerCreate).createAll(submissions);
+        when(answerJournal.getApplied()).thenReturn(checkpoint);
+        when(answerJournal.readNow(checkpoint, 2)).thenReturn(new JournalBatch(submissions, new JournalPosition(0, 100)));
+
+        applier.shutdown();
+
+        verify(answerCreate).createAll(submissions);
+        verify(answerJournal, never()).markApplied(any());
+    }
+
+    private Submission buildSubmission() {
+        return Submission.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,296 @@
+package com.github.paulosalonso.research.adapter.journal;
+
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.Submission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AnswerJournalTest {
+
+    // Each test record takes 8 bytes of header, 52 of submission and 32 of its single answer
+    private static final int RECORD_SIZE = 92;
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AnswerJournal journal;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        journal = open(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        journal.shutdown();
+    }
+
+    @Test
+    public void givenASubmissionWhenOfferThenReadItBackAfterSync() throws InterruptedException {
+        var submission = buildSubmission();
+
+        assertThat(journal.offer(submission)).isTrue();
+
+        var batch = journal.read(journal.getApplied(), 10, Duration.ofMillis(10));
+
+        assertThat(batch.getSubmissions()).hasSize(1);
+        assertSameSubmission(batch.getSubmissions().get(0), submission);
+        assertThat(batch.getEnd()).isEqualTo(new JournalPosition(0, RECORD_SIZE));
+        assertThat(meterRegistry.get("research.answer.journal.sync").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenMoreRecordsThanTheBatchSizeWhenReadThenReturnOnlyTheBatch() throws InterruptedException {
+        var submissions = List.of(buildSubmission(), buildSubmission(), buildSubmission());
+        submissions.forEach(journal::offer);
+
+        var first = journal.read(journal.getApplied(), 2, Duration.ofSeconds(5));
+        var second = journal.readNow(first.getEnd(), 2);
+
+        assertThat(first.getSubmissions()).extracting(Submission::getResearchId)
+                .containsExactly(submissions.get(0).getResearchId(), submissions.get(1).getResearchId());
+        assertThat(second.getSubmissions()).extracting(Submission::getResearchId)
+                .containsExactly(submissions.get(2).getResearchId());
+        assertThat(journal.readNow(second.getEnd(), 2).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void givenAnEmptyJournalWhenReadThenReturnEmptyAfterTheMaxWait() throws InterruptedException {
+        var batch = journal.read(journal.getApplied(), 10, Duration.ofMillis(50));
+
+        assertThat(batch.isEmpty()).isTrue();
+        assertThat(batch.getEnd()).isEqualTo(journal.getApplied());
+    }
+
+    @Test
+    public void givenARecordSyncedWhileWaitingWhenReadThenReturnIt() throws Exception {
+        var submission = buildSubmission();
+        var reading = CompletableFuture.supplyAsync(() -> {
+            try {
+                return journal.read(journal.getApplied(), 10, Duration.ofMillis(500));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Thread.sleep(50);
+        journal.offer(submission);
+
+        assertThat(reading.get().getSubmissions()).extracting(Submission::getResearchId)
+                .containsExactly(submission.getResearchId());
+    }
+
+    @Test
+    public void givenConcurrentOffersWhenOfferThenAllAreSyncedWithSharedFsyncs() throws Exception {
+        var executor = Executors.newFixedThreadPool(8);
+
+        try {
+            var offers = IntStream.range(0, 200)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> journal.offer(buildSubmission()), executor))
+                    .collect(Collectors.toList());
+
+            for (var offer : offers) {
+                assertThat(offer.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(journal.readNow(journal.getApplied(), 500).getSubmissions()).hasSize(200);
+        assertThat(meterRegistry.get("research.answer.journal.sync").timer().count()).isBetween(1L, 200L);
+    }
+
+    @Test
+    public void givenFullSegmentsWhenOfferThenRollUntilTheLimitAndReject() {
+        journal.shutdown();
+        journal = open("small", 2, DataSize.ofBytes(RECORD_SIZE * 2));
+
+        assertThat(journal.offer(buildSubmission())).isTrue();
+        assertThat(journal.offer(buildSubmission())).isTrue();
+        assertThat(journal.offer(buildSubmission())).isTrue();
+        assertThat(journal.offer(buildSubmission())).isTrue();
+        assertThat(journal.offer(buildSubmission())).isFalse();
+
+        assertThat(meterRegistry.get("research.answer.journal.segments").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("research.answer.journal.rejected").counter().count()).isEqualTo(1);
+
+        var batch = journal.readNow(journal.getApplied(), 10);
+        assertThat(batch.getSubmissions()).hasSize(4);
+        assertThat(batch.getEnd()).isEqualTo(new JournalPosition(1, RECORD_SIZE * 2));
+    }
+
+    @Test
+    public void givenAnAppliedSegmentWhenMarkAppliedThenDeleteItAndAcceptAgain() {
+        journal.shutdown();
+        journal = open("small", 2, DataSize.ofBytes(RECORD_SIZE * 2));
+
+        IntStream.range(0, 4).forEach(i -> journal.offer(buildSubmission()));
+        var batch = journal.readNow(journal.getApplied(), 3);
+
+        journal.markApplied(batch.getEnd());
+
+        assertThat(journal.getApplied()).isEqualTo(new JournalPosition(1, RECORD_SIZE));
+        assertThat(Files.exists(directory.resolve("small").resolve(JournalSegment.fileName(0)))).isFalse();
+        assertThat(journal.offer(buildSubmission())).isTrue();
+        assertThat(journal.readNow(journal.getApplied(), 10).getSubmissions()).hasSize(2);
+    }
+
+    @Test
+    public void givenASubmissionLargerThanASegmentWhenOfferThenThrowsIllegalArgumentException() {
+        journal.shutdown();
+        journal = open("small", 2, DataSize.ofBytes(RECORD_SIZE - 1));
+
+        assertThatThrownBy(() -> journal.offer(buildSubmission()))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Submission larger than a journal segment");
+    }
+
+    @Test
+    public void givenUnappliedRecordsWhenReopenThenReplayThemFromTheCheckpoint() {
+        var submissions = List.of(buildSubmission(), buildSubmission(), buildSubmission());
+        submissions.forEach(journal::offer);
+        journal.markApplied(journal.readNow(journal.getApplied(), 1).getEnd());
+        journal.shutdown();
+
+        journal = open(2);
+
+        assertThat(journal.getApplied()).isEqualTo(new JournalPosition(0, RECORD_SIZE));
+        assertThat(journal.readNow(journal.getApplied(), 10).getSubmissions()).extracting(Submission::getResearchId)
+                .containsExactly(submissions.get(1).getResearchId(), submissions.get(2).getResearchId());
+
+        var next = buildSubmission();
+        journal.offer(next);
+
+        assertThat(journal.readNow(new JournalPosition(0, RECORD_SIZE * 3), 10).getSubmissions())
+                .extracting(Submission::getResearchId)
+                .containsExactly(next.getResearchId());
+    }
+
+    @Test
+    public void givenATornRecordWhenReopenThenResumeWritingBeforeIt() throws IOException {
+        var submissions = List.of(buildSubmission(), buildSubmission());
+        submissions.forEach(journal::offer);
+        journal.shutdown();
+
+        corrupt(directory.resolve("default").resolve(JournalSegment.fileName(0)), RECORD_SIZE + 20);
+
+        journal = open(2);
+
+        assertThat(journal.readNow(journal.getApplied(), 10).getSubmissions()).extracting(Submission::getResearchId)
+                .containsExactly(submissions.get(0).getResearchId());
+
+        var next = buildSubmission();
+        journal.offer(next);
+
+        assertThat(journal.readNow(journal.getApplied(), 10).getSubmissions()).extracting(Submission::getResearchId)
+                .containsExactly(submissions.get(0).getResearchId(), next.getResearchId());
+    }
+
+    @Test
+    public void givenACorruptedRecordInAFullSegmentWhenReadThenSkipTheRestOfTheSegment() throws IOException {
+        journal.shutdown();
+        journal = open("small", 2, DataSize.ofBytes(RECORD_SIZE * 2));
+
+        var submissions = List.of(buildSubmission(), buildSubmission(), buildSubmission());
+        submissions.forEach(journal::offer);
+
+        corrupt(directory.resolve("small").resolve(JournalSegment.fileName(0)), 20);
+
+        assertThat(journal.readNow(journal.getApplied(), 10).getSubmissions()).extracting(Submission::getResearchId)
+                .containsExactly(submissions.get(2).getResearchId());
+    }
+
+    @Test
+    public void givenDeadLettersThenAppendThemAsNdjsonLines() throws IOException {
+        var first = buildSubmission();
+        var second = buildSubmission();
+
+        journal.deadLetter(first, new IllegalStateException("test exception"));
+        journal.deadLetter(second, new IllegalArgumentException("test exception"));
+
+        var lines = Files.readAllLines(directory.resolve("default").resolve("dead-letters.ndjson"));
+
+        assertThat(lines).containsExactly(
+                String.format("{\"researchId\":\"%s\",\"date\":\"2020-11-20T10:30:15.123456789-03:00\",\"answers\":" +
+                                "[{\"questionId\":\"%s\",\"optionId\":\"%s\"}],\"error\":\"java.lang.IllegalStateException\"}",
+                        first.getResearchId(), first.getAnswers().get(0).getQuestionId(), first.getAnswers().get(0).getOptionId()),
+                String.format("{\"researchId\":\"%s\",\"date\":\"2020-11-20T10:30:15.123456789-03:00\",\"answers\":" +
+                                "[{\"questionId\":\"%s\",\"optionId\":\"%s\"}],\"error\":\"java.lang.IllegalArgumentException\"}",
+                        second.getResearchId(), second.getAnswers().get(0).getQuestionId(), second.getAnswers().get(0).getOptionId()));
+    }
+
+    private AnswerJournal open(int maxSegments) {
+        return open("default", maxSegments, DataSize.ofKilobytes(64));
+    }
+
+    // Existing segments keep their size when reopened, so journals with other sizes use another directory
+    private AnswerJournal open(String name, int maxSegments, DataSize segmentSize) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new AnswerJournal(meterRegistry, directory.resolve(name).toString(), segmentSize, maxSegments);
+    }
+
+    private void corrupt(Path file, int offset) throws IOException {
+        try (var access = new RandomAccessFile(file.toFile(), "rw")) {
+            access.seek(offset);
+            var value = access.read();
+            access.seek(offset);
+            access.write(value ^ 0xFF);
+        }
+    }
+
+    private void assertSameSubmission(Submission actual, Submission expected) {
+        assertThat(actual.getResearchId()).isEqualTo(expected.getResearchId());
+        assertThat(actual.getDate()).isEqualTo(expected.getDate());
+        assertThat(actual.getIdempotencyKey()).isEqualTo(expected.getIdempotencyKey());
+        assertThat(actual.getAnswers()).hasSize(expected.getAnswers().size());
+
+        for (int i = 0; i < expected.getAnswers().size(); i++) {
+            var answer = actual.getAnswers().get(i);
+            assertThat(answer.getResearchId()).isEqualTo(expected.getResearchId());
+            assertThat(answer.getDate()).isEqualTo(expected.getDate());
+            assertThat(answer.getQuestionId()).isEqualTo(expected.getAnswers().get(i).getQuestionId());
+            assertThat(answer.getOptionId()).isEqualTo(expected.getAnswers().get(i).getOptionId());
+        }
+    }
+
+    private Submission buildSubmission() {
+        var researchId = UUID.randomUUID();
+        var date = OffsetDateTime.of(2020, 11, 20, 10, 30, 15, 123456789, ZoneOffset.ofHours(-3));
+
+        return Submission.builder()
+                .researchId(researchId)
+                .date(date)
+                .answers(List.of(Answer.builder()
+                        .date(date)
+                        .researchId(researchId)
+                        .questionId(UUID.randomUUID())
+                        .optionId(UUID.randomUUID())
+                        .build()))
+                .idempotencyKey(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.paulosalonso.research.adapter.jpa.function;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class FunctionContributorTest {
+
+    @Mock
+    private MetadataBuilder metadataBuilder;
+
+    @Test
+    public void whenContributeThenRegisterTextMatchFunction() {
+        new FunctionContributor().contribute(metadataBuilder);
+
+        verify(metadataBuilder).applySqlFunction(eq(TextMatchFunction.NAME), any(TextMatchFunction.class));
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.paulosalonso.research.adapter.jpa.function;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQL8Dialect;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TextMatchFunctionTest {
+
+    private static final List<String> ARGUMENTS = List.of("r.title", "r.description", "?");
+
+    @Mock
+    private SessionFactoryImplementor factory;
+
+    @Mock
+    private JdbcServices jdbcServices;
+
+    private final TextMatchFunction function = new TextMatchFunction();
+
+    @Test
+    public void whenGetPropertiesThenReturnABooleanFunctionWithArguments() {
+        assertThat(function.hasArguments()).isTrue();
+        assertThat(function.hasParenthesesIfNoArguments()).isTrue();
+        assertThat(function.getReturnType(null, null)).isEqualTo(StandardBasicTypes.BOOLEAN);
+    }
+
+    @Test
+    public void givenPostgreSQLWhenRenderThenReturnTsvectorMatch() {
+        mockDialect(new PostgreSQL10Dialect());
+
+        assertThat(function.render(null, ARGUMENTS, factory)).isEqualTo(
+                "(to_tsvector('simple', coalesce(r.title, '') || ' ' || coalesce(r.description, '')) " +
+                        "@@ plainto_tsquery('simple', ?))");
+    }
+
+    @Test
+    public void givenMySQLWhenRenderThenReturnFullTextMatch() {
+        mockDialect(new MySQL8Dialect());
+
+        assertThat(function.render(null, ARGUMENTS, factory))
+                .isEqualTo("(match (r.title, r.description) against (? in natural language mode) > 0)");
+    }
+
+    @Test
+    public void givenAnotherDatabaseWhenRenderThenReturnCaseInsensitiveContains() {
+        mockDialect(new H2Dialect());
+
+        assertThat(function.render(null, ARGUMENTS, factory)).isEqualTo(
+                "(locate(lower(?), lower(concat(coalesce(r.title, ''), ' ', coalesce(r.description, '')))) > 0)");
+    }
+
+    @Test
+    public void givenOnlyOneArgumentWhenRenderThenThrowsException() {
+        assertThatThrownBy(() -> function.render(null, List.of("?"), factory))
+                .isExactlyInstanceOf(QueryException.class)
+                .hasMessage("text_match requires at least one column and the searched text");
+    }
+
+    private void mockDialect(Dialect dialect) {
+        when(factory.getJdbcServices()).thenReturn(jdbcServices);
+        when(jdbcServices.getDialect()).thenReturn(dialect);
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.paulosalonso.research.adapter.jpa.mapper;
+
+import com.github.paulosalonso.research.adapter.jpa.model.OptionEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.QuestionEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchSummaryModel;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.domain.ResearchSummary.OptionSummary;
+import com.github.paulosalonso.research.domain.ResearchSummary.QuestionSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+// Run with: mvn -P benchmark verify
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnswerMapperBenchmark {
+
+    @Param({"200"})
+    private int questions;
+
+    @Param({"10"})
+    private int optionsPerQuestion;
+
+    private final AnswerMapper mapper = new AnswerMapper();
+
+    private ResearchEntity research;
+    private List<ResearchSummaryModel> rows;
+    private List<EntityRow> entityRows;
+
+    @Setup
+    public void setUp() {
+        research = ResearchEntity.builder()
+                .id(UUID.randomUUID())
+                .title("benchmark")
+                .questions(new ArrayList<>())
+                .build();
+
+        rows = new ArrayList<>();
+        entityRows = new ArrayList<>();
+
+        for (int q = 1; q <= questions; q++) {
+            var question = QuestionEntity.builder()
+                    .id(UUID.randomUUID())
+                    .sequence(q)
+                    .description("question " + q)
+                    .options(new ArrayList<>())
+                    .build();
+
+            research.getQuestions().add(question);
+
+            for (int o = 1; o <= optionsPerQuestion; o++) {
+                var option = OptionEntity.builder()
+                        .id(UUID.randomUUID())
+                        .sequence(o)
+                        .description("option " + o)
+                        .build();
+
+                question.getOptions().add(option);
+
+                // Rows in a different order than the research, as they come from a GROUP BY
+                rows.add(0, new ResearchSummaryModel(question.getId(), option.getId(), (long) q * o));
+                entityRows.add(0, new EntityRow(question, option, (long) q * o));
+            }
+        }
+    }
+
+    @Benchmark
+    public ResearchSummary indexedByOptionId() {
+        return mapper.toDomain(research, rows);
+    }
+
+    // The previous assembly, over rows holding the same entity instances as the research
+    @Benchmark
+    public ResearchSummary groupedByEntityWithLinearScan() {
+        var groupedByQuestion = entityRows.stream()
+                .collect(groupingBy(EntityRow::getQuestion, toList()));
+
+        return ResearchSummary.builder()
+                .id(research.getId())
+                .title(research.getTitle())
+                .questions(research.getQuestions().stream()
+                        .map(question -> QuestionSummary.builder()
+                                .id(question.getId())
+                                .sequence(question.getSequence())
+                                .description(question.getDescription())
+                                .options(fillOptions(question, groupedByQuestion))
+                                .build())
+                        .collect(toList()))
+                .build();
+    }
+
+    private List<OptionSummary> fillOptions(QuestionEntity question, Map<QuestionEntity, List<EntityRow>> groupedByQuestion) {
+        var questionRows = groupedByQuestion.getOrDefault(question, emptyList());
+
+        return question.getOptions().stream()
+                .map(option -> OptionSummary.builder()
+                        .id(option.getId())
+                        .sequence(option.getSequence())
+                        .description(option.getDescription())
+                        .amount(questionRows.stream()
+                                .filter(row -> row.getOption().equals(option))
+                                .findFirst()
+                                .map(EntityRow::getAmount)
+                                .orElse(0L))
+                        .build())
+                .collect(toList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class EntityRow {
+        private final QuestionEntity question;
+        private final OptionEntity option;
+        private final Long amount;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AnswerMapperBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
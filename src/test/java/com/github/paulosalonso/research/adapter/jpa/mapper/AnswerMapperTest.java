@@ -2,12 +2,15 @@ package com.github.paulosalonso.research.adapter.jpa.mapper;
 
 import com.github.paulosalonso.research.adapter.jpa.model.*;
 import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.domain.Submission;
 import org.junit.jupiter.api.Test;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.HOURLY;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class AnswerMapperTest {
@@ -20,17 +23,69 @@ public class AnswerMapperTest {
 
         var entity = AnswerEntity.builder()
                 .date(date)
-                .research(ResearchEntity.builder().id(UUID.randomUUID().toString()).build())
-                .question(QuestionEntity.builder().id(UUID.randomUUID().toString()).build())
-                .option(OptionEntity.builder().id(UUID.randomUUID().toString()).build())
+                .research(ResearchEntity.builder().id(UUID.randomUUID()).build())
+                .question(QuestionEntity.builder().id(UUID.randomUUID()).build())
+                .option(OptionEntity.builder().id(UUID.randomUUID()).build())
                 .build();
 
         var answer = mapper.toDomain(entity);
 
         assertThat(answer.getDate()).isEqualTo(date);
-        assertThat(answer.getResearchId()).isEqualTo(UUID.fromString(entity.getResearch().getId()));
-        assertThat(answer.getQuestionId()).isEqualTo(UUID.fromString(entity.getQuestion().getId()));
-        assertThat(answer.getOptionId()).isEqualTo(UUID.fromString(entity.getOption().getId()));
+        assertThat(answer.getResearchId()).isEqualTo(entity.getResearch().getId());
+        assertThat(answer.getQuestionId()).isEqualTo(entity.getQuestion().getId());
+        assertThat(answer.getOptionId()).isEqualTo(entity.getOption().getId());
+    }
+
+    @Test
+    public void givenAnAnswerEntityWithSubmissionWhenMapThenReturnDomainWithSubmissionId() {
+        var entity = AnswerEntity.builder()
+                .date(OffsetDateTime.now())
+                .research(ResearchEntity.builder().id(UUID.randomUUID()).build())
+                .question(QuestionEntity.builder().id(UUID.randomUUID()).build())
+                .option(OptionEntity.builder().id(UUID.randomUUID()).build())
+                .submission(SubmissionEntity.builder().id(1L).build())
+                .build();
+
+        var answer = mapper.toDomain(entity);
+
+        assertThat(answer.getSubmissionId()).isEqualTo(1L);
+    }
+
+    @Test
+    public void givenASubmissionWhenMapThenReturnSubmissionEntity() {
+        var submission = Submission.builder()
+                .researchId(UUID.randomUUID())
+                .date(OffsetDateTime.now())
+                .answers(List.of())
+                .idempotencyKey(UUID.randomUUID())
+                .build();
+
+        var entity = mapper.toEntity(submission);
+
+        assertThat(entity.getId()).isNull();
+        assertThat(entity.getDate()).isEqualTo(submission.getDate());
+        assertThat(entity.getStoredAt()).isNotNull();
+        assertThat(entity.getResearch().getId()).isEqualTo(submission.getResearchId());
+        assertThat(entity.getIdempotencyKey()).isEqualTo(submission.getIdempotencyKey());
+    }
+
+    @Test
+    public void givenAnAnswerExportModelWhenMapThenReturnDomain() {
+        var model = AnswerExportModel.builder()
+                .date(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .submissionId(1L)
+                .build();
+
+        var answer = mapper.toDomain(model);
+
+        assertThat(answer.getDate()).isEqualTo(model.getDate());
+        assertThat(answer.getResearchId()).isEqualTo(model.getResearchId());
+        assertThat(answer.getQuestionId()).isEqualTo(model.getQuestionId());
+        assertThat(answer.getOptionId()).isEqualTo(model.getOptionId());
+        assertThat(answer.getSubmissionId()).isEqualTo(model.getSubmissionId());
     }
 
     @Test
@@ -42,20 +97,54 @@ public class AnswerMapperTest {
                 .researchId(UUID.randomUUID())
                 .questionId(UUID.randomUUID())
                 .optionId(UUID.randomUUID())
+                .submissionId(1L)
                 .build();
 
         var entity = mapper.toEntity(answer);
 
         assertThat(entity.getDate()).isEqualTo(date);
-        assertThat(entity.getResearch().getId()).isEqualTo(answer.getResearchId().toString());
-        assertThat(entity.getQuestion().getId()).isEqualTo(answer.getQuestionId().toString());
-        assertThat(entity.getOption().getId()).isEqualTo(answer.getOptionId().toString());
+        assertThat(entity.getResearch().getId()).isEqualTo(answer.getResearchId());
+        assertThat(entity.getQuestion().getId()).isEqualTo(answer.getQuestionId());
+        assertThat(entity.getOption().getId()).isEqualTo(answer.getOptionId());
+        assertThat(entity.getSubmission().getId()).isEqualTo(answer.getSubmissionId());
+    }
+
+    @Test
+    public void givenAnAnswerWhenMapToRollupIdThenReturnIdWithTheBucketOfTheAnswer() {
+        var answer = Answer.builder()
+                .date(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var rollupId = mapper.toRollupId(answer, HOURLY);
+
+        assertThat(rollupId.getResearchId()).isEqualTo(answer.getResearchId());
+        assertThat(rollupId.getBucket()).isEqualTo(HOURLY.floor(answer.getDate()));
+        assertThat(rollupId.getQuestionId()).isEqualTo(answer.getQuestionId());
+        assertThat(rollupId.getOptionId()).isEqualTo(answer.getOptionId());
+    }
+
+    @Test
+    public void givenAnAnswerWhenMapToCounterIdThenReturnCounterId() {
+        var answer = Answer.builder()
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var counterId = mapper.toCounterId(answer);
+
+        assertThat(counterId.getResearchId()).isEqualTo(answer.getResearchId());
+        assertThat(counterId.getQuestionId()).isEqualTo(answer.getQuestionId());
+        assertThat(counterId.getOptionId()).isEqualTo(answer.getOptionId());
     }
 
     @Test
     public void givenAResearchSummaryModelListWhenMapThenReturnResearchSummary() {
         var research = ResearchEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .title("title")
                 .build();
 
@@ -73,67 +162,67 @@ public class AnswerMapperTest {
 
         var summaryModel = List.of(
                 ResearchSummaryModel.builder()
-                        .question(questionA)
-                        .option(optionAA)
+                        .questionId(questionA.getId())
+                        .optionId(optionAA.getId())
                         .amount(5L)
                         .build(),
                 ResearchSummaryModel.builder()
-                        .question(questionA)
-                        .option(optionAB)
+                        .questionId(questionA.getId())
+                        .optionId(optionAB.getId())
                         .amount(10L)
                         .build(),
                 ResearchSummaryModel.builder()
-                        .question(questionB)
-                        .option(optionBA)
+                        .questionId(questionB.getId())
+                        .optionId(optionBA.getId())
                         .amount(7L)
                         .build(),
                 ResearchSummaryModel.builder()
-                        .question(questionB)
-                        .option(optionBB)
+                        .questionId(questionB.getId())
+                        .optionId(optionBB.getId())
                         .amount(14L)
                         .build());
 
         var summary = mapper.toDomain(research, summaryModel);
 
-        assertThat(summary.getId()).isEqualTo(UUID.fromString(research.getId()));
+        assertThat(summary.getId()).isEqualTo(research.getId());
         assertThat(summary.getTitle()).isEqualTo(research.getTitle());
         assertThat(summary.getQuestions()).hasSize(2)
                 .satisfies(questions -> {
                     var mappedQuestionA = questions.get(0);
-                    assertThat(mappedQuestionA.getId()).isEqualTo(UUID.fromString(questionA.getId()));
+                    assertThat(mappedQuestionA.getId()).isEqualTo(questionA.getId());
                     assertThat(mappedQuestionA.getSequence()).isEqualTo(questionA.getSequence());
                     assertThat(mappedQuestionA.getDescription()).isEqualTo(questionA.getDescription());
                     assertThat(mappedQuestionA.getOptions())
                             .hasSize(2)
                             .satisfies(options -> {
                                 var mappedOptionAA = options.get(0);
-                                assertThat(mappedOptionAA.getId()).isEqualTo(UUID.fromString(optionAA.getId()));
+                                assertThat(mappedOptionAA.getId()).isEqualTo(optionAA.getId());
                                 assertThat(mappedOptionAA.getSequence()).isEqualTo(optionAA.getSequence());
                                 assertThat(mappedOptionAA.getDescription()).isEqualTo(optionAA.getDescription());
                                 assertThat(mappedOptionAA.getAmount()).isEqualTo(5L);
 
                                 var mappedOptionAB = options.get(1);
-                                assertThat(mappedOptionAB.getId()).isEqualTo(UUID.fromString(optionAB.getId()));
+                                assertThat(mappedOptionAB.getId()).isEqualTo(optionAB.getId());
                                 assertThat(mappedOptionAB.getSequence()).isEqualTo(optionAB.getSequence());
                                 assertThat(mappedOptionAB.getDescription()).isEqualTo(optionAB.getDescription());
                                 assertThat(mappedOptionAB.getAmount()).isEqualTo(10L);
                             });
 
                     var mappedQuestionB = questions.get(1);
-                    assertThat(mappedQuestionB.getId()).isEqualTo(UUID.fromString(questionB.getId()));
+                    assertThat(mappedQuestionB.getId()).isEqualTo(questionB.getId());
                     assertThat(mappedQuestionB.getSequence()).isEqualTo(questionB.getSequence());
                     assertThat(mappedQuestionB.getDescription()).isEqualTo(questionB.getDescription());
                     assertThat(mappedQuestionB.getOptions())
                             .hasSize(2)
                             .satisfies(options -> {
                                 var mappedOptionBA = options.get(0);
-                                assertThat(mappedOptionBA.getId()).isEqualTo(UUID.fromString(optionBA.getId()));
+                                assertThat(mappedOptionBA.getId()).isEqualTo(optionBA.getId());
                                 assertThat(mappedOptionBA.getSequence()).isEqualTo(optionBA.getSequence());
                                 assertThat(mappedOptionBA.getDescription()).isEqualTo(optionBA.getDescription());
                                 assertThat(mappedOptionBA.getAmount()).isEqualTo(7L);
 
                                 var mappedOptionBB = options.get(1);
-                                assertThat(mappedOptionBB.getId()).isEqualTo(UUID.fromString(optionBB.getId()));
+                                assertThat(mappedOptionBB.getId()).isEqualTo(optionBB.getId());
                                 assertThat(mappedOptionBB.getSequence()).isEqualTo(optionBB.getSequence());
                                 assertThat(mappedOptionBB.getDescription()).isEqualTo(optionBB.getDescription());
                                 assertThat(mappedOptionBB.getAmount()).isEqualTo(14L);
@@ -141,16 +230,82 @@ public class AnswerMapperTest {
                 });
     }
 
+    @Test
+    public void givenRowsSplitAcrossSourcesWhenMapThenSumThemAndFillMissingOptionsWithZero() {
+        var question = buildQuestion(UUID.randomUUID());
+        var optionA = buildOption(UUID.randomUUID(), 1);
+        var optionB = buildOption(UUID.randomUUID(), 2);
+        question.setOptions(List.of(optionA, optionB));
+
+        var research = ResearchEntity.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .questions(List.of(question))
+                .build();
+
+        var summaryModel = List.of(
+                new ResearchSummaryModel(question.getId(), optionA.getId(), 3L),
+                new ResearchSummaryModel(question.getId(), optionA.getId(), 4L));
+
+        var summary = mapper.toDomain(research, summaryModel);
+
+        assertThat(summary.getQuestions().get(0).getOptions())
+                .extracting(ResearchSummary.OptionSummary::getAmount)
+                .containsExactly(7L, 0L);
+    }
+
+    @Test
+    public void givenACrosstabModelListWhenMapThenReturnTheFullMatrixInOptionSequence() {
+        var rowQuestion = buildQuestion(UUID.randomUUID());
+        var optionRA = buildOption(UUID.randomUUID(), 1);
+        var optionRB = buildOption(UUID.randomUUID(), 2);
+        rowQuestion.setOptions(List.of(optionRA, optionRB));
+
+        var columnQuestion = buildQuestion(UUID.randomUUID());
+        var optionCA = buildOption(UUID.randomUUID(), 1);
+        var optionCB = buildOption(UUID.randomUUID(), 2);
+        var optionCC = buildOption(UUID.randomUUID(), 3);
+        columnQuestion.setOptions(List.of(optionCA, optionCB, optionCC));
+
+        var research = ResearchEntity.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .questions(List.of(rowQuestion, columnQuestion))
+                .build();
+
+        var crosstabModel = List.of(
+                new CrosstabModel(optionRA.getId(), optionCA.getId(), 2L),
+                new CrosstabModel(optionRB.getId(), optionCC.getId(), 1L),
+                new CrosstabModel(optionRA.getId(), optionCA.getId(), 3L),
+                new CrosstabModel(optionRB.getId(), optionCA.getId(), 4L));
+
+        var crosstab = mapper.toDomain(research, rowQuestion, columnQuestion, crosstabModel);
+
+        assertThat(crosstab.getId()).isEqualTo(research.getId());
+        assertThat(crosstab.getTitle()).isEqualTo(research.getTitle());
+        assertThat(crosstab.getRowQuestion().getId()).isEqualTo(rowQuestion.getId());
+        assertThat(crosstab.getRowQuestion().getOptions())
+                .extracting(ResearchSummary.OptionSummary::getAmount)
+                .containsExactly(5L, 5L);
+        assertThat(crosstab.getColumnQuestion().getId()).isEqualTo(columnQuestion.getId());
+        assertThat(crosstab.getColumnQuestion().getOptions())
+                .extracting(ResearchSummary.OptionSummary::getAmount)
+                .containsExactly(9L, 0L, 1L);
+        assertThat(crosstab.getAmounts()).containsExactly(
+                List.of(5L, 0L, 0L),
+                List.of(4L, 0L, 1L));
+    }
+
     private QuestionEntity buildQuestion(UUID id) {
         return QuestionEntity.builder()
-                .id(id.toString())
+                .id(id)
                 .description("description " + id)
                 .build();
     }
 
     private OptionEntity buildOption(UUID id, Integer sequence) {
         return OptionEntity.builder()
-                .id(id.toString())
+                .id(id)
                 .sequence(sequence)
                 .description("description " + id)
                 .build();
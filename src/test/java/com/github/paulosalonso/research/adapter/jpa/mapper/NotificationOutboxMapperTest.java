@@ -0,0 +1,60 @@
+package com.github.paulosalonso.research.adapter.jpa.mapper;
+
+import com.github.paulosalonso.research.adapter.jpa.model.NotificationOutboxEntity;
+import com.github.paulosalonso.research.domain.Answer;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static com.github.paulosalonso.research.adapter.jpa.model.NotificationStatus.PENDING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationOutboxMapperTest {
+
+    private final NotificationOutboxMapper mapper = new NotificationOutboxMapper();
+
+    @Test
+    public void givenAnAnswerWhenMapToEntityThenReturnPendingNotification() {
+        var testInit = OffsetDateTime.now();
+
+        var answer = Answer.builder()
+                .date(OffsetDateTime.now())
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var result = mapper.toEntity(answer);
+
+        assertThat(result.getId()).isNull();
+        assertThat(result.getResearchId()).isEqualTo(answer.getResearchId());
+        assertThat(result.getQuestionId()).isEqualTo(answer.getQuestionId());
+        assertThat(result.getOptionId()).isEqualTo(answer.getOptionId());
+        assertThat(result.getAnswerDate()).isEqualTo(answer.getDate());
+        assertThat(result.getStatus()).isEqualTo(PENDING);
+        assertThat(result.getAttempts()).isZero();
+        assertThat(result.getNextAttemptAt()).isBetween(testInit, OffsetDateTime.now());
+        assertThat(result.getLastError()).isNull();
+    }
+
+    @Test
+    public void givenAnEntityWhenMapToDomainThenReturnAnswer() {
+        var entity = NotificationOutboxEntity.builder()
+                .id(1L)
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .answerDate(OffsetDateTime.now())
+                .status(PENDING)
+                .nextAttemptAt(OffsetDateTime.now())
+                .build();
+
+        var result = mapper.toDomain(entity);
+
+        assertThat(result.getResearchId()).isEqualTo(entity.getResearchId());
+        assertThat(result.getQuestionId()).isEqualTo(entity.getQuestionId());
+        assertThat(result.getOptionId()).isEqualTo(entity.getOptionId());
+        assertThat(result.getDate()).isEqualTo(entity.getAnswerDate());
+    }
+}
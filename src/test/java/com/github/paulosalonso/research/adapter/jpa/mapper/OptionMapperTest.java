@@ -22,7 +22,7 @@ public class OptionMapperTest {
 
         var entity = mapper.toEntity(option);
 
-        assertThat(entity.getId()).isEqualTo(option.getId().toString());
+        assertThat(entity.getId()).isEqualTo(option.getId());
         assertThat(entity.getDescription()).isEqualTo(option.getDescription());
         assertThat(entity.isNotify()).isEqualTo(option.isNotify());
     }
@@ -48,7 +48,7 @@ public class OptionMapperTest {
                 .notify(true)
                 .build();
 
-        var id = UUID.randomUUID().toString();
+        var id = UUID.randomUUID();
 
         var entity = OptionEntity.builder()
                 .id(id)
@@ -66,14 +66,14 @@ public class OptionMapperTest {
     @Test
     public void givenAnOptionEntityWhenMapThenReturnDomain() {
         var entity = OptionEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .description("description")
                 .notify(true)
                 .build();
 
         var option = mapper.toDomain(entity);
 
-        assertThat(option.getId()).isEqualTo(UUID.fromString(entity.getId()));
+        assertThat(option.getId()).isEqualTo(entity.getId());
         assertThat(option.getDescription()).isEqualTo(entity.getDescription());
         assertThat(option.isNotify()).isEqualTo(entity.isNotify());
     }
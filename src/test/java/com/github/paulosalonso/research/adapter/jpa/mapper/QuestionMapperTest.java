@@ -35,7 +35,7 @@ public class QuestionMapperTest {
 
         var entity = questionMapper.toEntity(question);
 
-        assertThat(entity.getId()).isEqualTo(question.getId().toString());
+        assertThat(entity.getId()).isEqualTo(question.getId());
         assertThat(entity.getDescription()).isEqualTo(question.getDescription());
         assertThat(entity.getMultiSelect()).isEqualTo(question.getMultiSelect());
 
@@ -59,14 +59,14 @@ public class QuestionMapperTest {
     @Test
     public void givenAQuestionEntityWhenMapThenReturnDomain() {
         var entity = QuestionEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .description("description")
                 .multiSelect(true)
                 .build();
 
         var question = questionMapper.toDomain(entity, false);
 
-        assertThat(question.getId()).isEqualTo(UUID.fromString(entity.getId()));
+        assertThat(question.getId()).isEqualTo(entity.getId());
         assertThat(question.getDescription()).isEqualTo(entity.getDescription());
         assertThat(question.getMultiSelect()).isEqualTo(entity.getMultiSelect());
 
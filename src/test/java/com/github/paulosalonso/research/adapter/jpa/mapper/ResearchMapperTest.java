@@ -38,7 +38,7 @@ public class ResearchMapperTest {
 
         var entity = researchMapper.toEntity(research);
 
-        assertThat(entity.getId()).isEqualTo(research.getId().toString());
+        assertThat(entity.getId()).isEqualTo(research.getId());
         assertThat(entity.getTitle()).isEqualTo(research.getTitle());
         assertThat(entity.getDescription()).isEqualTo(research.getDescription());
         assertThat(entity.getStartsOn()).isEqualTo(research.getStartsOn());
@@ -66,7 +66,7 @@ public class ResearchMapperTest {
     @Test
     public void givenAResearchEntityWhenMapWithoutQuestionsThenReturnDomain() {
         var entity = ResearchEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .title("title")
                 .description("description")
                 .startsOn(OffsetDateTime.now())
@@ -75,7 +75,7 @@ public class ResearchMapperTest {
 
         var research = researchMapper.toDomain(entity, false);
 
-        assertThat(research.getId()).isEqualTo(UUID.fromString(entity.getId()));
+        assertThat(research.getId()).isEqualTo(entity.getId());
         assertThat(research.getTitle()).isEqualTo(entity.getTitle());
         assertThat(research.getDescription()).isEqualTo(entity.getDescription());
         assertThat(research.getStartsOn()).isEqualTo(entity.getStartsOn());
@@ -88,7 +88,7 @@ public class ResearchMapperTest {
     public void givenAResearchEntityWhenMapWithQuestionsThenReturnDomain() {
         var question = QuestionEntity.builder().build();
         var entity = ResearchEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .title("title")
                 .description("description")
                 .startsOn(OffsetDateTime.now())
@@ -98,7 +98,7 @@ public class ResearchMapperTest {
 
         var research = researchMapper.toDomain(entity, true);
 
-        assertThat(research.getId()).isEqualTo(UUID.fromString(entity.getId()));
+        assertThat(research.getId()).isEqualTo(entity.getId());
         assertThat(research.getTitle()).isEqualTo(entity.getTitle());
         assertThat(research.getDescription()).isEqualTo(entity.getDescription());
         assertThat(research.getStartsOn()).isEqualTo(entity.getStartsOn());
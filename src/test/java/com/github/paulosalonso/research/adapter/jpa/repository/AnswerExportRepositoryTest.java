@@ -0,0 +1,37 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnswerExportRepositoryTest {
+
+    @Test
+    public void givenTheMySqlProfileThenTheUrlEnablesTheCursorFetch() throws IOException {
+        var properties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-mysql.properties"));
+        var url = properties.getProperty("spring.datasource.url");
+
+        assertThat(url).contains("useCursorFetch=true");
+        assertThat(AnswerExportRepository.fetchSize(DatabaseDriver.MYSQL, url, 1000)).isEqualTo(1000);
+    }
+
+    @Test
+    public void givenAMySqlUrlWithoutTheCursorFetchThenStreamRowByRow() {
+        var url = "jdbc:mysql://localhost:3306/research";
+
+        assertThat(AnswerExportRepository.fetchSize(DatabaseDriver.MYSQL, url, 1000)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(AnswerExportRepository.fetchSize(DatabaseDriver.MARIADB, url, 1000)).isEqualTo(Integer.MIN_VALUE);
+    }
+
+    @Test
+    public void givenOtherDatabasesThenKeepTheConfiguredFetchSize() {
+        assertThat(AnswerExportRepository.fetchSize(DatabaseDriver.POSTGRESQL, "jdbc:postgresql://localhost/research", 1000))
+                .isEqualTo(1000);
+        assertThat(AnswerExportRepository.fetchSize(DatabaseDriver.H2, "jdbc:h2:mem:research", 1000)).isEqualTo(1000);
+    }
+}
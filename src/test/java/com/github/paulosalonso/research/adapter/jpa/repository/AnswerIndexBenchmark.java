@@ -0,0 +1,122 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn -P benchmark verify (requires Docker)
+// Compares the summary query on the migrated answer table with a copy that has neither indexes nor partitions
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnswerIndexBenchmark {
+
+    private static final String SUMMARY = "select question_id, option_id, count(*) from %s " +
+            "where research_id = ? and date >= ? and date < ? group by question_id, option_id";
+
+    @Param({"answer", "answer_baseline"})
+    private String table;
+
+    @Param({"100"})
+    private int researches;
+
+    @Param({"400"})
+    private int answersPerOption;
+
+    private PostgreSQLContainer<?> container;
+    private Connection connection;
+    private UUID researchId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        container = new PostgreSQLContainer<>("postgres:12");
+        container.start();
+
+        Flyway.configure()
+                .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .locations("classpath:db/migration/postgresql")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        seed();
+    }
+
+    // 100 researches with 10 questions of 5 options each and 400 answers per option (2 million rows), spread over six years
+    private void seed() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(String.format("insert into research (id, title, starts_on) " +
+                    "select md5(r::text)::uuid, 'research ' || r, timestamp '2020-01-01' from generate_series(1, %d) r", researches));
+            statement.execute("insert into question (id, sequence, description, multi_select, research_id) " +
+                    "select md5(r.id::text || q)::uuid, q, 'question ' || q, false, r.id from research r, generate_series(1, 10) q");
+            statement.execute("insert into option (id, sequence, description, notify, question_id) " +
+                    "select md5(q.id::text || o)::uuid, o, 'option ' || o, false, q.id from question q, generate_series(1, 5) o");
+            statement.execute(String.format("insert into answer (id, date, option_id, question_id, research_id) " +
+                    "select row_number() over (), timestamp '2020-01-01' + random() * interval '6 years', o.id, q.id, q.research_id " +
+                    "from option o join question q on q.id = o.question_id, generate_series(1, %d)", answersPerOption));
+            statement.execute("create table answer_baseline as select * from answer");
+            statement.execute("analyze");
+
+            try (var result = statement.executeQuery("select id from research limit 1")) {
+                result.next();
+                researchId = result.getObject(1, UUID.class);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        container.stop();
+    }
+
+    // One month of a research, the shape of the raw edges read around the rollups
+    @Benchmark
+    public long summarizeMonth() throws SQLException {
+        return summarize(LocalDateTime.of(2023, 3, 1, 0, 0), LocalDateTime.of(2023, 4, 1, 0, 0));
+    }
+
+    @Benchmark
+    public long summarizeWholeResearch() throws SQLException {
+        return summarize(LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+
+    private long summarize(LocalDateTime from, LocalDateTime to) throws SQLException {
+        try (var statement = connection.prepareStatement(String.format(SUMMARY, table))) {
+            statement.setObject(1, researchId);
+            statement.setTimestamp(2, Timestamp.valueOf(from));
+            statement.setTimestamp(3, Timestamp.valueOf(to));
+
+            var total = 0L;
+
+            try (var result = statement.executeQuery()) {
+                while (result.next()) {
+                    total += result.getLong(3);
+                }
+            }
+
+            return total;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AnswerIndexBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
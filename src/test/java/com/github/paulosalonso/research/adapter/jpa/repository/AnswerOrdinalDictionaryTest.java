@@ -0,0 +1,91 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerOrdinalEntity;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerOrdinalId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnswerOrdinalDictionaryTest {
+
+    private static final UUID RESEARCH_ID = UUID.randomUUID();
+
+    @InjectMocks
+    private AnswerOrdinalDictionary dictionary;
+
+    @Mock
+    private AnswerOrdinalRepository answerOrdinalRepository;
+
+    @Test
+    public void givenSelectedOptionsWhenEncodeAndDecodeThenReturnTheSameOptions() {
+        when(answerOrdinalRepository.findByIdResearchId(RESEARCH_ID)).thenReturn(List.of(
+                ordinal(0, id("question-a"), id("option-aa")),
+                ordinal(1, id("question-a"), id("option-ab")),
+                ordinal(2, id("question-b"), id("option-ba")),
+                ordinal(9, id("question-c"), id("option-ca"))));
+
+        var options = dictionary.encode(RESEARCH_ID, List.of(id("option-ca"), id("option-aa")));
+        var decoded = new ArrayList<String>();
+        dictionary.decode(RESEARCH_ID, options, (question, option) -> decoded.add(question + "/" + option));
+
+        assertThat(options).hasSize(2);
+        assertThat(decoded).containsExactly(id("question-a") + "/" + id("option-aa"), id("question-c") + "/" + id("option-ca"));
+        verify(answerOrdinalRepository).findByIdResearchId(RESEARCH_ID);
+    }
+
+    @Test
+    public void givenAnOptionCreatedAfterLoadingWhenEncodeThenReloadTheDictionary() {
+        when(answerOrdinalRepository.findByIdResearchId(RESEARCH_ID))
+                .thenReturn(List.of(ordinal(0, id("question-a"), id("option-aa"))))
+                .thenReturn(List.of(ordinal(0, id("question-a"), id("option-aa")), ordinal(1, id("question-a"), id("option-ab"))));
+
+        dictionary.encode(RESEARCH_ID, List.of(id("option-aa")));
+        var options = dictionary.encode(RESEARCH_ID, List.of(id("option-ab")));
+
+        assertThat(options).containsExactly(0b10);
+        verify(answerOrdinalRepository, times(2)).findByIdResearchId(RESEARCH_ID);
+    }
+
+    @Test
+    public void givenAnUnknownOptionWhenEncodeThenThrowsException() {
+        when(answerOrdinalRepository.findByIdResearchId(RESEARCH_ID)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> dictionary.encode(RESEARCH_ID, List.of(id("option-aa"))))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Option has no ordinal: " + id("option-aa"));
+    }
+
+    @Test
+    public void givenAnUnknownOrdinalWhenDecodeThenThrowsException() {
+        when(answerOrdinalRepository.findByIdResearchId(RESEARCH_ID)).thenReturn(List.of(ordinal(0, id("question-a"), id("option-aa"))));
+
+        assertThatThrownBy(() -> dictionary.decode(RESEARCH_ID, new byte[] {0b10}, (question, option) -> {}))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Unknown ordinal 1 for research " + RESEARCH_ID);
+
+        verify(answerOrdinalRepository, times(2)).findByIdResearchId(RESEARCH_ID);
+    }
+
+    private AnswerOrdinalEntity ordinal(int ordinal, UUID questionId, UUID optionId) {
+        return AnswerOrdinalEntity.builder()
+                .id(new AnswerOrdinalId(RESEARCH_ID, ordinal))
+                .questionId(questionId)
+                .optionId(optionId)
+                .build();
+    }
+
+    private static UUID id(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes());
+    }
+}
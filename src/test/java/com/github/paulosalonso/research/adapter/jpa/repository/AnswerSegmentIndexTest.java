@@ -0,0 +1,281 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.event.AnswerEventBus;
+import com.github.paulosalonso.research.adapter.event.AnswerEventSubscription;
+import com.github.paulosalonso.research.adapter.jpa.model.AnswerExportModel;
+import com.github.paulosalonso.research.adapter.jpa.model.PackedSubmissionModel;
+import com.github.paulosalonso.research.adapter.jpa.model.ResearchSummaryModel;
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnswerSegmentIndexTest {
+
+    private static final UUID RESEARCH_ID = UUID.randomUUID();
+    private static final List<String> NAMES = List.of(
+            "question-a", "question-b", "option-aa", "option-ab", "option-ac", "option-ba", "option-bb");
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private AnswerOrdinalDictionary answerOrdinalDictionary;
+
+    @Mock
+    private AnswerEventBus answerEventBus;
+
+    @Mock
+    private AnswerEventSubscription subscription;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<Consumer<List<AnswersSubmitted>>> handlerCaptor;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(answerEventBus.subscribe(eq("segment-index"), any())).thenReturn(subscription);
+        lenient().when(subscription.awaitCaughtUp(any())).thenReturn(true);
+
+        lenient().when(answerRepository.streamStoredSince(any())).thenAnswer(invocation -> Stream.of(
+                row(1L, id("question-a"), id("option-aa")), row(1L, id("question-b"), id("option-ba")),
+                row(2L, id("question-a"), id("option-aa")), row(2L, id("question-b"), id("option-bb")),
+                row(3L, id("question-a"), id("option-ab")), row(3L, id("question-b"), id("option-ba"))));
+
+        lenient().when(submissionRepository.streamPackedStoredSince(any())).thenAnswer(invocation -> Stream.of(
+                new PackedSubmissionModel(4L, OffsetDateTime.now(), RESEARCH_ID, new byte[] {1})));
+
+        lenient().doAnswer(invocation -> {
+            BiConsumer<UUID, UUID> consumer = invocation.getArgument(2);
+            consumer.accept(id("question-a"), id("option-aa"));
+            consumer.accept(id("question-b"), id("option-ba"));
+            return null;
+        }).when(answerOrdinalDictionary).decode(eq(RESEARCH_ID), any(), any());
+    }
+
+    @Test
+    public void givenASegmentWhenSummarizeThenCountOnlyTheSubmissionsThatSelectedIt() {
+        var index = buildIndex("");
+        index.afterSingletonsInstantiated();
+
+        assertThat(summary(index.summarize(RESEARCH_ID, null, List.of(id("option-ba"))))).containsExactlyInAnyOrder(
+                "question-a/option-aa=2", "question-a/option-ab=1", "question-b/option-ba=3", "question-b/option-bb=0");
+    }
+
+    @Test
+    public void givenASegmentWithManyOptionsWhenSummarizeThenIntersectThem() {
+        var index = buildIndex("");
+        index.afterSingletonsInstantiated();
+
+        assertThat(summary(index.summarize(RESEARCH_ID, id("question-a"), List.of(id("option-aa"), id("option-ba")))))
+                .containsExactlyInAnyOrder("question-a/option-aa=2", "question-a/option-ab=0");
+    }
+
+    @Test
+    public void givenASegmentWithAnUnknownOptionWhenSummarizeThenReturnEmpty() {
+        var index = buildIndex("");
+        index.afterSingletonsInstantiated();
+
+        assertThat(index.summarize(RESEARCH_ID, null, List.of(id("option-aa"), UUID.randomUUID()))).isEmpty();
+        assertThat(index.summarize(UUID.randomUUID(), null, List.of(id("option-aa")))).isEmpty();
+    }
+
+    @Test
+    public void givenAnEmptySegmentWhenSummarizeThenCountEverySubmission() {
+        var index = buildIndex("");
+        index.afterSingletonsInstantiated();
+
+        assertThat(summary(index.summarize(RESEARCH_ID, id("question-b"), List.of())))
+                .containsExactlyInAnyOrder("question-b/option-ba=3", "question-b/option-bb=1");
+    }
+
+    @Test
+    public void givenARepeatedSyncWhenSummarizeThenCountEachSubmissionOnce() {
+        var index = buildIndex("");
+        index.afterSingletonsInstantiated();
+        index.sync();
+
+        assertThat(summary(index.summarize(RESEARCH_ID, id("question-b"), List.of())))
+                .containsExactlyInAnyOrder("question-b/option-ba=3", "question-b/option-bb=1");
+        verify(answerRepository, times(2)).streamStoredSince(any());
+    }
+
+    @Test
+    public void givenASubmittedEventWhenHandledThenAddItToTheIndex() {
+        var index = buildIndex("");
+        index.afterSingletonsInstantiated();
+
+        verify(answerEventBus).subscribe(eq("segment-index"), handlerCaptor.capture());
+
+        handlerCaptor.getValue().accept(List.of(AnswersSubmitted.builder()
+                .submissionId(5L)
+                .researchId(RESEARCH_ID)
+                .answers(List.of(Answer.builder()
+                        .questionId(id("question-a"))
+                        .optionId(id("option-ac"))
+                        .build()))
+                .build()));
+
+        assertThat(summary(index.summarize(RESEARCH_ID, id("question-a"), List.of(id("option-ac")))))
+                .containsExactlyInAnyOrder("question-a/option-aa=0", "question-a/option-ab=0", "question-a/option-ac=1");
+    }
+
+    @Test
+    public void givenSubmissionIdsBeyondTheIntRangeWhenSummarizeThenCountThem() {
+        var index = buildIndex("");
+        index.afterSingletonsInstantiated();
+
+        verify(answerEventBus).subscribe(eq("segment-index"), handlerCaptor.capture());
+
+        handlerCaptor.getValue().accept(LongStream.of(Integer.MAX_VALUE + 1L, 1L << 40)
+                .mapToObj(submissionId -> AnswersSubmitted.builder()
+                        .submissionId(submissionId)
+                        .researchId(RESEARCH_ID)
+                        .answers(List.of(
+                                Answer.builder().questionId(id("question-a")).optionId(id("option-ac")).build(),
+                                Answer.builder().questionId(id("question-b")).optionId(id("option-bb")).build()))
+                        .build())
+                .collect(toList()));
+
+        assertThat(summary(index.summarize(RESEARCH_ID, id("question-b"), List.of(id("option-ac")))))
+                .containsExactlyInAnyOrder("question-b/option-ba=0", "question-b/option-bb=2");
+    }
+
+    @Test
+    public void givenASubscriptionBehindWhenSummarizeThenWaitForItAndStillCount() {
+        var index = buildIndex("");
+        index.afterSingletonsInstantiated();
+        when(subscription.awaitCaughtUp(any())).thenReturn(false);
+
+        assertThat(summary(index.summarize(RESEARCH_ID, id("question-b"), List.of())))
+                .containsExactlyInAnyOrder("question-b/option-ba=3", "question-b/option-bb=1");
+        verify(subscription).awaitCaughtUp(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void givenAnIndexNotStartedWhenSummarizeThenDoesNotWaitForEvents() {
+        var index = buildIndex("");
+
+        assertThat(index.summarize(RESEARCH_ID, null, List.of())).isEmpty();
+        verifyNoInteractions(subscription);
+    }
+
+    @Test
+    public void givenASnapshotWhenStartThenLoadItAndSyncOnlyTheMargin() {
+        var snapshot = directory.resolve("segments.bin");
+        var writer = buildIndex(snapshot.toString());
+        writer.afterSingletonsInstantiated();
+        writer.shutdown();
+
+        var reader = buildIndex(snapshot.toString());
+        when(answerRepository.streamStoredSince(any())).thenReturn(Stream.empty());
+        when(submissionRepository.streamPackedStoredSince(any())).thenReturn(Stream.empty());
+        reader.afterSingletonsInstantiated();
+
+        assertThat(summary(reader.summarize(RESEARCH_ID, null, List.of(id("option-ba"))))).containsExactlyInAnyOrder(
+                "question-a/option-aa=2", "question-a/option-ab=1", "question-b/option-ba=3", "question-b/option-bb=0");
+        verify(answerRepository).streamStoredSince(argThat(since -> since.isAfter(OffsetDateTime.now().minusHours(1))));
+    }
+
+    @Test
+    public void givenACorruptedSnapshotWhenStartThenRebuildFromTheDatabase() throws Exception {
+        var snapshot = directory.resolve("segments.bin");
+        Files.write(snapshot, new byte[] {0, 0, 0, 2, 0});
+
+        var index = buildIndex(snapshot.toString());
+        index.afterSingletonsInstantiated();
+
+        assertThat(summary(index.summarize(RESEARCH_ID, id("question-b"), List.of())))
+                .containsExactlyInAnyOrder("question-b/option-ba=3", "question-b/option-bb=1");
+        verify(answerRepository).streamStoredSince(argThat(since -> since.getYear() == 1970));
+    }
+
+    @Test
+    public void givenASnapshotOfAnotherVersionWhenStartThenRebuildFromTheDatabase() throws Exception {
+        var snapshot = directory.resolve("segments.bin");
+        Files.write(snapshot, new byte[] {0, 0, 0, 9});
+
+        buildIndex(snapshot.toString()).afterSingletonsInstantiated();
+
+        verify(answerRepository).streamStoredSince(argThat(since -> since.getYear() == 1970));
+    }
+
+    @Test
+    public void givenAnUnwritableSnapshotPathWhenSnapshotThenDoesNotThrow() {
+        var index = buildIndex(directory.resolve("missing").resolve("segments.bin").toString());
+
+        index.snapshot();
+
+        assertThat(Files.exists(directory.resolve("missing"))).isFalse();
+    }
+
+    @Test
+    public void givenNoSnapshotPathWhenShutdownThenDoesNotWriteAnything() throws Exception {
+        var index = buildIndex("");
+
+        index.shutdown();
+
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private AnswerSegmentIndex buildIndex(String snapshotPath) {
+        return new AnswerSegmentIndex(answerRepository, submissionRepository, answerOrdinalDictionary,
+                answerEventBus, transactionManager, Duration.ofMinutes(5), snapshotPath);
+    }
+
+    private AnswerExportModel row(Long submissionId, UUID questionId, UUID optionId) {
+        return new AnswerExportModel(OffsetDateTime.now(), RESEARCH_ID, questionId, optionId, submissionId);
+    }
+
+    private List<String> summary(List<ResearchSummaryModel> models) {
+        return models.stream()
+                .map(model -> name(model.getQuestionId()) + "/" + name(model.getOptionId()) + "=" + model.getAmount())
+                .collect(toList());
+    }
+
+    private static UUID id(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes());
+    }
+
+    private static String name(UUID id) {
+        return NAMES.stream()
+                .filter(name -> id(name).equals(id))
+                .findFirst()
+                .orElseThrow();
+    }
+}
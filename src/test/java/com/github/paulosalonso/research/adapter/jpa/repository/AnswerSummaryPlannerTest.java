@@ -0,0 +1,106 @@
+package com.github.paulosalonso.research.adapter.jpa.repository;
+
+import com.github.paulosalonso.research.adapter.jpa.repository.AnswerSummaryPlanner.Segment;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.DAILY;
+import static com.github.paulosalonso.research.adapter.jpa.model.RollupGranularity.HOURLY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class AnswerSummaryPlannerTest {
+
+    @Test
+    public void givenARangeOfSeveralDaysWhenPlanThenUseDaysHoursAndRawEdges() {
+        var from = at(1, 10, 30);
+        var to = at(5, 14, 15);
+
+        var plan = AnswerSummaryPlanner.plan(from, to);
+
+        assertThat(plan)
+                .extracting(Segment::getGranularity, Segment::getFrom, Segment::getTo, Segment::isToInclusive)
+                .containsExactly(
+                        tuple(DAILY, at(2, 0, 0), at(5, 0, 0), false),
+                        tuple(null, from, at(1, 11, 0), false),
+                        tuple(HOURLY, at(1, 11, 0), at(2, 0, 0), false),
+                        tuple(HOURLY, at(5, 0, 0), at(5, 14, 0), false),
+                        tuple(null, at(5, 14, 0), to, true));
+    }
+
+    @Test
+    public void givenAlignedBoundsWhenPlanThenSkipEmptyEdges() {
+        var from = at(1, 0, 0);
+        var to = at(3, 0, 0);
+
+        var plan = AnswerSummaryPlanner.plan(from, to);
+
+        assertThat(plan)
+                .extracting(Segment::getGranularity, Segment::getFrom, Segment::getTo, Segment::isToInclusive)
+                .containsExactly(
+                        tuple(DAILY, from, to, false),
+                        tuple(null, to, to, true));
+    }
+
+    @Test
+    public void givenARangeInsideADayWhenPlanThenUseOnlyHoursAndRawEdges() {
+        var from = at(1, 10, 30);
+        var to = at(1, 14, 15);
+
+        var plan = AnswerSummaryPlanner.plan(from, to);
+
+        assertThat(plan)
+                .extracting(Segment::getGranularity, Segment::getFrom, Segment::getTo, Segment::isToInclusive)
+                .containsExactly(
+                        tuple(null, from, at(1, 11, 0), false),
+                        tuple(HOURLY, at(1, 11, 0), at(1, 14, 0), false),
+                        tuple(null, at(1, 14, 0), to, true));
+    }
+
+    @Test
+    public void givenARangeInsideAnHourWhenPlanThenReadOnlyRawAnswers() {
+        var from = at(1, 10, 15);
+        var to = at(1, 10, 45);
+
+        var plan = AnswerSummaryPlanner.plan(from, to);
+
+        assertThat(plan)
+                .extracting(Segment::getGranularity, Segment::getFrom, Segment::getTo, Segment::isToInclusive)
+                .containsExactly(tuple(null, from, to, true));
+    }
+
+    @Test
+    public void givenOnlyDateFromWhenPlanThenUseOpenEndedDays() {
+        var from = at(1, 10, 30);
+
+        var plan = AnswerSummaryPlanner.plan(from, null);
+
+        assertThat(plan)
+                .extracting(Segment::getGranularity, Segment::getFrom, Segment::getTo, Segment::isToInclusive)
+                .containsExactly(
+                        tuple(DAILY, at(2, 0, 0), null, false),
+                        tuple(null, from, at(1, 11, 0), false),
+                        tuple(HOURLY, at(1, 11, 0), at(2, 0, 0), false));
+    }
+
+    @Test
+    public void givenOnlyDateToWhenPlanThenUseDaysSinceTheBeginning() {
+        var to = at(5, 14, 15);
+
+        var plan = AnswerSummaryPlanner.plan(null, to);
+
+        assertThat(plan)
+                .extracting(Segment::getGranularity, Segment::getFrom, Segment::getTo, Segment::isToInclusive)
+                .containsExactly(
+                        tuple(DAILY, null, at(5, 0, 0), false),
+                        tuple(HOURLY, at(5, 0, 0), at(5, 14, 0), false),
+                        tuple(null, at(5, 14, 0), to, true));
+    }
+
+    private OffsetDateTime at(int day, int hour, int minute) {
+        return ZonedDateTime.of(2026, 10, day, hour, minute, 0, 0, ZoneId.systemDefault()).toOffsetDateTime();
+    }
+}
@@ -1,13 +1,21 @@
 package com.github.paulosalonso.research.usecase.answer;
 
 import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.AnswersSubmitted;
+import com.github.paulosalonso.research.domain.Submission;
+import com.github.paulosalonso.research.usecase.exception.AnswerBufferFullException;
 import com.github.paulosalonso.research.usecase.exception.InvalidAnswerException;
+import com.github.paulosalonso.research.usecase.port.AnswerBufferPort;
+import com.github.paulosalonso.research.usecase.port.AnswerEventPort;
 import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.NotifierPort;
-import com.github.paulosalonso.research.usecase.port.OptionPort;
+import com.github.paulosalonso.research.usecase.port.ResearchSummaryCachePort;
+import com.github.paulosalonso.research.usecase.port.TransactionPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -18,6 +26,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,10 +42,28 @@ public class AnswerCreateTest {
     private AnswerValidator validator;
 
     @Mock
-    private OptionPort optionPort;
+    private NotifierPort notifierPort;
 
     @Mock
-    private NotifierPort notifierPort;
+    private TransactionPort transactionPort;
+
+    @Mock
+    private ResearchSummaryCachePort summaryCachePort;
+
+    @Mock
+    private AnswerSchemaCachePort schemaCachePort;
+
+    @Mock
+    private AnswerBufferPort bufferPort;
+
+    @Mock
+    private AnswerEventPort eventPort;
+
+    @Mock
+    private AnswerSchema schema;
+
+    @Captor
+    private ArgumentCaptor<List<AnswersSubmitted>> eventsCaptor;
 
     @Test
     public void givenAnAnswerWhenCreateThenCallPort() {
@@ -48,22 +75,47 @@ public class AnswerCreateTest {
                 .optionId(UUID.randomUUID())
                 .build();
 
-        when(optionPort.shouldNotify(toSave.getOptionId())).thenReturn(false);
+        var created = Submission.builder()
+                .id(1L)
+                .researchId(toSave.getResearchId())
+                .date(testInit)
+                .answers(List.of(toSave))
+                .build();
+
+        when(validator.validate(toSave.getResearchId(), List.of(toSave))).thenReturn(schema);
+        when(schema.shouldNotify(toSave.getQuestionId(), toSave.getOptionId())).thenReturn(false);
+        when(answerPort.createSubmission(any())).thenReturn(created);
+        mockTransaction();
 
         answerCreate.create(toSave.getResearchId(), List.of(toSave));
 
-        ArgumentCaptor<Answer> answerCaptor = ArgumentCaptor.forClass(Answer.class);
-        verify(answerPort).create(answerCaptor.capture());
+        ArgumentCaptor<Submission> submissionCaptor = ArgumentCaptor.forClass(Submission.class);
+        verify(answerPort).createSubmission(submissionCaptor.capture());
 
-        var saved = answerCaptor.getValue();
-        assertThat(saved.getDate()).isBetween(testInit, OffsetDateTime.now());
+        var submission = submissionCaptor.getValue();
+        assertThat(submission.getResearchId()).isEqualTo(toSave.getResearchId());
+        assertThat(submission.getDate()).isBetween(testInit, OffsetDateTime.now());
+        assertThat(submission.getAnswers()).hasSize(1);
+        var saved = submission.getAnswers().get(0);
+        assertThat(saved.getDate()).isEqualTo(submission.getDate());
         assertThat(saved.getResearchId()).isEqualTo(toSave.getResearchId());
         assertThat(saved.getQuestionId()).isEqualTo(toSave.getQuestionId());
         assertThat(saved.getOptionId()).isEqualTo(toSave.getOptionId());
 
+        verify(transactionPort).execute(any());
         verify(validator).validate(toSave.getResearchId(), List.of(toSave));
-        verify(optionPort).shouldNotify(toSave.getOptionId());
+        verify(schema).shouldNotify(toSave.getQuestionId(), toSave.getOptionId());
+        verify(summaryCachePort).invalidate(toSave.getResearchId());
         verifyNoInteractions(notifierPort);
+
+        verify(eventPort).publish(eventsCaptor.capture());
+
+        assertThat(eventsCaptor.getValue()).hasSize(1);
+        var event = eventsCaptor.getValue().get(0);
+        assertThat(event.getSubmissionId()).isEqualTo(created.getId());
+        assertThat(event.getResearchId()).isEqualTo(created.getResearchId());
+        assertThat(event.getDate()).isEqualTo(created.getDate());
+        assertThat(event.getAnswers()).isSameAs(created.getAnswers());
     }
 
     @Test
@@ -80,8 +132,11 @@ public class AnswerCreateTest {
                 .isSameAs(exception);
 
         verify(validator).validate(answer.getResearchId(), List.of(answer));
-        verifyNoInteractions(optionPort);
+        verifyNoInteractions(answerPort);
         verifyNoInteractions(notifierPort);
+        verifyNoInteractions(transactionPort);
+        verifyNoInteractions(summaryCachePort);
+        verifyNoInteractions(eventPort);
     }
 
     @Test
@@ -92,11 +147,221 @@ public class AnswerCreateTest {
                 .optionId(UUID.randomUUID())
                 .build();
 
-        when(optionPort.shouldNotify(answer.getOptionId())).thenReturn(true);
+        when(validator.validate(answer.getResearchId(), List.of(answer))).thenReturn(schema);
+        when(schema.shouldNotify(answer.getQuestionId(), answer.getOptionId())).thenReturn(true);
+        when(answerPort.createSubmission(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        mockTransaction();
 
         answerCreate.create(answer.getResearchId(), List.of(answer));
 
-        verify(optionPort).shouldNotify(answer.getOptionId());
+        var inOrder = inOrder(transactionPort, answerPort, notifierPort, summaryCachePort, eventPort);
+        inOrder.verify(transactionPort).execute(any());
+        inOrder.verify(answerPort).createSubmission(any());
+        inOrder.verify(notifierPort).notifyAnswer(answer);
+        inOrder.verify(summaryCachePort).invalidate(answer.getResearchId());
+        inOrder.verify(eventPort).publish(any());
+        verify(schema).shouldNotify(answer.getQuestionId(), answer.getOptionId());
+    }
+
+    @Test
+    public void givenANotifierErrorWhenCreateThenPropagateItFromTheTransaction() {
+        var answer = Answer.builder()
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var exception = new RuntimeException("test exception");
+
+        when(validator.validate(answer.getResearchId(), List.of(answer))).thenReturn(schema);
+        when(schema.shouldNotify(answer.getQuestionId(), answer.getOptionId())).thenReturn(true);
+        doThrow(exception).when(notifierPort).notifyAnswer(answer);
+        mockTransaction();
+
+        assertThatThrownBy(() -> answerCreate.create(answer.getResearchId(), List.of(answer)))
+                .isSameAs(exception);
+
+        verify(answerPort).createSubmission(any());
+        verifyNoInteractions(summaryCachePort);
+        verifyNoInteractions(eventPort);
+    }
+
+    @Test
+    public void givenAnAnswerWhenEnqueueThenOfferSubmissionToBuffer() {
+        var testInit = OffsetDateTime.now();
+
+        var answer = Answer.builder()
+                .researchId(UUID.randomUUID())
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        when(validator.validate(answer.getResearchId(), List.of(answer))).thenReturn(schema);
+        when(bufferPort.offer(any())).thenReturn(true);
+
+        answerCreate.enqueue(answer.getResearchId(), List.of(answer));
+
+        ArgumentCaptor<Submission> submissionCaptor = ArgumentCaptor.forClass(Submission.class);
+        verify(bufferPort).offer(submissionCaptor.capture());
+
+        var submission = submissionCaptor.getValue();
+        assertThat(submission.getResearchId()).isEqualTo(answer.getResearchId());
+        assertThat(submission.getDate()).isBetween(testInit, OffsetDateTime.now());
+        assertThat(submission.getAnswers()).containsExactly(answer);
+        assertThat(submission.getIdempotencyKey()).isNotNull();
+        assertThat(answer.getDate()).isEqualTo(submission.getDate());
+
+        verifyNoInteractions(answerPort);
+        verifyNoInteractions(transactionPort);
+        verifyNoInteractions(notifierPort);
+        verifyNoInteractions(summaryCachePort);
+    }
+
+    @Test
+    public void givenAFullBufferWhenEnqueueThenThrowsAnswerBufferFullException() {
+        var answer = Answer.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        when(validator.validate(answer.getResearchId(), List.of(answer))).thenReturn(schema);
+        when(bufferPort.offer(any())).thenReturn(false);
+
+        assertThatThrownBy(() -> answerCreate.enqueue(answer.getResearchId(), List.of(answer)))
+                .isExactlyInstanceOf(AnswerBufferFullException.class)
+                .hasMessage("Too many answers being received, try again later");
+    }
+
+    @Test
+    public void givenAnInvalidAnswerWhenEnqueueThenRethrowsItWithoutBuffering() {
+        var answer = Answer.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        var exception = new InvalidAnswerException("test exception");
+
+        doThrow(exception).when(validator).validate(answer.getResearchId(), List.of(answer));
+
+        assertThatThrownBy(() -> answerCreate.enqueue(answer.getResearchId(), List.of(answer)))
+                .isSameAs(exception);
+
+        verifyNoInteractions(bufferPort);
+    }
+
+    @Test
+    public void givenSubmissionsWhenCreateAllThenStoreThemInOneTransactionAndInvalidateEachResearchOnce() {
+        var researchId = UUID.randomUUID();
+        var otherResearchId = UUID.randomUUID();
+
+        var notified = Answer.builder()
+                .researchId(researchId)
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var silent = Answer.builder()
+                .researchId(otherResearchId)
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var submissions = List.of(
+                Submission.builder().researchId(researchId).answers(List.of(notified)).build(),
+                Submission.builder().researchId(researchId).answers(List.of(notified)).build(),
+                Submission.builder().researchId(otherResearchId).answers(List.of(silent)).build());
+
+        var otherSchema = mock(AnswerSchema.class);
+
+        when(schemaCachePort.get(researchId)).thenReturn(schema);
+        when(schemaCachePort.get(otherResearchId)).thenReturn(otherSchema);
+        when(schema.shouldNotify(notified.getQuestionId(), notified.getOptionId())).thenReturn(true);
+        when(otherSchema.shouldNotify(silent.getQuestionId(), silent.getOptionId())).thenReturn(false);
+        when(answerPort.createSubmissions(submissions)).thenReturn(submissions);
+        mockTransaction();
+
+        answerCreate.createAll(submissions);
+
+        var inOrder = inOrder(transactionPort, answerPort, notifierPort, summaryCachePort, eventPort);
+        inOrder.verify(transactionPort).execute(any());
+        inOrder.verify(answerPort).createSubmissions(submissions);
+        inOrder.verify(notifierPort, times(2)).notifyAnswer(notified);
+        inOrder.verify(summaryCachePort).invalidate(researchId);
+        inOrder.verify(summaryCachePort).invalidate(otherResearchId);
+
+        inOrder.verify(eventPort).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).extracting(AnswersSubmitted::getResearchId)
+                .containsExactly(researchId, researchId, otherResearchId);
+        verifyNoMoreInteractions(notifierPort, summaryCachePort);
+        verifyNoInteractions(validator);
+    }
+
+    @Test
+    public void givenSubmissionsAlreadyStoredWhenCreateAllThenOnlyNotifyAndPublishTheCreatedOnes() {
+        var researchId = UUID.randomUUID();
+
+        var answer = Answer.builder()
+                .researchId(researchId)
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
+
+        var stored = Submission.builder().researchId(researchId).answers(List.of(answer)).idempotencyKey(UUID.randomUUID()).build();
+        var fresh = Submission.builder().researchId(researchId).answers(List.of(answer)).idempotencyKey(UUID.randomUUID()).build();
+        var submissions = List.of(stored, fresh);
+
+        when(schemaCachePort.get(researchId)).thenReturn(schema);
+        when(schema.shouldNotify(answer.getQuestionId(), answer.getOptionId())).thenReturn(true);
+        when(answerPort.createSubmissions(submissions)).thenReturn(List.of(fresh));
+        mockTransaction();
+
+        answerCreate.createAll(submissions);
+
         verify(notifierPort).notifyAnswer(answer);
+        verify(summaryCachePort).invalidate(researchId);
+        verify(eventPort).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).hasSize(1);
+    }
+
+    @Test
+    public void givenOnlySubmissionsAlreadyStoredWhenCreateAllThenDoNothingElse() {
+        var submissions = List.of(Submission.builder()
+                .researchId(UUID.randomUUID())
+                .answers(List.of())
+                .idempotencyKey(UUID.randomUUID())
+                .build());
+
+        when(answerPort.createSubmissions(submissions)).thenReturn(List.of());
+        mockTransaction();
+
+        answerCreate.createAll(submissions);
+
+        verifyNoInteractions(schemaCachePort, notifierPort, summaryCachePort);
+        verify(eventPort).publish(List.of());
+    }
+
+    @Test
+    public void givenAStorageErrorWhenCreateAllThenPropagateItWithoutInvalidating() {
+        var submissions = List.of(Submission.builder()
+                .researchId(UUID.randomUUID())
+                .answers(List.of())
+                .build());
+
+        var exception = new RuntimeException("test exception");
+
+        doThrow(exception).when(answerPort).createSubmissions(submissions);
+        mockTransaction();
+
+        assertThatThrownBy(() -> answerCreate.createAll(submissions))
+                .isSameAs(exception);
+
+        verifyNoInteractions(notifierPort);
+        verifyNoInteractions(summaryCachePort);
+        verifyNoInteractions(eventPort);
+    }
+
+    private void mockTransaction() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(transactionPort).execute(any());
     }
 }
@@ -0,0 +1,64 @@
+package com.github.paulosalonso.research.usecase.answer;
+
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchCrosstab;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
+import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnswerCrosstabTest {
+
+    @InjectMocks
+    private AnswerCrosstab answerCrosstab;
+
+    @Mock
+    private AnswerPort port;
+
+    @Test
+    public void givenTwoQuestionsWhenCrosstabThenCallPort() {
+        var criteria = AnswerCriteria.builder().researchId(UUID.randomUUID()).build();
+        var rowQuestionId = UUID.randomUUID();
+        var columnQuestionId = UUID.randomUUID();
+        var crosstab = ResearchCrosstab.builder().build();
+
+        when(port.crosstab(criteria, rowQuestionId, columnQuestionId)).thenReturn(crosstab);
+
+        var result = answerCrosstab.crosstab(criteria, rowQuestionId, columnQuestionId);
+
+        assertThat(result).isSameAs(crosstab);
+        verify(port).crosstab(criteria, rowQuestionId, columnQuestionId);
+    }
+
+    @Test
+    public void givenNoRowQuestionWhenCrosstabThenThrowsException() {
+        var criteria = AnswerCriteria.builder().researchId(UUID.randomUUID()).build();
+
+        assertThatThrownBy(() -> answerCrosstab.crosstab(criteria, null, UUID.randomUUID()))
+                .isExactlyInstanceOf(InvalidCriteriaException.class)
+                .hasMessage("Row and column questions are required");
+
+        verifyNoInteractions(port);
+    }
+
+    @Test
+    public void givenNoColumnQuestionWhenCrosstabThenThrowsException() {
+        var criteria = AnswerCriteria.builder().researchId(UUID.randomUUID()).build();
+
+        assertThatThrownBy(() -> answerCrosstab.crosstab(criteria, UUID.randomUUID(), null))
+                .isExactlyInstanceOf(InvalidCriteriaException.class)
+                .hasMessage("Row and column questions are required");
+
+        verifyNoInteractions(port);
+    }
+}
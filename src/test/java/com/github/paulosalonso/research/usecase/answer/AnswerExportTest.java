@@ -0,0 +1,64 @@
+package com.github.paulosalonso.research.usecase.answer;
+
+import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.usecase.exception.NotFoundException;
+import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import com.github.paulosalonso.research.usecase.port.ResearchPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnswerExportTest {
+
+    @InjectMocks
+    private AnswerExport answerExport;
+
+    @Mock
+    private AnswerPort answerPort;
+
+    @Mock
+    private ResearchPort researchPort;
+
+    @Mock
+    private Consumer<Answer> consumer;
+
+    @Test
+    public void givenAnAnswerCriteriaWhenExportThenCheckResearchBeforeCallingPort() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        var export = answerExport.export(criteria);
+
+        verify(researchPort).read(criteria.getResearchId());
+        verifyNoInteractions(answerPort);
+
+        export.accept(consumer);
+
+        verify(answerPort).export(criteria, consumer);
+    }
+
+    @Test
+    public void givenANonexistentResearchWhenExportThenThrowsNotFoundException() {
+        var criteria = AnswerCriteria.builder()
+                .researchId(UUID.randomUUID())
+                .build();
+
+        when(researchPort.read(criteria.getResearchId())).thenThrow(NotFoundException.class);
+
+        assertThatThrownBy(() -> answerExport.export(criteria))
+                .isExactlyInstanceOf(NotFoundException.class);
+
+        verifyNoInteractions(answerPort);
+    }
+}
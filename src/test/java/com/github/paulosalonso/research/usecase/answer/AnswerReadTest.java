@@ -1,14 +1,26 @@
 package com.github.paulosalonso.research.usecase.answer;
 
 import com.github.paulosalonso.research.domain.AnswerCriteria;
+import com.github.paulosalonso.research.domain.ResearchSummary;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
 import com.github.paulosalonso.research.usecase.port.AnswerPort;
+import com.github.paulosalonso.research.usecase.port.ResearchSummaryCachePort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static org.mockito.Mockito.verify;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class AnswerReadTest {
@@ -19,10 +31,87 @@ public class AnswerReadTest {
     @Mock
     private AnswerPort port;
 
+    @Mock
+    private ResearchSummaryCachePort summaryCachePort;
+
     @Test
-    public void givenAnAnswerCriteriaWhenSearchThenCallPort() {
+    public void givenAnAnswerCriteriaWhenSearchThenCallPortThroughTheCache() {
         var criteria = AnswerCriteria.builder().build();
-        answerRead.search(criteria);
+        var summary = ResearchSummary.builder().build();
+
+        when(port.search(criteria)).thenReturn(summary);
+        when(summaryCachePort.get(eq(criteria), any())).thenAnswer(invocation ->
+                invocation.<Supplier<ResearchSummary>>getArgument(1).get());
+
+        var result = answerRead.search(criteria);
+
+        assertThat(result).isSameAs(summary);
+        verify(summaryCachePort).get(eq(criteria), any());
         verify(port).search(criteria);
     }
+
+    @Test
+    public void givenACachedSummaryWhenSearchThenDoesNotCallPort() {
+        var criteria = AnswerCriteria.builder().build();
+        var summary = ResearchSummary.builder().build();
+
+        when(summaryCachePort.get(eq(criteria), any())).thenReturn(summary);
+
+        var result = answerRead.search(criteria);
+
+        assertThat(result).isSameAs(summary);
+        verifyNoInteractions(port);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithSegmentAndDateFromWhenSearchThenThrowsException() {
+        var criteria = AnswerCriteria.builder()
+                .segment(Set.of(UUID.randomUUID()))
+                .dateFrom(OffsetDateTime.now())
+                .build();
+
+        assertThatThrownBy(() -> answerRead.search(criteria))
+                .isExactlyInstanceOf(InvalidCriteriaException.class)
+                .hasMessage("Segment filters can't be combined with date filters");
+
+        verifyNoInteractions(summaryCachePort, port);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithSegmentAndDateToWhenSearchThenThrowsException() {
+        var criteria = AnswerCriteria.builder()
+                .segment(Set.of(UUID.randomUUID()))
+                .dateTo(OffsetDateTime.now())
+                .build();
+
+        assertThatThrownBy(() -> answerRead.search(criteria))
+                .isExactlyInstanceOf(InvalidCriteriaException.class);
+
+        verifyNoInteractions(summaryCachePort, port);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithEmptySegmentAndDatesWhenSearchThenCallTheCache() {
+        var criteria = AnswerCriteria.builder()
+                .segment(Set.of())
+                .dateFrom(OffsetDateTime.now())
+                .build();
+        var summary = ResearchSummary.builder().build();
+
+        when(summaryCachePort.get(eq(criteria), any())).thenReturn(summary);
+
+        assertThat(answerRead.search(criteria)).isSameAs(summary);
+    }
+
+    @Test
+    public void givenAnAnswerCriteriaWithSegmentWithoutDatesWhenSearchThenCallTheCache() {
+        var criteria = AnswerCriteria.builder()
+                .segment(Set.of(UUID.randomUUID()))
+                .build();
+        var summary = ResearchSummary.builder().build();
+
+        when(summaryCachePort.get(eq(criteria), any())).thenReturn(summary);
+
+        assertThat(answerRead.search(criteria)).isSameAs(summary);
+    }
 }
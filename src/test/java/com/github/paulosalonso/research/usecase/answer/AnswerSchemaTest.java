@@ -0,0 +1,86 @@
+package com.github.paulosalonso.research.usecase.answer;
+
+import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.domain.Question;
+import com.github.paulosalonso.research.domain.Research;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnswerSchemaTest {
+
+    @Test
+    public void givenAResearchWhenCompileThenIndexQuestionsAndOptions() {
+        var notifyOption = buildOption(true);
+        var silentOption = buildOption(false);
+        var questionA = buildQuestion(2, true, Set.of(notifyOption, silentOption));
+        var questionB = buildQuestion(1, false, null);
+
+        var research = Research.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .startsOn(OffsetDateTime.now().minusDays(1))
+                .endsOn(OffsetDateTime.now().plusDays(1))
+                .questions(Set.of(questionA, questionB))
+                .build();
+
+        var schema = AnswerSchema.compile(research, 7);
+
+        assertThat(schema.getResearchId()).isEqualTo(research.getId());
+        assertThat(schema.getVersion()).isEqualTo(7);
+        assertThat(schema.getStartsOn()).isEqualTo(research.getStartsOn());
+        assertThat(schema.getEndsOn()).isEqualTo(research.getEndsOn());
+        assertThat(schema.getQuestions())
+                .extracting(AnswerSchema.QuestionSchema::getId)
+                .containsExactly(questionB.getId(), questionA.getId());
+
+        var compiledQuestion = schema.getQuestion(questionA.getId()).orElseThrow();
+        assertThat(compiledQuestion.isMultiSelect()).isTrue();
+        assertThat(compiledQuestion.getOptionIds()).containsExactlyInAnyOrder(notifyOption.getId(), silentOption.getId());
+        assertThat(compiledQuestion.getNotifyOptionIds()).containsExactly(notifyOption.getId());
+        assertThat(compiledQuestion.hasOption(silentOption.getId())).isTrue();
+        assertThat(compiledQuestion.hasOption(null)).isFalse();
+
+        assertThat(schema.getQuestion(questionB.getId()).orElseThrow().getOptionIds()).isEmpty();
+        assertThat(schema.getQuestion(UUID.randomUUID())).isEmpty();
+
+        assertThat(schema.shouldNotify(questionA.getId(), notifyOption.getId())).isTrue();
+        assertThat(schema.shouldNotify(questionA.getId(), silentOption.getId())).isFalse();
+        assertThat(schema.shouldNotify(questionA.getId(), null)).isFalse();
+        assertThat(schema.shouldNotify(questionB.getId(), notifyOption.getId())).isFalse();
+        assertThat(schema.shouldNotify(UUID.randomUUID(), notifyOption.getId())).isFalse();
+    }
+
+    @Test
+    public void givenAResearchWithoutQuestionsWhenCompileThenReturnEmptySchema() {
+        var research = Research.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .startsOn(OffsetDateTime.now())
+                .build();
+
+        assertThat(AnswerSchema.compile(research, 0).getQuestions()).isEmpty();
+    }
+
+    private Question buildQuestion(int sequence, boolean multiSelect, Set<Option> options) {
+        return Question.builder()
+                .id(UUID.randomUUID())
+                .sequence(sequence)
+                .description("description")
+                .multiSelect(multiSelect)
+                .options(options)
+                .build();
+    }
+
+    private Option buildOption(boolean notify) {
+        return Option.builder()
+                .id(UUID.randomUUID())
+                .description("description")
+                .notify(notify)
+                .build();
+    }
+}
@@ -1,24 +1,25 @@
 package com.github.paulosalonso.research.usecase.answer;
 
 import com.github.paulosalonso.research.domain.Answer;
+import com.github.paulosalonso.research.domain.Option;
 import com.github.paulosalonso.research.domain.Question;
-import com.github.paulosalonso.research.domain.QuestionCriteria;
 import com.github.paulosalonso.research.domain.Research;
 import com.github.paulosalonso.research.usecase.exception.InvalidAnswerException;
 import com.github.paulosalonso.research.usecase.exception.NotFoundException;
-import com.github.paulosalonso.research.usecase.port.OptionPort;
-import com.github.paulosalonso.research.usecase.port.QuestionPort;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -26,267 +27,294 @@ import static org.mockito.Mockito.*;
 @ExtendWith({MockitoExtension.class})
 public class AnswerValidatorTest {
 
-    @InjectMocks
-    private AnswerValidator validator;
-
     @Mock
     private ResearchPort researchPort;
 
     @Mock
-    private QuestionPort questionPort;
+    private AnswerSchemaCachePort schemaCachePort;
 
-    @Mock
-    private OptionPort optionPort;
+    private AnswerValidator validator;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(schemaCachePort.get(any())).thenAnswer(invocation ->
+                AnswerSchema.compile(researchPort.readFetchingQuestions(invocation.getArgument(0)), 0));
+
+        validator = new AnswerValidator(schemaCachePort);
+    }
 
     @Test
     public void givenAnAnswerWhenValidatingThenDoesNotThrowAnyException() {
-        var research = buildResearch();
-        var answer = buildAnswer(research);
+        var question = buildQuestion(1, false, buildOption());
+        var research = buildResearch(question);
+        var answer = buildAnswer(research, question);
 
-        when(researchPort.read(research.getId())).thenReturn(research);
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
         assertThatCode(() -> validator.validate(research.getId(), List.of(answer)))
                 .doesNotThrowAnyException();
 
-        verify(researchPort).read(research.getId());
-        verify(questionPort).read(answer.getResearchId(), answer.getQuestionId());
-        verify(optionPort).read(answer.getQuestionId(), answer.getOptionId());
+        verify(researchPort).readFetchingQuestions(research.getId());
+        verifyNoMoreInteractions(researchPort);
+    }
+
+    @Test
+    public void givenAnAnswerWhenValidatingThenReturnTheSchemaUsedForValidation() {
+        var question = buildQuestion(1, false, buildOption());
+        var research = buildResearch(question);
+        var answer = buildAnswer(research, question);
+
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
+
+        var schema = validator.validate(research.getId(), List.of(answer));
+
+        assertThat(schema.getResearchId()).isEqualTo(research.getId());
+        assertThat(schema.getQuestions()).hasSize(1);
+    }
+
+    @Test
+    public void givenAnAnswerWithNullOptionWhenValidatingThenThrowsException() {
+        var question = buildQuestion(1, false, buildOption());
+        var research = buildResearch(question);
+        var answer = Answer.builder()
+                .researchId(research.getId())
+                .questionId(question.getId())
+                .build();
+
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
+
+        assertThatThrownBy(() -> validator.validate(research.getId(), List.of(answer)))
+                .isExactlyInstanceOf(InvalidAnswerException.class)
+                .hasMessage("Option not found: null");
     }
 
     @Test
     public void givenAnAnswerWithEndsDateInFutureWhenValidatingThenDoesNotThrowAnyException() {
-        var research = buildResearch().toBuilder()
+        var question = buildQuestion(1, false, buildOption());
+        var research = buildResearch(question).toBuilder()
                 .endsOn(OffsetDateTime.now().plusDays(1))
                 .build();
-        var answer = buildAnswer(research);
+        var answer = buildAnswer(research, question);
 
-        when(researchPort.read(research.getId())).thenReturn(research);
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
         assertThatCode(() -> validator.validate(research.getId(), List.of(answer)))
                 .doesNotThrowAnyException();
 
-        verify(researchPort).read(research.getId());
-        verify(questionPort).read(answer.getResearchId(), answer.getQuestionId());
-        verify(optionPort).read(answer.getQuestionId(), answer.getOptionId());
+        verify(researchPort).readFetchingQuestions(research.getId());
     }
 
     @Test
     public void givenAnAnswerWhenResearchIsNotFoundThenThrowsException() {
-        var research = buildResearch();
-        var answer = buildAnswer(research);
+        var researchId = UUID.randomUUID();
+        var answer = Answer.builder()
+                .researchId(researchId)
+                .questionId(UUID.randomUUID())
+                .optionId(UUID.randomUUID())
+                .build();
 
-        when(researchPort.read(answer.getResearchId())).thenThrow(NotFoundException.class);
+        when(researchPort.readFetchingQuestions(researchId)).thenThrow(NotFoundException.class);
 
-        assertThatThrownBy(() -> validator.validate(answer.getResearchId(), List.of(answer)))
+        assertThatThrownBy(() -> validator.validate(researchId, List.of(answer)))
                 .isExactlyInstanceOf(NotFoundException.class);
 
-        verify(researchPort).read(answer.getResearchId());
-        verifyNoInteractions(questionPort);
-        verifyNoInteractions(optionPort);
+        verify(researchPort).readFetchingQuestions(researchId);
     }
 
     @Test
     public void givenANotStartedResearchWhenAnswerItThenThrowsException() {
-        var research = Research.builder()
-                .id(UUID.randomUUID())
-                .title("title")
+        var question = buildQuestion(1, false, buildOption());
+        var research = buildResearch(question).toBuilder()
                 .startsOn(OffsetDateTime.now().plusMinutes(1))
                 .build();
 
-        var answer = buildAnswer(research);
+        var answer = buildAnswer(research, question);
 
-        when(researchPort.read(research.getId())).thenReturn(research);
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
         assertThatThrownBy(() -> validator.validate(research.getId(), List.of(answer)))
                 .isExactlyInstanceOf(InvalidAnswerException.class)
                 .hasMessage("Research is not started");
 
-        verify(researchPort).read(research.getId());
-        verifyNoInteractions(questionPort);
-        verifyNoInteractions(optionPort);
+        verify(researchPort).readFetchingQuestions(research.getId());
     }
 
     @Test
     public void givenAFinalizedResearchWhenAnswerItThenThrowsException() {
-        var research = Research.builder()
-                .id(UUID.randomUUID())
-                .title("title")
+        var question = buildQuestion(1, false, buildOption());
+        var research = buildResearch(question).toBuilder()
                 .startsOn(OffsetDateTime.now().minusDays(1))
                 .endsOn(OffsetDateTime.now().minusMinutes(1))
                 .build();
 
-        var answer = buildAnswer(research);
+        var answer = buildAnswer(research, question);
 
-        when(researchPort.read(research.getId())).thenReturn(research);
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
         assertThatThrownBy(() -> validator.validate(research.getId(), List.of(answer)))
                 .isExactlyInstanceOf(InvalidAnswerException.class)
                 .hasMessage("Research is finalized");
 
-        verify(researchPort).read(research.getId());
-        verifyNoInteractions(questionPort);
-        verifyNoInteractions(optionPort);
+        verify(researchPort).readFetchingQuestions(research.getId());
     }
 
     @Test
     public void givenAnAnswerWhenQuestionIsNotFoundThenThrowsException() {
-        var research = buildResearch();
-        var answer = buildAnswer(research);
+        var question = buildQuestion(1, false, buildOption());
+        var research = buildResearch(question);
+        var answer = Answer.builder()
+                .researchId(research.getId())
+                .questionId(UUID.randomUUID())
+                .optionId(question.getOptions().iterator().next().getId())
+                .build();
 
-        when(researchPort.read(research.getId())).thenReturn(research);
-        when(questionPort.read(answer.getResearchId(), answer.getQuestionId())).thenThrow(NotFoundException.class);
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
         assertThatThrownBy(() -> validator.validate(research.getId(), List.of(answer)))
                 .isExactlyInstanceOf(InvalidAnswerException.class)
                 .hasMessage("Question not found: " + answer.getQuestionId());
-
-        verify(researchPort).read(research.getId());
-        verify(questionPort).read(answer.getResearchId(), answer.getQuestionId());
-        verifyNoInteractions(optionPort);
     }
 
     @Test
     public void givenAnAnswerWhenOptionIsNotFoundThenThrowsException() {
-        var research = buildResearch();
-        var answer = buildAnswer(research);
+        var question = buildQuestion(1, false, buildOption());
+        var research = buildResearch(question);
+        var answer = Answer.builder()
+                .researchId(research.getId())
+                .questionId(question.getId())
+                .optionId(UUID.randomUUID())
+                .build();
 
-        when(researchPort.read(research.getId())).thenReturn(research);
-        when(optionPort.read(answer.getQuestionId(), answer.getOptionId())).thenThrow(NotFoundException.class);
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
         assertThatThrownBy(() -> validator.validate(research.getId(), List.of(answer)))
                 .isExactlyInstanceOf(InvalidAnswerException.class)
                 .hasMessage("Option not found: " + answer.getOptionId());
+    }
+
+    @Test
+    public void givenAnAnswerWhenOptionBelongsToAnotherQuestionThenThrowsException() {
+        var questionA = buildQuestion(1, false, buildOption());
+        var questionB = buildQuestion(2, false, buildOption());
+        var research = buildResearch(questionA, questionB);
+        var answer = Answer.builder()
+                .researchId(research.getId())
+                .questionId(questionA.getId())
+                .optionId(questionB.getOptions().iterator().next().getId())
+                .build();
+
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
-        verify(researchPort).read(research.getId());
-        verify(questionPort).read(answer.getResearchId(), answer.getQuestionId());
-        verify(optionPort).read(answer.getQuestionId(), answer.getOptionId());
+        assertThatThrownBy(() -> validator.validate(research.getId(), List.of(answer)))
+                .isExactlyInstanceOf(InvalidAnswerException.class)
+                .hasMessage("Option not found: " + answer.getOptionId());
     }
 
     @Test
-    public void givenAQuestionThatAcceptsMultipleSelectWhenValidateAnAnswerWithMoreThenOneOptionForItThenDoesNotThrowAnyException() {
-        var research = buildResearch();
+    public void givenAResearchWithNotAnsweredQuestionsWhenValidateThenThrowsExceptionListingThemInSequence() {
+        var questionA = buildQuestion(1, false, buildOption());
+        var questionB = buildQuestion(2, false, buildOption());
+        var questionC = buildQuestion(3, false, buildOption());
+        var research = buildResearch(questionC, questionA, questionB);
+        var answer = buildAnswer(research, questionA);
 
-        var questionId = UUID.randomUUID();
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
-        var answerA = Answer.builder()
-                .researchId(research.getId())
-                .questionId(questionId)
-                .optionId(UUID.randomUUID())
-                .build();
+        assertThatThrownBy(() -> validator.validate(research.getId(), List.of(answer)))
+                .isExactlyInstanceOf(InvalidAnswerException.class)
+                .hasMessage("The follow questions have not been answered: " + questionB.getId() + ", " + questionC.getId());
+    }
 
-        var answerB = Answer.builder()
-                .researchId(research.getId())
-                .questionId(questionId)
-                .optionId(UUID.randomUUID())
-                .build();
+    @Test
+    public void givenAQuestionThatAcceptsMultipleSelectWhenValidateAnAnswerWithMoreThenOneOptionForItThenDoesNotThrowAnyException() {
+        var optionA = buildOption();
+        var optionB = buildOption();
+        var question = buildQuestion(1, true, optionA, optionB);
+        var research = buildResearch(question);
 
-        var question = Question.builder()
-                .id(questionId)
-                .description("description")
-                .multiSelect(true)
-                .build();
+        var answerA = buildAnswer(research, question, optionA);
+        var answerB = buildAnswer(research, question, optionB);
 
-        when(researchPort.read(research.getId())).thenReturn(research);
-        when(questionPort.search(eq(research.getId()), any(QuestionCriteria.class))).thenReturn(List.of(question));
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
         assertThatCode(() -> validator.validate(research.getId(), List.of(answerA, answerB)))
                 .doesNotThrowAnyException();
 
-        verify(researchPort).read(research.getId());
-        verify(questionPort).search(eq(research.getId()), any(QuestionCriteria.class));
-        verify(questionPort, times(2)).read(research.getId(), questionId);
-        verify(optionPort).read(questionId, answerA.getOptionId());
-        verify(optionPort).read(questionId, answerB.getOptionId());
+        verify(researchPort).readFetchingQuestions(research.getId());
+        verifyNoMoreInteractions(researchPort);
     }
 
     @Test
     public void givenAQuestionThatNotAcceptsMultipleSelectWhenValidateAnAnswerWithOneOptionForItThenDoesNotThrowAnyException() {
-        var research = buildResearch();
-
-        var questionId = UUID.randomUUID();
+        var questionA = buildQuestion(1, false, buildOption(), buildOption());
+        var questionB = buildQuestion(2, false, buildOption());
+        var research = buildResearch(questionA, questionB);
 
-        var answerA = Answer.builder()
-                .researchId(research.getId())
-                .questionId(questionId)
-                .optionId(UUID.randomUUID())
-                .build();
-
-        var answerB = Answer.builder()
-                .researchId(research.getId())
-                .questionId(UUID.randomUUID())
-                .optionId(UUID.randomUUID())
-                .build();
-
-        var question = Question.builder()
-                .id(questionId)
-                .description("description")
-                .multiSelect(false)
-                .build();
+        var answerA = buildAnswer(research, questionA);
+        var answerB = buildAnswer(research, questionB);
 
-        when(researchPort.read(research.getId())).thenReturn(research);
-        when(questionPort.search(eq(research.getId()), any(QuestionCriteria.class))).thenReturn(List.of(question));
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
         assertThatCode(() -> validator.validate(research.getId(), List.of(answerA, answerB)))
                 .doesNotThrowAnyException();
 
-        verify(researchPort).read(research.getId());
-        verify(questionPort).search(eq(research.getId()), any(QuestionCriteria.class));
-        verify(questionPort).read(research.getId(), questionId);
-        verify(optionPort).read(answerA.getQuestionId(), answerA.getOptionId());
-        verify(optionPort).read(answerB.getQuestionId(), answerB.getOptionId());
+        verify(researchPort).readFetchingQuestions(research.getId());
     }
 
     @Test
     public void givenAQuestionThatNotAcceptsMultipleSelectWhenValidateAnAnswerWithMoreThenOneOptionForItThenThrowException() {
-        var research = buildResearch();
-
-        var questionId = UUID.randomUUID();
+        var optionA = buildOption();
+        var optionB = buildOption();
+        var question = buildQuestion(1, false, optionA, optionB);
+        var research = buildResearch(question);
 
-        var answerA = Answer.builder()
-                .researchId(research.getId())
-                .questionId(questionId)
-                .optionId(UUID.randomUUID())
-                .build();
-
-        var answerB = Answer.builder()
-                .researchId(research.getId())
-                .questionId(questionId)
-                .optionId(UUID.randomUUID())
-                .build();
-
-        var question = Question.builder()
-                .id(questionId)
-                .description("description")
-                .multiSelect(false)
-                .build();
+        var answerA = buildAnswer(research, question, optionA);
+        var answerB = buildAnswer(research, question, optionB);
 
-        when(researchPort.read(research.getId())).thenReturn(research);
-        when(questionPort.search(eq(research.getId()), any(QuestionCriteria.class))).thenReturn(List.of(question));
+        when(researchPort.readFetchingQuestions(research.getId())).thenReturn(research);
 
         assertThatThrownBy(() -> validator.validate(research.getId(), List.of(answerA, answerB)))
                 .isExactlyInstanceOf(InvalidAnswerException.class)
-                .hasMessage("The question does not allow the selection of various options: " + questionId);
+                .hasMessage("The question does not allow the selection of various options: " + question.getId());
 
-        verify(researchPort).read(research.getId());
-        verify(questionPort).search(eq(research.getId()), any(QuestionCriteria.class));
-        verify(questionPort, times(2)).read(research.getId(), questionId);
-        verify(optionPort).read(questionId, answerA.getOptionId());
-        verify(optionPort).read(questionId, answerB.getOptionId());
+        verify(researchPort).readFetchingQuestions(research.getId());
     }
 
-    private Research buildResearch() {
+    private Research buildResearch(Question... questions) {
         return Research.builder()
                 .id(UUID.randomUUID())
                 .title("title")
                 .startsOn(OffsetDateTime.now().minusDays(1))
+                .questions(Set.of(questions))
+                .build();
+    }
+
+    private Question buildQuestion(int sequence, boolean multiSelect, Option... options) {
+        return Question.builder()
+                .id(UUID.randomUUID())
+                .sequence(sequence)
+                .description("description")
+                .multiSelect(multiSelect)
+                .options(Set.of(options))
+                .build();
+    }
+
+    private Option buildOption() {
+        return Option.builder()
+                .id(UUID.randomUUID())
+                .description("description")
                 .build();
     }
 
-    private Answer buildAnswer(Research research) {
+    private Answer buildAnswer(Research research, Question question) {
+        return buildAnswer(research, question, question.getOptions().iterator().next());
+    }
+
+    private Answer buildAnswer(Research research, Question question, Option option) {
         return Answer.builder()
                 .researchId(research.getId())
-                .questionId(UUID.randomUUID())
-                .optionId(UUID.randomUUID())
+                .questionId(question.getId())
+                .optionId(option.getId())
                 .build();
     }
 
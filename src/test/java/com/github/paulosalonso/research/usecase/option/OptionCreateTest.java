@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.option;
 
 import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,9 @@ public class OptionCreateTest {
     @Mock
     private QuestionPort questionPort;
 
+    @Mock
+    private AnswerSchemaCachePort schemaCachePort;
+
     @Test
     public void givenAQuestionIdAndAnOptionWhenCreateThenCallPort() {
         var questionId = UUID.randomUUID();
@@ -46,5 +50,6 @@ public class OptionCreateTest {
         assertThat(saved.getDescription()).isEqualTo(toSave.getDescription());
 
         verify(questionPort).getNextOptionSequence(questionId);
+        verify(schemaCachePort).invalidateByQuestion(questionId);
     }
 }
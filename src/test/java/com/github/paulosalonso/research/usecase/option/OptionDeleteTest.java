@@ -1,5 +1,6 @@
 package com.github.paulosalonso.research.usecase.option;
 
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,9 @@ public class OptionDeleteTest {
     @Mock
     private OptionPort port;
 
+    @Mock
+    private AnswerSchemaCachePort schemaCachePort;
+
     @Test
     public void givenAQuestionIdAndAnOptionIdWhenDeleteThenCallPort() {
         var questionId = UUID.randomUUID();
@@ -28,5 +32,6 @@ public class OptionDeleteTest {
         optionDelete.delete(questionId, optionId);
 
         verify(port).delete(questionId, optionId);
+        verify(schemaCachePort).invalidateByQuestion(questionId);
     }
 }
@@ -2,6 +2,8 @@ package com.github.paulosalonso.research.usecase.option;
 
 import com.github.paulosalonso.research.domain.Option;
 import com.github.paulosalonso.research.domain.OptionCriteria;
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,15 +47,18 @@ public class OptionReadTest {
     public void givenAQuestionIdAndAnOptionCriteriaWhenSearchThenCallPort() {
         var id = UUID.randomUUID();
         var criteria = OptionCriteria.builder().build();
-        var toSearch = List.of(Option.builder()
-                .description("description")
-                .build());
+        var page = PageCriteria.builder().limit(10).build();
+        var toSearch = Page.<Option>builder()
+                .content(List.of(Option.builder()
+                        .description("description")
+                        .build()))
+                .build();
 
-        when(port.search(id, criteria)).thenReturn(toSearch);
+        when(port.search(id, criteria, page)).thenReturn(toSearch);
 
-        var result = optionRead.search(id, criteria);
+        var result = optionRead.search(id, criteria, page);
 
         assertThat(result).isSameAs(toSearch);
-        verify(port).search(id, criteria);
+        verify(port).search(id, criteria, page);
     }
 }
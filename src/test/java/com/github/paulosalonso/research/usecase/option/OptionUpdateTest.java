@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.option;
 
 import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.OptionPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,9 @@ public class OptionUpdateTest {
     @Mock
     private OptionPort port;
 
+    @Mock
+    private AnswerSchemaCachePort schemaCachePort;
+
     @Test
     public void givenAQuestionIdAndAnOptionWhenUpdateThenCallPort() {
         var id = UUID.randomUUID();
@@ -41,5 +45,6 @@ public class OptionUpdateTest {
 
         assertThat(result).isSameAs(updated);
         verify(port).update(id, toUpdate);
+        verify(schemaCachePort).invalidateByQuestion(id);
     }
 }
@@ -0,0 +1,34 @@
+package com.github.paulosalonso.research.usecase.page;
+
+import com.github.paulosalonso.research.domain.PageCriteria;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PageCriteriaValidatorTest {
+
+    @Test
+    public void givenALimitInsideTheBoundsWhenValidateThenDoesNotThrowAnyException() {
+        assertThatCode(() -> PageCriteriaValidator.validate(PageCriteria.builder().limit(1).build()))
+                .doesNotThrowAnyException();
+
+        assertThatCode(() -> PageCriteriaValidator.validate(PageCriteria.builder().limit(1000).build()))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    public void givenALimitBelowOneWhenValidateThenThrowsException() {
+        assertThatThrownBy(() -> PageCriteriaValidator.validate(PageCriteria.builder().limit(0).build()))
+                .isExactlyInstanceOf(InvalidCriteriaException.class)
+                .hasMessage("Limit must be between 1 and 1000");
+    }
+
+    @Test
+    public void givenALimitAboveTheMaximumWhenValidateThenThrowsException() {
+        assertThatThrownBy(() -> PageCriteriaValidator.validate(PageCriteria.builder().limit(1001).build()))
+                .isExactlyInstanceOf(InvalidCriteriaException.class)
+                .hasMessage("Limit must be between 1 and 1000");
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.question;
 
 import com.github.paulosalonso.research.domain.Question;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,9 @@ public class QuestionCreateTest {
     @Mock
     private ResearchPort researchPort;
 
+    @Mock
+    private AnswerSchemaCachePort schemaCachePort;
+
     @Test
     public void givenAResearchIdAndAQuestionWhenCreateThenCallPort() {
         var id = UUID.randomUUID();
@@ -51,5 +55,6 @@ public class QuestionCreateTest {
         assertThat(saved.getSequence()).isEqualTo(1);
         assertThat(saved.getDescription()).isEqualTo(toSave.getDescription());
         assertThat(saved.getMultiSelect()).isEqualTo(toSave.getMultiSelect());
+        verify(schemaCachePort).invalidate(id);
     }
 }
@@ -1,5 +1,6 @@
 package com.github.paulosalonso.research.usecase.question;
 
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,9 @@ public class QuestionDeleteTest {
     @Mock
     private QuestionPort port;
 
+    @Mock
+    private AnswerSchemaCachePort schemaCachePort;
+
     @Test
     public void givenAResearchIdAndAQuestionIdWhenDeleteThenCallPort() {
         var researchId = UUID.randomUUID();
@@ -28,5 +32,6 @@ public class QuestionDeleteTest {
         questionDelete.delete(researchId, questionId);
 
         verify(port).delete(researchId, questionId);
+        verify(schemaCachePort).invalidate(researchId);
     }
 }
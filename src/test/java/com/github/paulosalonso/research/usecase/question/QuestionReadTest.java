@@ -1,6 +1,8 @@
 package com.github.paulosalonso.research.usecase.question;
 
 import com.github.paulosalonso.research.domain.Option;
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.domain.Question;
 import com.github.paulosalonso.research.domain.QuestionCriteria;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
@@ -78,16 +80,19 @@ public class QuestionReadTest {
                 .multiSelect(true)
                 .build();
 
-        var toSearch = List.of(Question.builder()
-                .description("description")
-                .multiSelect(true)
-                .build());
+        var page = PageCriteria.builder().limit(10).build();
+        var toSearch = Page.<Question>builder()
+                .content(List.of(Question.builder()
+                        .description("description")
+                        .multiSelect(true)
+                        .build()))
+                .build();
 
-        when(port.search(id, criteria)).thenReturn(toSearch);
+        when(port.search(id, criteria, page)).thenReturn(toSearch);
 
-        var result = questionRead.search(id, criteria);
+        var result = questionRead.search(id, criteria, page);
 
         assertThat(result).isSameAs(toSearch);
-        verify(port).search(id, criteria);
+        verify(port).search(id, criteria, page);
     }
 }
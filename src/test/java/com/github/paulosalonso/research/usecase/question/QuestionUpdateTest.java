@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.question;
 
 import com.github.paulosalonso.research.domain.Question;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.QuestionPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,9 @@ public class QuestionUpdateTest {
     @Mock
     private QuestionPort port;
 
+    @Mock
+    private AnswerSchemaCachePort schemaCachePort;
+
     @Test
     public void givenAResearchIdAndAQuestionWhenUpdateThenCallPort() {
         var id = UUID.randomUUID();
@@ -43,5 +47,6 @@ public class QuestionUpdateTest {
 
         assertThat(result).isSameAs(updated);
         verify(port).update(id, toUpdate);
+        verify(schemaCachePort).invalidate(id);
     }
 }
@@ -1,5 +1,6 @@
 package com.github.paulosalonso.research.usecase.research;
 
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,9 @@ public class ResearchDeleteTest {
     @Mock
     private ResearchPort port;
 
+    @Mock
+    private AnswerSchemaCachePort schemaCachePort;
+
     @Test
     public void givenAResearchWhenCreateThenCallPort() {
         var id = UUID.randomUUID();
@@ -27,5 +31,6 @@ public class ResearchDeleteTest {
         researchDelete.delete(id);
 
         verify(port).delete(id);
+        verify(schemaCachePort).invalidate(id);
     }
 }
@@ -1,7 +1,10 @@
 package com.github.paulosalonso.research.usecase.research;
 
+import com.github.paulosalonso.research.domain.Page;
+import com.github.paulosalonso.research.domain.PageCriteria;
 import com.github.paulosalonso.research.domain.Research;
 import com.github.paulosalonso.research.domain.ResearchCriteria;
+import com.github.paulosalonso.research.usecase.exception.InvalidCriteriaException;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,7 +17,9 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,17 +68,32 @@ public class ResearchReadTest {
     @Test
     public void givenAResearchCriteriaWhenSearchThenCallPort() {
         var criteria = ResearchCriteria.builder().build();
-        var toSearch = List.of(Research.builder()
-                .title("title")
-                .description("description")
-                .startsOn(OffsetDateTime.now())
-                .build());
+        var page = PageCriteria.builder().limit(10).build();
+        var toSearch = Page.<Research>builder()
+                .content(List.of(Research.builder()
+                        .title("title")
+                        .description("description")
+                        .startsOn(OffsetDateTime.now())
+                        .build()))
+                .build();
 
-        when(port.search(criteria)).thenReturn(toSearch);
+        when(port.search(criteria, page)).thenReturn(toSearch);
 
-        var result = researchRead.search(criteria);
+        var result = researchRead.search(criteria, page);
 
         assertThat(result).isSameAs(toSearch);
-        verify(port).search(criteria);
+        verify(port).search(criteria, page);
+    }
+
+    @Test
+    public void givenAnInvalidLimitWhenSearchThenThrowsExceptionWithoutCallingPort() {
+        var criteria = ResearchCriteria.builder().build();
+        var page = PageCriteria.builder().limit(0).build();
+
+        assertThatThrownBy(() -> researchRead.search(criteria, page))
+                .isExactlyInstanceOf(InvalidCriteriaException.class)
+                .hasMessage("Limit must be between 1 and 1000");
+
+        verifyNoInteractions(port);
     }
 }
@@ -1,6 +1,7 @@
 package com.github.paulosalonso.research.usecase.research;
 
 import com.github.paulosalonso.research.domain.Research;
+import com.github.paulosalonso.research.usecase.port.AnswerSchemaCachePort;
 import com.github.paulosalonso.research.usecase.port.ResearchPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,9 @@ public class ResearchUpdateTest {
     @Mock
     private ResearchPort port;
 
+    @Mock
+    private AnswerSchemaCachePort schemaCachePort;
+
     @Test
     public void givenAResearchWhenUpdateThenCallPort() {
         var toUpdate = Research.builder()
@@ -43,5 +47,6 @@ public class ResearchUpdateTest {
 
         assertThat(result).isSameAs(updated);
         verify(port).update(toUpdate);
+        verify(schemaCachePort).invalidate(toUpdate.getId());
     }
 }